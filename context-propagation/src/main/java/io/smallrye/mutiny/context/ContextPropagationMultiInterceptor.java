@@ -8,9 +8,12 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.infrastructure.MultiInterceptor;
 import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
 
 /**
  * Provides context propagation to Multi types.
@@ -24,7 +27,7 @@ public class ContextPropagationMultiInterceptor implements MultiInterceptor {
     @Override
     public <T> Subscriber<? super T> onSubscription(Publisher<? extends T> instance, Subscriber<? super T> subscriber) {
         Executor executor = THREAD_CONTEXT.currentContextExecutor();
-        return new Subscriber<T>() {
+        return new MultiSubscriber<T>() {
 
             @Override
             public void onSubscribe(Subscription subscription) {
@@ -32,19 +35,24 @@ public class ContextPropagationMultiInterceptor implements MultiInterceptor {
             }
 
             @Override
-            public void onNext(T item) {
+            public void onItem(T item) {
                 executor.execute(() -> subscriber.onNext(item));
             }
 
             @Override
-            public void onError(Throwable failure) {
+            public void onFailure(Throwable failure) {
                 executor.execute(() -> subscriber.onError(failure));
             }
 
             @Override
-            public void onComplete() {
+            public void onCompletion() {
                 executor.execute(subscriber::onComplete);
             }
+
+            @Override
+            public Context context() {
+                return Subscriptions.contextOf(subscriber);
+            }
         };
     }
 
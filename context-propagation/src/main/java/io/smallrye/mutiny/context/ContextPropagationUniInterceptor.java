@@ -5,6 +5,7 @@ import java.util.concurrent.Executor;
 import org.eclipse.microprofile.context.ThreadContext;
 import org.eclipse.microprofile.context.spi.ContextManagerProvider;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.UniInterceptor;
 import io.smallrye.mutiny.operators.AbstractUni;
@@ -39,6 +40,11 @@ public class ContextPropagationUniInterceptor implements UniInterceptor {
             public void onFailure(Throwable failure) {
                 executor.execute(() -> subscriber.onFailure(failure));
             }
+
+            @Override
+            public Context context() {
+                return subscriber.context();
+            }
         };
     }
 
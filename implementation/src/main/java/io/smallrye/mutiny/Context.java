@@ -0,0 +1,196 @@
+package io.smallrye.mutiny;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.subscription.ContextSupport;
+
+/**
+ * A key / value store attached to a subscription.
+ * <p>
+ * A context is provided by the final subscriber (see {@link ContextSupport}) and flows upstream at subscription time,
+ * so every operator of a pipeline can read it using {@link Uni#withContext(java.util.function.BiFunction)} or
+ * {@link Multi#withContext(java.util.function.BiFunction)}. Unlike thread-local based propagation, the context is
+ * captured once per subscription and does not need to be saved and restored on every event.
+ * <p>
+ * Contexts are thread-safe. The underlying storage is only allocated when the first entry is added, so an empty
+ * context costs a single object.
+ *
+ * @see ContextSupport
+ */
+public final class Context {
+
+    private volatile ConcurrentHashMap<String, Object> entries;
+
+    private Context() {
+        // Use the factory methods.
+    }
+
+    private Context(Map<String, ?> initial) {
+        if (!initial.isEmpty()) {
+            this.entries = new ConcurrentHashMap<>(initial);
+        }
+    }
+
+    /**
+     * Creates a new empty context.
+     *
+     * @return the new context
+     */
+    public static Context empty() {
+        return new Context();
+    }
+
+    /**
+     * Creates a new context from pairs of keys and values, such as {@code Context.of("a", 1, "b", 2)}.
+     *
+     * @param entries the key / value pairs, keys must be {@link String} and no key or value can be {@code null}
+     * @return the new context
+     */
+    public static Context of(Object... entries) {
+        nonNull(entries, "entries");
+        if (entries.length % 2 != 0) {
+            throw new IllegalArgumentException("`entries` must contain an even number of elements (key/value pairs)");
+        }
+        Context context = new Context();
+        for (int i = 0; i < entries.length; i += 2) {
+            Object key = nonNull(entries[i], "key");
+            if (!(key instanceof String)) {
+                throw new IllegalArgumentException("Context keys must be strings, got " + key.getClass().getName());
+            }
+            context.put((String) key, entries[i + 1]);
+        }
+        return context;
+    }
+
+    /**
+     * Creates a new context from a {@link Map}. The map is copied.
+     *
+     * @param entries the entries, must not be {@code null}
+     * @return the new context
+     */
+    public static Context from(Map<String, ?> entries) {
+        return new Context(nonNull(entries, "entries"));
+    }
+
+    /**
+     * Checks whether the context contains the given key.
+     *
+     * @param key the key
+     * @return {@code true} if the key is present, {@code false} otherwise
+     */
+    public boolean contains(String key) {
+        Map<String, Object> map = entries;
+        return map != null && map.containsKey(key);
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key the key, must not be {@code null}
+     * @param <T> the value type
+     * @return the value
+     * @throws NoSuchElementException if there is no value associated with the key
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key) throws NoSuchElementException {
+        nonNull(key, "key");
+        Map<String, Object> map = entries;
+        Object value = map == null ? null : map.get(key);
+        if (value == null) {
+            throw new NoSuchElementException("The context does not have a value for key " + key);
+        }
+        return (T) value;
+    }
+
+    /**
+     * Gets the value associated with the given key, or the value provided by {@code alternative} if the key is absent.
+     *
+     * @param key the key, must not be {@code null}
+     * @param alternative the supplier called when the key is absent, must not be {@code null}
+     * @param <T> the value type
+     * @return the value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrElse(String key, Supplier<? extends T> alternative) {
+        nonNull(key, "key");
+        nonNull(alternative, "alternative");
+        Map<String, Object> map = entries;
+        Object value = map == null ? null : map.get(key);
+        if (value == null) {
+            return alternative.get();
+        }
+        return (T) value;
+    }
+
+    /**
+     * Stores a value.
+     *
+     * @param key the key, must not be {@code null}
+     * @param value the value, must not be {@code null}
+     * @return this context
+     */
+    public Context put(String key, Object value) {
+        nonNull(key, "key");
+        nonNull(value, "value");
+        ConcurrentHashMap<String, Object> map = entries;
+        if (map == null) {
+            synchronized (this) {
+                map = entries;
+                if (map == null) {
+                    map = new ConcurrentHashMap<>(8);
+                    entries = map;
+                }
+            }
+        }
+        map.put(key, value);
+        return this;
+    }
+
+    /**
+     * Removes the value associated with the given key, if any.
+     *
+     * @param key the key, must not be {@code null}
+     * @return this context
+     */
+    public Context delete(String key) {
+        nonNull(key, "key");
+        Map<String, Object> map = entries;
+        if (map != null) {
+            map.remove(key);
+        }
+        return this;
+    }
+
+    /**
+     * @return {@code true} if the context has no entry
+     */
+    public boolean isEmpty() {
+        Map<String, Object> map = entries;
+        return map == null || map.isEmpty();
+    }
+
+    /**
+     * @return a snapshot of the keys stored in this context
+     */
+    public Set<String> keys() {
+        Map<String, Object> map = entries;
+        if (map == null) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(map.keySet());
+    }
+
+    @Override
+    public String toString() {
+        Map<String, Object> map = entries;
+        return "Context{" + (map == null ? "{}" : map.toString()) + "}";
+    }
+}
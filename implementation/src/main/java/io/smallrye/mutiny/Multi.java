@@ -3,6 +3,7 @@ package io.smallrye.mutiny;
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 
 import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -414,4 +415,18 @@ public interface Multi<T> extends Publisher<T> {
      * @return the object to configure the cancellation actions.
      */
     MultiOnCancel<T> onCancellation();
+
+    /**
+     * Materializes the subscriber {@link Context} and builds the rest of the pipeline with it.
+     * <p>
+     * The {@code builder} is called once per subscription with this {@link Multi} and the {@link Context} provided by
+     * the downstream subscriber. The produced {@link Multi} is then subscribed to. The context is captured once, at
+     * subscription time, so there is no per-item overhead.
+     *
+     * @param builder the function building the rest of the pipeline, must not be {@code null}, must not return
+     *        {@code null}
+     * @param <R> the type of item produced by the resulting {@link Multi}
+     * @return the new {@link Multi}
+     */
+    <R> Multi<R> withContext(BiFunction<Multi<T>, Context, Multi<R>> builder);
 }
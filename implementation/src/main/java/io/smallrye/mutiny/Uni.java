@@ -648,4 +648,24 @@ public interface Uni<T> {
      * @return the object to configure the cancellation actions.
      */
     UniOnCancel<T> onCancellation();
+
+    /**
+     * Materializes the subscriber {@link Context} and builds the rest of the pipeline with it.
+     * <p>
+     * The {@code builder} is called once per subscription with this {@link Uni} and the {@link Context} provided by
+     * the downstream subscriber. The produced {@link Uni} is then subscribed to. This gives operators access to
+     * subscription-scoped data (such as a request identifier) without relying on thread-locals:
+     *
+     * <pre>
+     * {@code
+     * uni.withContext((uni, ctx) -> uni.onItem().transform(item -> item + "@" + ctx.get("tenant")));
+     * }
+     * </pre>
+     *
+     * @param builder the function building the rest of the pipeline, must not be {@code null}, must not return
+     *        {@code null}
+     * @param <R> the type of item produced by the resulting {@link Uni}
+     * @return the new {@link Uni}
+     */
+    <R> Uni<R> withContext(BiFunction<Uni<T>, Context, Uni<R>> builder);
 }
@@ -8,7 +8,9 @@ import java.util.function.Function;
 
 import org.reactivestreams.Publisher;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
 
@@ -73,6 +75,11 @@ public class ToPublisher<T> implements Function<Uni<T>, Publisher<T>> {
                                 subscriber.onError(failure);
                             }
                         }
+
+                        @Override
+                        public Context context() {
+                            return Subscriptions.contextOf(subscriber);
+                        }
                     });
                 }
 
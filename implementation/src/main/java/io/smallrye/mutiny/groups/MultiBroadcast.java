@@ -8,6 +8,7 @@ import java.time.Duration;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.MultiBroadcaster;
+import io.smallrye.mutiny.operators.multi.multicast.MultiPublishOp;
 
 /**
  * Makes the upstream {@link Multi} be able to broadcast its events ({@code items}, {@code failure}, and
@@ -20,6 +21,8 @@ public class MultiBroadcast<T> {
     private final Multi<T> upstream;
     private boolean cancelWhenNoOneIsListening;
     private Duration delayAfterLastDeparture;
+    private int bufferSize = MultiPublishOp.DEFAULT_BUFFER_SIZE;
+    private int replenishThreshold = 1;
 
     public MultiBroadcast(Multi<T> upstream) {
         this.upstream = upstream;
@@ -33,7 +36,8 @@ public class MultiBroadcast<T> {
      */
     public Multi<T> toAllSubscribers() {
         return Infrastructure.onMultiCreation(
-                MultiBroadcaster.publish(upstream, 0, cancelWhenNoOneIsListening, delayAfterLastDeparture));
+                MultiBroadcaster.publish(upstream, 0, cancelWhenNoOneIsListening, delayAfterLastDeparture,
+                        bufferSize, replenishThreshold));
     }
 
     /**
@@ -48,7 +52,8 @@ public class MultiBroadcast<T> {
     public Multi<T> toAtLeast(int numberOfSubscribers) {
         positive(numberOfSubscribers, "numberOfSubscribers");
         return Infrastructure.onMultiCreation(
-                MultiBroadcaster.publish(upstream, numberOfSubscribers, cancelWhenNoOneIsListening, delayAfterLastDeparture));
+                MultiBroadcaster.publish(upstream, numberOfSubscribers, cancelWhenNoOneIsListening, delayAfterLastDeparture,
+                        bufferSize, replenishThreshold));
     }
 
     /**
@@ -76,4 +81,34 @@ public class MultiBroadcast<T> {
         return this;
 
     }
+
+    /**
+     * Configures the number of items requested from the upstream {@code Multi} ahead of the subscriber requests, and
+     * buffered until all the subscribers can receive them. By default, {@value MultiPublishOp#DEFAULT_BUFFER_SIZE}
+     * items are buffered.
+     * <p>
+     * A larger buffer helps a few fast subscribers of a high-rate stream, a smaller one reduces the memory used when
+     * there are many slow subscribers.
+     *
+     * @param bufferSize the buffer size, must be strictly positive
+     * @return this {@link MultiBroadcast}.
+     */
+    public MultiBroadcast<T> withBufferSize(int bufferSize) {
+        this.bufferSize = positive(bufferSize, "bufferSize");
+        return this;
+    }
+
+    /**
+     * Configures how many items must have been dispatched to the subscribers before requesting more items from the
+     * upstream {@code Multi}. By default, items are requested again as soon as they are dispatched. A higher threshold
+     * batches the requests, reducing the overhead of requesting items one by one.
+     *
+     * @param replenishThreshold the threshold, must be strictly positive, and less than or equal to the
+     *        {@link #withBufferSize(int) buffer size}
+     * @return this {@link MultiBroadcast}.
+     */
+    public MultiBroadcast<T> withReplenishThreshold(int replenishThreshold) {
+        this.replenishThreshold = positive(replenishThreshold, "replenishThreshold");
+        return this;
+    }
 }
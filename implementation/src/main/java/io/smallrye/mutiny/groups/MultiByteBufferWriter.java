@@ -0,0 +1,145 @@
+package io.smallrye.mutiny.groups;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.Channels;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.MultiGatheringWriteOp;
+
+/**
+ * Writes the {@link ByteBuffer ByteBuffers} emitted by the upstream {@link Multi} to a channel, in batches.
+ * <p>
+ * The buffers are accumulated until the batch reaches the maximum number of items or bytes, or, if configured, until
+ * the maximum delay elapses. Each batch is written using a single gathering write
+ * ({@link GatheringByteChannel#write(ByteBuffer[], int, int)}), and more buffers are only requested from the upstream
+ * once the write completes. So, the number of pending buffers is bounded, and the back-pressure follows the pace of
+ * the writes. The writes are blocking, so the channel must be in blocking mode.
+ * <p>
+ * This object is immutable, each configuration method returns a new instance.
+ *
+ * @see io.smallrye.mutiny.operators.MultiByteBuffers#write(Multi)
+ */
+public class MultiByteBufferWriter {
+
+    /**
+     * The default maximum number of buffers written at once.
+     */
+    public static final int DEFAULT_MAX_ITEMS = 64;
+
+    private final Multi<? extends ByteBuffer> upstream;
+    private final int maxItems;
+    private final long maxBytes;
+    private final Duration maxDelay;
+
+    public MultiByteBufferWriter(Multi<? extends ByteBuffer> upstream) {
+        this(nonNull(upstream, "upstream"), DEFAULT_MAX_ITEMS, Long.MAX_VALUE, null);
+    }
+
+    private MultiByteBufferWriter(Multi<? extends ByteBuffer> upstream, int maxItems, long maxBytes,
+            Duration maxDelay) {
+        this.upstream = upstream;
+        this.maxItems = maxItems;
+        this.maxBytes = maxBytes;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * Configures the maximum number of buffers written at once, {@link #DEFAULT_MAX_ITEMS} by default.
+     * This is also the maximum number of buffers requested from the upstream and not written yet.
+     *
+     * @param maxItems the maximum number of buffers, must be strictly positive
+     * @return a new {@link MultiByteBufferWriter}
+     */
+    public MultiByteBufferWriter withMaxItems(int maxItems) {
+        return new MultiByteBufferWriter(upstream, positive(maxItems, "maxItems"), maxBytes, maxDelay);
+    }
+
+    /**
+     * Configures the number of bytes triggering a write, unbounded by default.
+     *
+     * @param maxBytes the number of bytes, must be strictly positive
+     * @return a new {@link MultiByteBufferWriter}
+     */
+    public MultiByteBufferWriter withMaxBytes(long maxBytes) {
+        return new MultiByteBufferWriter(upstream, maxItems, positive(maxBytes, "maxBytes"), maxDelay);
+    }
+
+    /**
+     * Configures the maximum duration the buffers wait before being written. By default, the buffers wait until the
+     * batch is full or the upstream completes.
+     * <p>
+     * The time-triggered writes run on the default worker pool.
+     *
+     * @param maxDelay the delay, must not be {@code null}, must be strictly positive
+     * @return a new {@link MultiByteBufferWriter}
+     */
+    public MultiByteBufferWriter withMaxDelay(Duration maxDelay) {
+        return new MultiByteBufferWriter(upstream, maxItems, maxBytes, validate(maxDelay, "maxDelay"));
+    }
+
+    /**
+     * Writes the buffers to the channel provided by the given supplier.
+     * <p>
+     * The supplier is called for each subscription, and the channel is closed on completion, failure and
+     * cancellation, as for {@link MultiCreate#resource(Supplier, java.util.function.Function)}. A
+     * {@link java.nio.channels.SelectableChannel} in non-blocking mode is rejected with an
+     * {@link IllegalArgumentException}.
+     *
+     * @param channelSupplier the supplier of channel, must not be {@code null}
+     * @param <C> the type of channel
+     * @return a {@link Uni} emitting the number of written bytes once the channel has been closed
+     */
+    public <C extends GatheringByteChannel> Uni<Long> toChannel(Supplier<C> channelSupplier) {
+        nonNull(channelSupplier, "channelSupplier");
+        return Multi.createFrom()
+                .resource(channelSupplier,
+                        channel -> Infrastructure.onMultiCreation(new MultiGatheringWriteOp(upstream, channel,
+                                maxItems, maxBytes, maxDelay, Infrastructure.getDefaultWorkerPool())))
+                .withFinalizer(Channels::close)
+                .collectItems().last();
+    }
+
+    /**
+     * Writes the buffers to the file located at the given path, opened using a {@link FileChannel}.
+     *
+     * @param path the path of the file, must not be {@code null}
+     * @param options the options used to open the file, {@link StandardOpenOption#CREATE},
+     *        {@link StandardOpenOption#TRUNCATE_EXISTING} and {@link StandardOpenOption#WRITE} if none
+     * @return a {@link Uni} emitting the number of written bytes once the file has been closed
+     */
+    public Uni<Long> toFile(Path path, OpenOption... options) {
+        nonNull(path, "path");
+        Set<OpenOption> set = new HashSet<>(Arrays.asList(nonNull(options, "options")));
+        if (set.isEmpty()) {
+            set.add(StandardOpenOption.CREATE);
+            set.add(StandardOpenOption.TRUNCATE_EXISTING);
+        }
+        set.add(StandardOpenOption.WRITE);
+        return Uni.createFrom().deferred(() -> {
+            FileChannel channel;
+            try {
+                channel = FileChannel.open(path, set);
+            } catch (IOException e) {
+                return Uni.createFrom().failure(e);
+            }
+            return toChannel(() -> channel);
+        });
+    }
+}
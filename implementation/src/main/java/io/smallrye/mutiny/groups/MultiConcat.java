@@ -2,13 +2,17 @@ package io.smallrye.mutiny.groups;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import org.reactivestreams.Publisher;
 
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.multi.MultiConcatOp;
+import io.smallrye.mutiny.operators.multi.MultiFlatMapOrderedOp;
 
 /**
  * Creates new {@link Multi} by concatenating several {@link Multi} or {@link Publisher}.
@@ -18,6 +22,7 @@ import io.smallrye.mutiny.operators.multi.MultiConcatOp;
 public class MultiConcat {
 
     private boolean collectFailures;
+    private int prefetch;
 
     public MultiConcat(boolean collectFailures) {
         this.collectFailures = collectFailures;
@@ -33,6 +38,12 @@ public class MultiConcat {
      */
     @SafeVarargs
     public final <T> Multi<T> streams(Publisher<T>... publishers) {
+        if (prefetch != 0) {
+            ParameterValidation.doesNotContainNull(publishers, "publishers");
+            return Infrastructure.onMultiCreation(new MultiFlatMapOrderedOp<Publisher<T>, T>(
+                    Multi.createFrom().items(publishers), Function.identity(), collectFailures, prefetch + 1,
+                    Queues.BUFFER_S));
+        }
         return Infrastructure.onMultiCreation(new MultiConcatOp<>(collectFailures, publishers));
     }
 
@@ -48,7 +59,7 @@ public class MultiConcat {
         List<Publisher<T>> list = new ArrayList<>();
         iterable.forEach(list::add);
         //noinspection unchecked
-        return Infrastructure.onMultiCreation(new MultiConcatOp<>(collectFailures, list.toArray(new Publisher[0])));
+        return streams(list.toArray(new Publisher[0]));
     }
 
     /**
@@ -63,4 +74,20 @@ public class MultiConcat {
         return this;
     }
 
+    /**
+     * Indicates that the concatenation process should subscribe ahead to the next {@code prefetch} streams, while
+     * the current one is being consumed.
+     * <p>
+     * The items of the streams subscribed ahead are buffered, up to {@link Queues#BUFFER_S} items per stream, and
+     * emitted in order once the previous streams have completed. It hides the subscription latency of the streams,
+     * such as opening a remote cursor, when consuming them sequentially.
+     *
+     * @param prefetch the number of streams subscribed ahead, must be strictly positive
+     * @return this {@link MultiConcat} configured to subscribe ahead.
+     */
+    public MultiConcat prefetch(int prefetch) {
+        this.prefetch = ParameterValidation.positive(prefetch, "prefetch");
+        return this;
+    }
+
 }
@@ -3,6 +3,9 @@ package io.smallrye.mutiny.groups;
 import static io.smallrye.mutiny.helpers.ParameterValidation.SUPPLIER_PRODUCED_NULL;
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -23,11 +26,13 @@ import io.smallrye.mutiny.converters.MultiConverter;
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.operators.MultiByteBuffers;
 import io.smallrye.mutiny.operators.multi.builders.CollectionBasedMulti;
 import io.smallrye.mutiny.operators.multi.builders.DeferredMulti;
 import io.smallrye.mutiny.operators.multi.builders.EmitterBasedMulti;
 import io.smallrye.mutiny.operators.multi.builders.EmptyMulti;
 import io.smallrye.mutiny.operators.multi.builders.FailedMulti;
+import io.smallrye.mutiny.operators.multi.builders.FileBasedMulti;
 import io.smallrye.mutiny.operators.multi.builders.IterableBasedMulti;
 import io.smallrye.mutiny.operators.multi.builders.NeverMulti;
 import io.smallrye.mutiny.operators.multi.builders.StreamBasedMulti;
@@ -482,6 +487,41 @@ public class MultiCreate {
         return Multi.createFrom().iterable(() -> IntStream.range(startInclusive, endExclusive).iterator());
     }
 
+    /**
+     * Creates a {@link Multi} emitting the content of the file located at the given path as chunks of bytes.
+     * <p>
+     * The file is read using an {@link java.nio.channels.AsynchronousFileChannel} opened for each subscriber, so
+     * the reads never block the caller. A chunk is only read when the subscriber has requested an item. Each chunk is a
+     * read-only {@link ByteBuffer} containing at most {@code chunkSize} bytes. Once the end of the file is reached,
+     * the completion event is fired. The channel is closed on completion, failure and cancellation.
+     * <p>
+     * Use {@link io.smallrye.mutiny.operators.MultiByteBuffers#lines(Multi)} to split the chunks into lines.
+     *
+     * @param path the path of the file, must not be {@code null}
+     * @param chunkSize the maximum size of the chunks, must be strictly positive
+     * @return the {@link Multi} emitting the chunks
+     */
+    public Multi<ByteBuffer> file(Path path, int chunkSize) {
+        return Infrastructure.onMultiCreation(new FileBasedMulti(path, chunkSize));
+    }
+
+    /**
+     * Creates a {@link Multi} mapping the file located at the given path in memory, region by region.
+     * <p>
+     * The file is opened for each subscriber, and the regions are mapped as the subscriber requests items. Each
+     * region is a read-only {@link MappedByteBuffer} of at most {@code regionSize} bytes, so the content of the file
+     * is never copied into the heap. The file size is read when the first region is requested, so the data appended
+     * after it are not emitted. The file channel is closed on completion, failure and cancellation, while the regions
+     * remain valid until they are garbage collected.
+     *
+     * @param path the path of the file, must not be {@code null}
+     * @param regionSize the maximum size of the regions, must be strictly positive
+     * @return the {@link Multi} emitting the regions
+     */
+    public Multi<MappedByteBuffer> mappedFile(Path path, int regionSize) {
+        return MultiByteBuffers.mappedFile(path, regionSize);
+    }
+
     /**
      * Creates a {@link Multi} from a <em>resource</em>, generated by a supplier function called for each individual
      * {@link Subscriber}, while streaming the items from a {@link Publisher Publisher/Multi} created from the resource.
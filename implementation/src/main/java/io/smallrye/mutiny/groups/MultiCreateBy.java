@@ -33,6 +33,18 @@ public class MultiCreateBy {
         return new MultiMerge(false, 128, 128);
     }
 
+    /**
+     * Creates a new instance of {@link Multi} by joining several {@link io.smallrye.mutiny.Uni unis}.
+     * <p>
+     * The join subscribes to the unis concurrently and emits their items as they complete (or in order, if
+     * configured), without waiting for all of them.
+     *
+     * @return the object to configure the join
+     */
+    public MultiJoin joining() {
+        return new MultiJoin(false, false, 128);
+    }
+
     /**
      * Creates a new instance of {@link Multi} by associating / combining the items from different
      * streams ({@link Multi} or {@link org.reactivestreams.Publisher}).
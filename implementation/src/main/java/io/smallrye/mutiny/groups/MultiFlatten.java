@@ -1,5 +1,6 @@
 package io.smallrye.mutiny.groups;
 
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
 
 import java.util.function.Function;
@@ -8,9 +9,11 @@ import org.reactivestreams.Publisher;
 
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.AdaptiveConcurrencyLimit;
 import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.multi.MultiFlatMapOp;
+import io.smallrye.mutiny.operators.multi.MultiFlatMapOrderedOp;
 
 /**
  * The object to tune the <em>flatMap</em> operation
@@ -25,10 +28,18 @@ public class MultiFlatten<I, O> {
 
     private final int requests;
     private final boolean collectFailureUntilCompletion;
+    private final AdaptiveConcurrencyLimit limit;
+    private final int prefetch;
 
     MultiFlatten(Multi<I> upstream,
             Function<? super I, ? extends Publisher<? extends O>> mapper,
             int requests, boolean collectFailures) {
+        this(upstream, mapper, requests, collectFailures, null, 0);
+    }
+
+    private MultiFlatten(Multi<I> upstream,
+            Function<? super I, ? extends Publisher<? extends O>> mapper,
+            int requests, boolean collectFailures, AdaptiveConcurrencyLimit limit, int prefetch) {
         this.upstream = upstream;
         this.mapper = mapper;
         if (requests == 0) {
@@ -37,6 +48,8 @@ public class MultiFlatten<I, O> {
             this.requests = requests;
         }
         this.collectFailureUntilCompletion = collectFailures;
+        this.limit = limit;
+        this.prefetch = prefetch;
     }
 
     /**
@@ -49,7 +62,7 @@ public class MultiFlatten<I, O> {
      * @return this {@link MultiFlatten}
      */
     public MultiFlatten<I, O> collectFailures() {
-        return new MultiFlatten<>(upstream, mapper, requests, true);
+        return new MultiFlatten<>(upstream, mapper, requests, true, limit, prefetch);
     }
 
     /**
@@ -59,7 +72,40 @@ public class MultiFlatten<I, O> {
      * @return this {@link MultiFlatten}
      */
     public MultiFlatten<I, O> withRequests(int requests) {
-        return new MultiFlatten<>(upstream, mapper, positive(requests, "requests"), collectFailureUntilCompletion);
+        return new MultiFlatten<>(upstream, mapper, positive(requests, "requests"), collectFailureUntilCompletion,
+                limit, prefetch);
+    }
+
+    /**
+     * Configures the <em>merge</em> operation to adapt the number of in-flight <em>streams</em> to their observed
+     * latency, instead of using a fixed concurrency.
+     * <p>
+     * The number of in-flight <em>streams</em> is given by {@link AdaptiveConcurrencyLimit#current()}, and never
+     * exceeds {@link AdaptiveConcurrencyLimit#max()}. This setting is ignored by {@link #concatenate()}.
+     *
+     * @param limit the limit, must not be {@code null}
+     * @return this {@link MultiFlatten}
+     */
+    public MultiFlatten<I, O> withAdaptiveConcurrency(AdaptiveConcurrencyLimit limit) {
+        return new MultiFlatten<>(upstream, mapper, requests, collectFailureUntilCompletion,
+                nonNull(limit, "limit"), prefetch);
+    }
+
+    /**
+     * Configures the <em>concatenation</em> to subscribe ahead to the next {@code prefetch} <em>streams</em>
+     * produced by the mapper, while the current one is being consumed.
+     * <p>
+     * The items of the <em>streams</em> subscribed ahead are buffered, up to the configured
+     * {@link #withRequests(int) requests} per <em>stream</em>, and emitted in order once the previous <em>streams</em>
+     * have completed. It hides the subscription latency of the <em>streams</em>, such as opening a remote cursor,
+     * when consuming them sequentially. This setting is only used by {@link #concatenate()}.
+     *
+     * @param prefetch the number of <em>streams</em> subscribed ahead, must be strictly positive
+     * @return this {@link MultiFlatten}
+     */
+    public MultiFlatten<I, O> withPrefetch(int prefetch) {
+        return new MultiFlatten<>(upstream, mapper, requests, collectFailureUntilCompletion, limit,
+                positive(prefetch, "prefetch"));
     }
 
     /**
@@ -77,7 +123,7 @@ public class MultiFlatten<I, O> {
      * @return the object to configure the {@code flatMap} operation.
      */
     public Multi<O> merge() {
-        return merge(Queues.BUFFER_S);
+        return merge(limit != null ? limit.max() : Queues.BUFFER_S);
     }
 
     /**
@@ -92,14 +138,37 @@ public class MultiFlatten<I, O> {
      * produced {@link Multi}. The returned object lets you configure the flattening process.</li>
      * </ul>
      * <p>
-     * This method allows configuring the concurrency, i.e. the maximum number of in-flight/subscribed inner streams
+     * This method allows configuring the concurrency, i.e. the maximum number of in-flight/subscribed inner streams.
+     * When an {@link #withAdaptiveConcurrency(AdaptiveConcurrencyLimit) adaptive limit} is configured, the
+     * concurrency caps the adaptive limit.
      *
      * @param concurrency the concurrency
      * @return the object to configure the {@code flatMap} operation.
      */
     public Multi<O> merge(int concurrency) {
         return Infrastructure.onMultiCreation(
-                new MultiFlatMapOp<>(upstream, mapper, collectFailureUntilCompletion, concurrency, requests));
+                new MultiFlatMapOp<>(upstream, mapper, collectFailureUntilCompletion, concurrency, requests, limit));
+    }
+
+    /**
+     * Produces a {@link Multi} containing the items from {@link Publisher} produced by the {@code mapper} for each
+     * item emitted by this {@link Multi}, preserving the order of the upstream items.
+     * <p>
+     * Like {@link #merge(int)}, up to {@code concurrency} produced {@link Publisher Publishers} are subscribed
+     * concurrently. Like {@link #concatenate()}, their items are emitted downstream in the order of the upstream
+     * items: the items of a {@link Publisher} are emitted once all the items of the previous ones have been emitted.
+     * The items received in the meantime are buffered, each {@link Publisher} being consumed with the configured
+     * {@link #withRequests(int) requests}, so at most {@code concurrency * requests} items are buffered.
+     * <p>
+     * This operation is often called <em>concatMapEager</em>. It does not use the
+     * {@link #withAdaptiveConcurrency(AdaptiveConcurrencyLimit) adaptive limit}.
+     *
+     * @param concurrency the maximum number of in-flight/subscribed inner streams, must be strictly positive
+     * @return the object to configure the {@code concatMap} operation.
+     */
+    public Multi<O> mergeOrdered(int concurrency) {
+        return Infrastructure.onMultiCreation(new MultiFlatMapOrderedOp<>(upstream, mapper,
+                collectFailureUntilCompletion, positive(concurrency, "concurrency"), requests));
     }
 
     /**
@@ -117,6 +186,10 @@ public class MultiFlatten<I, O> {
      * @return the object to configure the {@code concatMap} operation.
      */
     public Multi<O> concatenate() {
+        if (prefetch != 0) {
+            return Infrastructure.onMultiCreation(new MultiFlatMapOrderedOp<>(upstream, mapper,
+                    collectFailureUntilCompletion, prefetch + 1, requests));
+        }
         return Infrastructure.onMultiCreation(
                 new MultiFlatMapOp<>(upstream, mapper, collectFailureUntilCompletion, 1, requests));
     }
@@ -1,20 +1,35 @@
 package io.smallrye.mutiny.groups;
 
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
 
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 
 import io.smallrye.mutiny.GroupedMulti;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.multi.MultiGroupByOp;
+import io.smallrye.mutiny.operators.multi.MultiGroupEmitOnOp;
 
 public class MultiGroup<T> {
 
     private final Multi<T> upstream;
+    private final Duration idle;
+    private final int maxGroups;
 
     public MultiGroup(Multi<T> upstream) {
+        this(upstream, null, Integer.MAX_VALUE);
+    }
+
+    private MultiGroup(Multi<T> upstream, Duration idle, int maxGroups) {
         this.upstream = nonNull(upstream, "upstream");
+        this.idle = idle;
+        this.maxGroups = maxGroups;
     }
 
     /**
@@ -27,6 +42,18 @@ public class MultiGroup<T> {
         return new MultiGroupIntoLists<>(upstream);
     }
 
+    /**
+     * Splits the upstream {@code Multi} into arrays of items and emits these arrays.
+     * The returned object configures how the split is made.
+     *
+     * @param generator the function allocating an array of the requested length, such as {@code String[]::new}, must
+     *        not be {@code null}
+     * @return the split configuration
+     */
+    public MultiGroupIntoArrays<T> intoArrays(IntFunction<T[]> generator) {
+        return new MultiGroupIntoArrays<>(upstream, nonNull(generator, "generator"));
+    }
+
     /**
      * Splits the upstream {@code Multi} into {@link Multi} of items and emits these {@link Multi}. It transforms the
      * upstream {@link Multi} into a {@code Multi<Multi<T>>}, where each emitted multi contains items from the upstream.
@@ -39,17 +66,127 @@ public class MultiGroup<T> {
         return new MultiGroupIntoMultis<>(upstream);
     }
 
+    /**
+     * Aggregates the items emitted by the upstream {@code Multi} during connected, non-overlapping windows of the
+     * given duration. The returned object configures the aggregation.
+     *
+     * @param duration the duration of each window, must not be {@code null}, must be strictly positive
+     * @return the aggregation configuration
+     */
+    public MultiGroupIntoWindows<T> intoWindows(Duration duration) {
+        validate(duration, "duration");
+        return new MultiGroupIntoWindows<>(upstream, duration, duration);
+    }
+
+    /**
+     * Aggregates the items emitted by the upstream {@code Multi} during windows of the given duration, a new window
+     * being started every {@code shift}. If {@code shift} is smaller than {@code duration}, the windows overlap
+     * (sliding windows). The returned object configures the aggregation.
+     *
+     * @param duration the duration of each window, must not be {@code null}, must be strictly positive
+     * @param shift the period of time between the start of two consecutive windows, must not be {@code null}, must be
+     *        strictly positive
+     * @return the aggregation configuration
+     */
+    public MultiGroupIntoWindows<T> intoWindows(Duration duration, Duration shift) {
+        return new MultiGroupIntoWindows<>(upstream, validate(duration, "duration"), validate(shift, "shift"));
+    }
+
+    /**
+     * Configures the grouping made by {@link #by(Function)} to evict the groups that have not received an item
+     * for the given duration. Evicted groups are completed, and a new group is emitted if an item with the same
+     * key is received later.
+     * <p>
+     * Idle groups are detected periodically, using the default worker pool.
+     *
+     * @param idle the idle duration, must not be {@code null}, must be strictly positive
+     * @return a new {@link MultiGroup} evicting idle groups
+     */
+    public MultiGroup<T> evictingAfterIdle(Duration idle) {
+        return new MultiGroup<>(upstream, validate(idle, "idle"), maxGroups);
+    }
+
+    /**
+     * Configures the grouping made by {@link #by(Function)} to keep at most {@code maxGroups} groups. When a new
+     * group must be created and the limit is reached, the least recently used group (the group that has not received
+     * an item for the longest time) is completed and evicted. A new group is emitted if an item with the same key is
+     * received later.
+     *
+     * @param maxGroups the maximum number of groups, must be strictly positive
+     * @return a new {@link MultiGroup} bounding the number of groups
+     */
+    public MultiGroup<T> maxGroups(int maxGroups) {
+        return new MultiGroup<>(upstream, idle, positive(maxGroups, "maxGroups"));
+    }
+
     // TODO grouping can also have prefetch and failure collection delay.
 
     public <K> Multi<GroupedMulti<K, T>> by(Function<? super T, ? extends K> keyMapper) {
         Function<? super T, ? extends K> mapper = nonNull(keyMapper, "keyMapper");
-        return Infrastructure.onMultiCreation(new MultiGroupByOp<>(upstream, mapper, x -> x));
+        return Infrastructure.onMultiCreation(newGroupByOp(mapper, x -> x));
     }
 
     public <K, V> Multi<GroupedMulti<K, V>> by(Function<? super T, ? extends K> keyMapper,
             Function<? super T, ? extends V> valueMapper) {
         Function<? super T, ? extends K> k = nonNull(keyMapper, "keyMapper");
         Function<? super T, ? extends V> v = nonNull(valueMapper, "valueMapper");
-        return Infrastructure.onMultiCreation(new MultiGroupByOp<>(upstream, k, v));
+        return Infrastructure.onMultiCreation(newGroupByOp(k, v));
+    }
+
+    /**
+     * Splits the items into a fixed number of partitions, using the hash code of the key computed by the
+     * {@code keyMapper}. Items with the same key always go to the same partition, and so, are emitted in order.
+     * <p>
+     * Unlike {@link #by(Function)}, which creates one group per key, this method emits at most {@code partitions}
+     * groups, whatever the number of distinct keys. The key of each {@link GroupedMulti} is the partition index,
+     * in {@code [0, partitions[}.
+     * <p>
+     * Each partition emits its items sequentially on the {@link Infrastructure#getDefaultExecutor() default executor},
+     * and different partitions are processed concurrently. So, keyed processing can use the available cores while
+     * preserving the per-key ordering.
+     *
+     * @param keyMapper the key mapper, must not be {@code null}, may return {@code null}
+     * @param partitions the number of partitions, must be strictly positive
+     * @param <K> the type of key
+     * @return the {@link Multi} emitting the partitions
+     */
+    public <K> Multi<GroupedMulti<Integer, T>> byPartition(Function<? super T, ? extends K> keyMapper,
+            int partitions) {
+        return byPartition(keyMapper, partitions, Infrastructure.getDefaultExecutor());
+    }
+
+    /**
+     * Splits the items into a fixed number of partitions, using the hash code of the key computed by the
+     * {@code keyMapper}. Each partition emits its items sequentially on the given executor.
+     *
+     * @param keyMapper the key mapper, must not be {@code null}, may return {@code null}
+     * @param partitions the number of partitions, must be strictly positive
+     * @param executor the executor on which the partitions emit their items, must not be {@code null}
+     * @param <K> the type of key
+     * @return the {@link Multi} emitting the partitions
+     * @see #byPartition(Function, int)
+     */
+    public <K> Multi<GroupedMulti<Integer, T>> byPartition(Function<? super T, ? extends K> keyMapper,
+            int partitions, Executor executor) {
+        Function<? super T, ? extends K> mapper = nonNull(keyMapper, "keyMapper");
+        int count = positive(partitions, "partitions");
+        nonNull(executor, "executor");
+        Function<T, Integer> partitioner = item -> {
+            int hash = Objects.hashCode(mapper.apply(item));
+            // Spread the high bits, as done by HashMap, as keys often differ in the high bits only.
+            return Math.floorMod(hash ^ (hash >>> 16), count);
+        };
+        Multi<GroupedMulti<Integer, T>> groups = new MultiGroupByOp<>(upstream, partitioner, x -> x);
+        return Infrastructure.onMultiCreation(groups.onItem()
+                .transform(group -> new MultiGroupEmitOnOp<>(group, executor)));
+    }
+
+    private <K, V> MultiGroupByOp<T, K, V> newGroupByOp(Function<? super T, ? extends K> keyMapper,
+            Function<? super T, ? extends V> valueMapper) {
+        if (idle == null && maxGroups == Integer.MAX_VALUE) {
+            return new MultiGroupByOp<>(upstream, keyMapper, valueMapper);
+        }
+        return new MultiGroupByOp<>(upstream, keyMapper, valueMapper, idle, maxGroups,
+                Infrastructure.getDefaultWorkerPool());
     }
 }
@@ -0,0 +1,41 @@
+package io.smallrye.mutiny.groups;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.util.function.IntFunction;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.MultiBufferArrayOp;
+
+public class MultiGroupIntoArrays<T> {
+
+    private final Multi<T> upstream;
+    private final IntFunction<T[]> generator;
+
+    public MultiGroupIntoArrays(Multi<T> upstream, IntFunction<T[]> generator) {
+        this.upstream = nonNull(upstream, "upstream");
+        this.generator = nonNull(generator, "generator");
+    }
+
+    /**
+     * Creates a {@link Multi} that emits arrays of items collected from the observed {@link Multi}.
+     * <p>
+     * The resulting {@link Multi} emits arrays every {@code size} items. Each array is allocated with exactly
+     * {@code size} slots, so, unlike lists, it never needs to be resized while the items are collected.
+     * <p>
+     * When the upstream {@link Multi} sends the completion event, the produced {@link Multi} emits the current array,
+     * trimmed to the number of items it contains, and sends the completion event. If the upstream {@link Multi} sends
+     * the completion event before having emitted any event, the completion event is propagated immediately.
+     * <p>
+     * If the upstream {@link Multi} sends a failure, the failure is propagated immediately.
+     *
+     * @param size the size of each collected array, must be positive
+     * @return a Multi emitting arrays of at most {@code size} items from the upstream Multi.
+     */
+    public Multi<T[]> of(int size) {
+        return Infrastructure.onMultiCreation(new MultiBufferArrayOp<>(upstream, positive(size, "size"), generator));
+    }
+
+}
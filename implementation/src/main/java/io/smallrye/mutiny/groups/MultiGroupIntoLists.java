@@ -8,23 +8,46 @@ import java.time.Duration;
 import java.util.List;
 
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ListPool;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.MultiCollector;
 
 public class MultiGroupIntoLists<T> {
 
     private final Multi<T> upstream;
+    private final ListPool<T> pool;
 
     public MultiGroupIntoLists(Multi<T> upstream) {
+        this(upstream, null);
+    }
+
+    private MultiGroupIntoLists(Multi<T> upstream, ListPool<T> pool) {
         this.upstream = nonNull(upstream, "upstream");
+        this.pool = pool;
+    }
+
+    /**
+     * Configures the grouping to acquire the lists from the given {@link ListPool} instead of allocating a new list
+     * for each group.
+     * <p>
+     * The consumer of the lists should hand them back to the pool using {@link ListPool#release(List)} once they have
+     * been processed, so they can be reused for the next groups. A released list must not be used anymore.
+     *
+     * @param pool the pool, must not be {@code null}
+     * @return a new {@link MultiGroupIntoLists} recycling the lists from the given pool
+     */
+    public MultiGroupIntoLists<T> recycling(ListPool<T> pool) {
+        return new MultiGroupIntoLists<>(upstream, nonNull(pool, "pool"));
     }
 
     /**
      * Creates a {@link Multi} that emits lists of items collected from the observed {@link Multi}.
      * <p>
-     * The resulting {@link Multi} emits connected, non-overlapping lists, each of a fixed duration specified by the
-     * {@code duration} parameter. If, during the configured time window, no items are emitted by the upstream
-     * {@link Multi}, an empty list is emitted by the returned {@link Multi}.
+     * The resulting {@link Multi} emits non-overlapping lists. A list is started by the first item it receives and is
+     * emitted once {@code duration} has elapsed since that item, so each list collects items for the whole
+     * {@code duration}. No list is emitted while the upstream {@link Multi} does not emit items, so empty lists are
+     * never emitted. Unlike {@link #every(Duration, Duration)}, the timer is not shared with other subscriptions nor
+     * aligned on a global tick.
      * <p>
      * When the upstream {@link Multi} sends the completion event, the resulting {@link Multi} emits the current list
      * and propagates the completion event.
@@ -37,7 +60,44 @@ public class MultiGroupIntoLists<T> {
      *         window.
      */
     public Multi<List<T>> every(Duration duration) {
-        return Infrastructure.onMultiCreation(MultiCollector.list(upstream, validate(duration, "duration")));
+        validate(duration, "duration");
+        if (pool != null) {
+            return Infrastructure.onMultiCreation(MultiCollector.list(upstream, duration, pool::acquire));
+        }
+        return Infrastructure.onMultiCreation(MultiCollector.list(upstream, duration));
+    }
+
+    /**
+     * Creates a {@link Multi} that emits lists of items collected from the observed {@link Multi}.
+     * <p>
+     * The resulting {@link Multi} starts a new list every {@code shift}, and emits each list once it has collected
+     * items for {@code duration}. If {@code shift} is smaller than {@code duration}, the lists overlap (sliding
+     * windows) and an item can be part of several lists. If {@code shift} is greater than {@code duration}, the items
+     * emitted between the end of a list and the start of the next one are dropped. Empty lists are not emitted.
+     * <p>
+     * The lists are started and emitted by a timer shared with the other subscriptions, ticking every
+     * <em>gcd(duration, shift)</em> milliseconds, so the first list may collect items for less than
+     * {@code duration}.
+     * <p>
+     * When the upstream {@link Multi} sends the completion event, the resulting {@link Multi} emits the current lists
+     * and propagates the completion event.
+     * <p>
+     * If the upstream {@link Multi} sends a failure, the failure is propagated immediately.
+     *
+     * @param duration the period of time each list collects items before it is emitted. Must be non {@code null} and
+     *        positive.
+     * @param shift the period of time between the start of two consecutive lists. If {@code shift} and
+     *        {@code duration} are equal, this operation is similar to {@link #every(Duration)}. Must be non
+     *        {@code null} and positive.
+     * @return a Multi emitting the lists of items emitted by the upstream multi during each time window.
+     */
+    public Multi<List<T>> every(Duration duration, Duration shift) {
+        validate(duration, "duration");
+        validate(shift, "shift");
+        if (pool != null) {
+            return Infrastructure.onMultiCreation(MultiCollector.list(upstream, duration, shift, pool::acquire));
+        }
+        return Infrastructure.onMultiCreation(MultiCollector.list(upstream, duration, shift));
     }
 
     /**
@@ -55,7 +115,7 @@ public class MultiGroupIntoLists<T> {
      * @return a Multi emitting lists of at most {@code size} items from the upstream Multi.
      */
     public Multi<List<T>> of(int size) {
-        return Infrastructure.onMultiCreation(MultiCollector.list(upstream, positive(size, "size")));
+        return of(size, size);
     }
 
     /**
@@ -76,8 +136,12 @@ public class MultiGroupIntoLists<T> {
      *         {@code size} items
      */
     public Multi<List<T>> of(int size, int skip) {
-        return Infrastructure.onMultiCreation(
-                MultiCollector.list(upstream, positive(size, "size"), positive(skip, "skip")));
+        positive(size, "size");
+        positive(skip, "skip");
+        if (pool != null) {
+            return Infrastructure.onMultiCreation(MultiCollector.list(upstream, size, skip, pool::acquire));
+        }
+        return Infrastructure.onMultiCreation(MultiCollector.list(upstream, size, skip));
     }
 
 }
@@ -0,0 +1,77 @@
+package io.smallrye.mutiny.groups;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.MultiTimeWindowAggregateOp;
+
+/**
+ * Aggregates the items emitted by the upstream {@link Multi} during time windows, and emits the result of each window.
+ * <p>
+ * Unlike {@link MultiGroupIntoLists#every(Duration)}, the items are not stored: each window folds them into an
+ * accumulator as they arrive, and the result is computed when the window ends. So, a window only keeps the state of
+ * its accumulator, regardless of the number of items it receives.
+ * <p>
+ * Windows without items are not emitted. When the upstream {@link Multi} sends the completion event, the result of
+ * the current windows are emitted, and the completion event is propagated. If the upstream {@link Multi} sends a
+ * failure, the failure is propagated immediately.
+ *
+ * @param <T> the type of item
+ */
+public class MultiGroupIntoWindows<T> {
+
+    private final Multi<T> upstream;
+    private final Duration duration;
+    private final Duration shift;
+
+    public MultiGroupIntoWindows(Multi<T> upstream, Duration duration, Duration shift) {
+        this.upstream = nonNull(upstream, "upstream");
+        this.duration = nonNull(duration, "duration");
+        this.shift = nonNull(shift, "shift");
+    }
+
+    /**
+     * Aggregates the items of each window using the given {@link Collector}.
+     * <p>
+     * A new accumulator is created for each window using the collector supplier. The collector combiner is not used.
+     *
+     * @param collector the collector, must not be {@code null}
+     * @param <A> the type of the accumulator
+     * @param <R> the type of the result of each window
+     * @return a Multi emitting the result of each window
+     */
+    public <A, R> Multi<R> aggregate(Collector<? super T, A, ? extends R> collector) {
+        return Infrastructure.onMultiCreation(new MultiTimeWindowAggregateOp<>(upstream, duration, shift,
+                nonNull(collector, "collector"), Infrastructure.getDefaultWorkerPool()));
+    }
+
+    /**
+     * Counts the items of each window.
+     *
+     * @return a Multi emitting the number of items received during each window
+     */
+    public Multi<Long> count() {
+        return aggregate(Collectors.counting());
+    }
+
+    /**
+     * Reduces the items of each window using the given accumulator function. The first item of a window is the
+     * initial value of its reduction.
+     *
+     * @param accumulator the function combining the current value with the next item, must not be {@code null}
+     * @return a Multi emitting the reduction of the items received during each window
+     */
+    public Multi<T> reduce(BinaryOperator<T> accumulator) {
+        nonNull(accumulator, "accumulator");
+        // Empty windows are not emitted, so the Optional is never empty
+        return aggregate(Collectors.collectingAndThen(Collectors.reducing(accumulator), Optional::get));
+    }
+
+}
@@ -0,0 +1,115 @@
+package io.smallrye.mutiny.groups;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+
+import io.smallrye.mutiny.CompositeException;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.MultiFlatMapOp;
+import io.smallrye.mutiny.operators.multi.MultiFlatMapOrderedOp;
+
+/**
+ * Creates new {@link Multi} by joining a set of {@link Uni unis}.
+ * <p>
+ * Unlike {@link UniAndGroupIterable#combinedWith(Function)} which waits for all the {@link Uni unis} and produces
+ * a single list, the {@link Multi} produced by this class emits the items as soon as they are available, so the
+ * downstream processing overlaps with the slowest {@link Uni unis}. The {@link Uni unis} are subscribed lazily, with
+ * at most {@code concurrency} in-flight {@link Uni unis}.
+ * <p>
+ * {@link Uni unis} emitting {@code null} do not produce an item in the resulting {@link Multi}.
+ */
+public class MultiJoin {
+
+    private final boolean ordered;
+    private final boolean collectFailures;
+    private final int concurrency;
+
+    MultiJoin(boolean ordered, boolean collectFailures, int concurrency) {
+        this.ordered = ordered;
+        this.collectFailures = collectFailures;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Creates a new {@link Multi} emitting the items of the given {@link Uni unis}.
+     *
+     * @param unis the unis, must not be {@code null}, must not contain {@code null}
+     * @param <T> the type of item
+     * @return the new {@link Multi}
+     */
+    @SafeVarargs
+    public final <T> Multi<T> unis(Uni<? extends T>... unis) {
+        return unis(Arrays.asList(nonNull(unis, "unis")));
+    }
+
+    /**
+     * Creates a new {@link Multi} emitting the items of the given {@link Uni unis}.
+     * <p>
+     * The iterable is consumed lazily, so it is not required to hold all the {@link Uni unis} in memory.
+     *
+     * @param unis the unis, must not be {@code null}, must not contain {@code null}
+     * @param <T> the type of item
+     * @return the new {@link Multi}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Multi<T> unis(Iterable<? extends Uni<? extends T>> unis) {
+        Multi<Uni<? extends T>> source = Multi.createFrom()
+                .iterable((Iterable<Uni<? extends T>>) nonNull(unis, "unis"));
+        Function<Uni<? extends T>, Publisher<? extends T>> mapper = Uni::toMulti;
+        if (ordered) {
+            return Infrastructure.onMultiCreation(
+                    new MultiFlatMapOrderedOp<>(source, mapper, collectFailures, concurrency, 1));
+        }
+        return Infrastructure.onMultiCreation(
+                new MultiFlatMapOp<>(source, mapper, collectFailures, concurrency, 1));
+    }
+
+    /**
+     * Emits the items in the order of the {@link Uni unis}, and not in completion order.
+     * <p>
+     * Items from {@link Uni unis} completing before their predecessors are kept in a reorder buffer. As at most
+     * {@code concurrency} {@link Uni unis} are in flight, the buffer holds at most {@code concurrency} items.
+     *
+     * @return a new {@link MultiJoin} preserving the order of the {@link Uni unis}
+     */
+    public MultiJoin inOrder() {
+        return new MultiJoin(true, this.collectFailures, this.concurrency);
+    }
+
+    /**
+     * Emits the items as soon as the {@link Uni unis} complete. This is the default behavior.
+     *
+     * @return a new {@link MultiJoin} emitting the items in completion order
+     */
+    public MultiJoin inCompletionOrder() {
+        return new MultiJoin(false, this.collectFailures, this.concurrency);
+    }
+
+    /**
+     * Indicates that the join process should not propagate the first received failure, but collect them until
+     * all the {@link Uni unis} have emitted their outcome. Then, the failures are propagated downstream
+     * (as a {@link CompositeException} if several failures have been received).
+     *
+     * @return a new {@link MultiJoin} collecting failures
+     */
+    public MultiJoin collectFailures() {
+        return new MultiJoin(this.ordered, true, this.concurrency);
+    }
+
+    /**
+     * Indicates that the join process can subscribe up to {@code concurrency} {@link Uni unis} concurrently.
+     *
+     * @param concurrency the concurrency, must be strictly positive
+     * @return a new {@link MultiJoin} configured with the given concurrency
+     */
+    public MultiJoin withConcurrency(int concurrency) {
+        return new MultiJoin(this.ordered, this.collectFailures, positive(concurrency, "concurrency"));
+    }
+}
@@ -3,6 +3,7 @@ package io.smallrye.mutiny.groups;
 import static io.smallrye.mutiny.helpers.ParameterValidation.*;
 
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.*;
 
 import org.reactivestreams.Publisher;
@@ -16,6 +17,12 @@ import io.smallrye.mutiny.subscription.BackPressureStrategy;
 
 public class MultiOnItem<T> {
 
+    /**
+     * The default maximum number of concurrent invocations of the mapper passed to
+     * {@link #transformBlocking(Function)}.
+     */
+    public static final int DEFAULT_BLOCKING_CONCURRENCY = 128;
+
     private final Multi<T> upstream;
 
     public MultiOnItem(Multi<T> upstream) {
@@ -317,6 +324,67 @@ public class MultiOnItem<T> {
         return transformToUni(mapper).concatenate();
     }
 
+    /**
+     * For each item emitted by the upstream, invokes the given <em>blocking</em> {@code mapper} on the blocking
+     * executor (see {@link Infrastructure#getBlockingExecutor()}), and emits the result downstream.
+     * <p>
+     * This is a shortcut for
+     * {@code transformToUni(x -> Uni.createFrom().item(() -> mapper.apply(x)).runSubscriptionOn(executor)).merge(n)}.
+     * At most {@link #DEFAULT_BLOCKING_CONCURRENCY} invocations of the mapper are in flight at a given time. The
+     * results are emitted as soon as they are available, so their order may differ from the order of the upstream
+     * items. The results are emitted from the thread that ran the mapper.
+     * <p>
+     * If the mapper throws an exception, the failure is propagated downstream. If the mapper returns {@code null},
+     * no item is emitted for the received item.
+     *
+     * @param mapper the blocking mapper, must not be {@code null}
+     * @param <O> the type of item produced by the mapper
+     * @return the resulting multi
+     */
+    public <O> Multi<O> transformBlocking(Function<? super T, ? extends O> mapper) {
+        return transformBlocking(mapper, DEFAULT_BLOCKING_CONCURRENCY);
+    }
+
+    /**
+     * For each item emitted by the upstream, invokes the given <em>blocking</em> {@code mapper} on the blocking
+     * executor (see {@link Infrastructure#getBlockingExecutor()}), and emits the result downstream.
+     * <p>
+     * At most {@code maxInFlight} invocations of the mapper are in flight at a given time, the upstream items being
+     * requested as the invocations complete.
+     *
+     * @param mapper the blocking mapper, must not be {@code null}
+     * @param maxInFlight the maximum number of concurrent invocations of the mapper, must be strictly positive
+     * @param <O> the type of item produced by the mapper
+     * @return the resulting multi
+     * @see #transformBlocking(Function)
+     */
+    public <O> Multi<O> transformBlocking(Function<? super T, ? extends O> mapper, int maxInFlight) {
+        return transformBlocking(mapper, maxInFlight, Infrastructure.getBlockingExecutor());
+    }
+
+    /**
+     * For each item emitted by the upstream, invokes the given <em>blocking</em> {@code mapper} on the given
+     * {@code executor}, and emits the result downstream.
+     * <p>
+     * At most {@code maxInFlight} invocations of the mapper are in flight at a given time, the upstream items being
+     * requested as the invocations complete.
+     *
+     * @param mapper the blocking mapper, must not be {@code null}
+     * @param maxInFlight the maximum number of concurrent invocations of the mapper, must be strictly positive
+     * @param executor the executor running the mapper, must not be {@code null}
+     * @param <O> the type of item produced by the mapper
+     * @return the resulting multi
+     * @see #transformBlocking(Function)
+     */
+    public <O> Multi<O> transformBlocking(Function<? super T, ? extends O> mapper, int maxInFlight,
+            Executor executor) {
+        nonNull(mapper, "mapper");
+        positive(maxInFlight, "maxInFlight");
+        nonNull(executor, "executor");
+        return transformToUni(item -> Uni.createFrom().<O> item(() -> mapper.apply(item)).runSubscriptionOn(executor))
+                .merge(maxInFlight);
+    }
+
     /**
      * For each items emitted by the upstream, the given {@code mapper} is invoked. This {@code mapper} returns a
      * {@link Uni}. The events emitted by the returned {@link Uni} are emitted downstream. Items emitted
@@ -2,8 +2,12 @@ package io.smallrye.mutiny.groups;
 
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 
+import java.nio.ByteBuffer;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -11,10 +15,12 @@ import java.util.stream.Stream;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.BlockingIterable;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.operators.MultiByteBuffers;
 import io.smallrye.mutiny.subscription.Cancellable;
 import io.smallrye.mutiny.subscription.CancellableSubscriber;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
@@ -147,6 +153,34 @@ public class MultiSubscribe<T> {
         return withSubscriber(subscriber);
     }
 
+    /**
+     * Like {@link #with(Consumer, Consumer, Runnable)}, but attaches the given {@link Context} to the subscription.
+     * <p>
+     * The context flows upstream at subscription time and can be read by the operators using
+     * {@link Multi#withContext(java.util.function.BiFunction)}.
+     *
+     * <strong>Important:</strong> This method request {@link Long#MAX_VALUE} items.
+     *
+     * @param context the context, must not be {@code null}
+     * @param onItem the callback receiving the items, must not be {@code null}
+     * @param onFailure the callback receiving the failure, must not be {@code null}
+     * @param onComplete the callback receiving the completion event, must not be {@code null}
+     * @return the cancellable object to cancel the subscription
+     */
+    public Cancellable with(
+            Context context,
+            Consumer<? super T> onItem,
+            Consumer<? super Throwable> onFailure,
+            Runnable onComplete) {
+        CancellableSubscriber<? super T> subscriber = Subscribers.from(
+                nonNull(context, "context"),
+                nonNull(onItem, "onItem"),
+                nonNull(onFailure, "onFailure"),
+                nonNull(onComplete, "onComplete"),
+                s -> s.request(Long.MAX_VALUE));
+        return withSubscriber(subscriber);
+    }
+
     /**
      * Subscribes to the {@link Multi} to start receiving the items.
      * <p>
@@ -289,4 +323,25 @@ public class MultiSubscribe<T> {
         return asIterable(batchSize, supplier).stream();
     }
 
+    /**
+     * Writes the items emitted by the upstream {@link Multi}, which must be {@link ByteBuffer ByteBuffers}, to the
+     * file located at the given path.
+     * <p>
+     * The file is opened using a {@link java.nio.channels.FileChannel}, and the buffers are written in batches of at
+     * most {@link MultiByteBufferWriter#DEFAULT_MAX_ITEMS} buffers, each batch using a single gathering write. The file
+     * is closed on completion, failure and cancellation. The writes are blocking, and run on the thread emitting the
+     * items. Use {@link MultiByteBuffers#write(Multi)} to configure the batches.
+     *
+     * @param path the path of the file, must not be {@code null}
+     * @param options the options used to open the file, {@code CREATE}, {@code TRUNCATE_EXISTING} and
+     *        {@code WRITE} if none
+     * @return a {@link CompletableFuture} completed with the number of written bytes once the file has been written
+     *         and closed. Cancelling the future cancels the subscription.
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Long> toFile(Path path, OpenOption... options) {
+        return MultiByteBuffers.toFile((Multi<? extends ByteBuffer>) upstream, path, options)
+                .subscribe().asCompletionStage();
+    }
+
 }
@@ -1,6 +1,7 @@
 package io.smallrye.mutiny.groups;
 
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
 
 import java.util.List;
 import java.util.function.Function;
@@ -17,6 +18,7 @@ public class UniAndGroupIterable<T1> {
     private final List<? extends Uni<?>> unis;
 
     private boolean collectFailures;
+    private int concurrency = Integer.MAX_VALUE;
 
     public UniAndGroupIterable(Iterable<? extends Uni<?>> iterable) {
         this(null, iterable, false);
@@ -44,9 +46,25 @@ public class UniAndGroupIterable<T1> {
         return this;
     }
 
+    /**
+     * Limits the number of {@link Uni unis} subscribed concurrently.
+     * <p>
+     * By default, all the {@link Uni unis} are subscribed at once. With this option, the combination subscribes to
+     * at most {@code concurrency} unis, and subscribes to the next one every time one of them emits its outcome.
+     * The items are still combined in the order of the {@link Uni unis}.
+     *
+     * @param concurrency the maximum number of {@link Uni unis} subscribed concurrently, must be strictly positive
+     * @return the current {@link UniAndGroupIterable}
+     */
+    public UniAndGroupIterable<T1> withConcurrency(int concurrency) {
+        this.concurrency = positive(concurrency, "concurrency");
+        return this;
+    }
+
     public <O> Uni<O> combinedWith(Function<List<?>, O> function) {
         return Infrastructure
-                .onUniCreation(new UniAndCombination<>(source, unis, nonNull(function, "function"), collectFailures));
+                .onUniCreation(new UniAndCombination<>(source, unis, nonNull(function, "function"), collectFailures,
+                        concurrency));
     }
 
     /**
@@ -58,7 +76,7 @@ public class UniAndGroupIterable<T1> {
      */
     public Uni<Void> discardItems() {
         return Infrastructure
-                .onUniCreation(new UniAndCombination<>(source, unis, x -> null, collectFailures));
+                .onUniCreation(new UniAndCombination<>(source, unis, x -> null, collectFailures, concurrency));
     }
 
 }
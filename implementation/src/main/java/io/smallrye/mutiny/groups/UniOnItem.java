@@ -4,6 +4,7 @@ import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -116,6 +117,36 @@ public class UniOnItem<T> {
         return Infrastructure.onUniCreation(new UniOnItemTransformToUni<>(upstream, mapper));
     }
 
+    /**
+     * Transforms the received item using the given <em>blocking</em> {@code mapper}, invoked on the blocking executor
+     * (see {@link Infrastructure#getBlockingExecutor()}). The result is emitted from the thread that ran the mapper.
+     * <p>
+     * If the mapper throws an exception, the produced {@link Uni} propagates it as failure.
+     *
+     * @param mapper the blocking mapper, must not be {@code null}
+     * @param <R> the type of item produced by the mapper
+     * @return the new {@link Uni}
+     */
+    public <R> Uni<R> transformBlocking(Function<? super T, ? extends R> mapper) {
+        return transformBlocking(mapper, Infrastructure.getBlockingExecutor());
+    }
+
+    /**
+     * Transforms the received item using the given <em>blocking</em> {@code mapper}, invoked on the given
+     * {@code executor}. The result is emitted from the thread that ran the mapper.
+     *
+     * @param mapper the blocking mapper, must not be {@code null}
+     * @param executor the executor running the mapper, must not be {@code null}
+     * @param <R> the type of item produced by the mapper
+     * @return the new {@link Uni}
+     * @see #transformBlocking(Function)
+     */
+    public <R> Uni<R> transformBlocking(Function<? super T, ? extends R> mapper, Executor executor) {
+        nonNull(mapper, "mapper");
+        nonNull(executor, "executor");
+        return transformToUni(item -> Uni.createFrom().<R> item(() -> mapper.apply(item)).runSubscriptionOn(executor));
+    }
+
     /**
      * Transforms the received item asynchronously, forwarding the events emitted by another {@link Uni} produced by
      * the given {@code mapper}.
@@ -251,6 +282,26 @@ public class UniOnItem<T> {
         return new UniOnItemDelay<>(upstream, null);
     }
 
+    /**
+     * Produces a new {@link Uni} subscribing again to the current {@link Uni} if no item has been received after a
+     * given delay, and propagating the first item emitted by any of these subscriptions. The other subscriptions are
+     * cancelled.
+     * <p>
+     * Examples:
+     * </p>
+     *
+     * <pre>
+     * <code>
+     *     uni.onItem().hedge().after(Duration.ofMillis(50)).atMost(2);
+     * </code>
+     * </pre>
+     *
+     * @return the object to configure the hedged subscriptions.
+     */
+    public UniOnItemHedge<T> hedge() {
+        return new UniOnItemHedge<>(upstream, null, null, null);
+    }
+
     /**
      * Produces a {@link Uni} ignoring the item of the current {@link Uni} and continuing with either
      * {@link UniOnItemIgnore#andContinueWith(Object) another item}, {@link UniOnItemIgnore#andFail() a failure},
@@ -0,0 +1,152 @@
+package io.smallrye.mutiny.groups;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.UniHedge;
+
+/**
+ * Configures <em>hedged</em> subscriptions: if the upstream {@link Uni} does not emit an item after a given delay,
+ * the {@link Uni} is subscribed again, and the first item emitted by any of the subscriptions is propagated
+ * downstream. The other subscriptions are cancelled.
+ * <p>
+ * Hedging reduces the tail latency when a few calls are much slower than the others, at the cost of extra calls.
+ * The upstream {@link Uni} must be safe to subscribe several times concurrently.
+ *
+ * <pre>
+ * <code>
+ * Uni&lt;T&gt; uni = call.onItem().hedge().after(Duration.ofMillis(50)).atMost(2);
+ * </code>
+ * </pre>
+ *
+ * @param <T> the type of item
+ */
+public class UniOnItemHedge<T> {
+
+    private final Uni<T> upstream;
+    private final Duration delay;
+    private final ScheduledExecutorService executor;
+    private final Statistics statistics;
+
+    public UniOnItemHedge(Uni<T> upstream, Duration delay, ScheduledExecutorService executor,
+            Statistics statistics) {
+        this.upstream = nonNull(upstream, "upstream");
+        this.delay = delay;
+        this.executor = executor;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Configures the delay after which a new subscription is made if no item has been received yet.
+     *
+     * @param delay the delay, must not be {@code null}, must be strictly positive.
+     * @return a new {@link UniOnItemHedge}
+     */
+    public UniOnItemHedge<T> after(Duration delay) {
+        return new UniOnItemHedge<>(upstream, validate(delay, "delay"), executor, statistics);
+    }
+
+    /**
+     * Configures the executor used to measure the delay and to make the hedged subscriptions.
+     * By default, the {@link Infrastructure#getDefaultWorkerPool() default worker pool} is used.
+     *
+     * @param executor the executor, must not be {@code null}
+     * @return a new {@link UniOnItemHedge}
+     */
+    public UniOnItemHedge<T> on(ScheduledExecutorService executor) {
+        return new UniOnItemHedge<>(upstream, delay, nonNull(executor, "executor"), statistics);
+    }
+
+    /**
+     * Configures the {@link Statistics} object recording how often the hedged subscriptions happen. The same
+     * {@link Statistics} instance can be shared by several {@link Uni unis}.
+     *
+     * @param statistics the statistics, must not be {@code null}
+     * @return a new {@link UniOnItemHedge}
+     */
+    public UniOnItemHedge<T> recordingIn(Statistics statistics) {
+        return new UniOnItemHedge<>(upstream, delay, executor, nonNull(statistics, "statistics"));
+    }
+
+    /**
+     * Produces a new {@link Uni} subscribing to the upstream {@link Uni} up to {@code hedges} additional times, each
+     * time the configured delay elapses without an item.
+     * <p>
+     * The first item wins. A failure is only propagated when no other subscription is in flight; otherwise, the
+     * produced {@link Uni} waits for the other subscriptions.
+     *
+     * @param hedges the maximum number of additional subscriptions, must be strictly positive
+     * @return the new {@link Uni}
+     */
+    public Uni<T> atMost(int hedges) {
+        validate(delay, "delay");
+        positive(hedges, "hedges");
+        ScheduledExecutorService actual = executor == null ? Infrastructure.getDefaultWorkerPool() : executor;
+        return Infrastructure.onUniCreation(new UniHedge<>(upstream, delay, hedges, actual, statistics));
+    }
+
+    /**
+     * Counters describing the hedged subscriptions, useful to tune the delay.
+     */
+    public static final class Statistics {
+
+        private final LongAdder subscriptions = new LongAdder();
+        private final LongAdder hedges = new LongAdder();
+        private final LongAdder hedgeWins = new LongAdder();
+
+        /**
+         * Records a subscription to the hedged {@link Uni}.
+         */
+        public void onSubscription() {
+            subscriptions.increment();
+        }
+
+        /**
+         * Records an additional subscription made because the delay elapsed.
+         */
+        public void onHedge() {
+            hedges.increment();
+        }
+
+        /**
+         * Records an item emitted by an additional subscription, and not by the original one.
+         */
+        public void onHedgeWin() {
+            hedgeWins.increment();
+        }
+
+        /**
+         * @return the number of subscriptions to the hedged {@link Uni unis}
+         */
+        public long subscriptions() {
+            return subscriptions.sum();
+        }
+
+        /**
+         * @return the number of additional subscriptions
+         */
+        public long hedges() {
+            return hedges.sum();
+        }
+
+        /**
+         * @return the number of items emitted by additional subscriptions
+         */
+        public long hedgeWins() {
+            return hedgeWins.sum();
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics{subscriptions=" + subscriptions() + ", hedges=" + hedges() + ", hedgeWins="
+                    + hedgeWins() + "}";
+        }
+    }
+}
@@ -3,8 +3,10 @@ package io.smallrye.mutiny.groups;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Trampoline;
 import io.smallrye.mutiny.helpers.UniCallbackSubscriber;
 import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.operators.UniSerializedSubscriber;
@@ -46,7 +48,8 @@ public class UniSubscribe<T> {
      * @return the passed subscriber
      */
     public <S extends UniSubscriber<? super T>> S withSubscriber(S subscriber) {
-        UniSerializedSubscriber.subscribe(upstream, ParameterValidation.nonNull(subscriber, "subscriber"));
+        ParameterValidation.nonNull(subscriber, "subscriber");
+        Trampoline.isolated(() -> UniSerializedSubscriber.subscribe(upstream, subscriber));
         return subscriber;
     }
 
@@ -70,6 +73,28 @@ public class UniSubscribe<T> {
         return subscriber;
     }
 
+    /**
+     * Like {@link #with(Consumer, Consumer)}, but attaches the given {@link Context} to the subscription.
+     * <p>
+     * The context flows upstream at subscription time and can be read by the operators using
+     * {@link Uni#withContext(java.util.function.BiFunction)}.
+     *
+     * @param context the context, must not be {@code null}
+     * @param onItemCallback callback invoked when the an item event is received, potentially called with {@code null}
+     *        is received. The callback must not be {@code null}
+     * @param onFailureCallback callback invoked when a failure event is received, must not be {@code null}
+     * @return an object to cancel the computation
+     */
+    public Cancellable with(Context context, Consumer<? super T> onItemCallback,
+            Consumer<? super Throwable> onFailureCallback) {
+        UniCallbackSubscriber<T> subscriber = new UniCallbackSubscriber<>(
+                ParameterValidation.nonNull(context, "context"),
+                ParameterValidation.nonNull(onItemCallback, "onItemCallback"),
+                ParameterValidation.nonNull(onFailureCallback, "onFailureCallback"));
+        withSubscriber(subscriber);
+        return subscriber;
+    }
+
     /**
      * Like {@link #withSubscriber(UniSubscriber)} with creating an artificial {@link UniSubscriber} calling the
      * {@code onItem} when the item is received.
@@ -0,0 +1,138 @@
+package io.smallrye.mutiny.helpers;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+/**
+ * A concurrency limit adapting itself to the latency of the inner streams of a <em>flatMap</em>, using an
+ * <em>additive increase / multiplicative decrease</em> (AIMD) algorithm.
+ * <p>
+ * Each time an inner stream terminates, its latency (from the subscription to the termination) is compared to the
+ * lowest latency observed so far:
+ * <ul>
+ * <li>if the inner stream failed, or if its latency exceeds {@code tolerance} times the lowest latency, the limit
+ * is multiplied by {@code backoffRatio};</li>
+ * <li>otherwise, the limit grows by {@code 1 / limit}, so roughly by one every {@code limit} terminations.</li>
+ * </ul>
+ * The limit always stays between {@code min} and {@code max}. Lowering the limit never cancels in-flight inner
+ * streams, it only delays the subscription to the next ones.
+ * <p>
+ * An instance can be shared by several <em>flatMap</em> operations (or several subscriptions to the same
+ * {@link io.smallrye.mutiny.Multi}) targeting the same backend. Use {@link #current()} to monitor the limit.
+ */
+public final class AdaptiveConcurrencyLimit {
+
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+    public static final double DEFAULT_TOLERANCE = 2.0;
+
+    private final int min;
+    private final int max;
+    private final double backoffRatio;
+    private final double tolerance;
+
+    /**
+     * The limit, only updated while holding the lock.
+     */
+    private double limit;
+
+    /**
+     * The lowest observed latency, in nanoseconds, only updated while holding the lock.
+     */
+    private long lowestLatency = Long.MAX_VALUE;
+
+    /**
+     * The rounded limit, readable without holding the lock.
+     */
+    private volatile int current;
+
+    private AdaptiveConcurrencyLimit(int min, int initial, int max, double backoffRatio, double tolerance) {
+        this.min = positive(min, "min");
+        this.max = positive(max, "max");
+        positive(initial, "initial");
+        if (min > max || initial < min || initial > max) {
+            throw new IllegalArgumentException("The limits must verify `min <= initial <= max`");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("`backoffRatio` must be in ]0, 1[");
+        }
+        if (tolerance < 1) {
+            throw new IllegalArgumentException("`tolerance` must be greater than or equal to 1");
+        }
+        this.backoffRatio = backoffRatio;
+        this.tolerance = tolerance;
+        this.limit = initial;
+        this.current = initial;
+    }
+
+    /**
+     * Creates a new AIMD limit using the default backoff ratio ({@value #DEFAULT_BACKOFF_RATIO}) and tolerance
+     * ({@value #DEFAULT_TOLERANCE}).
+     *
+     * @param min the minimum concurrency, must be strictly positive
+     * @param initial the initial concurrency, must be in {@code [min, max]}
+     * @param max the maximum concurrency, must be greater than or equal to {@code min}
+     * @return the new limit
+     */
+    public static AdaptiveConcurrencyLimit aimd(int min, int initial, int max) {
+        return aimd(min, initial, max, DEFAULT_BACKOFF_RATIO, DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * Creates a new AIMD limit.
+     *
+     * @param min the minimum concurrency, must be strictly positive
+     * @param initial the initial concurrency, must be in {@code [min, max]}
+     * @param max the maximum concurrency, must be greater than or equal to {@code min}
+     * @param backoffRatio the factor applied to the limit on failures and slow terminations, must be in {@code ]0, 1[}
+     * @param tolerance how many times slower than the lowest observed latency an inner stream can be before the
+     *        limit decreases, must be greater than or equal to 1
+     * @return the new limit
+     */
+    public static AdaptiveConcurrencyLimit aimd(int min, int initial, int max, double backoffRatio,
+            double tolerance) {
+        return new AdaptiveConcurrencyLimit(min, initial, max, backoffRatio, tolerance);
+    }
+
+    /**
+     * Records the termination of an inner stream and updates the limit.
+     *
+     * @param latency the time between the subscription to the inner stream and its termination, in nanoseconds
+     * @param failed whether the inner stream failed
+     */
+    public synchronized void onSample(long latency, boolean failed) {
+        if (!failed && latency < lowestLatency) {
+            lowestLatency = latency;
+        }
+        if (failed || latency > lowestLatency * tolerance) {
+            limit = Math.max(min, limit * backoffRatio);
+        } else {
+            limit = Math.min(max, limit + 1.0 / limit);
+        }
+        current = (int) limit;
+    }
+
+    /**
+     * @return the current limit
+     */
+    public int current() {
+        return current;
+    }
+
+    /**
+     * @return the minimum limit
+     */
+    public int min() {
+        return min;
+    }
+
+    /**
+     * @return the maximum limit
+     */
+    public int max() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveConcurrencyLimit{current=" + current + ", min=" + min + ", max=" + max + "}";
+    }
+}
@@ -11,9 +11,7 @@ import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -40,7 +38,8 @@ public class BlockingIterable<T> implements Iterable<T> {
     public Iterator<T> iterator() {
         SubscriberIterator<T> iterator = create();
         Subscriber<? super T> actual = Infrastructure.onMultiSubscription(upstream, iterator);
-        upstream.subscribe(actual);
+        // The iterator blocks the current thread, nothing must be left for a loop it may be called from.
+        Trampoline.isolated(() -> upstream.subscribe(actual));
         return iterator;
     }
 
@@ -94,9 +93,10 @@ public class BlockingIterable<T> implements Iterable<T> {
 
         private final int limit;
 
-        private final Lock lock;
-
-        private final Condition condition;
+        /**
+         * The thread waiting for items, parked until an event is received.
+         */
+        private final AtomicReference<Thread> waiter = new AtomicReference<>();
 
         long produced;
 
@@ -110,8 +110,6 @@ public class BlockingIterable<T> implements Iterable<T> {
             this.queue = queue;
             this.batchSize = batchSize;
             this.limit = batchSize;
-            this.lock = new ReentrantLock();
-            this.condition = lock.newCondition();
         }
 
         @Override
@@ -136,17 +134,24 @@ public class BlockingIterable<T> implements Iterable<T> {
                 // We are not done, check if empty, and block until we get data.
                 if (empty) {
                     // TODO Must be sure we are not on an IO Thread here.
-                    lock.lock();
+                    // Park instead of waiting on a lock: no monitor is held, so virtual threads are not pinned.
+                    Thread current = Thread.currentThread();
                     try {
-                        while (!done.get() && queue.isEmpty()) {
-                            condition.await();
+                        for (;;) {
+                            // Publish the waiter before checking, so an event received after the check unparks it.
+                            waiter.set(current);
+                            if (done.get() || !queue.isEmpty()) {
+                                break;
+                            }
+                            LockSupport.park(this);
+                            if (Thread.interrupted()) {
+                                Thread.currentThread().interrupt();
+                                terminate();
+                                propagateFailure(new InterruptedException());
+                            }
                         }
-                    } catch (InterruptedException intex) {
-                        Thread.currentThread().interrupt();
-                        terminateAndFire();
-                        propagateFailure(intex);
                     } finally {
-                        lock.unlock();
+                        waiter.lazySet(null);
                     }
                     // Go to the next iteration, to get what happened (items, failure, completion)
                 } else {
@@ -167,7 +172,7 @@ public class BlockingIterable<T> implements Iterable<T> {
                 long numberOfProducedItems = produced + 1;
                 if (numberOfProducedItems == limit) {
                     produced = 0;
-                    subscription.get().request(numberOfProducedItems);
+                    Trampoline.isolated(() -> subscription.get().request(numberOfProducedItems));
                 } else {
                     produced = numberOfProducedItems;
                 }
@@ -179,19 +184,12 @@ public class BlockingIterable<T> implements Iterable<T> {
         }
 
         void fire() {
-            lock.lock();
-            try {
-                condition.signalAll();
-            } finally {
-                lock.unlock();
+            Thread thread = waiter.getAndSet(null);
+            if (thread != null) {
+                LockSupport.unpark(thread);
             }
         }
 
-        private void terminateAndFire() {
-            terminate();
-            fire();
-        }
-
         private void terminate() {
             Subscription s = subscription.getAndSet(EmptyUniSubscription.CANCELLED);
             if (s != null) {
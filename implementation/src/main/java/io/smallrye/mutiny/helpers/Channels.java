@@ -0,0 +1,29 @@
+package io.smallrye.mutiny.helpers;
+
+import java.io.IOException;
+import java.nio.channels.Channel;
+
+import io.smallrye.mutiny.Uni;
+
+public class Channels {
+
+    private Channels() {
+        // Avoid direct instantiation
+    }
+
+    /**
+     * Closes the given channel, to be used as the finalizer of a resource.
+     *
+     * @param channel the channel
+     * @return a {@link Uni} completed once the channel is closed, or failed with the {@link IOException} thrown by
+     *         {@link Channel#close()}
+     */
+    public static Uni<Void> close(Channel channel) {
+        try {
+            channel.close();
+            return Uni.createFrom().voidItem();
+        } catch (IOException e) {
+            return Uni.createFrom().failure(e);
+        }
+    }
+}
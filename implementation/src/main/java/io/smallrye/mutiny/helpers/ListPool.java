@@ -0,0 +1,90 @@
+package io.smallrye.mutiny.helpers;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A pool of {@link List lists} recycled by the operators grouping items into lists.
+ * <p>
+ * When grouping items using a pool (see {@link io.smallrye.mutiny.groups.MultiGroupIntoLists#recycling(ListPool)}),
+ * the lists are acquired from the pool instead of being allocated for each group. The consumer of the groups
+ * hands a list back to the pool by calling {@link #release(List)} once it is done with it, so the list can be
+ * reused for a later group. The consumer must not use a list after having released it. Lists that are not
+ * released are simply garbage collected.
+ * <p>
+ * The pool keeps at most {@code maxPooled} lists, the extra released lists are dropped. Lists created by the pool
+ * have an initial capacity of {@code listCapacity}, so they do not need to grow when the groups have at most
+ * {@code listCapacity} items. A pool can be shared by several streams, and is thread-safe.
+ *
+ * @param <T> the type of the items stored in the lists
+ */
+public final class ListPool<T> {
+
+    private final int listCapacity;
+    private final Object[] pooled;
+
+    /**
+     * The number of lists in {@link #pooled}, guarded by {@code this}.
+     */
+    private int size;
+
+    private ListPool(int listCapacity, int maxPooled) {
+        this.listCapacity = positive(listCapacity, "listCapacity");
+        this.pooled = new Object[positive(maxPooled, "maxPooled")];
+    }
+
+    /**
+     * Creates a new pool.
+     *
+     * @param listCapacity the initial capacity of the lists created by the pool, must be strictly positive
+     * @param maxPooled the maximum number of lists kept by the pool, must be strictly positive
+     * @param <T> the type of the items stored in the lists
+     * @return the new pool
+     */
+    public static <T> ListPool<T> create(int listCapacity, int maxPooled) {
+        return new ListPool<>(listCapacity, maxPooled);
+    }
+
+    /**
+     * Gets an empty list from the pool, or creates a new one if the pool is empty.
+     *
+     * @return an empty list
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> acquire() {
+        synchronized (this) {
+            if (size != 0) {
+                List<T> list = (List<T>) pooled[--size];
+                pooled[size] = null;
+                return list;
+            }
+        }
+        return new ArrayList<>(listCapacity);
+    }
+
+    /**
+     * Hands a list back to the pool. The list is cleared, and must not be used by the caller anymore.
+     *
+     * @param list the list, ignored if {@code null}
+     */
+    public void release(List<T> list) {
+        if (list == null) {
+            return;
+        }
+        list.clear();
+        synchronized (this) {
+            if (size < pooled.length) {
+                pooled[size++] = list;
+            }
+        }
+    }
+
+    /**
+     * @return the number of lists currently available in the pool
+     */
+    public synchronized int available() {
+        return size;
+    }
+}
@@ -8,6 +8,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
 
 /**
@@ -29,6 +30,11 @@ public class StrictMultiSubscriber<T>
 
     private final Subscriber<? super T> downstream;
 
+    /**
+     * The context of the downstream, captured once as plain subscribers get a new empty context on each call.
+     */
+    private final Context context;
+
     private final AtomicReference<Throwable> failure;
 
     private final AtomicLong requested;
@@ -41,6 +47,7 @@ public class StrictMultiSubscriber<T>
 
     public StrictMultiSubscriber(Subscriber<? super T> downstream) {
         this.downstream = downstream;
+        this.context = Subscriptions.contextOf(downstream);
         this.failure = new AtomicReference<>();
         this.requested = new AtomicLong();
         this.upstream = new AtomicReference<>();
@@ -92,4 +99,9 @@ public class StrictMultiSubscriber<T>
         done = true;
         HalfSerializer.onComplete(downstream, wip, failure);
     }
+
+    @Override
+    public Context context() {
+        return context;
+    }
 }
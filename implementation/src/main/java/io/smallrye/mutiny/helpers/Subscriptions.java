@@ -3,13 +3,17 @@ package io.smallrye.mutiny.helpers;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
 import io.smallrye.mutiny.CompositeException;
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.subscription.ContextSupport;
 
 public class Subscriptions {
 
@@ -67,6 +71,19 @@ public class Subscriptions {
         subscriber.onError(failure);
     }
 
+    /**
+     * Retrieves the {@link Context} of the given subscriber.
+     *
+     * @param subscriber the subscriber, may be a plain Reactive Streams subscriber
+     * @return the context of the subscriber, or a new empty context if the subscriber does not support contexts
+     */
+    public static Context contextOf(Object subscriber) {
+        if (subscriber instanceof ContextSupport) {
+            return ((ContextSupport) subscriber).context();
+        }
+        return Context.empty();
+    }
+
     /**
      * Adds two long values and caps the sum at Long.MAX_VALUE.
      *
@@ -103,6 +120,29 @@ public class Subscriptions {
         }
     }
 
+    /**
+     * Atomically adds the positive value n to the requested value in the field of the given instance and
+     * caps the result at Long.MAX_VALUE and returns the previous value.
+     *
+     * @param updater the updater of the field holding the current requested value
+     * @param instance the instance containing the field
+     * @param requests the value to add, must be positive (not verified)
+     * @param <T> the type of the instance
+     * @return the original value before the add
+     */
+    public static <T> long add(AtomicLongFieldUpdater<T> updater, T instance, long requests) {
+        for (;;) {
+            long r = updater.get(instance);
+            if (r == Long.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            long u = add(r, requests);
+            if (updater.compareAndSet(instance, r, u)) {
+                return r;
+            }
+        }
+    }
+
     /**
      * Atomically subtract the given number (positive, not validated) from the target field unless it contains Long.MAX_VALUE.
      *
@@ -155,6 +195,37 @@ public class Subscriptions {
         return true;
     }
 
+    /**
+     * Atomically adds the given failure to the failures held in the field of the given instance, unless the field has
+     * been marked as terminated.
+     *
+     * @param updater the updater of the field holding the failures
+     * @param instance the instance containing the field
+     * @param failure the failure to add
+     * @param <T> the type of the instance
+     * @return {@code true} if the failure has been added, {@code false} if the field was terminated
+     */
+    public static <T> boolean addFailure(AtomicReferenceFieldUpdater<T, Throwable> updater, T instance,
+            Throwable failure) {
+        for (;;) {
+            Throwable current = updater.get(instance);
+            if (current == Subscriptions.TERMINATED) {
+                return false;
+            }
+            Throwable update;
+            if (current == null) {
+                update = failure;
+            } else if (current instanceof CompositeException) {
+                update = new CompositeException((CompositeException) current, failure);
+            } else {
+                update = new CompositeException(current, failure);
+            }
+            if (updater.compareAndSet(instance, current, update)) {
+                return true;
+            }
+        }
+    }
+
     public static void cancel(AtomicReference<Subscription> reference) {
         Subscription actual = reference.getAndSet(CANCELLED);
         if (actual != null && actual != CANCELLED) {
@@ -162,6 +233,20 @@ public class Subscriptions {
         }
     }
 
+    /**
+     * Cancels the subscription held in the field of the given instance, and replaces it with {@link #CANCELLED}.
+     *
+     * @param updater the updater of the field holding the subscription
+     * @param instance the instance containing the field
+     * @param <T> the type of the instance
+     */
+    public static <T> void cancel(AtomicReferenceFieldUpdater<T, Subscription> updater, T instance) {
+        Subscription actual = updater.getAndSet(instance, CANCELLED);
+        if (actual != null && actual != CANCELLED) {
+            actual.cancel();
+        }
+    }
+
     public static Throwable markFailureAsTerminated(AtomicReference<Throwable> failures) {
         return failures.getAndSet(TERMINATED);
     }
@@ -175,6 +260,25 @@ public class Subscriptions {
         }
     }
 
+    /**
+     * Marks the failures held in the field of the given instance as terminated, and propagates them, or the
+     * completion if there are none, to the given subscriber, unless they were already terminated.
+     *
+     * @param updater the updater of the field holding the failures
+     * @param instance the instance containing the field
+     * @param subscriber the subscriber
+     * @param <T> the type of the instance
+     */
+    public static <T> void terminateAndPropagate(AtomicReferenceFieldUpdater<T, Throwable> updater, T instance,
+            Subscriber<?> subscriber) {
+        Throwable ex = updater.getAndSet(instance, TERMINATED);
+        if (ex == null) {
+            subscriber.onComplete();
+        } else if (ex != TERMINATED) {
+            subscriber.onError(ex);
+        }
+    }
+
     /**
      * Cap a multiplication to Long.MAX_VALUE
      *
@@ -298,6 +402,30 @@ public class Subscriptions {
         return u;
     }
 
+    /**
+     * Concurrent subtraction bound to 0 on the field of the given instance, mostly used to decrement a request tracker
+     * by the amount produced by the operator.
+     *
+     * @param updater the updater of the field keeping track of requests
+     * @param instance the instance containing the field
+     * @param amount delta to subtract
+     * @param <T> the type of the instance
+     * @return value after subtraction or zero
+     */
+    public static <T> long produced(AtomicLongFieldUpdater<T> updater, T instance, long amount) {
+        long r;
+        long u;
+        do {
+            r = updater.get(instance);
+            if (r == 0 || r == Long.MAX_VALUE) {
+                return r;
+            }
+            u = subOrZero(r, amount);
+        } while (!updater.compareAndSet(instance, r, u));
+
+        return u;
+    }
+
     /**
      * Cap a subtraction to 0
      *
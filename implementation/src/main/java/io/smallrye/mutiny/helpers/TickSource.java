@@ -0,0 +1,126 @@
+package io.smallrye.mutiny.helpers;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.smallrye.mutiny.subscription.Cancellable;
+
+/**
+ * A periodic tick shared by all the listeners registered with the same executor and period.
+ * <p>
+ * Time-based operators (such as time windows) register a listener per subscription instead of scheduling their own
+ * periodic task, so the number of tasks submitted to the executor does not depend on the number of subscriptions.
+ * The shared task is scheduled when the first listener registers, and cancelled when the last one is removed.
+ * <p>
+ * All the listeners of a tick source are invoked sequentially, on the thread running the shared task. As a
+ * consequence, the ticks are aligned for all the listeners: a listener registering between two ticks receives its
+ * first tick before a full period has elapsed. Listeners must not block, and a listener throwing an exception does
+ * not prevent the other ones from being invoked. So, listeners must not call downstream subscribers directly, but
+ * submit this work to the executor.
+ */
+public final class TickSource {
+
+    private static final Map<Key, TickSource> SOURCES = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService executor;
+    private final long period;
+    private final Set<Runnable> listeners = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The shared task, only accessed from the {@link #SOURCES} map computations.
+     */
+    private Future<?> task;
+
+    private TickSource(ScheduledExecutorService executor, long period) {
+        this.executor = executor;
+        this.period = period;
+    }
+
+    /**
+     * Registers a listener invoked on every tick of the source shared by the given executor and period.
+     *
+     * @param executor the executor running the shared task, must not be {@code null}
+     * @param period the period between two ticks, must not be {@code null} and positive
+     * @param listener the listener, must not be {@code null}
+     * @return the cancellable used to unregister the listener
+     * @throws java.util.concurrent.RejectedExecutionException if the shared task cannot be scheduled
+     */
+    public static Cancellable register(ScheduledExecutorService executor, Duration period, Runnable listener) {
+        nonNull(executor, "executor");
+        nonNull(listener, "listener");
+        Key key = new Key(executor, Math.max(1, validate(period, "period").toMillis()));
+        SOURCES.compute(key, (k, source) -> {
+            if (source == null) {
+                source = new TickSource(k.executor, k.period);
+            }
+            if (source.task == null || source.task.isDone()) {
+                // The executor may have been shut down and replaced, schedule a new task if needed. The listener is
+                // only added once the task is scheduled, so a rejection leaves the source unchanged.
+                source.task = source.executor.scheduleAtFixedRate(source::tick, source.period, source.period,
+                        TimeUnit.MILLISECONDS);
+            }
+            source.listeners.add(listener);
+            return source;
+        });
+        return () -> SOURCES.computeIfPresent(key, (k, source) -> {
+            source.listeners.remove(listener);
+            if (source.listeners.isEmpty()) {
+                source.task.cancel(false);
+                return null;
+            }
+            return source;
+        });
+    }
+
+    /**
+     * @return the number of tick sources having at least one listener.
+     */
+    static int activeSources() {
+        return SOURCES.size();
+    }
+
+    private void tick() {
+        for (Runnable listener : listeners) {
+            try {
+                listener.run();
+            } catch (Throwable ignored) {
+                // Not thrown to avoid cancelling the shared task.
+            }
+        }
+    }
+
+    private static final class Key {
+        private final ScheduledExecutorService executor;
+        private final long period;
+
+        private Key(ScheduledExecutorService executor, long period) {
+            this.executor = executor;
+            this.period = period;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return executor == other.executor && period == other.period;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(executor) + Long.hashCode(period);
+        }
+    }
+}
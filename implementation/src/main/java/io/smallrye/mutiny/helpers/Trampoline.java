@@ -0,0 +1,119 @@
+package io.smallrye.mutiny.helpers;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.util.ArrayDeque;
+
+/**
+ * A per-thread work loop bounding the stack depth of synchronous re-entrant calls, such as re-subscriptions to a
+ * synchronous source or items propagated through recursive compositions.
+ * <p>
+ * The first task submitted on a thread becomes the owner of the loop of this thread. The tasks submitted while it
+ * runs are executed immediately as long as the nesting depth stays below {@link #MAX_INLINE_DEPTH}. Beyond this
+ * depth, they are queued and executed, in order, on the same thread, once the stack has been unwound to the owner.
+ * So, shallow pipelines behave exactly as if the tasks were invoked directly, while deep recursions run with a bounded
+ * stack.
+ * <p>
+ * As the queued tasks only run once the owner returns, code blocking the current thread until a queued task runs
+ * would never return. The {@code Uni} subscriptions made by users ({@code await()}, {@code subscribe()},
+ * {@code subscribeAsCompletionStage()}) and the blocking iterables therefore use {@link #isolated(Runnable)}: all the
+ * synchronous work of such a subscription has been done when the subscription method returns, whatever the depth it
+ * was called at. Blocking inside a task until another task of the same loop has run is not supported, for example
+ * waiting on a {@link java.util.concurrent.CompletableFuture} completed by an enclosing pipeline, or on the items of
+ * a {@code Multi} subscribed with {@code subscribe().with(...)} whose stages compose {@code Uni}s.
+ */
+public final class Trampoline {
+
+    /**
+     * The number of nested tasks executed directly before deferring them to the loop.
+     */
+    public static final int MAX_INLINE_DEPTH = 32;
+
+    private static final ThreadLocal<Loop> LOOP = ThreadLocal.withInitial(Loop::new);
+
+    private Trampoline() {
+        // avoid direct instantiation
+    }
+
+    /**
+     * Runs the given task on the current thread, either immediately or, if the stack is already too deep, once the
+     * stack has been unwound to the first task of the loop.
+     * <p>
+     * If tasks run by the loop throw, the other tasks still run, and the first exception is rethrown to the owner
+     * once the loop is drained, with the next ones added as suppressed exceptions. An {@link Error} stops the loop
+     * and discards the queued tasks.
+     *
+     * @param task the task, must not be {@code null}
+     */
+    public static void run(Runnable task) {
+        nonNull(task, "task");
+        Loop loop = LOOP.get();
+        if (loop.depth == 0) {
+            loop.drain(task);
+        } else if (loop.depth < MAX_INLINE_DEPTH) {
+            loop.depth++;
+            try {
+                task.run();
+            } finally {
+                loop.depth--;
+            }
+        } else {
+            loop.queue.offer(task);
+        }
+    }
+
+    /**
+     * Runs the given action with a fresh loop, so all the tasks it submits have been executed when this method
+     * returns, even if it is called from a task of the loop. This is meant to be used before blocking the current
+     * thread.
+     *
+     * @param action the action, must not be {@code null}
+     */
+    public static void isolated(Runnable action) {
+        nonNull(action, "action");
+        Loop previous = LOOP.get();
+        if (previous.depth == 0) {
+            action.run();
+            return;
+        }
+        LOOP.set(new Loop());
+        try {
+            action.run();
+        } finally {
+            LOOP.set(previous);
+        }
+    }
+
+    private static final class Loop {
+
+        private final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+        private int depth;
+
+        private void drain(Runnable first) {
+            depth = 1;
+            RuntimeException failure = null;
+            try {
+                Runnable task = first;
+                while (task != null) {
+                    try {
+                        task.run();
+                    } catch (RuntimeException e) {
+                        // The next tasks belong to other subscriptions, they must still run.
+                        if (failure == null) {
+                            failure = e;
+                        } else if (failure != e) {
+                            failure.addSuppressed(e);
+                        }
+                    }
+                    task = queue.poll();
+                }
+            } finally {
+                queue.clear();
+                depth = 0;
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
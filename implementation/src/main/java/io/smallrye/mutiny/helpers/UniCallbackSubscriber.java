@@ -3,11 +3,12 @@ package io.smallrye.mutiny.helpers;
 import static io.smallrye.mutiny.helpers.EmptyUniSubscription.CANCELLED;
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Consumer;
 
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
@@ -20,9 +21,14 @@ import io.smallrye.mutiny.subscription.UniSubscription;
  */
 public class UniCallbackSubscriber<T> implements UniSubscriber<T>, UniSubscription {
 
-    private final AtomicReference<UniSubscription> subscription = new AtomicReference<>();
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<UniCallbackSubscriber, UniSubscription> SUBSCRIPTION = AtomicReferenceFieldUpdater
+            .newUpdater(UniCallbackSubscriber.class, UniSubscription.class, "subscription");
+
+    private volatile UniSubscription subscription;
     private final Consumer<? super T> onResultCallback;
     private final Consumer<? super Throwable> onFailureCallback;
+    private final Context context;
 
     /**
      * Creates a {@link UniSubscriber} consuming the item and failure of a
@@ -33,13 +39,27 @@ public class UniCallbackSubscriber<T> implements UniSubscriber<T>, UniSubscripti
      */
     public UniCallbackSubscriber(Consumer<? super T> onResultCallback,
             Consumer<? super Throwable> onFailureCallback) {
+        this(null, onResultCallback, onFailureCallback);
+    }
+
+    /**
+     * Creates a {@link UniSubscriber} consuming the item and failure of a
+     * {@link Uni} and exposing the given {@link Context}.
+     *
+     * @param context the context, {@code null} to use an empty context
+     * @param onResultCallback callback invoked on item event, must not be {@code null}
+     * @param onFailureCallback callback invoked on failure event, must not be {@code null}
+     */
+    public UniCallbackSubscriber(Context context, Consumer<? super T> onResultCallback,
+            Consumer<? super Throwable> onFailureCallback) {
+        this.context = context == null ? Context.empty() : context;
         this.onResultCallback = nonNull(onResultCallback, "onResultCallback");
         this.onFailureCallback = nonNull(onFailureCallback, "onFailureCallback");
     }
 
     @Override
     public final void onSubscribe(UniSubscription sub) {
-        if (!subscription.compareAndSet(null, sub)) {
+        if (!SUBSCRIPTION.compareAndSet(this, null, sub)) {
             // cancelling this second subscription
             // because we already add a subscription (maybe CANCELLED)
             sub.cancel();
@@ -48,7 +68,7 @@ public class UniCallbackSubscriber<T> implements UniSubscriber<T>, UniSubscripti
 
     @Override
     public final void onFailure(Throwable t) {
-        UniSubscription sub = subscription.getAndSet(CANCELLED);
+        UniSubscription sub = SUBSCRIPTION.getAndSet(this, CANCELLED);
         if (sub == CANCELLED) {
             // Already cancelled, do nothing
             return;
@@ -58,7 +78,7 @@ public class UniCallbackSubscriber<T> implements UniSubscriber<T>, UniSubscripti
 
     @Override
     public final void onItem(T x) {
-        Subscription sub = subscription.getAndSet(CANCELLED);
+        Subscription sub = SUBSCRIPTION.getAndSet(this, CANCELLED);
         if (sub == CANCELLED) {
             // Already cancelled, do nothing
             return;
@@ -73,9 +93,14 @@ public class UniCallbackSubscriber<T> implements UniSubscriber<T>, UniSubscripti
 
     @Override
     public void cancel() {
-        Subscription sub = subscription.getAndSet(CANCELLED);
+        Subscription sub = SUBSCRIPTION.getAndSet(this, CANCELLED);
         if (sub != null) {
             sub.cancel();
         }
     }
+
+    @Override
+    public Context context() {
+        return context;
+    }
 }
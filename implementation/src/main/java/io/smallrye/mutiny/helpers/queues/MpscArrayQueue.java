@@ -0,0 +1,191 @@
+package io.smallrye.mutiny.helpers.queues;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A Multi-Producer-Single-Consumer queue backed by a pre-allocated buffer.
+ * <p>
+ * Producers claim a slot by incrementing the producer index with a CAS, and then write the element in the slot. The
+ * consumer spins when the slot of a claimed index has not been written yet.
+ * <p>
+ * Code inspired from https://github.com/JCTools/JCTools/blob/master/jctools-core/src/main/java/org/jctools/queues/atomic.
+ *
+ * @param <E> the element type of the queue
+ */
+public final class MpscArrayQueue<E> extends AtomicReferenceArray<E> implements Queue<E> {
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    /**
+     * A cached value of the consumer index, read by the producers to avoid reading the consumer index on each offer.
+     */
+    private volatile long consumerIndexCache;
+
+    public MpscArrayQueue(int capacity) {
+        super(SpscArrayQueue.roundToPowerOfTwo(capacity));
+        this.mask = length() - 1;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        if (null == e) {
+            throw new NullPointerException("Null is not a valid element");
+        }
+        final int mask = this.mask;
+        final long capacity = mask + 1;
+        long limit = consumerIndexCache + capacity;
+        long index;
+        do {
+            index = producerIndex.get();
+            if (index >= limit) {
+                // The cached value may be stale, read the actual consumer index
+                long ci = consumerIndex.get();
+                limit = ci + capacity;
+                if (index >= limit) {
+                    return false;
+                }
+                consumerIndexCache = ci;
+            }
+        } while (!producerIndex.compareAndSet(index, index + 1));
+        soElement(calcElementOffset(index, mask), e); // StoreStore
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        final long index = consumerIndex.get();
+        final int offset = calcElementOffset(index, mask);
+        E e = lvElement(offset); // LoadLoad
+        if (null == e) {
+            if (index == producerIndex.get()) {
+                return null;
+            }
+            // A producer claimed the slot but has not written the element yet
+            do {
+                e = lvElement(offset);
+            } while (e == null);
+        }
+        soElement(offset, null);
+        soConsumerIndex(index + 1); // ordered store -> the slot is released after being cleared
+        return e;
+    }
+
+    @Override
+    public E peek() {
+        final long index = consumerIndex.get();
+        final int offset = calcElementOffset(index, mask);
+        E e = lvElement(offset);
+        if (null == e && index != producerIndex.get()) {
+            do {
+                e = lvElement(offset);
+            } while (e == null);
+        }
+        return e;
+    }
+
+    @Override
+    public int size() {
+        long ci = consumerIndex.get();
+        for (;;) {
+            long pi = producerIndex.get();
+            long ci2 = consumerIndex.get();
+            if (ci == ci2) {
+                return (int) (pi - ci);
+            }
+            ci = ci2;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return producerIndex.get() == consumerIndex.get();
+    }
+
+    void soConsumerIndex(long newIndex) {
+        consumerIndex.lazySet(newIndex);
+    }
+
+    @Override
+    public void clear() {
+        //noinspection StatementWithEmptyBody
+        while (poll() != null || !isEmpty()) {
+        }
+    }
+
+    int calcElementOffset(long index, int mask) {
+        return (int) index & mask;
+    }
+
+    void soElement(int offset, E value) {
+        lazySet(offset, value);
+    }
+
+    E lvElement(int offset) {
+        return get(offset);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object[] toArray() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <R> R[] toArray(R[] a) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E element() {
+        throw new UnsupportedOperationException();
+    }
+}
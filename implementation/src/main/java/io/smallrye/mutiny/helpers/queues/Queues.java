@@ -97,4 +97,16 @@ public class Queues {
         return new MpscLinkedQueue<>();
     }
 
+    /**
+     * Creates a new multi-producer single consumer bounded queue.
+     * The queue is backed by a pre-allocated array, its capacity is rounded to the next power of two.
+     *
+     * @param capacity the capacity of the queue
+     * @param <T> the type of item
+     * @return the queue
+     */
+    public static <T> Queue<T> createMpscArrayQueue(int capacity) {
+        return new MpscArrayQueue<>(capacity);
+    }
+
 }
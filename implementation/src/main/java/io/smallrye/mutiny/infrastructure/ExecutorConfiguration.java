@@ -18,4 +18,17 @@ public interface ExecutorConfiguration {
      */
     Executor getDefaultWorkerExecutor();
 
+    /**
+     * Gets the executor running the blocking callbacks, such as the ones passed to
+     * {@link io.smallrye.mutiny.groups.MultiOnItem#transformBlocking(java.util.function.Function)}.
+     * <p>
+     * By default, returns {@code null}, meaning that Mutiny creates its own blocking executor: a
+     * virtual-thread-per-task executor when the JVM supports virtual threads, a bounded thread pool otherwise.
+     *
+     * @return the blocking executor, {@code null} to use the default one
+     */
+    default Executor getBlockingExecutor() {
+        return null;
+    }
+
 }
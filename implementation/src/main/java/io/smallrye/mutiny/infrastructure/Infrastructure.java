@@ -8,6 +8,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ServiceLoader;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.UnaryOperator;
 
 import org.reactivestreams.Publisher;
@@ -25,8 +26,15 @@ public class Infrastructure {
         if (iterator.hasNext()) {
             ExecutorConfiguration next = iterator.next();
             setDefaultExecutor(nonNull(next.getDefaultWorkerExecutor(), "executor"));
+            Executor blocking = next.getBlockingExecutor();
+            if (blocking != null) {
+                setBlockingExecutor(blocking);
+            } else {
+                setBlockingExecutor();
+            }
         } else {
             setDefaultExecutor();
+            setBlockingExecutor();
         }
 
         // Interceptor
@@ -51,8 +59,14 @@ public class Infrastructure {
         setDefaultExecutor(scheduler);
     }
 
+    /**
+     * The maximum number of threads of the blocking executor used when virtual threads are not available.
+     */
+    public static final int DEFAULT_BLOCKING_POOL_SIZE = 256;
+
     private static ScheduledExecutorService DEFAULT_SCHEDULER;
     private static Executor DEFAULT_EXECUTOR;
+    private static Executor BLOCKING_EXECUTOR;
     private static final List<UniInterceptor> UNI_INTERCEPTORS;
     private static final List<MultiInterceptor> MULTI_INTERCEPTORS;
     private static UnaryOperator<CompletableFuture<?>> completableFutureWrapper;
@@ -77,6 +91,56 @@ public class Infrastructure {
         return DEFAULT_EXECUTOR;
     }
 
+    /**
+     * Configure or reset the executor running the blocking callbacks.
+     * <p>
+     * When the JVM supports virtual threads, a virtual-thread-per-task executor is used. Otherwise, a pool of at most
+     * {@link #DEFAULT_BLOCKING_POOL_SIZE} daemon threads is used, the extra tasks being queued.
+     */
+    public static void setBlockingExecutor() {
+        setBlockingExecutor(createDefaultBlockingExecutor());
+    }
+
+    /**
+     * Sets the executor running the blocking callbacks, such as the ones passed to
+     * {@link io.smallrye.mutiny.groups.MultiOnItem#transformBlocking(java.util.function.Function)}.
+     * The previous executor is shut down if it is an {@link ExecutorService}.
+     *
+     * @param executor the executor, must not be {@code null}
+     */
+    public static void setBlockingExecutor(Executor executor) {
+        nonNull(executor, "executor");
+        if (executor == BLOCKING_EXECUTOR) {
+            return;
+        }
+        Executor existing = BLOCKING_EXECUTOR;
+        BLOCKING_EXECUTOR = executor;
+        if (existing instanceof ExecutorService) {
+            ((ExecutorService) existing).shutdown();
+        }
+    }
+
+    public static Executor getBlockingExecutor() {
+        return BLOCKING_EXECUTOR;
+    }
+
+    private static Executor createDefaultBlockingExecutor() {
+        try {
+            // Virtual threads are only available on recent JVMs, so the factory method is looked up reflectively.
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            AtomicInteger count = new AtomicInteger();
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(DEFAULT_BLOCKING_POOL_SIZE, DEFAULT_BLOCKING_POOL_SIZE,
+                    60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "mutiny-blocking-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            pool.allowCoreThreadTimeOut(true);
+            return pool;
+        }
+    }
+
     public static <T> Uni<T> onUniCreation(Uni<T> instance) {
         Uni<T> current = instance;
         for (UniInterceptor itcp : UNI_INTERCEPTORS) {
@@ -3,10 +3,12 @@ package io.smallrye.mutiny.operators;
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 
 import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
 import org.reactivestreams.Subscriber;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.groups.*;
@@ -15,6 +17,7 @@ import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.multi.MultiCacheOp;
 import io.smallrye.mutiny.operators.multi.MultiEmitOnOp;
 import io.smallrye.mutiny.operators.multi.MultiSubscribeOnOp;
+import io.smallrye.mutiny.operators.multi.MultiWithContext;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
 
 public abstract class AbstractMulti<T> implements Multi<T> {
@@ -133,4 +136,9 @@ public abstract class AbstractMulti<T> implements Multi<T> {
         return new MultiOnCancel<>(this);
     }
 
+    @Override
+    public <R> Multi<R> withContext(BiFunction<Multi<T>, Context, Multi<R>> builder) {
+        return Infrastructure.onMultiCreation(new MultiWithContext<>(this, nonNull(builder, "builder")));
+    }
+
 }
@@ -1,8 +1,10 @@
 package io.smallrye.mutiny.operators;
 
 import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.groups.*;
@@ -140,4 +142,9 @@ public abstract class AbstractUni<T> implements Uni<T> {
     public UniOnCancel<T> onCancellation() {
         return new UniOnCancel<>(this);
     }
+
+    @Override
+    public <R> Uni<R> withContext(BiFunction<Uni<T>, Context, Uni<R>> builder) {
+        return Infrastructure.onUniCreation(new UniWithContext<>(this, ParameterValidation.nonNull(builder, "builder")));
+    }
 }
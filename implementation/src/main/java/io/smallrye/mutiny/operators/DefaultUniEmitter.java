@@ -2,8 +2,8 @@ package io.smallrye.mutiny.operators;
 
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import io.smallrye.mutiny.subscription.UniEmitter;
 import io.smallrye.mutiny.subscription.UniSubscriber;
@@ -22,9 +22,19 @@ import io.smallrye.mutiny.subscription.UniSubscription;
  */
 public class DefaultUniEmitter<T> implements UniEmitter<T>, UniSubscription {
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<DefaultUniEmitter> DISPOSED = AtomicIntegerFieldUpdater
+            .newUpdater(DefaultUniEmitter.class, "disposed");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<DefaultUniEmitter, Runnable> ON_TERMINATION = AtomicReferenceFieldUpdater
+            .newUpdater(DefaultUniEmitter.class, Runnable.class, "onTermination");
+
     private final UniSubscriber<T> downstream;
-    private final AtomicBoolean disposed = new AtomicBoolean();
-    private final AtomicReference<Runnable> onTermination = new AtomicReference<>();
+    /**
+     * 1 once disposed, 0 before.
+     */
+    private volatile int disposed;
+    private volatile Runnable onTermination;
 
     DefaultUniEmitter(UniSubscriber<T> subscriber) {
         this.downstream = nonNull(subscriber, "subscriber");
@@ -32,14 +42,14 @@ public class DefaultUniEmitter<T> implements UniEmitter<T>, UniSubscription {
 
     @Override
     public void complete(T item) {
-        if (disposed.compareAndSet(false, true)) {
+        if (DISPOSED.compareAndSet(this, 0, 1)) {
             downstream.onItem(item);
             terminate();
         }
     }
 
     private void terminate() {
-        Runnable runnable = onTermination.getAndSet(null);
+        Runnable runnable = ON_TERMINATION.getAndSet(this, null);
         if (runnable != null) {
             runnable.run();
         }
@@ -48,7 +58,7 @@ public class DefaultUniEmitter<T> implements UniEmitter<T>, UniSubscription {
     @Override
     public void fail(Throwable failure) {
         nonNull(failure, "failure");
-        if (disposed.compareAndSet(false, true)) {
+        if (DISPOSED.compareAndSet(this, 0, 1)) {
             downstream.onFailure(failure);
             terminate();
         }
@@ -57,10 +67,10 @@ public class DefaultUniEmitter<T> implements UniEmitter<T>, UniSubscription {
     @Override
     public UniEmitter<T> onTermination(Runnable callback) {
         Runnable actual = nonNull(callback, "callback");
-        if (!disposed.get()) {
-            this.onTermination.set(actual);
+        if (disposed == 0) {
+            this.onTermination = actual;
             // Re-check if the termination didn't happen in the meantime
-            if (disposed.get()) {
+            if (disposed == 1) {
                 terminate();
             }
         }
@@ -69,12 +79,12 @@ public class DefaultUniEmitter<T> implements UniEmitter<T>, UniSubscription {
 
     @Override
     public void cancel() {
-        if (disposed.compareAndSet(false, true)) {
+        if (DISPOSED.compareAndSet(this, 0, 1)) {
             terminate();
         }
     }
 
     public boolean isTerminated() {
-        return disposed.get();
+        return disposed == 1;
     }
 }
@@ -0,0 +1,143 @@
+package io.smallrye.mutiny.operators;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.groups.MultiByteBufferWriter;
+import io.smallrye.mutiny.helpers.Channels;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.MultiSplitLinesOp;
+
+/**
+ * Operators working on streams of {@link ByteBuffer}, such as the one produced by
+ * {@link io.smallrye.mutiny.groups.MultiCreate#file(java.nio.file.Path, int)}.
+ * <p>
+ * These operators are meant to be used with {@link Multi#then(java.util.function.Function)}, for example:
+ * {@code Multi.createFrom().file(path, 8192).then(MultiByteBuffers::lines)}.
+ */
+public class MultiByteBuffers {
+
+    private MultiByteBuffers() {
+        // avoid direct instantiation.
+    }
+
+    /**
+     * Splits the chunks emitted by the upstream into lines, without decoding them.
+     * <p>
+     * Lines are terminated by {@code \n} or {@code \r\n}, the terminator is not part of the emitted buffers. The
+     * lines contained in a single chunk share the content of this chunk, so the upstream must not reuse its chunks.
+     * The position of the chunks is not modified.
+     *
+     * @param upstream the upstream, must not be {@code null}
+     * @return a {@link Multi} emitting a {@link ByteBuffer} per line
+     */
+    public static Multi<ByteBuffer> lines(Multi<? extends ByteBuffer> upstream) {
+        return Infrastructure.onMultiCreation(new MultiSplitLinesOp(nonNull(upstream, "upstream")));
+    }
+
+    /**
+     * Maps the file located at the given path in memory, region by region.
+     *
+     * @param path the path of the file, must not be {@code null}
+     * @param regionSize the maximum size of the regions, must be strictly positive
+     * @return a {@link Multi} emitting a read-only {@link MappedByteBuffer} per region
+     * @see io.smallrye.mutiny.groups.MultiCreate#mappedFile(Path, int)
+     */
+    public static Multi<MappedByteBuffer> mappedFile(Path path, int regionSize) {
+        nonNull(path, "path");
+        ParameterValidation.positive(regionSize, "regionSize");
+        return Multi.createFrom().deferred(() -> {
+            FileChannel channel;
+            try {
+                channel = FileChannel.open(path, StandardOpenOption.READ);
+            } catch (IOException e) {
+                return Multi.createFrom().failure(e);
+            }
+            // The mappings stay valid once the channel is closed.
+            return Multi.createFrom()
+                    .resource(() -> channel,
+                            c -> Multi.createFrom().iterable(() -> new RegionIterator(c, regionSize)))
+                    .withFinalizer(Channels::close)
+                    .onFailure(UncheckedIOException.class).transform(Throwable::getCause);
+        });
+    }
+
+    /**
+     * Writes the buffers emitted by the upstream to a channel, in batches, using gathering writes.
+     *
+     * @param upstream the upstream, must not be {@code null}
+     * @return the object to configure the batches and the target channel
+     */
+    public static MultiByteBufferWriter write(Multi<? extends ByteBuffer> upstream) {
+        return new MultiByteBufferWriter(upstream);
+    }
+
+    /**
+     * Writes the buffers emitted by the upstream to the file located at the given path.
+     *
+     * @param upstream the upstream, must not be {@code null}
+     * @param path the path of the file, must not be {@code null}
+     * @param options the options used to open the file, {@link StandardOpenOption#CREATE},
+     *        {@link StandardOpenOption#TRUNCATE_EXISTING} and {@link StandardOpenOption#WRITE} if none
+     * @return a {@link Uni} emitting the number of written bytes once the file has been written and closed
+     * @see io.smallrye.mutiny.groups.MultiSubscribe#toFile(Path, OpenOption...)
+     * @see MultiByteBufferWriter#toFile(Path, OpenOption...)
+     */
+    public static Uni<Long> toFile(Multi<? extends ByteBuffer> upstream, Path path, OpenOption... options) {
+        return write(upstream).toFile(path, options);
+    }
+
+    private static class RegionIterator implements Iterator<MappedByteBuffer> {
+
+        private final FileChannel channel;
+        private final int regionSize;
+        private long position;
+        private long size = -1L;
+
+        RegionIterator(FileChannel channel, int regionSize) {
+            this.channel = channel;
+            this.regionSize = regionSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (size < 0L) {
+                try {
+                    size = channel.size();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return position < size;
+        }
+
+        @Override
+        public MappedByteBuffer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            long length = Math.min(regionSize, size - position);
+            MappedByteBuffer region;
+            try {
+                region = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            position += length;
+            return region;
+        }
+    }
+}
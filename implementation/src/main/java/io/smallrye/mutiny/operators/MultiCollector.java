@@ -19,6 +19,7 @@ import io.smallrye.mutiny.operators.multi.MultiBufferOp;
 import io.smallrye.mutiny.operators.multi.MultiBufferWithTimeoutOp;
 import io.smallrye.mutiny.operators.multi.MultiCollectorOp;
 import io.smallrye.mutiny.operators.multi.MultiLastItemOp;
+import io.smallrye.mutiny.operators.multi.MultiTimeWindowAggregateOp;
 
 public class MultiCollector {
 
@@ -82,6 +83,22 @@ public class MultiCollector {
                 Infrastructure.getDefaultWorkerPool()));
     }
 
+    public static <T> Multi<List<T>> list(Multi<T> upstream, Duration timeWindow, Supplier<List<T>> supplier) {
+        return Infrastructure.onMultiCreation(new MultiBufferWithTimeoutOp<>(upstream, Integer.MAX_VALUE, timeWindow,
+                Infrastructure.getDefaultWorkerPool(), supplier));
+    }
+
+    public static <T> Multi<List<T>> list(Multi<T> upstream, Duration timeWindow, Duration shift) {
+        return Infrastructure.onMultiCreation(new MultiTimeWindowAggregateOp<>(upstream, timeWindow, shift,
+                Collectors.toList(), Infrastructure.getDefaultWorkerPool()));
+    }
+
+    public static <T> Multi<List<T>> list(Multi<T> upstream, Duration timeWindow, Duration shift,
+            Supplier<List<T>> supplier) {
+        return Infrastructure.onMultiCreation(new MultiTimeWindowAggregateOp<>(upstream, timeWindow, shift,
+                Collectors.toCollection(supplier), Infrastructure.getDefaultWorkerPool()));
+    }
+
     public static <T> Multi<List<T>> list(Multi<T> upstream, int size) {
         return Infrastructure.onMultiCreation(new MultiBufferOp<>(upstream, size, size));
     }
@@ -90,4 +107,8 @@ public class MultiCollector {
         return Infrastructure.onMultiCreation(new MultiBufferOp<>(upstream, size, skip));
     }
 
+    public static <T> Multi<List<T>> list(Multi<T> upstream, int size, int skip, Supplier<List<T>> supplier) {
+        return Infrastructure.onMultiCreation(new MultiBufferOp<>(upstream, size, skip, supplier));
+    }
+
 }
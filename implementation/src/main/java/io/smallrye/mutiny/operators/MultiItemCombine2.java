@@ -50,6 +50,18 @@ public class MultiItemCombine2<T1, T2> extends MultiItemCombineIterable {
         return this;
     }
 
+    /**
+     * Configures the combination to pass the same read-only list to the combinator for each combination, instead of a
+     * new list. The combinator must not retain the list.
+     *
+     * @return the current {@link MultiItemCombine2}
+     */
+    @Override
+    public MultiItemCombine2<T1, T2> reuseItemList() {
+        super.reuseItemList();
+        return this;
+    }
+
     /**
      * @return the resulting {@link Multi}. The items are combined into a {@link Tuple2 Tuple2&lt;T1, T2&gt;}.
      */
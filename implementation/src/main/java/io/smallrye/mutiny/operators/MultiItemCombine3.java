@@ -49,6 +49,18 @@ public class MultiItemCombine3<T1, T2, T3> extends MultiItemCombineIterable {
         return this;
     }
 
+    /**
+     * Configures the combination to pass the same read-only list to the combinator for each combination, instead of a
+     * new list. The combinator must not retain the list.
+     *
+     * @return the current {@link MultiItemCombine3}
+     */
+    @Override
+    public MultiItemCombine3<T1, T2, T3> reuseItemList() {
+        super.reuseItemList();
+        return this;
+    }
+
     /**
      * @return the resulting {@link Multi}. The items are combined into a {@link Tuple3 Tuple3&lt;T1, T2, T3&gt;}.
      */
@@ -49,6 +49,18 @@ public class MultiItemCombine4<T1, T2, T3, T4> extends MultiItemCombineIterable
         return this;
     }
 
+    /**
+     * Configures the combination to pass the same read-only list to the combinator for each combination, instead of a
+     * new list. The combinator must not retain the list.
+     *
+     * @return the current {@link MultiItemCombine4}
+     */
+    @Override
+    public MultiItemCombine4<T1, T2, T3, T4> reuseItemList() {
+        super.reuseItemList();
+        return this;
+    }
+
     /**
      * @return the resulting {@link Multi}. The items are combined into a {@link Tuple4 Tuple4&lt;T1, T2, T3, T4&gt;}.
      */
@@ -49,6 +49,18 @@ public class MultiItemCombine5<T1, T2, T3, T4, T5> extends MultiItemCombineItera
         return this;
     }
 
+    /**
+     * Configures the combination to pass the same read-only list to the combinator for each combination, instead of a
+     * new list. The combinator must not retain the list.
+     *
+     * @return the current {@link MultiItemCombine5}
+     */
+    @Override
+    public MultiItemCombine5<T1, T2, T3, T4, T5> reuseItemList() {
+        super.reuseItemList();
+        return this;
+    }
+
     /**
      * @return the resulting {@link Multi}. The items are combined into a {@link Tuple5 Tuple5&lt;T1, T2, T3, T4, T5&gt;}.
      */
@@ -49,6 +49,18 @@ public class MultiItemCombine7<T1, T2, T3, T4, T5, T6, T7> extends MultiItemComb
         return this;
     }
 
+    /**
+     * Configures the combination to pass the same read-only list to the combinator for each combination, instead of a
+     * new list. The combinator must not retain the list.
+     *
+     * @return the current {@link MultiItemCombine7}
+     */
+    @Override
+    public MultiItemCombine7<T1, T2, T3, T4, T5, T6, T7> reuseItemList() {
+        super.reuseItemList();
+        return this;
+    }
+
     /**
      * @return the resulting {@link Multi}. The items are combined into a {@link Tuple7 Tuple7&lt;T1, T2, T3, T4, T5, T6,
      *         T7&gt;}.
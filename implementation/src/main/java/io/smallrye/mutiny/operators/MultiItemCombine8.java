@@ -49,6 +49,18 @@ public class MultiItemCombine8<T1, T2, T3, T4, T5, T6, T7, T8> extends MultiItem
         return this;
     }
 
+    /**
+     * Configures the combination to pass the same read-only list to the combinator for each combination, instead of a
+     * new list. The combinator must not retain the list.
+     *
+     * @return the current {@link MultiItemCombine8}
+     */
+    @Override
+    public MultiItemCombine8<T1, T2, T3, T4, T5, T6, T7, T8> reuseItemList() {
+        super.reuseItemList();
+        return this;
+    }
+
     /**
      * @return the resulting {@link Multi}. The items are combined into a {@link Tuple8 Tuple8&lt;T1, T2, T3, T4, T5, T6, T7,
      *         T8&gt;}.
@@ -49,6 +49,18 @@ public class MultiItemCombine9<T1, T2, T3, T4, T5, T6, T7, T8, T9> extends Multi
         return this;
     }
 
+    /**
+     * Configures the combination to pass the same read-only list to the combinator for each combination, instead of a
+     * new list. The combinator must not retain the list.
+     *
+     * @return the current {@link MultiItemCombine9}
+     */
+    @Override
+    public MultiItemCombine9<T1, T2, T3, T4, T5, T6, T7, T8, T9> reuseItemList() {
+        super.reuseItemList();
+        return this;
+    }
+
     /**
      * @return the resulting {@link Multi}. The items are combined into a {@link Tuple9 Tuple9&lt;T1, T2, T3, T4, T5, T6, T7,
      *         T8, T9&gt;}.
@@ -16,6 +16,7 @@ public class MultiItemCombineIterable {
 
     private boolean collectFailures;
     private boolean latest;
+    private boolean reuseItemList;
 
     private Iterable<? extends Publisher<?>> iterable;
 
@@ -55,6 +56,21 @@ public class MultiItemCombineIterable {
         return this;
     }
 
+    /**
+     * Configures the combination to pass the same list to the combinator for each combination, instead of a new list.
+     * The list is read-only and is updated in place, so the combinator must not retain it, but it avoids
+     * allocating a list for every combination. This is useful with {@link #latestItems()} on high-rate streams,
+     * when the combinator extracts the values it needs from the list.
+     * <p>
+     * When combining the items by index (the default), the list is always reused.
+     *
+     * @return the current {@link MultiItemCombineIterable}
+     */
+    public MultiItemCombineIterable reuseItemList() {
+        this.reuseItemList = true;
+        return this;
+    }
+
     /**
      * Sets the combination logic as parameter and returns a {@link Multi} associating the items from the observed
      * stream using this combinator.
@@ -70,11 +86,8 @@ public class MultiItemCombineIterable {
 
     <O> Multi<O> combine(Function<List<?>, ? extends O> combinator) {
         if (latest) {
-            if (collectFailures) {
-                return Infrastructure.onMultiCreation(new MultiCombineLatestOp<>(iterable, combinator, 128, true));
-            } else {
-                return Infrastructure.onMultiCreation(new MultiCombineLatestOp<>(iterable, combinator, 128, false));
-            }
+            return Infrastructure.onMultiCreation(
+                    new MultiCombineLatestOp<>(iterable, combinator, 128, collectFailures, reuseItemList));
         } else {
             if (collectFailures) {
                 return Infrastructure.onMultiCreation(new MultiZipOp<>(iterable, combinator, 128, true));
@@ -1,15 +1,17 @@
 package io.smallrye.mutiny.operators;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.reactivestreams.Subscription;
 
 import io.smallrye.mutiny.CompositeException;
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.EmptyUniSubscription;
 import io.smallrye.mutiny.subscription.UniSubscriber;
@@ -17,15 +19,21 @@ import io.smallrye.mutiny.subscription.UniSubscription;
 
 public class UniAndCombination<I, O> extends UniOperator<I, O> {
 
-    private static final Object SENTINEL = new Object();
-
     private final Function<List<?>, O> combinator;
     private final List<Uni<?>> unis;
     private final boolean collectAllFailureBeforeFiring;
+    private final int concurrency;
 
     public UniAndCombination(Uni<? extends I> upstream, List<? extends Uni<?>> others,
             Function<List<?>, O> combinator,
             boolean collectAllFailureBeforeFiring) {
+        this(upstream, others, combinator, collectAllFailureBeforeFiring, Integer.MAX_VALUE);
+    }
+
+    public UniAndCombination(Uni<? extends I> upstream, List<? extends Uni<?>> others,
+            Function<List<?>, O> combinator,
+            boolean collectAllFailureBeforeFiring,
+            int concurrency) {
         super(upstream);
 
         this.unis = new ArrayList<>();
@@ -37,6 +45,7 @@ public class UniAndCombination<I, O> extends UniOperator<I, O> {
 
         this.combinator = combinator;
         this.collectAllFailureBeforeFiring = collectAllFailureBeforeFiring;
+        this.concurrency = concurrency;
     }
 
     @Override
@@ -49,29 +58,80 @@ public class UniAndCombination<I, O> extends UniOperator<I, O> {
 
     private class AndSupervisor implements UniSubscription {
 
-        private final List<UniHandler> handlers = new ArrayList<>();
+        private final UniHandler[] handlers;
+        private final Object[] items;
         private final UniSerializedSubscriber<? super O> subscriber;
 
+        /**
+         * The number of unis that have not fired an event yet.
+         */
+        private final AtomicInteger remaining;
+
+        /**
+         * Work-in-progress counter serializing the subscriptions to the unis when the concurrency is bounded.
+         */
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /**
+         * The number of unis subscribed so far, only accessed from the drain loop.
+         */
+        private int subscribed;
+
         AtomicBoolean cancelled = new AtomicBoolean();
 
         AndSupervisor(UniSerializedSubscriber<? super O> sub) {
             subscriber = sub;
+            int size = unis.size();
+            handlers = new UniAndCombination.UniHandler[size];
+            items = new Object[size];
+            remaining = new AtomicInteger(size);
 
-            for (Uni u : unis) {
-                UniHandler result = new UniHandler(this, u);
-                handlers.add(result);
+            for (int i = 0; i < size; i++) {
+                handlers[i] = new UniHandler(this, unis.get(i), i);
             }
-
         }
 
         private void run() {
-            handlers.forEach(UniHandler::subscribe);
+            if (concurrency >= handlers.length) {
+                for (UniHandler handler : handlers) {
+                    handler.subscribe();
+                }
+            } else {
+                drain();
+            }
+        }
+
+        /**
+         * Subscribes to the next unis, keeping at most {@code concurrency} unis in flight.
+         * The loop avoids recursion when the unis emit synchronously.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                while (!cancelled.get() && subscribed < handlers.length) {
+                    int completed = handlers.length - remaining.get();
+                    if (subscribed - completed >= concurrency) {
+                        break;
+                    }
+                    handlers[subscribed++].subscribe();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
         }
 
         @Override
         public void cancel() {
             if (cancelled.compareAndSet(false, true)) {
-                handlers.forEach(UniHandler::cancel);
+                cancelHandlers();
+            }
+        }
+
+        private void cancelHandlers() {
+            for (UniHandler handler : handlers) {
+                handler.cancel();
             }
         }
 
@@ -83,34 +143,25 @@ public class UniAndCombination<I, O> extends UniOperator<I, O> {
          * @param failed whether the {@code res} just fired a failure
          */
         void check(UniHandler res, boolean failed) {
-            int incomplete = unis.size();
-
             // One of the uni failed, and we can fire a failure immediately.
             if (failed && !collectAllFailureBeforeFiring) {
                 if (cancelled.compareAndSet(false, true)) {
                     // Cancel all subscriptions
-                    handlers.forEach(UniHandler::cancel);
+                    cancelHandlers();
                     // Invoke observer
                     subscriber.onFailure(res.failure);
                 }
                 return;
             }
 
-            for (UniHandler result : handlers) {
-                if (result.failure != null || result.item != SENTINEL) {
-                    incomplete = incomplete - 1;
-                }
-            }
-
-            if (incomplete == 0) {
+            if (remaining.decrementAndGet() == 0) {
                 // All unis has fired an event, check the outcome
                 if (cancelled.compareAndSet(false, true)) {
-                    List<Throwable> failures = getFailures();
-                    List<Object> items = getItems();
-                    computeAndFireTheOutcome(failures, items);
+                    computeAndFireTheOutcome(getFailures(), Arrays.asList(items));
                 }
+            } else if (concurrency < handlers.length) {
+                drain();
             }
-
         }
 
         private void computeAndFireTheOutcome(List<Throwable> failures, List<Object> items) {
@@ -131,16 +182,14 @@ public class UniAndCombination<I, O> extends UniOperator<I, O> {
             }
         }
 
-        private List<Object> getItems() {
-            return this.handlers.stream()
-                    .map(u -> u.item)
-                    .collect(Collectors.toList());
-        }
-
         private List<Throwable> getFailures() {
-            return handlers.stream()
-                    .filter(u -> u.failure != null).map(u -> u.failure)
-                    .collect(Collectors.toList());
+            List<Throwable> failures = new ArrayList<>();
+            for (UniHandler handler : handlers) {
+                if (handler.failure != null) {
+                    failures.add(handler.failure);
+                }
+            }
+            return failures;
         }
     }
 
@@ -149,12 +198,13 @@ public class UniAndCombination<I, O> extends UniOperator<I, O> {
         final AtomicReference<UniSubscription> subscription = new AtomicReference<>();
         private final AndSupervisor supervisor;
         private final Uni uni;
-        Object item = SENTINEL;
+        private final int index;
         Throwable failure;
 
-        UniHandler(AndSupervisor supervisor, Uni observed) {
+        UniHandler(AndSupervisor supervisor, Uni observed, int index) {
             this.supervisor = supervisor;
             this.uni = observed;
+            this.index = index;
         }
 
         @Override
@@ -182,7 +232,8 @@ public class UniAndCombination<I, O> extends UniOperator<I, O> {
                 // Already cancelled, do nothing
                 return;
             }
-            this.item = x;
+            // Visibility is guaranteed by the decrement of the remaining counter.
+            supervisor.items[index] = x;
             supervisor.check(this, false);
         }
 
@@ -194,6 +245,11 @@ public class UniAndCombination<I, O> extends UniOperator<I, O> {
             }
         }
 
+        @Override
+        public Context context() {
+            return supervisor.subscriber.context();
+        }
+
         public void subscribe() {
             //noinspection unchecked
             AbstractUni.subscribe(uni, this);
@@ -5,12 +5,13 @@ import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
 
 import java.time.Duration;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.TimeoutException;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.Trampoline;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
 
@@ -24,49 +25,31 @@ public class UniBlockingAwait {
         nonNull(upstream, "upstream");
         validate(duration);
 
-        CountDownLatch latch = new CountDownLatch(1);
-        AtomicReference<T> reference = new AtomicReference<>();
-        AtomicReference<Throwable> referenceToFailure = new AtomicReference<>();
-        UniSubscriber<T> subscriber = new UniSubscriber<T>() {
-            @Override
-            public void onSubscribe(UniSubscription subscription) {
-                // Do nothing.
-            }
-
-            @Override
-            public void onItem(T item) {
-                reference.set(item);
-                latch.countDown();
-            }
-
-            @Override
-            public void onFailure(Throwable failure) {
-                referenceToFailure.compareAndSet(null, failure);
-                latch.countDown();
-            }
-        };
-        AbstractUni.subscribe(upstream, subscriber);
-        try {
-            if (duration != null) {
-                if (!latch.await(duration.toMillis(), TimeUnit.MILLISECONDS)) {
-                    referenceToFailure.compareAndSet(null, new TimeoutException());
-                }
-            } else {
-                latch.await();
-            }
-        } catch (InterruptedException e) {
-            referenceToFailure.compareAndSet(null, e);
-            Thread.currentThread().interrupt();
+        AwaitingSubscriber<T> subscriber = new AwaitingSubscriber<>(Thread.currentThread());
+        // The current thread is about to block, so the subscription must not be deferred to a trampoline loop.
+        Trampoline.isolated(() -> AbstractUni.subscribe(upstream, subscriber));
+        if (duration != null) {
+            subscriber.await(toNanos(duration));
+        } else {
+            subscriber.await();
         }
 
-        Throwable throwable = referenceToFailure.get();
+        Throwable throwable = subscriber.failure;
         if (throwable != null) {
             if (throwable instanceof RuntimeException) {
                 throw (RuntimeException) throwable;
             }
             throw new CompletionException(throwable);
         } else {
-            return reference.get();
+            return subscriber.item;
+        }
+    }
+
+    private static long toNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException overflow) {
+            return Long.MAX_VALUE;
         }
     }
 
@@ -78,4 +61,109 @@ public class UniBlockingAwait {
             throw new IllegalArgumentException("`duration` must be greater than zero");
         }
     }
+
+    /**
+     * A subscriber holding the outcome and parking the waiting thread until it is received.
+     * <p>
+     * The waiting thread is parked with {@link LockSupport} rather than blocked on a monitor or a latch: waiting
+     * on many {@link Uni} concurrently costs a single object per call, and virtual threads are unmounted from their
+     * carrier thread while waiting.
+     */
+    private static final class AwaitingSubscriber<T> implements UniSubscriber<T> {
+
+        private static final int PENDING = 0;
+        private static final int COMPLETING = 1;
+        private static final int DONE = 2;
+        private static final int ABANDONED = 3;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<AwaitingSubscriber> STATE = AtomicIntegerFieldUpdater
+                .newUpdater(AwaitingSubscriber.class, "state");
+
+        private final Thread waiter;
+        private final Context context = Context.empty();
+        private volatile int state = PENDING;
+
+        /**
+         * Written by the thread moving the state from {@code PENDING} to {@code COMPLETING} (or to {@code ABANDONED}),
+         * before the state transitions to {@code DONE}. Read after observing {@code DONE} (or {@code ABANDONED}).
+         */
+        T item;
+        Throwable failure;
+
+        AwaitingSubscriber(Thread waiter) {
+            this.waiter = waiter;
+        }
+
+        @Override
+        public void onSubscribe(UniSubscription subscription) {
+            // Do nothing.
+        }
+
+        @Override
+        public Context context() {
+            return context;
+        }
+
+        @Override
+        public void onItem(T item) {
+            if (STATE.compareAndSet(this, PENDING, COMPLETING)) {
+                this.item = item;
+                complete();
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (STATE.compareAndSet(this, PENDING, COMPLETING)) {
+                this.failure = failure;
+                complete();
+            }
+        }
+
+        private void complete() {
+            state = DONE;
+            LockSupport.unpark(waiter);
+        }
+
+        void await() {
+            while (state < DONE) {
+                LockSupport.park(this);
+                if (Thread.interrupted()) {
+                    abandon(new InterruptedException());
+                    return;
+                }
+            }
+        }
+
+        void await(long timeoutInNanos) {
+            long deadline = System.nanoTime() + timeoutInNanos;
+            while (state < DONE) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0L) {
+                    abandon(new TimeoutException());
+                    return;
+                }
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    abandon(new InterruptedException());
+                    return;
+                }
+            }
+        }
+
+        private void abandon(Throwable reason) {
+            if (STATE.compareAndSet(this, PENDING, ABANDONED)) {
+                failure = reason;
+            } else {
+                // The outcome has been received in the meantime and is used, wait until it has been written.
+                while (state == COMPLETING) {
+                    Thread.yield();
+                }
+            }
+            if (reason instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
 }
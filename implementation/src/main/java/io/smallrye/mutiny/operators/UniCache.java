@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
@@ -19,6 +20,10 @@ public class UniCache<I> extends UniOperator<I, I> implements UniSubscriber<I> {
     private final AtomicReference<UniSubscription> subscription = new AtomicReference<>();
     private final List<UniSubscriber<? super I>> subscribers = new ArrayList<>();
     private int state = 0;
+    /**
+     * The context of the subscriber triggering the subscription to the upstream, shared with the upstream.
+     */
+    private volatile Context context;
     private I item;
     private Throwable failure;
 
@@ -34,6 +39,7 @@ public class UniCache<I> extends UniOperator<I, I> implements UniSubscriber<I> {
                 case NOT_INITIALIZED:
                     // First subscriber,
                     state = SUBSCRIBING;
+                    context = subscriber.context();
                     action = () -> AbstractUni.subscribe(upstream(), this);
                     subscribers.add(subscriber);
                     break;
@@ -136,4 +142,10 @@ public class UniCache<I> extends UniOperator<I, I> implements UniSubscriber<I> {
         // we consider it as pending cancellation.
         list.forEach(s -> s.onFailure(failure));
     }
+
+    @Override
+    public Context context() {
+        Context current = context;
+        return current != null ? current : Context.empty();
+    }
 }
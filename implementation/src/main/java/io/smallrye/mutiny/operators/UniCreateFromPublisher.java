@@ -9,7 +9,9 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
 
 public class UniCreateFromPublisher<O> extends UniOperator<Void, O> {
     private final Publisher<? extends O> publisher;
@@ -23,7 +25,7 @@ public class UniCreateFromPublisher<O> extends UniOperator<Void, O> {
     @Override
     protected void subscribing(UniSerializedSubscriber<? super O> subscriber) {
         AtomicReference<Subscription> reference = new AtomicReference<>();
-        Subscriber<O> actual = new Subscriber<O>() {
+        MultiSubscriber<O> actual = new MultiSubscriber<O>() {
             @Override
             public void onSubscribe(Subscription s) {
                 if (reference.compareAndSet(null, s)) {
@@ -40,7 +42,7 @@ public class UniCreateFromPublisher<O> extends UniOperator<Void, O> {
             }
 
             @Override
-            public void onNext(O o) {
+            public void onItem(O o) {
                 Subscription sub = reference.getAndSet(CANCELLED);
                 if (sub == CANCELLED) {
                     // Already cancelled, do nothing
@@ -51,14 +53,19 @@ public class UniCreateFromPublisher<O> extends UniOperator<Void, O> {
             }
 
             @Override
-            public void onError(Throwable t) {
+            public void onFailure(Throwable t) {
                 subscriber.onFailure(t);
             }
 
             @Override
-            public void onComplete() {
+            public void onCompletion() {
                 subscriber.onItem(null);
             }
+
+            @Override
+            public Context context() {
+                return subscriber.context();
+            }
         };
         Subscriber<? super O> sub = Infrastructure.onMultiSubscription(publisher, actual);
         publisher.subscribe(sub);
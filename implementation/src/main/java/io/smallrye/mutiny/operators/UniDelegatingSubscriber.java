@@ -2,6 +2,7 @@ package io.smallrye.mutiny.operators;
 
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
 
@@ -28,4 +29,9 @@ public class UniDelegatingSubscriber<I, O> implements UniSubscriber<I> {
     public void onFailure(Throwable failure) {
         delegate.onFailure(failure);
     }
+
+    @Override
+    public Context context() {
+        return delegate.context();
+    }
 }
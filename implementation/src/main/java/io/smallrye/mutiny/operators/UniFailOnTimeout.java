@@ -12,6 +12,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
@@ -85,6 +86,11 @@ public class UniFailOnTimeout<I> extends UniOperator<I, I> {
                     subscriber.onFailure(failure);
                 }
             }
+
+            @Override
+            public Context context() {
+                return subscriber.context();
+            }
         });
     }
 
@@ -0,0 +1,204 @@
+package io.smallrye.mutiny.operators;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.groups.UniOnItemHedge;
+import io.smallrye.mutiny.helpers.EmptyUniSubscription;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscription;
+
+/**
+ * Subscribes again to the upstream {@link Uni} each time the delay elapses without an item, up to {@code hedges}
+ * times. The first item wins and the other subscriptions are cancelled.
+ *
+ * @param <T> the type of item
+ */
+public class UniHedge<T> extends UniOperator<T, T> {
+
+    private final Duration delay;
+    private final int hedges;
+    private final ScheduledExecutorService executor;
+    private final UniOnItemHedge.Statistics statistics;
+
+    public UniHedge(Uni<T> upstream, Duration delay, int hedges, ScheduledExecutorService executor,
+            UniOnItemHedge.Statistics statistics) {
+        super(nonNull(upstream, "upstream"));
+        this.delay = validate(delay, "delay");
+        this.hedges = positive(hedges, "hedges");
+        this.executor = nonNull(executor, "executor");
+        this.statistics = statistics;
+    }
+
+    @Override
+    protected void subscribing(UniSerializedSubscriber<? super T> subscriber) {
+        HedgeSupervisor supervisor = new HedgeSupervisor(subscriber);
+        subscriber.onSubscribe(supervisor);
+        supervisor.start();
+    }
+
+    private class HedgeSupervisor implements UniSubscription {
+
+        private final UniSerializedSubscriber<? super T> subscriber;
+        private final Queue<Attempt> attempts = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean done = new AtomicBoolean();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicReference<ScheduledFuture<?>> timer = new AtomicReference<>();
+
+        /**
+         * The number of hedges made so far. Written by {@link #start()} and then by the timer tasks, which are
+         * scheduled one after the other.
+         */
+        private int fired;
+
+        HedgeSupervisor(UniSerializedSubscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void start() {
+            if (statistics != null) {
+                statistics.onSubscription();
+            }
+            launch(0);
+            schedule();
+        }
+
+        private void launch(int index) {
+            inFlight.incrementAndGet();
+            Attempt attempt = new Attempt(this, index);
+            attempts.offer(attempt);
+            AbstractUni.subscribe(upstream(), attempt);
+            if (done.get()) {
+                // The outcome may have been decided before the attempt got registered.
+                attempt.cancel();
+            }
+        }
+
+        private void schedule() {
+            if (done.get() || fired >= hedges) {
+                return;
+            }
+            try {
+                timer.set(executor.schedule(this::hedge, delay.toMillis(), TimeUnit.MILLISECONDS));
+            } catch (RejectedExecutionException e) {
+                // Hedging is best effort, keep waiting for the in-flight subscriptions.
+                return;
+            }
+            if (done.get()) {
+                cancelTimer();
+            }
+        }
+
+        private void hedge() {
+            if (done.get()) {
+                return;
+            }
+            fired++;
+            if (statistics != null) {
+                statistics.onHedge();
+            }
+            launch(fired);
+            schedule();
+        }
+
+        void onItem(Attempt winner, T item) {
+            if (done.compareAndSet(false, true)) {
+                cancelTimer();
+                for (Attempt attempt : attempts) {
+                    if (attempt != winner) {
+                        attempt.cancel();
+                    }
+                }
+                if (statistics != null && winner.index != 0) {
+                    statistics.onHedgeWin();
+                }
+                subscriber.onItem(item);
+            }
+        }
+
+        void onFailure(Throwable failure) {
+            // Only propagate the failure if no other subscription can still emit an item.
+            if (inFlight.decrementAndGet() == 0 && done.compareAndSet(false, true)) {
+                cancelTimer();
+                subscriber.onFailure(failure);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (done.compareAndSet(false, true)) {
+                cancelTimer();
+                for (Attempt attempt : attempts) {
+                    attempt.cancel();
+                }
+            }
+        }
+
+        private void cancelTimer() {
+            ScheduledFuture<?> future = timer.getAndSet(null);
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    private class Attempt implements UniSubscriber<T> {
+
+        private final AtomicReference<UniSubscription> subscription = new AtomicReference<>();
+        private final HedgeSupervisor supervisor;
+        private final int index;
+
+        Attempt(HedgeSupervisor supervisor, int index) {
+            this.supervisor = supervisor;
+            this.index = index;
+        }
+
+        @Override
+        public void onSubscribe(UniSubscription sub) {
+            if (!subscription.compareAndSet(null, sub)) {
+                // Already cancelled
+                sub.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(T item) {
+            if (subscription.getAndSet(EmptyUniSubscription.CANCELLED) != EmptyUniSubscription.CANCELLED) {
+                supervisor.onItem(this, item);
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (subscription.getAndSet(EmptyUniSubscription.CANCELLED) != EmptyUniSubscription.CANCELLED) {
+                supervisor.onFailure(failure);
+            }
+        }
+
+        @Override
+        public Context context() {
+            return supervisor.subscriber.context();
+        }
+
+        void cancel() {
+            UniSubscription sub = subscription.getAndSet(EmptyUniSubscription.CANCELLED);
+            if (sub != null && sub != EmptyUniSubscription.CANCELLED) {
+                sub.cancel();
+            }
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.EmptyUniSubscription;
 import io.smallrye.mutiny.helpers.Subscriptions;
@@ -130,5 +131,10 @@ public class UniOnItemTransformToMulti<I, O> extends AbstractMulti<O> {
         public void onFailure(Throwable failure) {
             downstream.onError(failure);
         }
+
+        @Override
+        public Context context() {
+            return Subscriptions.contextOf(downstream);
+        }
     }
 }
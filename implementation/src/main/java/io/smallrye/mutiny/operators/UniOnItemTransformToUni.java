@@ -3,7 +3,7 @@ package io.smallrye.mutiny.operators;
 import static io.smallrye.mutiny.helpers.ParameterValidation.MAPPER_RETURNED_NULL;
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Function;
 
 import org.reactivestreams.Subscription;
@@ -11,7 +11,7 @@ import org.reactivestreams.Subscription;
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.EmptyUniSubscription;
-import io.smallrye.mutiny.subscription.UniSubscriber;
+import io.smallrye.mutiny.helpers.Trampoline;
 import io.smallrye.mutiny.subscription.UniSubscription;
 
 public class UniOnItemTransformToUni<I, O> extends UniOperator<I, O> {
@@ -48,13 +48,7 @@ public class UniOnItemTransformToUni<I, O> extends UniOperator<I, O> {
         if (outcome == null) {
             subscriber.onFailure(new NullPointerException(MAPPER_RETURNED_NULL));
         } else {
-            UniSubscriber<O> delegate = new UniDelegatingSubscriber<O, O>(subscriber) {
-                @Override
-                public void onSubscribe(UniSubscription secondSubscription) {
-                    flatMapSubscription.replace(secondSubscription);
-                }
-            };
-            AbstractUni.subscribe(outcome, delegate);
+            Trampoline.run(new InnerSubscriber<>(subscriber, flatMapSubscription, outcome));
         }
     }
 
@@ -77,13 +71,71 @@ public class UniOnItemTransformToUni<I, O> extends UniOperator<I, O> {
         });
     }
 
+    /**
+     * Subscribes to the {@link Uni} produced by the mapper and forwards its outcome.
+     * <p>
+     * Recursive compositions nest such a subscriber per level, so both the subscription and the outcome go through
+     * the {@link Trampoline}. The subscriber is itself the task: it subscribes when it runs first, and forwards the
+     * outcome when it runs after a signal.
+     */
+    private static final class InnerSubscriber<O> extends UniDelegatingSubscriber<O, O> implements Runnable {
+
+        private final FlatMapSubscription flatMapSubscription;
+        private final Uni<? extends O> outcome;
+
+        // Written before the task is submitted, on the thread running it.
+        private boolean signalled;
+        private O item;
+        private Throwable failure;
+
+        InnerSubscriber(UniSerializedSubscriber<? super O> subscriber, FlatMapSubscription flatMapSubscription,
+                Uni<? extends O> outcome) {
+            super(subscriber);
+            this.flatMapSubscription = flatMapSubscription;
+            this.outcome = outcome;
+        }
+
+        @Override
+        public void onSubscribe(UniSubscription secondSubscription) {
+            flatMapSubscription.replace(secondSubscription);
+        }
+
+        @Override
+        public void onItem(O item) {
+            this.item = item;
+            this.signalled = true;
+            Trampoline.run(this);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            this.failure = failure;
+            this.signalled = true;
+            Trampoline.run(this);
+        }
+
+        @Override
+        public void run() {
+            if (!signalled) {
+                AbstractUni.subscribe(outcome, this);
+            } else if (failure != null) {
+                super.onFailure(failure);
+            } else {
+                super.onItem(item);
+            }
+        }
+    }
+
     protected static class FlatMapSubscription implements UniSubscription {
 
-        private final AtomicReference<Subscription> upstream = new AtomicReference<>();
+        private static final AtomicReferenceFieldUpdater<FlatMapSubscription, Subscription> UPSTREAM = AtomicReferenceFieldUpdater
+                .newUpdater(FlatMapSubscription.class, Subscription.class, "upstream");
+
+        private volatile Subscription upstream;
 
         @Override
         public void cancel() {
-            Subscription previous = upstream.getAndSet(EmptyUniSubscription.CANCELLED);
+            Subscription previous = UPSTREAM.getAndSet(this, EmptyUniSubscription.CANCELLED);
             if (previous != null) {
                 // We can call cancelled on CANCELLED, it's a no-op
                 previous.cancel();
@@ -91,18 +143,18 @@ public class UniOnItemTransformToUni<I, O> extends UniOperator<I, O> {
         }
 
         void setInitialUpstream(Subscription up) {
-            if (!upstream.compareAndSet(null, up)) {
+            if (!UPSTREAM.compareAndSet(this, null, up)) {
                 throw new IllegalStateException("Invalid upstream Subscription state, was expected none but got one");
             }
         }
 
         void replace(Subscription up) {
-            Subscription previous = upstream.getAndSet(up);
+            Subscription previous = UPSTREAM.getAndSet(this, up);
             if (previous == null) {
                 throw new IllegalStateException("Invalid upstream Subscription state, was expected one but got none");
             } else if (previous == EmptyUniSubscription.CANCELLED) {
                 // cancelled was called, cancelling up and releasing reference
-                upstream.set(null);
+                upstream = null;
                 up.cancel();
             }
             // We don't have to cancel the previous subscription as replace is called once the upstream
@@ -8,8 +8,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.Predicates;
+import io.smallrye.mutiny.helpers.Trampoline;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
 
@@ -70,12 +72,18 @@ public class UniRetryAtMost<T> extends UniOperator<T, T> {
                     resubscribe(upstream(), this);
                 }
             }
+
+            @Override
+            public Context context() {
+                return subscriber.context();
+            }
         };
 
         AbstractUni.subscribe(upstream(), retryingSubscriber);
     }
 
     private void resubscribe(Uni<? extends T> upstream, UniSubscriber<T> subscriber) {
-        AbstractUni.subscribe(upstream, subscriber);
+        // A synchronous upstream would otherwise re-subscribe recursively, once per attempt.
+        Trampoline.run(() -> AbstractUni.subscribe(upstream, subscriber));
     }
 }
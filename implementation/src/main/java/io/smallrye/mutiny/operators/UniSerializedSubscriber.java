@@ -1,8 +1,9 @@
 package io.smallrye.mutiny.operators;
 
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.helpers.EmptyUniSubscription;
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
@@ -19,11 +20,19 @@ public class UniSerializedSubscriber<T> implements UniSubscriber<T>, UniSubscrip
     private static final int HAS_SUBSCRIPTION = 2;
     private static final int DONE = 3; // Terminal state
 
-    private final AtomicInteger state = new AtomicInteger(INIT);
+    // Field updaters rather than atomic objects, as an instance is created per operator and per subscription.
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<UniSerializedSubscriber> STATE = AtomicIntegerFieldUpdater
+            .newUpdater(UniSerializedSubscriber.class, "state");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<UniSerializedSubscriber, Throwable> COLLECTED_FAILURE = AtomicReferenceFieldUpdater
+            .newUpdater(UniSerializedSubscriber.class, Throwable.class, "collectedFailure");
+
     private final AbstractUni<T> source;
     private final UniSubscriber<? super T> downstream;
     private UniSubscription upstream;
-    private AtomicReference<Throwable> collectedFailure = new AtomicReference<>();
+    private volatile int state; // INIT
+    private volatile Throwable collectedFailure;
 
     private UniSerializedSubscriber(AbstractUni<T> source, UniSubscriber<? super T> subscriber) {
         this.source = ParameterValidation.nonNull(source, "source");
@@ -39,7 +48,7 @@ public class UniSerializedSubscriber<T> implements UniSubscriber<T>, UniSubscrip
     }
 
     private void subscribe() {
-        if (state.compareAndSet(INIT, SUBSCRIBED)) {
+        if (STATE.compareAndSet(this, INIT, SUBSCRIBED)) {
             this.source.subscribing(this);
         } else {
             EmptyUniSubscription.propagateFailureEvent(this.downstream,
@@ -51,45 +60,43 @@ public class UniSerializedSubscriber<T> implements UniSubscriber<T>, UniSubscrip
     public void onSubscribe(UniSubscription subscription) {
         ParameterValidation.nonNull(subscription, "subscription");
 
-        if (state.compareAndSet(SUBSCRIBED, HAS_SUBSCRIPTION)) {
+        if (STATE.compareAndSet(this, SUBSCRIBED, HAS_SUBSCRIPTION)) {
             this.upstream = subscription;
             this.downstream.onSubscribe(this);
-        } else if (state.get() == DONE) {
-            Throwable collected = collectedFailure.getAndSet(null);
+        } else if (state == DONE) {
+            Throwable collected = COLLECTED_FAILURE.getAndSet(this, null);
             if (collected != null) {
                 this.downstream.onFailure(collected);
             }
         } else {
             EmptyUniSubscription.propagateFailureEvent(this.downstream,
                     new IllegalStateException(
-                            "Invalid transition, expected to be in the SUBSCRIBED state but was in " + state.get()));
+                            "Invalid transition, expected to be in the SUBSCRIBED state but was in " + state));
         }
     }
 
     @Override
     public void onItem(T item) {
-        if (state.compareAndSet(HAS_SUBSCRIPTION, DONE)) {
+        if (STATE.compareAndSet(this, HAS_SUBSCRIPTION, DONE)) {
             downstream.onItem(item);
             dispose();
-        } else if (state.get() != DONE) { // Are we already done? In this case, drop the signal
+        } else if (state != DONE) { // Are we already done? In this case, drop the signal
             EmptyUniSubscription.propagateFailureEvent(this.downstream,
                     new IllegalStateException(
-                            "Invalid transition, expected to be in the HAS_SUBSCRIPTION state but was in " + state
-                                    .get()));
+                            "Invalid transition, expected to be in the HAS_SUBSCRIPTION state but was in " + state));
         }
     }
 
     @Override
     public void onFailure(Throwable failure) {
-        if (state.compareAndSet(HAS_SUBSCRIPTION, DONE)) {
+        if (STATE.compareAndSet(this, HAS_SUBSCRIPTION, DONE)) {
             downstream.onFailure(failure);
-        } else if (state.compareAndSet(SUBSCRIBED, DONE)) {
-            collectedFailure.compareAndSet(null, failure);
-        } else if (state.get() != DONE) { // Are we already done? In this case, drop the signal
+        } else if (STATE.compareAndSet(this, SUBSCRIBED, DONE)) {
+            COLLECTED_FAILURE.compareAndSet(this, null, failure);
+        } else if (state != DONE) { // Are we already done? In this case, drop the signal
             EmptyUniSubscription.propagateFailureEvent(this.downstream,
                     new IllegalStateException(
-                            "Invalid transition, expected to be in the HAS_SUBSCRIPTION state but was in " + state
-                                    .get()));
+                            "Invalid transition, expected to be in the HAS_SUBSCRIPTION state but was in " + state));
         }
     }
 
@@ -99,13 +106,18 @@ public class UniSerializedSubscriber<T> implements UniSubscriber<T>, UniSubscrip
 
     @Override
     public void cancel() {
-        if (state.compareAndSet(HAS_SUBSCRIPTION, DONE)) {
+        if (STATE.compareAndSet(this, HAS_SUBSCRIPTION, DONE)) {
             upstream.cancel();
             dispose();
         }
     }
 
+    @Override
+    public Context context() {
+        return downstream.context();
+    }
+
     public boolean isCancelledOrDone() {
-        return state.get() == DONE;
+        return state == DONE;
     }
 }
@@ -5,7 +5,9 @@ import static io.smallrye.mutiny.helpers.EmptyUniSubscription.CANCELLED;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.Trampoline;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
@@ -29,7 +31,9 @@ public class UniSubscribeToCompletionStage {
             }
         };
 
-        AbstractUni.subscribe(uni, new UniSubscriber<T>() {
+        UniSubscriber<T> subscriber = new UniSubscriber<T>() {
+            private final Context context = Context.empty();
+
             @Override
             public void onSubscribe(UniSubscription subscription) {
                 if (!ref.compareAndSet(null, subscription)) {
@@ -51,7 +55,14 @@ public class UniSubscribeToCompletionStage {
                     future.completeExceptionally(failure);
                 }
             }
-        });
+
+            @Override
+            public Context context() {
+                return context;
+            }
+        };
+        // The future may be awaited right after this method returns, so the subscription must not leave work queued.
+        Trampoline.isolated(() -> AbstractUni.subscribe(uni, subscriber));
         return Infrastructure.wrapCompletableFuture(future);
     }
 
@@ -0,0 +1,41 @@
+package io.smallrye.mutiny.operators;
+
+import static io.smallrye.mutiny.helpers.EmptyUniSubscription.CANCELLED;
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.util.function.BiFunction;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+
+public class UniWithContext<I, O> extends UniOperator<I, O> {
+
+    private final Uni<I> upstream;
+    private final BiFunction<Uni<I>, Context, ? extends Uni<? extends O>> builder;
+
+    public UniWithContext(Uni<I> upstream, BiFunction<Uni<I>, Context, ? extends Uni<? extends O>> builder) {
+        super(nonNull(upstream, "upstream"));
+        this.upstream = upstream;
+        this.builder = nonNull(builder, "builder");
+    }
+
+    @Override
+    protected void subscribing(UniSerializedSubscriber<? super O> subscriber) {
+        Uni<? extends O> uni;
+        try {
+            uni = builder.apply(upstream, subscriber.context());
+        } catch (Throwable e) {
+            subscriber.onSubscribe(CANCELLED);
+            subscriber.onFailure(e);
+            return;
+        }
+
+        if (uni == null) {
+            subscriber.onSubscribe(CANCELLED);
+            subscriber.onFailure(new NullPointerException(ParameterValidation.MAPPER_RETURNED_NULL));
+        } else {
+            AbstractUni.subscribe(uni, subscriber);
+        }
+    }
+}
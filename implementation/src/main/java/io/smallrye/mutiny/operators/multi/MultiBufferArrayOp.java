@@ -0,0 +1,99 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static io.smallrye.mutiny.helpers.Subscriptions.CANCELLED;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Buffers a given number of items and emits the <em>groups</em> as arrays.
+ * <p>
+ * Each array is allocated with the exact group size, so, unlike lists, it never needs to grow. The last group,
+ * emitted on completion, is trimmed to the number of items it contains.
+ *
+ * @param <T> the type of item from upstream
+ */
+public final class MultiBufferArrayOp<T> extends AbstractMultiOperator<T, T[]> {
+
+    private final int size;
+    private final IntFunction<T[]> generator;
+
+    public MultiBufferArrayOp(Multi<? extends T> upstream, int size, IntFunction<T[]> generator) {
+        super(upstream);
+        this.size = ParameterValidation.positive(size, "size");
+        this.generator = ParameterValidation.nonNull(generator, "generator");
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super T[]> downstream) {
+        upstream.subscribe().withSubscriber(new BufferArrayProcessor<>(downstream, size, generator));
+    }
+
+    static final class BufferArrayProcessor<T> extends MultiOperatorProcessor<T, T[]> {
+
+        private final IntFunction<T[]> generator;
+        private final int size;
+        private T[] current;
+        private int index;
+
+        BufferArrayProcessor(MultiSubscriber<? super T[]> downstream, int size, IntFunction<T[]> generator) {
+            super(downstream);
+            this.size = size;
+            this.generator = generator;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n > 0) {
+                Subscription subscription = upstream.get();
+                if (subscription != CANCELLED) {
+                    subscription.request(Subscriptions.multiply(n, size));
+                }
+            }
+        }
+
+        @Override
+        public void onItem(T t) {
+            if (isDone()) {
+                return;
+            }
+
+            if (current == null) {
+                try {
+                    current = generator.apply(size);
+                } catch (Throwable failure) {
+                    failAndCancel(failure);
+                    return;
+                }
+            }
+
+            current[index++] = t;
+            if (index == size) {
+                T[] buffer = current;
+                current = null;
+                index = 0;
+                downstream.onItem(buffer);
+            }
+        }
+
+        @Override
+        public void onCompletion() {
+            Subscription subscription = upstream.getAndSet(CANCELLED);
+            if (subscription != CANCELLED) {
+                T[] buffer = current;
+                if (buffer != null && index != 0) {
+                    current = null;
+                    downstream.onItem(Arrays.copyOf(buffer, index));
+                }
+                downstream.onCompletion();
+            }
+        }
+    }
+}
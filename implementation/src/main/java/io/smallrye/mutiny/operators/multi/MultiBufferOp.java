@@ -49,10 +49,22 @@ public class MultiBufferOp<T> extends AbstractMultiOperator<T, List<T>> {
     private final Supplier<List<T>> supplier;
 
     public MultiBufferOp(Multi<? extends T> upstream, int size, int skip) {
+        this(upstream, size, skip, () -> new ArrayList<>(size));
+    }
+
+    /**
+     * Creates a new buffer operator using the given supplier to get the lists, for example to recycle them.
+     *
+     * @param upstream the upstream
+     * @param size the size of each buffer
+     * @param skip the number of items skipped before starting a new buffer
+     * @param supplier the supplier providing an empty list for each buffer
+     */
+    public MultiBufferOp(Multi<? extends T> upstream, int size, int skip, Supplier<List<T>> supplier) {
         super(upstream);
         this.size = ParameterValidation.positive(size, "size");
         this.skip = ParameterValidation.positive(skip, "size");
-        this.supplier = () -> new ArrayList<>(size);
+        this.supplier = ParameterValidation.nonNull(supplier, "supplier");
     }
 
     @Override
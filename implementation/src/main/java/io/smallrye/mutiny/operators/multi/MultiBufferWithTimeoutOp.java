@@ -2,20 +2,16 @@
 package io.smallrye.mutiny.operators.multi;
 
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.function.Supplier;
 
-import org.reactivestreams.Subscriber;
-import org.reactivestreams.Subscription;
-
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
@@ -27,6 +23,11 @@ import io.smallrye.mutiny.subscription.SerializedSubscriber;
  * Buffers items from upstream for a given duration and emits the <em>groups</em> as a single item downstream.
  * If the amount of accumulated reach the given size before the timeout, the group is emitted.
  * This implementation uses {@link java.util.ArrayList} and so emits {@link List}.
+ * <p>
+ * The timeout of a group starts when it receives its first item: a delayed task is scheduled on the executor, and
+ * cancelled if the group is emitted because it reached the given size. So each group collects items for the given
+ * duration at most, and a group is only emitted when its timeout expires, when it reaches the given size, or when
+ * the upstream completes.
  *
  * @param <T> the type of item from upstream
  */
@@ -41,18 +42,35 @@ public final class MultiBufferWithTimeoutOp<T> extends AbstractMultiOperator<T,
             int size,
             Duration timeout,
             ScheduledExecutorService scheduler) {
-        super(upstream);
-        this.timeout = ParameterValidation.validate(timeout, "timeout");
-        this.size = ParameterValidation.positive(size, "size");
-        this.scheduler = ParameterValidation.nonNull(scheduler, "scheduler");
-        this.supplier = () -> {
+        this(upstream, size, timeout, scheduler, () -> {
             if (size < Integer.MAX_VALUE) {
                 // Not used yet, on the roadmap.
                 return new ArrayList<>(size);
             } else {
                 return new ArrayList<>();
             }
-        };
+        });
+    }
+
+    /**
+     * Creates a new buffer operator using the given supplier to get the lists, for example to recycle them.
+     *
+     * @param upstream the upstream
+     * @param size the maximum size of each buffer
+     * @param timeout the maximum duration of each buffer
+     * @param scheduler the scheduler used to flush the buffers
+     * @param supplier the supplier providing an empty list for each buffer
+     */
+    public MultiBufferWithTimeoutOp(Multi<T> upstream,
+            int size,
+            Duration timeout,
+            ScheduledExecutorService scheduler,
+            Supplier<List<T>> supplier) {
+        super(upstream);
+        this.timeout = ParameterValidation.validate(timeout, "timeout");
+        this.size = ParameterValidation.positive(size, "size");
+        this.scheduler = ParameterValidation.nonNull(scheduler, "scheduler");
+        this.supplier = ParameterValidation.nonNull(supplier, "supplier");
     }
 
     @Override
@@ -64,22 +82,42 @@ public final class MultiBufferWithTimeoutOp<T> extends AbstractMultiOperator<T,
 
     static class MultiBufferWithTimeoutProcessor<T> extends MultiOperatorProcessor<T, List<T>> {
 
-        private static final int RUNNING = 0;
-        private static final int SUCCEED = 1;
-        private static final int FAILED = 2;
-        private static final int CANCELLED = 3;
+        @SuppressWarnings("rawtypes")
+        private static final AtomicLongFieldUpdater<MultiBufferWithTimeoutProcessor> REQUESTED = AtomicLongFieldUpdater
+                .newUpdater(MultiBufferWithTimeoutProcessor.class, "requested");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<MultiBufferWithTimeoutProcessor> WIP = AtomicIntegerFieldUpdater
+                .newUpdater(MultiBufferWithTimeoutProcessor.class, "wip");
 
         private final int size;
         private final Duration duration;
         private final ScheduledExecutorService executor;
         private final Supplier<List<T>> supplier;
-        private final Runnable flush;
 
-        private AtomicInteger terminated = new AtomicInteger(RUNNING);
-        private AtomicLong requested = new AtomicLong();
-        private AtomicInteger index = new AtomicInteger();
+        private volatile long requested;
+        private volatile int wip;
+
+        /**
+         * The group being filled, {@code null} until it receives its first item, guarded by {@code this}.
+         */
         private List<T> current;
-        private ScheduledFuture<?> task;
+        /**
+         * The timeout of the current group, guarded by {@code this}.
+         */
+        private Future<?> timeout;
+        /**
+         * Incremented every time a group is closed, so a timeout firing late does not close the next group, guarded by
+         * {@code this}.
+         */
+        private long generation;
+        /**
+         * The closed groups waiting to be emitted, oldest first, guarded by {@code this}.
+         */
+        private final ArrayDeque<List<T>> closed = new ArrayDeque<>();
+        /**
+         * Whether the upstream has completed, guarded by {@code this}.
+         */
+        private boolean completed;
 
         MultiBufferWithTimeoutProcessor(MultiSubscriber<? super List<T>> downstream, int size, Duration timeout,
                 ScheduledExecutorService executor, Supplier<List<T>> supplier) {
@@ -88,138 +126,126 @@ public final class MultiBufferWithTimeoutOp<T> extends AbstractMultiOperator<T,
             this.executor = executor;
             this.supplier = supplier;
             this.size = size;
+        }
 
-            this.flush = () -> {
-                if (terminated.get() == RUNNING) {
-                    int index;
-                    for (;;) {
-                        index = this.index.get();
-                        if (index == 0) {
-                            return;
-                        }
-                        if (this.index.compareAndSet(index, 0)) {
-                            break;
-                        }
+        @Override
+        public void onItem(T item) {
+            boolean emit = false;
+            try {
+                synchronized (this) {
+                    if (isDone() || completed) {
+                        return;
+                    }
+                    List<T> group = current;
+                    if (group == null) {
+                        group = supplier.get();
+                        current = group;
+                    }
+                    group.add(item);
+                    if (group.size() == size) {
+                        close();
+                        emit = true;
+                    } else if (group.size() == 1) {
+                        long expected = generation;
+                        timeout = executor.schedule(() -> onTimeout(expected), duration.toMillis(),
+                                TimeUnit.MILLISECONDS);
                     }
-                    flushCallback();
                 }
-            };
-        }
-
-        private void doOnSubscribe() {
-            current = supplier.get();
+            } catch (Throwable failure) {
+                // Including the rejection of the timeout by the executor.
+                failAndCancel(failure);
+                return;
+            }
+            if (emit) {
+                drain();
+            }
         }
 
-        void nextCallback(T value) {
+        /**
+         * Closes the current group, called on the executor when its timeout expires.
+         *
+         * @param expected the generation of the group for which the timeout has been scheduled
+         */
+        private void onTimeout(long expected) {
             synchronized (this) {
-                if (current == null) {
-                    current = supplier.get();
+                if (isDone() || generation != expected || current == null) {
+                    return;
                 }
-                current.add(value);
+                close();
             }
+            drain();
         }
 
-        private void flushCallback() {
-            List<T> cur;
-            boolean flush = false;
-            synchronized (this) {
-                if (current != null) {
-                    cur = new ArrayList<>(current);
-                } else {
-                    cur = Collections.emptyList();
-                }
-                if (!cur.isEmpty()) {
-                    current = supplier.get();
-                    flush = true;
-                }
+        /**
+         * Moves the current group to the closed ones and cancels its timeout. Must be called while holding the lock.
+         */
+        private void close() {
+            closed.add(current);
+            current = null;
+            generation++;
+            Future<?> task = timeout;
+            if (task != null) {
+                timeout = null;
+                task.cancel(false);
             }
+        }
 
-            if (flush) {
-                long req = requested.get();
-                if (req != 0L) {
-                    if (req != Long.MAX_VALUE) {
-                        long next;
-                        for (;;) {
-                            next = req - 1;
-                            if (requested.compareAndSet(req, next)) {
-                                downstream.onItem(cur);
-                                return;
-                            }
-
-                            req = requested.get();
-                            if (req <= 0L) {
-                                break;
-                            }
+        /**
+         * Emits the closed groups. The groups are closed by the upstream thread or the executor, so the emissions are
+         * serialized here, outside of the lock.
+         */
+        private void drain() {
+            if (WIP.getAndIncrement(this) != 0) {
+                return;
+            }
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    List<T> group;
+                    boolean done;
+                    synchronized (this) {
+                        if (isDone()) {
+                            return;
                         }
-                    } else {
-                        downstream.onItem(cur);
+                        done = completed;
+                        group = closed.poll();
+                    }
+                    if (group == null) {
+                        if (done) {
+                            super.onCompletion();
+                            return;
+                        }
+                        break;
+                    }
+                    if (!emit(group)) {
                         return;
                     }
                 }
-
-                cancel();
-                downstream.onFailure(new BackPressureFailure("Cannot emit item due to lack of requests"));
-            }
-        }
-
-        @Override
-        public void onItem(final T value) {
-            int index;
-            for (;;) {
-                index = this.index.get() + 1;
-                if (this.index.compareAndSet(index - 1, index)) {
-                    break;
-                }
-            }
-
-            if (index == 1) {
-                try {
-                    task = executor.schedule(flush, duration.toMillis(), TimeUnit.MILLISECONDS);
-                } catch (RejectedExecutionException rejected) {
-                    onFailure(rejected);
+                missed = WIP.addAndGet(this, -missed);
+                if (missed == 0) {
                     return;
                 }
             }
-
-            nextCallback(value);
-
-            if (this.index.get() % size == 0) {
-                this.index.lazySet(0);
-                if (task != null) {
-                    task.cancel(false);
-                    task = null;
-                }
-                flushCallback();
-            }
         }
 
-        void checkedComplete() {
-            try {
-                flushCallback();
-            } finally {
-                super.onCompletion();
+        private boolean emit(List<T> group) {
+            long r = requested;
+            if (r == 0L) {
+                failAndCancel(new BackPressureFailure("Cannot emit item due to lack of requests"));
+                return false;
             }
-        }
-
-        /**
-         * @return has this {@link Subscriber} terminated with success ?
-         */
-        final boolean isCompleted() {
-            return terminated.get() == SUCCEED;
-        }
-
-        /**
-         * @return has this {@link Subscriber} terminated with an error ?
-         */
-        final boolean isFailed() {
-            return terminated.get() == FAILED;
+            if (r != Long.MAX_VALUE) {
+                REQUESTED.decrementAndGet(this);
+            }
+            downstream.onItem(group);
+            return true;
         }
 
         @Override
         public void request(long n) {
             if (n > 0) {
-                Subscriptions.add(requested, n);
-                if (terminated.get() != RUNNING) {
+                Subscriptions.add(REQUESTED, this, n);
+                if (isDone()) {
                     return;
                 }
                 if (size == Integer.MAX_VALUE || n == Long.MAX_VALUE) {
@@ -227,51 +253,51 @@ public final class MultiBufferWithTimeoutOp<T> extends AbstractMultiOperator<T,
                 } else {
                     super.request(Subscriptions.multiply(n, size));
                 }
+            } else {
+                failAndCancel(Subscriptions.getInvalidRequestException());
             }
         }
 
         @Override
         public void onCompletion() {
-            if (terminated.compareAndSet(RUNNING, SUCCEED)) {
-                if (task != null) {
-                    task.cancel(true);
-                    task = null;
+            synchronized (this) {
+                if (isDone() || completed) {
+                    return;
+                }
+                if (current != null) {
+                    close();
                 }
-                checkedComplete();
+                completed = true;
             }
+            drain();
         }
 
         @Override
         public void onFailure(Throwable throwable) {
-            if (terminated.compareAndSet(RUNNING, FAILED)) {
-                synchronized (this) {
-                    if (current != null) {
-                        current.clear();
-                        current = null;
-                    }
-                }
-                super.onFailure(throwable);
+            synchronized (this) {
+                clear();
             }
+            super.onFailure(throwable);
         }
 
         @Override
-        public void onSubscribe(Subscription subscription) {
-            if (upstream.compareAndSet(null, subscription)) {
-                doOnSubscribe();
-                downstream.onSubscribe(this);
-            } else {
-                subscription.cancel();
+        public void cancel() {
+            super.cancel();
+            synchronized (this) {
+                clear();
             }
         }
 
-        @Override
-        public void cancel() {
-            if (terminated.compareAndSet(RUNNING, CANCELLED)) {
-                super.cancel();
-                List<T> cur = current;
-                if (cur != null) {
-                    cur.clear();
-                }
+        /**
+         * Drops the groups and cancels the timeout. Must be called while holding the lock.
+         */
+        private void clear() {
+            current = null;
+            closed.clear();
+            Future<?> task = timeout;
+            if (task != null) {
+                timeout = null;
+                task.cancel(false);
             }
         }
     }
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -14,11 +15,13 @@ import java.util.function.Function;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
-import io.smallrye.mutiny.helpers.queues.SpscLinkedArrayQueue;
+import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.MultiOperator;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
 
 /**
@@ -37,15 +40,35 @@ public class MultiCombineLatestOp<I, O> extends MultiOperator<I, O> {
 
     private final boolean delayErrors;
 
+    private final boolean reuseItemList;
+
     public MultiCombineLatestOp(
             Iterable<? extends Publisher<? extends I>> upstreams,
             Function<List<?>, ? extends O> combinator,
             int bufferSize, boolean delayErrors) {
+        this(upstreams, combinator, bufferSize, delayErrors, false);
+    }
+
+    /**
+     * Creates a new combine latest operator.
+     *
+     * @param upstreams the sources
+     * @param combinator the combinator
+     * @param bufferSize the number of items requested to each source
+     * @param delayErrors whether the failures are propagated once all the sources terminated
+     * @param reuseItemList whether the combinator receives the same read-only list, updated in place, for each
+     *        combination. The combinator must not retain it. Otherwise, the combinator receives a copy.
+     */
+    public MultiCombineLatestOp(
+            Iterable<? extends Publisher<? extends I>> upstreams,
+            Function<List<?>, ? extends O> combinator,
+            int bufferSize, boolean delayErrors, boolean reuseItemList) {
         super(null);
         this.upstreams = ParameterValidation.doesNotContainNull(upstreams, "upstreams");
         this.combinator = ParameterValidation.nonNull(combinator, "combinator");
         this.bufferSize = bufferSize;
         this.delayErrors = delayErrors;
+        this.reuseItemList = reuseItemList;
     }
 
     @Override
@@ -71,7 +94,7 @@ public class MultiCombineLatestOp<I, O> extends MultiOperator<I, O> {
 
         CombineLatestCoordinator<I, O> coordinator = new CombineLatestCoordinator<>(downstream, combinator,
                 publishers.size(),
-                bufferSize, delayErrors);
+                bufferSize, delayErrors, reuseItemList);
         downstream.onSubscribe(coordinator);
         coordinator.subscribe(publishers);
     }
@@ -81,12 +104,37 @@ public class MultiCombineLatestOp<I, O> extends MultiOperator<I, O> {
         private final MultiSubscriber<? super O> downstream;
         private final Function<List<?>, ? extends O> combinator;
         private final List<CombineLatestInnerSubscriber<I>> subscribers = new ArrayList<>();
-        private final SpscLinkedArrayQueue<Object> queue;
-        private final Object[] latest;
         private final boolean delayErrors;
+        private final boolean reuseItemList;
 
+        /**
+         * The inner subscribers having received an item, in the order of reception. Each inner subscriber stores
+         * its items in its own queue, so the producers never contend on a lock.
+         */
+        private final Queue<CombineLatestInnerSubscriber<I>> signals = Queues.createMpscQueue();
+
+        /**
+         * The latest item of each source, only accessed from the drain loop.
+         */
+        private final Object[] latest;
+
+        /**
+         * A read-only view on {@link #latest}, passed to the combinator when the list can be reused.
+         */
+        private final List<Object> latestView;
+
+        /**
+         * The number of sources having an item in {@link #latest}, only accessed from the drain loop.
+         */
         private int nonEmptySources;
-        private int completedSources;
+
+        /**
+         * A signal polled from {@link #signals} that would produce an item, but cannot be processed until the
+         * downstream requests more items. Only accessed from the drain loop.
+         */
+        private CombineLatestInnerSubscriber<I> pending;
+
+        private final AtomicInteger completedSources = new AtomicInteger();
         private volatile boolean cancelled;
         private volatile boolean done;
         private final AtomicLong requested = new AtomicLong();
@@ -95,15 +143,16 @@ public class MultiCombineLatestOp<I, O> extends MultiOperator<I, O> {
 
         CombineLatestCoordinator(MultiSubscriber<? super O> downstream,
                 Function<List<?>, ? extends O> combinator, int size,
-                int bufferSize, boolean delayErrors) {
+                int bufferSize, boolean delayErrors, boolean reuseItemList) {
             this.downstream = downstream;
             this.combinator = combinator;
             for (int i = 0; i < size; i++) {
                 subscribers.add(new CombineLatestInnerSubscriber<>(this, i, bufferSize));
             }
             this.latest = new Object[size];
-            this.queue = new SpscLinkedArrayQueue<>(bufferSize);
+            this.latestView = Collections.unmodifiableList(Arrays.asList(latest));
             this.delayErrors = delayErrors;
+            this.reuseItemList = reuseItemList;
         }
 
         @Override
@@ -118,6 +167,7 @@ public class MultiCombineLatestOp<I, O> extends MultiOperator<I, O> {
         public void cancel() {
             cancelled = true;
             cancelAll();
+            drain();
         }
 
         private void subscribe(List<Publisher<? extends I>> sources) {
@@ -131,78 +181,50 @@ public class MultiCombineLatestOp<I, O> extends MultiOperator<I, O> {
             }
         }
 
-        void innerValue(int index, I value) {
-            boolean replenishInsteadOfDrain;
-            synchronized (this) {
-                Object[] os = latest;
-
-                int localNonEmptySources = nonEmptySources;
-
-                if (os[index] == null) {
-                    localNonEmptySources++;
-                    nonEmptySources = localNonEmptySources;
-                }
-                os[index] = value;
-                if (os.length == localNonEmptySources) {
-                    queue.offer(subscribers.get(index), os.clone());
-                    replenishInsteadOfDrain = false;
-                } else {
-                    replenishInsteadOfDrain = true;
-                }
-            }
-
-            if (replenishInsteadOfDrain) {
-                subscribers.get(index).requestOneItem();
-            } else {
-                drain();
-            }
+        void innerValue(CombineLatestInnerSubscriber<I> inner) {
+            signals.offer(inner);
+            drain();
         }
 
-        void innerComplete(int index) {
-            synchronized (this) {
-                Object[] os = latest;
-
-                if (os[index] != null) {
-                    int localCompletedSources = completedSources + 1;
-
-                    if (localCompletedSources == os.length) {
-                        done = true;
-                    } else {
-                        completedSources = localCompletedSources;
-                        return;
-                    }
-                } else {
-                    done = true;
+        void innerComplete(CombineLatestInnerSubscriber<I> inner) {
+            if (inner.hasItem) {
+                if (completedSources.incrementAndGet() != latest.length) {
+                    return;
                 }
             }
+            // Either all the sources have completed, or a source completed without items, and so no combination
+            // can ever be emitted.
+            done = true;
             drain();
         }
 
-        void innerError(int index, Throwable e) {
+        void innerError(CombineLatestInnerSubscriber<I> inner, Throwable e) {
             if (Subscriptions.addFailure(failure, e)) {
                 if (!delayErrors) {
                     cancelAll();
                     done = true;
                     drain();
                 } else {
-                    innerComplete(index);
+                    innerComplete(inner);
                 }
             }
         }
 
-        @SuppressWarnings("unchecked")
         void drainAsync() {
-            final SpscLinkedArrayQueue<Object> q = queue;
-
             int missed = 1;
 
             for (;;) {
                 long req = requested.get();
-                long emitter = 0L;
-                while (emitter != req) {
+                long emitted = 0L;
+                for (;;) {
                     boolean d = done;
-                    Object v = q.poll();
-                    boolean empty = v == null;
+                    CombineLatestInnerSubscriber<I> inner = pending;
+                    if (inner != null) {
+                        pending = null;
+                    } else {
+                        inner = signals.poll();
+                    }
+                    boolean empty = inner == null;
                     if (isEmptyOrDone(d, empty)) {
                         return;
                     }
@@ -210,35 +232,43 @@ public class MultiCombineLatestOp<I, O> extends MultiOperator<I, O> {
                         break;
                     }
 
-                    I[] va = (I[]) q.poll();
+                    int index = inner.index;
+                    boolean emits = nonEmptySources == latest.length
+                            || (nonEmptySources == latest.length - 1 && latest[index] == null);
+                    if (emits && emitted == req) {
+                        // Wait for requests.
+                        pending = inner;
+                        break;
+                    }
 
-                    O resultOfCombination;
-                    try {
-                        resultOfCombination = combinator.apply(Arrays.asList(va));
-                        if (resultOfCombination == null) {
-                            throw new NullPointerException("The combinator returned `null`");
+                    if (latest[index] == null) {
+                        nonEmptySources++;
+                    }
+                    latest[index] = inner.queue.poll();
+
+                    if (emits) {
+                        O resultOfCombination;
+                        try {
+                            resultOfCombination = combinator
+                                    .apply(reuseItemList ? latestView : Arrays.asList(latest.clone()));
+                            if (resultOfCombination == null) {
+                                throw new NullPointerException("The combinator returned `null`");
+                            }
+                        } catch (Throwable ex) {
+                            cancelAll();
+                            Subscriptions.addFailure(failure, ex);
+                            Subscriptions.terminateAndPropagate(failure, downstream);
+                            return;
                         }
-                    } catch (Throwable ex) {
-                        cancelAll();
-                        Subscriptions.addFailure(failure, ex);
-                        Subscriptions.terminateAndPropagate(failure, downstream);
-                        return;
+                        downstream.onItem(resultOfCombination);
+                        emitted++;
                     }
-                    downstream.onItem(resultOfCombination);
 
-                    ((CombineLatestInnerSubscriber<I>) v).requestOneItem();
-
-                    emitter++;
+                    inner.requestOneItem();
                 }
 
-                if (emitter == req) {
-                    if (isEmptyOrDone(done, q.isEmpty())) {
-                        return;
-                    }
-                }
-
-                if (emitter != 0L && req != Long.MAX_VALUE) {
-                    requested.addAndGet(-emitter);
+                if (emitted != 0L && req != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
                 }
 
                 missed = wip.addAndGet(-missed);
@@ -259,7 +289,7 @@ public class MultiCombineLatestOp<I, O> extends MultiOperator<I, O> {
         boolean isEmptyOrDone(boolean d, boolean empty) {
             if (cancelled) {
                 cancelAll();
-                queue.clear();
+                clear();
                 return true;
             }
 
@@ -279,7 +309,7 @@ public class MultiCombineLatestOp<I, O> extends MultiOperator<I, O> {
                     Throwable prev = Subscriptions.terminate(failure);
                     if (prev != null && prev != Subscriptions.TERMINATED) {
                         cancelAll();
-                        queue.clear();
+                        clear();
                         downstream.onFailure(prev);
                         return true;
                     } else if (empty) {
@@ -292,6 +322,12 @@ public class MultiCombineLatestOp<I, O> extends MultiOperator<I, O> {
             return false;
         }
 
+        private void clear() {
+            pending = null;
+            signals.clear();
+            Arrays.fill(latest, null);
+        }
+
         void cancelAll() {
             for (CombineLatestInnerSubscriber<I> inner : subscribers) {
                 inner.cancel();
@@ -306,13 +342,20 @@ public class MultiCombineLatestOp<I, O> extends MultiOperator<I, O> {
         private final int index;
         private final int prefetch;
         private final int limit;
+        private final Queue<T> queue;
         int produced;
 
+        /**
+         * Whether this subscriber has received at least one item, only written by this subscriber.
+         */
+        boolean hasItem;
+
         CombineLatestInnerSubscriber(CombineLatestCoordinator<T, ?> parent, int index, int prefetch) {
             this.parent = parent;
             this.index = index;
             this.prefetch = prefetch;
             this.limit = prefetch - (prefetch >> 2);
+            this.queue = Queues.<T> get(prefetch).get();
         }
 
         @Override
@@ -324,17 +367,28 @@ public class MultiCombineLatestOp<I, O> extends MultiOperator<I, O> {
 
         @Override
         public void onItem(T t) {
-            parent.innerValue(index, t);
+            if (!queue.offer(t)) {
+                cancel();
+                parent.innerError(this, new BackPressureFailure("Buffer full, cannot emit item"));
+                return;
+            }
+            hasItem = true;
+            parent.innerValue(this);
         }
 
         @Override
         public void onFailure(Throwable t) {
-            parent.innerError(index, t);
+            parent.innerError(this, t);
         }
 
         @Override
         public void onCompletion() {
-            parent.innerComplete(index);
+            parent.innerComplete(this);
+        }
+
+        @Override
+        public Context context() {
+            return parent.downstream.context();
         }
 
         public void cancel() {
@@ -11,7 +11,9 @@ import java.util.function.Supplier;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.AdaptiveConcurrencyLimit;
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.helpers.queues.Queues;
@@ -27,6 +29,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
     private final boolean postponeFailurePropagation;
     private final int maxConcurrency;
     private final int requests;
+    private final AdaptiveConcurrencyLimit limit;
 
     private final Supplier<? extends Queue<O>> mainQueueSupplier;
     private final Supplier<? extends Queue<O>> innerQueueSupplier;
@@ -36,6 +39,26 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             boolean postponeFailurePropagation,
             int maxConcurrency,
             int requests) {
+        this(upstream, mapper, postponeFailurePropagation, maxConcurrency, requests, null);
+    }
+
+    /**
+     * Creates a new <em>flatMap</em> operator whose concurrency is driven by the given
+     * {@link AdaptiveConcurrencyLimit}, capped by {@code maxConcurrency}.
+     *
+     * @param upstream the upstream
+     * @param mapper the mapper
+     * @param postponeFailurePropagation whether the failures are propagated once all the inner streams terminated
+     * @param maxConcurrency the maximum concurrency
+     * @param requests the number of items requested to each inner stream
+     * @param limit the adaptive limit, {@code null} to use {@code maxConcurrency} as a fixed concurrency
+     */
+    public MultiFlatMapOp(Multi<? extends I> upstream,
+            Function<? super I, ? extends Publisher<? extends O>> mapper,
+            boolean postponeFailurePropagation,
+            int maxConcurrency,
+            int requests,
+            AdaptiveConcurrencyLimit limit) {
         super(upstream);
         this.mapper = ParameterValidation.nonNull(mapper, "mapper");
         this.postponeFailurePropagation = postponeFailurePropagation;
@@ -43,7 +66,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
         this.mainQueueSupplier = Queues.get(maxConcurrency);
         this.requests = ParameterValidation.positive(requests, "requests");
         this.innerQueueSupplier = Queues.get(maxConcurrency);
-        ;
+        this.limit = limit;
     }
 
     @Override
@@ -57,7 +80,8 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                 maxConcurrency,
                 mainQueueSupplier,
                 requests,
-                innerQueueSupplier);
+                innerQueueSupplier,
+                limit);
 
         upstream.subscribe(
                 Infrastructure.onMultiSubscription(upstream, new SafeSubscriber<>(new SerializedSubscriber<>(sub))));
@@ -74,6 +98,13 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
         final Supplier<? extends Queue<O>> mainQueueSupplier;
         final Supplier<? extends Queue<O>> innerQueueSupplier;
         final MultiSubscriber<? super O> downstream;
+        final AdaptiveConcurrencyLimit adaptiveLimit;
+
+        /**
+         * When using an adaptive limit, the number of items requested from upstream whose inner stream has not
+         * terminated yet. Only accessed from {@link #onSubscribe(Subscription)} and the drain loop.
+         */
+        int outstanding;
 
         volatile Queue<O> queue;
 
@@ -102,7 +133,8 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                 int concurrency,
                 Supplier<? extends Queue<O>> mainQueueSupplier,
                 int requests,
-                Supplier<? extends Queue<O>> innerQueueSupplier) {
+                Supplier<? extends Queue<O>> innerQueueSupplier,
+                AdaptiveConcurrencyLimit adaptiveLimit) {
             this.downstream = downstream;
             this.mapper = mapper;
             this.delayError = delayError;
@@ -111,6 +143,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             this.requests = requests;
             this.innerQueueSupplier = requests == 0 ? Queues.getXsQueueSupplier() : Queues.get(requests);
             this.limit = Subscriptions.unboundedOrLimit(concurrency);
+            this.adaptiveLimit = adaptiveLimit;
         }
 
         @SuppressWarnings("unchecked")
@@ -168,7 +201,12 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
         public void onSubscribe(Subscription s) {
             if (upstream.compareAndSet(null, s)) {
                 downstream.onSubscribe(this);
-                s.request(Subscriptions.unboundedOrRequests(maxConcurrency));
+                if (adaptiveLimit != null) {
+                    outstanding = Math.min(adaptiveLimit.current(), maxConcurrency);
+                    s.request(outstanding);
+                } else {
+                    s.request(Subscriptions.unboundedOrRequests(maxConcurrency));
+                }
             }
         }
 
@@ -227,6 +265,11 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             drain();
         }
 
+        @Override
+        public Context context() {
+            return downstream.context();
+        }
+
         void tryEmit(FlatMapInner<O> inner, O item) {
             if (wip.compareAndSet(0, 1)) {
                 long req = requested.get();
@@ -455,7 +498,12 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                 }
 
                 if (replenishMain != 0L && !done && !cancelled) {
-                    upstream.get().request(replenishMain);
+                    if (adaptiveLimit != null) {
+                        replenishMain = computeAdaptiveRequests(replenishMain);
+                    }
+                    if (replenishMain != 0L) {
+                        upstream.get().request(replenishMain);
+                    }
                 }
 
                 if (again) {
@@ -469,6 +517,24 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             }
         }
 
+        /**
+         * Computes the number of items to request from upstream so the number of in-flight inner streams catches up
+         * with the adaptive limit.
+         *
+         * @param terminated the number of inner streams that just terminated
+         * @return the number of items to request, potentially 0 if the limit has decreased
+         */
+        private long computeAdaptiveRequests(long terminated) {
+            outstanding -= terminated;
+            int target = Math.min(adaptiveLimit.current(), maxConcurrency);
+            int missing = target - outstanding;
+            if (missing <= 0) {
+                return 0L;
+            }
+            outstanding = target;
+            return missing;
+        }
+
         private void cancelUpstream(boolean fromOnError) {
             clearQueue();
             Subscription subscription = upstream.getAndSet(Subscriptions.CANCELLED);
@@ -584,10 +650,16 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
         int index;
 
+        /**
+         * The creation time, in nanoseconds, only set when using an adaptive limit.
+         */
+        final long start;
+
         FlatMapInner(FlatMapMainSubscriber<?, O> parent, int requests) {
             this.parent = parent;
             this.requests = requests;
             this.limit = Subscriptions.unboundedOrLimit(requests);
+            this.start = parent.adaptiveLimit != null ? System.nanoTime() : 0L;
         }
 
         @Override
@@ -607,15 +679,29 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
         public void onFailure(Throwable failure) {
             Objects.requireNonNull(failure);
             done = true;
+            sample(true);
             parent.innerError(this, failure);
         }
 
         @Override
         public void onCompletion() {
             done = true;
+            sample(false);
             parent.innerComplete();
         }
 
+        @Override
+        public Context context() {
+            return parent.context();
+        }
+
+        private void sample(boolean failed) {
+            AdaptiveConcurrencyLimit adaptiveLimit = parent.adaptiveLimit;
+            if (adaptiveLimit != null) {
+                adaptiveLimit.onSample(System.nanoTime() - start, failed);
+            }
+        }
+
         @Override
         public void request(long n) {
             long p = produced + n;
@@ -0,0 +1,413 @@
+package io.smallrye.mutiny.operators.multi;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * A <em>flatMap</em> subscribing to up to {@code concurrency} inner streams concurrently, but emitting their items
+ * in the order of the upstream items (also known as <em>concatMapEager</em>).
+ * <p>
+ * The items of the inner streams that are not the current <em>head</em> are buffered. Each inner stream is consumed
+ * with the given {@code requests}, so at most {@code concurrency * requests} items are buffered. Likewise, the failure
+ * of an inner stream is only propagated once this stream becomes the head, after the items of the previous ones.
+ *
+ * @param <I> the type of item emitted by the upstream
+ * @param <O> the type of item emitted by the inner streams
+ */
+public final class MultiFlatMapOrderedOp<I, O> extends AbstractMultiOperator<I, O> {
+
+    private final Function<? super I, ? extends Publisher<? extends O>> mapper;
+    private final boolean postponeFailurePropagation;
+    private final int concurrency;
+    private final int requests;
+
+    public MultiFlatMapOrderedOp(Multi<? extends I> upstream,
+            Function<? super I, ? extends Publisher<? extends O>> mapper,
+            boolean postponeFailurePropagation,
+            int concurrency,
+            int requests) {
+        super(upstream);
+        this.mapper = ParameterValidation.nonNull(mapper, "mapper");
+        this.postponeFailurePropagation = postponeFailurePropagation;
+        this.concurrency = ParameterValidation.positive(concurrency, "concurrency");
+        this.requests = ParameterValidation.positive(requests, "requests");
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super O> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("The subscriber must not be `null`");
+        }
+        upstream.subscribe().withSubscriber(
+                new FlatMapOrderedMainSubscriber<I, O>(subscriber, mapper, postponeFailurePropagation, concurrency,
+                        requests));
+    }
+
+    static final class FlatMapOrderedMainSubscriber<I, O> implements MultiSubscriber<I>, Subscription {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<FlatMapOrderedMainSubscriber, Subscription> UPSTREAM = AtomicReferenceFieldUpdater
+                .newUpdater(FlatMapOrderedMainSubscriber.class, Subscription.class, "upstream");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<FlatMapOrderedMainSubscriber, Throwable> FAILURES = AtomicReferenceFieldUpdater
+                .newUpdater(FlatMapOrderedMainSubscriber.class, Throwable.class, "failures");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicLongFieldUpdater<FlatMapOrderedMainSubscriber> REQUESTED = AtomicLongFieldUpdater
+                .newUpdater(FlatMapOrderedMainSubscriber.class, "requested");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<FlatMapOrderedMainSubscriber> WIP = AtomicIntegerFieldUpdater
+                .newUpdater(FlatMapOrderedMainSubscriber.class, "wip");
+
+        final MultiSubscriber<? super O> downstream;
+        final Function<? super I, ? extends Publisher<? extends O>> mapper;
+        final boolean delayError;
+        final int concurrency;
+        final int requests;
+
+        /**
+         * The subscribed inner streams, in the order of the upstream items.
+         */
+        final Queue<FlatMapOrderedInner<O>> inners = new ConcurrentLinkedQueue<>();
+
+        volatile Subscription upstream;
+        volatile Throwable failures;
+        volatile long requested;
+        volatile int wip;
+
+        volatile boolean done;
+        volatile boolean cancelled;
+        /**
+         * Whether the downstream made an invalid request, the failure being propagated even if failures are delayed.
+         */
+        volatile boolean invalidRequest;
+
+        /**
+         * The inner stream currently emitting downstream, only accessed from the drain loop.
+         */
+        FlatMapOrderedInner<O> current;
+
+        FlatMapOrderedMainSubscriber(MultiSubscriber<? super O> downstream,
+                Function<? super I, ? extends Publisher<? extends O>> mapper,
+                boolean delayError, int concurrency, int requests) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.delayError = delayError;
+            this.concurrency = concurrency;
+            this.requests = requests;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (UPSTREAM.compareAndSet(this, null, s)) {
+                downstream.onSubscribe(this);
+                s.request(Subscriptions.unboundedOrRequests(concurrency));
+            } else {
+                s.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(I item) {
+            if (done) {
+                return;
+            }
+            Publisher<? extends O> publisher;
+            try {
+                publisher = mapper.apply(item);
+                if (publisher == null) {
+                    throw new NullPointerException(ParameterValidation.MAPPER_RETURNED_NULL);
+                }
+            } catch (Throwable e) {
+                Subscriptions.cancel(UPSTREAM, this);
+                onFailure(e);
+                return;
+            }
+
+            FlatMapOrderedInner<O> inner = new FlatMapOrderedInner<>(this, requests);
+            inners.offer(inner);
+            if (cancelled) {
+                // The cancellation may have missed the inner.
+                inner.cancel();
+                return;
+            }
+            publisher.subscribe(inner);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (done) {
+                return;
+            }
+            Subscriptions.addFailure(FAILURES, this, failure);
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onCompletion() {
+            if (done) {
+                return;
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n > 0) {
+                Subscriptions.add(REQUESTED, this, n);
+                drain();
+            } else {
+                // The drain loop cancels the inner streams and propagates the failure.
+                Subscriptions.cancel(UPSTREAM, this);
+                Subscriptions.addFailure(FAILURES, this, Subscriptions.getInvalidRequestException());
+                invalidRequest = true;
+                done = true;
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                Subscriptions.cancel(UPSTREAM, this);
+                if (WIP.getAndIncrement(this) == 0) {
+                    cancelInners();
+                }
+            }
+        }
+
+        @Override
+        public Context context() {
+            return downstream.context();
+        }
+
+        void innerFailure(FlatMapOrderedInner<O> inner, Throwable failure) {
+            // The failure is only propagated once the drain loop reaches the inner, so the items of the previous
+            // inner streams are still emitted.
+            inner.failure = failure;
+            inner.done = true;
+            drain();
+        }
+
+        void cancelInners() {
+            FlatMapOrderedInner<O> c = current;
+            current = null;
+            if (c != null) {
+                c.cancel();
+            }
+            FlatMapOrderedInner<O> inner;
+            while ((inner = inners.poll()) != null) {
+                inner.cancel();
+            }
+        }
+
+        void drain() {
+            if (WIP.getAndIncrement(this) != 0) {
+                return;
+            }
+
+            int missed = 1;
+            for (;;) {
+                if (cancelled) {
+                    cancelInners();
+                    return;
+                }
+
+                if (mustFailNow()) {
+                    cancelInners();
+                    terminate();
+                    return;
+                }
+
+                FlatMapOrderedInner<O> inner = current;
+                if (inner == null) {
+                    boolean d = done;
+                    inner = inners.poll();
+                    if (d && inner == null) {
+                        terminate();
+                        return;
+                    }
+                    current = inner;
+                }
+
+                if (inner != null) {
+                    long r = requested;
+                    long emitted = 0L;
+                    boolean innerDone = false;
+                    Queue<O> queue = inner.queue;
+
+                    while (emitted != r) {
+                        if (cancelled) {
+                            cancelInners();
+                            return;
+                        }
+                        if (mustFailNow()) {
+                            cancelInners();
+                            terminate();
+                            return;
+                        }
+
+                        boolean d = inner.done;
+                        O item = queue.poll();
+                        if (item == null) {
+                            innerDone = d;
+                            break;
+                        }
+
+                        downstream.onItem(item);
+                        emitted++;
+                        inner.replenish();
+                    }
+
+                    if (emitted == r && inner.done && queue.isEmpty()) {
+                        innerDone = true;
+                    }
+
+                    if (emitted != 0L && r != Long.MAX_VALUE) {
+                        REQUESTED.addAndGet(this, -emitted);
+                    }
+
+                    if (innerDone) {
+                        current = null;
+                        Throwable failure = inner.failure;
+                        if (failure != null) {
+                            Subscriptions.addFailure(FAILURES, this, failure);
+                            if (!delayError) {
+                                Subscriptions.cancel(UPSTREAM, this);
+                                cancelInners();
+                                terminate();
+                                return;
+                            }
+                        }
+                        if (concurrency != Integer.MAX_VALUE) {
+                            upstream.request(1);
+                        }
+                        // Move to the next inner stream.
+                        continue;
+                    }
+                }
+
+                missed = WIP.addAndGet(this, -missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private boolean mustFailNow() {
+            return (!delayError || invalidRequest) && failures != null;
+        }
+
+        private void terminate() {
+            Subscriptions.terminateAndPropagate(FAILURES, this, downstream);
+        }
+    }
+
+    static final class FlatMapOrderedInner<O> implements MultiSubscriber<O>, Subscription {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<FlatMapOrderedInner, Subscription> SUBSCRIPTION = AtomicReferenceFieldUpdater
+                .newUpdater(FlatMapOrderedInner.class, Subscription.class, "subscription");
+
+        final FlatMapOrderedMainSubscriber<?, O> parent;
+        final int requests;
+        final int limit;
+        final Queue<O> queue;
+
+        volatile Subscription subscription;
+
+        /**
+         * The failure of the inner stream, written before {@link #done}.
+         */
+        Throwable failure;
+        volatile boolean done;
+
+        /**
+         * Number of items consumed since the last request, only accessed from the drain loop.
+         */
+        long produced;
+
+        FlatMapOrderedInner(FlatMapOrderedMainSubscriber<?, O> parent, int requests) {
+            this.parent = parent;
+            this.requests = requests;
+            this.limit = Subscriptions.unboundedOrLimit(requests);
+            this.queue = requests == Integer.MAX_VALUE ? Queues.<O> unbounded(Queues.BUFFER_S).get()
+                    : Queues.<O> get(requests).get();
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (SUBSCRIPTION.compareAndSet(this, null, s)) {
+                s.request(Subscriptions.unboundedOrRequests(requests));
+            } else {
+                s.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(O item) {
+            if (!queue.offer(item)) {
+                cancel();
+                parent.innerFailure(this, new BackPressureFailure("Buffer full, cannot emit item"));
+                return;
+            }
+            parent.drain();
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            parent.innerFailure(this, failure);
+        }
+
+        @Override
+        public void onCompletion() {
+            done = true;
+            parent.drain();
+        }
+
+        void replenish() {
+            if (limit == Integer.MAX_VALUE) {
+                return;
+            }
+            long p = produced + 1;
+            if (p == limit) {
+                produced = 0L;
+                subscription.request(p);
+            } else {
+                produced = p;
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            // Requests are driven by the parent, see replenish.
+        }
+
+        @Override
+        public void cancel() {
+            Subscriptions.cancel(SUBSCRIPTION, this);
+        }
+
+        @Override
+        public Context context() {
+            return parent.context();
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static io.smallrye.mutiny.helpers.Subscriptions.CANCELLED;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.TickSource;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Writes the buffers emitted by the upstream to a {@link GatheringByteChannel}, in batches, and emits the number of
+ * written bytes on completion.
+ * <p>
+ * The buffers are accumulated until the batch contains {@code maxItems} buffers or {@code maxBytes} bytes, or, if a
+ * {@code maxDelay} is set, until the next tick of a {@link TickSource} with this period. The batch is then written
+ * using a single gathering write, repeated until all its bytes have been written. The upstream is asked for
+ * {@code maxItems} buffers on subscription, and then for the number of written buffers once each write completes, so
+ * at most {@code maxItems} buffers are pending at any time. The writes are blocking: they run on the thread emitting
+ * the buffer completing the batch, or, for the time-triggered writes, on the executor. They are serialized using a
+ * lock rather than the monitor of the subscriber, which only guards the batch, so a thread waiting for a write does
+ * not pin its carrier when running on a virtual thread.
+ * <p>
+ * The channel must be blocking: a {@link SelectableChannel} in non-blocking mode is rejected, and the operator fails
+ * with an {@link IOException} if a write does not accept any byte, instead of retrying it forever.
+ * <p>
+ * The channel is not closed by this operator. The number of written bytes is emitted on completion regardless of the
+ * downstream requests, so this operator is meant to be consumed as a {@link io.smallrye.mutiny.Uni}.
+ */
+public final class MultiGatheringWriteOp extends AbstractMultiOperator<ByteBuffer, Long> {
+
+    private final GatheringByteChannel channel;
+    private final int maxItems;
+    private final long maxBytes;
+    private final Duration maxDelay;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Creates a new writer.
+     *
+     * @param upstream the upstream
+     * @param channel the channel, not closed by the operator
+     * @param maxItems the maximum number of buffers written at once, must be strictly positive
+     * @param maxBytes the number of bytes triggering a write, must be strictly positive
+     * @param maxDelay the maximum duration the buffers wait before being written, {@code null} to wait until the
+     *        batch is full or the upstream completes
+     * @param executor the executor running the time-triggered writes
+     * @throws IllegalArgumentException if the channel is a {@link SelectableChannel} in non-blocking mode
+     */
+    public MultiGatheringWriteOp(Multi<? extends ByteBuffer> upstream, GatheringByteChannel channel, int maxItems,
+            long maxBytes, Duration maxDelay, ScheduledExecutorService executor) {
+        super(upstream);
+        this.channel = ParameterValidation.nonNull(channel, "channel");
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+            throw new IllegalArgumentException("The channel must be in blocking mode");
+        }
+        this.maxItems = ParameterValidation.positive(maxItems, "maxItems");
+        this.maxBytes = ParameterValidation.positive(maxBytes, "maxBytes");
+        this.maxDelay = maxDelay == null ? null : ParameterValidation.validate(maxDelay, "maxDelay");
+        this.executor = ParameterValidation.nonNull(executor, "executor");
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super Long> downstream) {
+        upstream.subscribe().withSubscriber(new GatheringWriteProcessor(downstream, this));
+    }
+
+    static final class GatheringWriteProcessor extends MultiOperatorProcessor<ByteBuffer, Long> {
+
+        private static final Cancellable NO_TICKS = () -> {
+        };
+
+        private static final AtomicReferenceFieldUpdater<GatheringWriteProcessor, Cancellable> TICKS = AtomicReferenceFieldUpdater
+                .newUpdater(GatheringWriteProcessor.class, Cancellable.class, "ticks");
+
+        private final GatheringByteChannel channel;
+        private final int maxItems;
+        private final long maxBytes;
+        private final Duration maxDelay;
+        private final ScheduledExecutorService executor;
+        private volatile Cancellable ticks;
+
+        /**
+         * Serializes the writes, which run outside the monitor.
+         */
+        private final ReentrantLock writing = new ReentrantLock();
+        /**
+         * The pending buffers, guarded by {@code this}, and swapped with {@link #spare} when written.
+         */
+        private ByteBuffer[] batch;
+        /**
+         * The array receiving the next batch, guarded by {@link #writing}.
+         */
+        private ByteBuffer[] spare;
+        /**
+         * The number of pending buffers, written while holding {@code this}, read without by the ticks.
+         */
+        private volatile int count;
+        /**
+         * The number of pending bytes, guarded by {@code this}.
+         */
+        private long bytes;
+        /**
+         * The number of written bytes, written while holding {@link #writing}.
+         */
+        private volatile long written;
+
+        GatheringWriteProcessor(MultiSubscriber<? super Long> downstream, MultiGatheringWriteOp op) {
+            super(downstream);
+            this.channel = op.channel;
+            this.maxItems = op.maxItems;
+            this.maxBytes = op.maxBytes;
+            this.maxDelay = op.maxDelay;
+            this.executor = op.executor;
+            // The items are only requested once written, so both arrays hold at most maxItems buffers together.
+            this.batch = new ByteBuffer[op.maxItems];
+            this.spare = new ByteBuffer[op.maxItems];
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (upstream.compareAndSet(null, subscription)) {
+                downstream.onSubscribe(this);
+                if (maxDelay != null) {
+                    startTicks();
+                }
+                subscription.request(maxItems);
+            } else {
+                subscription.cancel();
+            }
+        }
+
+        private void startTicks() {
+            Cancellable cancellable;
+            try {
+                cancellable = TickSource.register(executor, maxDelay, () -> {
+                    // Ticks must not block, so the write is submitted to the executor.
+                    if (count != 0 && !isDone()) {
+                        executor.execute(this::flushOnTick);
+                    }
+                });
+            } catch (Throwable rejected) {
+                fail(rejected);
+                return;
+            }
+            if (!TICKS.compareAndSet(this, null, cancellable)) {
+                // Terminated or cancelled in the meantime
+                cancellable.cancel();
+            }
+        }
+
+        private void stopTicks() {
+            Cancellable cancellable = TICKS.getAndSet(this, NO_TICKS);
+            if (cancellable != null) {
+                cancellable.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(ByteBuffer item) {
+            boolean full;
+            synchronized (this) {
+                if (isDone()) {
+                    return;
+                }
+                batch[count++] = item;
+                bytes += item.remaining();
+                full = count == maxItems || bytes >= maxBytes;
+            }
+            if (full) {
+                requestMore(flush());
+            }
+        }
+
+        private void flushOnTick() {
+            if (!isDone() && count != 0) {
+                requestMore(flush());
+            }
+        }
+
+        private void requestMore(int flushed) {
+            if (flushed > 0) {
+                Subscription subscription = upstream.get();
+                if (subscription != CANCELLED) {
+                    subscription.request(flushed);
+                }
+            }
+        }
+
+        /**
+         * Writes the pending buffers, and fails if the write fails.
+         *
+         * @return the number of written buffers, {@code -1} if the write failed
+         */
+        private int flush() {
+            Throwable failure;
+            writing.lock();
+            try {
+                return writePending();
+            } catch (Throwable e) {
+                failure = e;
+            } finally {
+                writing.unlock();
+            }
+            fail(failure);
+            return -1;
+        }
+
+        /**
+         * Takes the pending buffers while holding {@code this}, and writes them without holding it. Must be called
+         * while holding {@link #writing}.
+         *
+         * @return the number of written buffers
+         * @throws IOException if the write fails or does not accept any byte
+         */
+        private int writePending() throws IOException {
+            ByteBuffer[] buffers;
+            int flushed;
+            long size;
+            synchronized (this) {
+                if (isDone() || count == 0) {
+                    return 0;
+                }
+                buffers = batch;
+                flushed = count;
+                size = bytes;
+                batch = spare;
+                count = 0;
+                bytes = 0L;
+            }
+            try {
+                long remaining = size;
+                while (remaining > 0L) {
+                    long accepted = channel.write(buffers, 0, flushed);
+                    if (accepted == 0L) {
+                        throw new IOException(
+                                "The channel did not accept any byte, non-blocking channels are not supported");
+                    }
+                    remaining -= accepted;
+                }
+            } finally {
+                Arrays.fill(buffers, 0, flushed, null);
+                spare = buffers;
+            }
+            written += size;
+            return flushed;
+        }
+
+        private void release() {
+            Arrays.fill(batch, 0, count, null);
+            count = 0;
+            bytes = 0L;
+        }
+
+        @Override
+        public void onCompletion() {
+            if (isDone() || flush() < 0) {
+                return;
+            }
+            stopTicks();
+            Subscription subscription = upstream.getAndSet(CANCELLED);
+            if (subscription != CANCELLED) {
+                downstream.onItem(written);
+                downstream.onCompletion();
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            stopTicks();
+            synchronized (this) {
+                release();
+            }
+            super.onFailure(failure);
+        }
+
+        private void fail(Throwable failure) {
+            stopTicks();
+            Subscription subscription = upstream.getAndSet(CANCELLED);
+            if (subscription != CANCELLED) {
+                if (subscription != null) {
+                    subscription.cancel();
+                }
+                synchronized (this) {
+                    release();
+                }
+                downstream.onFailure(failure);
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            // The upstream is driven by the writes, the downstream only gets the number of written bytes.
+            if (n <= 0) {
+                fail(Subscriptions.getInvalidRequestException());
+            }
+        }
+
+        @Override
+        public void cancel() {
+            stopTicks();
+            super.cancel();
+            synchronized (this) {
+                release();
+            }
+        }
+    }
+}
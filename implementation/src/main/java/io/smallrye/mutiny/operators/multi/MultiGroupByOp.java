@@ -2,9 +2,19 @@ package io.smallrye.mutiny.operators.multi;
 
 import static io.smallrye.mutiny.helpers.Subscriptions.CANCELLED;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -22,16 +32,51 @@ import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
 
+/**
+ * Groups the items by key.
+ * <p>
+ * By default, a group lives until the upstream terminates or the group subscriber cancels. When an idle duration
+ * or a maximum number of groups is configured, groups that did not receive items for the idle duration, and the
+ * least recently used groups when the maximum is reached, are <em>evicted</em>: they are completed and
+ * removed. A new group is created if an item with the same key is received later.
+ *
+ * @param <T> the type of item
+ * @param <K> the type of key
+ * @param <V> the type of the grouped values
+ */
 public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, GroupedMulti<K, V>> {
     private final Function<? super T, ? extends K> keySelector;
     private final Function<? super T, ? extends V> valueSelector;
+    private final Duration idle;
+    private final int maxGroups;
+    private final ScheduledExecutorService executor;
 
     public MultiGroupByOp(Multi<T> upstream,
             Function<? super T, ? extends K> keySelector,
             Function<? super T, ? extends V> valueSelector) {
+        this(upstream, keySelector, valueSelector, null, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Creates a new group by operator evicting groups.
+     *
+     * @param upstream the upstream
+     * @param keySelector the key selector
+     * @param valueSelector the value selector
+     * @param idle the duration after which a group without items is evicted, {@code null} to disable
+     * @param maxGroups the maximum number of groups, {@link Integer#MAX_VALUE} to disable
+     * @param executor the executor used to check for idle groups, required if {@code idle} is set
+     */
+    public MultiGroupByOp(Multi<T> upstream,
+            Function<? super T, ? extends K> keySelector,
+            Function<? super T, ? extends V> valueSelector,
+            Duration idle, int maxGroups, ScheduledExecutorService executor) {
         super(upstream);
         this.keySelector = keySelector;
         this.valueSelector = valueSelector;
+        this.idle = idle;
+        this.maxGroups = maxGroups;
+        this.executor = executor;
     }
 
     @Override
@@ -39,9 +84,16 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
         if (downstream == null) {
             throw new NullPointerException("The subscriber must not be `null`");
         }
-        final Map<Object, GroupedUnicast<K, V>> groups = new ConcurrentHashMap<>();
+        final Map<Object, GroupedUnicast<K, V>> groups;
+        boolean evicting = idle != null || maxGroups != Integer.MAX_VALUE;
+        if (evicting) {
+            // Access-ordered, so the first entry is the least recently used group.
+            groups = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true));
+        } else {
+            groups = new ConcurrentHashMap<>();
+        }
         MultiGroupByProcessor<T, K, V> processor = new MultiGroupByProcessor<>(downstream, keySelector, valueSelector,
-                groups);
+                groups, evicting, idle, maxGroups, executor);
         upstream.subscribe().withSubscriber(processor);
     }
 
@@ -51,6 +103,15 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
         private final Map<Object, GroupedUnicast<K, V>> groups;
         private final Queue<GroupedMulti<K, V>> queue;
 
+        /**
+         * Whether groups can be evicted. If so, {@link #groups} is a synchronized access-ordered map, and the
+         * lookups and the evictions are done while holding its lock.
+         */
+        private final boolean evicting;
+        private final long idleNanos;
+        private final int maxGroups;
+        private final AtomicReference<ScheduledFuture<?>> idleCheck = new AtomicReference<>();
+
         private static final Object NO_KEY = new Object();
 
         private final AtomicBoolean cancelled = new AtomicBoolean();
@@ -68,11 +129,31 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
                 Function<? super T, ? extends K> keySelector,
                 Function<? super T, ? extends V> valueSelector,
                 Map<Object, GroupedUnicast<K, V>> groups) {
+            this(downstream, keySelector, valueSelector, groups, false, null, Integer.MAX_VALUE, null);
+        }
+
+        MultiGroupByProcessor(MultiSubscriber<? super GroupedMulti<K, V>> downstream,
+                Function<? super T, ? extends K> keySelector,
+                Function<? super T, ? extends V> valueSelector,
+                Map<Object, GroupedUnicast<K, V>> groups,
+                boolean evicting, Duration idle, int maxGroups, ScheduledExecutorService executor) {
             super(downstream);
             this.keySelector = keySelector;
             this.valueSelector = valueSelector;
             this.groups = groups;
             this.queue = Queues.<GroupedMulti<K, V>> unbounded(Queues.BUFFER_S).get();
+            this.evicting = evicting;
+            this.idleNanos = idle == null ? 0L : idle.toNanos();
+            this.maxGroups = maxGroups;
+            if (idle != null) {
+                try {
+                    long period = idle.toMillis();
+                    idleCheck.set(executor.scheduleAtFixedRate(this::evictIdleGroups, period, period,
+                            TimeUnit.MILLISECONDS));
+                } catch (RejectedExecutionException e) {
+                    // Groups are not evicted on idle, the max number of groups still applies.
+                }
+            }
         }
 
         @Override
@@ -101,6 +182,11 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
                 return;
             }
 
+            if (evicting) {
+                onItemWithEviction(item, key);
+                return;
+            }
+
             boolean newGroup = false;
             Object mapKey = key != null ? key : NO_KEY;
             GroupedUnicast<K, V> group = groups.get(mapKey);
@@ -134,13 +220,113 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
             }
         }
 
+        private void onItemWithEviction(T item, K key) {
+            V value;
+            try {
+                value = valueSelector.apply(item);
+                if (value == null) {
+                    throw new NullPointerException("The selector returned `null`");
+                }
+            } catch (Throwable ex) {
+                super.cancel();
+                super.onFailure(ex);
+                return;
+            }
+
+            Object mapKey = key != null ? key : NO_KEY;
+            GroupedUnicast<K, V> group;
+            GroupedUnicast<K, V> evicted = null;
+            boolean newGroup = false;
+            synchronized (groups) {
+                group = groups.get(mapKey);
+                if (group == null) {
+                    if (isCancelled()) {
+                        return;
+                    }
+                    if (groups.size() >= maxGroups) {
+                        evicted = evictEldest();
+                    }
+                    group = GroupedUnicast.createWith(key, this);
+                    groups.put(mapKey, group);
+                    groupCount.getAndIncrement();
+                    newGroup = true;
+                }
+                // Enqueue while holding the lock, so an eviction cannot complete the group in between.
+                group.offer(value, System.nanoTime());
+            }
+
+            if (evicted != null) {
+                evicted.onComplete();
+                releaseUpstreamIfNoMoreGroups(1);
+            }
+            group.drain();
+            if (newGroup) {
+                this.queue.offer(group);
+                drain();
+            }
+        }
+
+        /**
+         * Removes the least recently used group, must be called while holding the lock on {@link #groups}.
+         *
+         * @return the evicted group, to complete once the lock is released
+         */
+        private GroupedUnicast<K, V> evictEldest() {
+            Iterator<GroupedUnicast<K, V>> iterator = groups.values().iterator();
+            if (!iterator.hasNext()) {
+                return null;
+            }
+            GroupedUnicast<K, V> eldest = iterator.next();
+            iterator.remove();
+            // The group may have been cancelled concurrently, in this case it is already released.
+            return eldest.evict() ? eldest : null;
+        }
+
+        void evictIdleGroups() {
+            long now = System.nanoTime();
+            List<GroupedUnicast<K, V>> evicted = new ArrayList<>();
+            synchronized (groups) {
+                Iterator<GroupedUnicast<K, V>> iterator = groups.values().iterator();
+                // Groups are ordered by last access, stop at the first group that is not idle.
+                while (iterator.hasNext()) {
+                    GroupedUnicast<K, V> group = iterator.next();
+                    if (now - group.lastAccess() < idleNanos) {
+                        break;
+                    }
+                    iterator.remove();
+                    if (group.evict()) {
+                        evicted.add(group);
+                    }
+                }
+            }
+            evicted.forEach(GroupedUnicast::onComplete);
+            if (!evicted.isEmpty()) {
+                releaseUpstreamIfNoMoreGroups(evicted.size());
+            }
+        }
+
+        private void stopIdleCheck() {
+            ScheduledFuture<?> future = idleCheck.getAndSet(null);
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+
+        private List<GroupedUnicast<K, V>> removeAllGroups() {
+            synchronized (groups) {
+                List<GroupedUnicast<K, V>> list = new ArrayList<>(groups.values());
+                groups.clear();
+                return list;
+            }
+        }
+
         @Override
         public void onFailure(Throwable throwable) {
             Subscription subscription = upstream.getAndSet(CANCELLED);
             if (subscription != CANCELLED) {
                 done = true;
-                groups.values().forEach(group -> group.onFailure(throwable));
-                groups.clear();
+                stopIdleCheck();
+                removeAllGroups().forEach(group -> group.onFailure(throwable));
                 failure = throwable;
                 finished = true;
                 drain();
@@ -152,8 +338,8 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
             Subscription subscription = upstream.getAndSet(CANCELLED);
             if (subscription != CANCELLED) {
                 done = true;
-                groups.values().forEach(GroupedUnicast::onComplete);
-                groups.clear();
+                stopIdleCheck();
+                removeAllGroups().forEach(GroupedUnicast::onComplete);
                 finished = true;
                 drain();
             }
@@ -172,16 +358,29 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
             // cancelling the main source means we don't want any more groups
             // but running groups still require new values
             if (cancelled.compareAndSet(false, true)) {
-                if (groupCount.decrementAndGet() == 0) {
-                    Subscriptions.cancel(upstream);
-                }
+                releaseUpstreamIfNoMoreGroups(1);
             }
         }
 
-        public void cancel(K key) {
+        void cancel(K key, State<V, K> state) {
             Object mapKey = key != null ? key : NO_KEY;
-            groups.remove(mapKey);
-            if (groupCount.decrementAndGet() == 0) {
+            if (evicting) {
+                synchronized (groups) {
+                    // The group may have been evicted, and replaced by a new group with the same key.
+                    GroupedUnicast<K, V> group = groups.get(mapKey);
+                    if (group != null && group.hasState(state)) {
+                        groups.remove(mapKey);
+                    }
+                }
+            } else {
+                groups.remove(mapKey);
+            }
+            releaseUpstreamIfNoMoreGroups(1);
+        }
+
+        private void releaseUpstreamIfNoMoreGroups(int released) {
+            if (groupCount.addAndGet(-released) == 0) {
+                stopIdleCheck();
                 Subscriptions.cancel(upstream);
 
                 if (wip.getAndIncrement() == 0) {
@@ -292,6 +491,26 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
             downstream.onCompletion();
         }
 
+        void offer(T t, long now) {
+            downstream.offer(t, now);
+        }
+
+        void drain() {
+            downstream.drain();
+        }
+
+        boolean evict() {
+            return downstream.detached.compareAndSet(false, true);
+        }
+
+        long lastAccess() {
+            return downstream.lastAccess;
+        }
+
+        boolean hasState(State<?, ?> state) {
+            return downstream == state;
+        }
+
         @Override
         public K key() {
             return key;
@@ -307,6 +526,16 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
         private final AtomicBoolean done = new AtomicBoolean();
         private final AtomicInteger wip = new AtomicInteger();
 
+        /**
+         * Set when the group is released, either because it has been cancelled or evicted.
+         */
+        final AtomicBoolean detached = new AtomicBoolean();
+
+        /**
+         * The time of the last item, in nanoseconds, only used when groups can be evicted.
+         */
+        volatile long lastAccess;
+
         private final K key;
         private final Queue<T> queue;
         private final MultiGroupByProcessor<?, K, T> parent;
@@ -331,7 +560,9 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
         @Override
         public void cancel() {
             if (cancelled.compareAndSet(false, true)) {
-                parent.cancel(key);
+                if (detached.compareAndSet(false, true)) {
+                    parent.cancel(key, this);
+                }
                 drain();
             }
         }
@@ -353,6 +584,13 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
             }
         }
 
+        void offer(T t, long now) {
+            if (!done.get()) {
+                lastAccess = now;
+                queue.offer(t);
+            }
+        }
+
         public void onFailure(Throwable e) {
             if (done.compareAndSet(false, true)) {
                 failure = e;
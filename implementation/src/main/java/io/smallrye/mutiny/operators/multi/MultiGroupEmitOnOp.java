@@ -0,0 +1,38 @@
+package io.smallrye.mutiny.operators.multi;
+
+import java.util.concurrent.Executor;
+
+import io.smallrye.mutiny.GroupedMulti;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * A {@link GroupedMulti} emitting the items of another {@link GroupedMulti} on the given executor.
+ * <p>
+ * Like {@link MultiEmitOnOp}, the items are emitted by at most one task at a time, so each group is processed
+ * sequentially, in order, while different groups are processed concurrently.
+ *
+ * @param <K> the type of key
+ * @param <T> the type of item
+ */
+public class MultiGroupEmitOnOp<K, T> extends AbstractMultiOperator<T, T> implements GroupedMulti<K, T> {
+
+    private final K key;
+    private final Executor executor;
+
+    public MultiGroupEmitOnOp(GroupedMulti<K, T> upstream, Executor executor) {
+        super(upstream);
+        this.key = upstream.key();
+        this.executor = ParameterValidation.nonNull(executor, "executor");
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super T> subscriber) {
+        new MultiEmitOnOp<>(upstream, executor).subscribe(subscriber);
+    }
+
+    @Override
+    public K key() {
+        return key;
+    }
+}
@@ -2,20 +2,25 @@ package io.smallrye.mutiny.operators.multi;
 
 import static io.smallrye.mutiny.helpers.Subscriptions.CANCELLED;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
 
 public abstract class MultiOperatorProcessor<I, O> implements MultiSubscriber<I>, Subscription {
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<MultiOperatorProcessor> DOWNSTREAM_CANCELLED = AtomicIntegerFieldUpdater
+            .newUpdater(MultiOperatorProcessor.class, "hasDownstreamCancelled");
+
     protected final MultiSubscriber<? super O> downstream;
     protected AtomicReference<Subscription> upstream = new AtomicReference<>();
-    AtomicBoolean hasDownstreamCancelled = new AtomicBoolean();
+    private volatile int hasDownstreamCancelled;
 
     public MultiOperatorProcessor(MultiSubscriber<? super O> downstream) {
         this.downstream = ParameterValidation.nonNull(downstream, "downstream");
@@ -34,7 +39,16 @@ public abstract class MultiOperatorProcessor<I, O> implements MultiSubscriber<I>
     }
 
     protected boolean isCancelled() {
-        return hasDownstreamCancelled.get();
+        return hasDownstreamCancelled == 1;
+    }
+
+    /**
+     * Records the cancellation of the downstream.
+     *
+     * @return {@code true} on the first call, {@code false} if the downstream has already cancelled
+     */
+    boolean markDownstreamCancelled() {
+        return DOWNSTREAM_CANCELLED.compareAndSet(this, 0, 1);
     }
 
     @Override
@@ -85,9 +99,14 @@ public abstract class MultiOperatorProcessor<I, O> implements MultiSubscriber<I>
 
     @Override
     public void cancel() {
-        if (hasDownstreamCancelled.compareAndSet(false, true)) {
+        if (markDownstreamCancelled()) {
             Subscriptions.cancel(upstream);
         }
     }
 
+    @Override
+    public Context context() {
+        return downstream.context();
+    }
+
 }
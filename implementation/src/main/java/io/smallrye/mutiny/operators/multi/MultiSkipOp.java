@@ -1,7 +1,5 @@
 package io.smallrye.mutiny.operators.multi;
 
-import java.util.concurrent.atomic.AtomicLong;
-
 import org.reactivestreams.Subscription;
 
 import io.smallrye.mutiny.Multi;
@@ -32,18 +30,21 @@ public final class MultiSkipOp<T> extends AbstractMultiOperator<T, T> {
 
     static final class SkipProcessor<T> extends MultiOperatorProcessor<T, T> {
 
-        private final AtomicLong remaining;
+        /**
+         * The number of items still to skip, only accessed from the upstream signals.
+         */
+        private long remaining;
 
         SkipProcessor(MultiSubscriber<? super T> downstream, long items) {
             super(downstream);
-            this.remaining = new AtomicLong(items);
+            this.remaining = items;
         }
 
         @Override
         public void onSubscribe(Subscription subscription) {
             if (upstream.compareAndSet(null, subscription)) {
                 downstream.onSubscribe(this);
-                subscription.request(remaining.get());
+                subscription.request(remaining);
             } else {
                 subscription.cancel();
             }
@@ -51,11 +52,13 @@ public final class MultiSkipOp<T> extends AbstractMultiOperator<T, T> {
 
         @Override
         public void onItem(T t) {
-            long r = remaining.getAndDecrement();
+            long r = remaining;
             if (r <= 0L) {
                 downstream.onItem(t);
+            } else {
+                // The item is skipped.
+                remaining = r - 1;
             }
-            // Other elements are skipped.
         }
     }
 }
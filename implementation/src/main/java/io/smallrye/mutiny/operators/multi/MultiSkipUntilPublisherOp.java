@@ -7,6 +7,7 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
@@ -68,6 +69,11 @@ public final class MultiSkipUntilPublisherOp<T, U> extends AbstractMultiOperator
             main.open();
         }
 
+        @Override
+        public Context context() {
+            return main.context();
+        }
+
     }
 
     static final class SkipUntilMainProcessor<T> extends MultiOperatorProcessor<T, T> {
@@ -0,0 +1,236 @@
+package io.smallrye.mutiny.operators.multi;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Splits chunks of bytes into lines.
+ * <p>
+ * Lines are terminated by {@code \n} or {@code \r\n}, the terminator is not part of the emitted line. A line contained
+ * in a single chunk is emitted as a slice of this chunk, sharing its content, so no bytes are copied. Only the lines
+ * spanning several chunks are copied into a new buffer. The trailing bytes that are not followed by a terminator are
+ * emitted as the last line when the upstream completes.
+ * <p>
+ * The chunks are requested one by one, when the lines of the previous chunk have been emitted. As the lines may share
+ * the content of the chunks, the upstream must not reuse the chunks it emits. The position and limit of the chunks are
+ * not modified.
+ */
+public final class MultiSplitLinesOp extends AbstractMultiOperator<ByteBuffer, ByteBuffer> {
+
+    public MultiSplitLinesOp(Multi<? extends ByteBuffer> upstream) {
+        super(upstream);
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super ByteBuffer> downstream) {
+        upstream.subscribe().withSubscriber(new SplitLinesProcessor(downstream));
+    }
+
+    static final class SplitLinesProcessor extends MultiOperatorProcessor<ByteBuffer, ByteBuffer> {
+
+        private static final AtomicLongFieldUpdater<SplitLinesProcessor> REQUESTED = AtomicLongFieldUpdater
+                .newUpdater(SplitLinesProcessor.class, "requested");
+        private static final AtomicIntegerFieldUpdater<SplitLinesProcessor> WIP = AtomicIntegerFieldUpdater
+                .newUpdater(SplitLinesProcessor.class, "wip");
+
+        private volatile long requested;
+        private volatile int wip;
+
+        /**
+         * The chunk being split, {@code null} if none.
+         */
+        private volatile ByteBuffer current;
+        /**
+         * Whether a chunk has been requested from upstream and not received yet.
+         */
+        private volatile boolean awaitingChunk;
+        private volatile boolean done;
+        private Throwable failure;
+
+        /**
+         * The beginning of a line spanning several chunks, only accessed from the drain loop.
+         */
+        private ByteBuffer pending;
+
+        SplitLinesProcessor(MultiSubscriber<? super ByteBuffer> downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onItem(ByteBuffer chunk) {
+            if (done || isCancelled()) {
+                return;
+            }
+            // Split a view, so the position of the upstream chunk is left untouched.
+            current = chunk.duplicate();
+            awaitingChunk = false;
+            drain();
+        }
+
+        @Override
+        public void onFailure(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            failure = throwable;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onCompletion() {
+            if (done) {
+                return;
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n > 0) {
+                Subscriptions.add(REQUESTED, this, n);
+            } else {
+                Subscriptions.cancel(upstream);
+                onFailure(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            drain();
+        }
+
+        private void drain() {
+            if (WIP.getAndIncrement(this) != 0) {
+                return;
+            }
+            int missed = 1;
+            for (;;) {
+                long r = requested;
+                long emitted = 0L;
+                for (;;) {
+                    if (isCancelled()) {
+                        current = null;
+                        pending = null;
+                        return;
+                    }
+                    ByteBuffer chunk = current;
+                    if (chunk != null) {
+                        if (emitted == r) {
+                            break;
+                        }
+                        ByteBuffer line = nextLine(chunk);
+                        if (line == null) {
+                            current = null;
+                        } else {
+                            downstream.onItem(line);
+                            emitted++;
+                        }
+                        continue;
+                    }
+                    if (done) {
+                        Throwable throwable = failure;
+                        if (throwable != null) {
+                            pending = null;
+                            downstream.onFailure(throwable);
+                            return;
+                        }
+                        ByteBuffer last = pending;
+                        if (last != null) {
+                            if (emitted == r) {
+                                break;
+                            }
+                            pending = null;
+                            last.flip();
+                            downstream.onItem(trim(last));
+                            emitted++;
+                            continue;
+                        }
+                        downstream.onCompletion();
+                        return;
+                    }
+                    if (!awaitingChunk && r != 0L) {
+                        awaitingChunk = true;
+                        upstream.get().request(1);
+                    }
+                    break;
+                }
+                if (emitted != 0L) {
+                    Subscriptions.produced(REQUESTED, this, emitted);
+                }
+                missed = WIP.addAndGet(this, -missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Gets the next line of the given chunk, and moves the position of the chunk after the line terminator.
+         *
+         * @param chunk the chunk
+         * @return the line, {@code null} if the chunk does not contain a line terminator, in which case its remaining
+         *         bytes are appended to {@link #pending}.
+         */
+        private ByteBuffer nextLine(ByteBuffer chunk) {
+            int start = chunk.position();
+            int limit = chunk.limit();
+            for (int i = start; i < limit; i++) {
+                if (chunk.get(i) == '\n') {
+                    ByteBuffer line;
+                    if (pending == null) {
+                        ByteBuffer view = chunk.duplicate();
+                        view.limit(i);
+                        line = view.slice();
+                    } else {
+                        append(chunk, i);
+                        line = pending;
+                        line.flip();
+                        pending = null;
+                    }
+                    chunk.position(i + 1);
+                    return trim(line);
+                }
+            }
+            if (start != limit) {
+                append(chunk, limit);
+            }
+            chunk.position(limit);
+            return null;
+        }
+
+        private void append(ByteBuffer chunk, int end) {
+            int length = end - chunk.position();
+            ByteBuffer buffer = pending;
+            if (buffer == null) {
+                buffer = ByteBuffer.allocate(Math.max(length, 16));
+            } else if (buffer.remaining() < length) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + length));
+                buffer.flip();
+                grown.put(buffer);
+                buffer = grown;
+            }
+            ByteBuffer view = chunk.duplicate();
+            view.limit(end);
+            buffer.put(view);
+            pending = buffer;
+        }
+
+        private static ByteBuffer trim(ByteBuffer line) {
+            int limit = line.limit();
+            if (limit > line.position() && line.get(limit - 1) == '\r') {
+                line.limit(limit - 1);
+            }
+            return line;
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package io.smallrye.mutiny.operators.multi;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 import org.reactivestreams.Subscription;
 
@@ -34,9 +34,13 @@ public final class MultiTakeOp<T> extends AbstractMultiOperator<T, T> {
 
     static final class TakeProcessor<T> extends MultiOperatorProcessor<T, T> {
 
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<TakeProcessor> WIP = AtomicIntegerFieldUpdater
+                .newUpdater(TakeProcessor.class, "wip");
+
         private final long numberOfItems;
         private long remaining;
-        private AtomicInteger wip = new AtomicInteger();
+        private volatile int wip;
 
         TakeProcessor(MultiSubscriber<? super T> downstream, long numberOfItems) {
             super(downstream);
@@ -87,7 +91,7 @@ public final class MultiTakeOp<T> extends AbstractMultiOperator<T, T> {
                 return;
             }
             Subscription actual = upstream.get();
-            if (wip.compareAndSet(0, 1)) {
+            if (WIP.compareAndSet(this, 0, 1)) {
                 if (n >= this.numberOfItems) {
                     actual.request(Long.MAX_VALUE);
                 } else {
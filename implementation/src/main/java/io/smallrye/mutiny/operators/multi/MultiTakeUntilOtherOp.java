@@ -6,6 +6,7 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
@@ -72,6 +73,11 @@ public final class MultiTakeUntilOtherOp<T, U> extends AbstractMultiOperator<T,
             once = true;
             main.onCompletion();
         }
+
+        @Override
+        public Context context() {
+            return main.context();
+        }
     }
 
     static final class TakeUntilMainProcessor<T> extends MultiOperatorProcessor<T, T> {
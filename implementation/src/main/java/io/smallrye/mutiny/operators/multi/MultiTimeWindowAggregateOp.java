@@ -0,0 +1,346 @@
+package io.smallrye.mutiny.operators.multi;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.TickSource;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.SerializedSubscriber;
+
+/**
+ * Aggregates the items from upstream received during windows of {@code duration}, a new window being started every
+ * {@code shift}, and emits the result of each window.
+ * <p>
+ * Each window folds the items into its own accumulator as they arrive. The accumulator is created by the
+ * {@link Collector} supplier when the window receives its first item.
+ * So, the memory used by a window depends on the collector, and not on the number of items (unless the collector
+ * accumulates the items, like {@link java.util.stream.Collectors#toList()}).
+ * <p>
+ * When {@code shift} is smaller than {@code duration}, the windows overlap and an item is accumulated in several
+ * windows. When {@code shift} is greater than {@code duration}, the items received between two windows are dropped.
+ * Windows without items are not emitted.
+ * <p>
+ * The windows are opened and closed on the ticks of a {@link TickSource} shared by all the subscriptions using the
+ * same executor, whose period is the greatest common divisor of {@code duration} and {@code shift} (in milliseconds).
+ *
+ * @param <T> the type of item from upstream
+ * @param <A> the type of the accumulator of each window
+ * @param <R> the type of the result of each window
+ */
+public final class MultiTimeWindowAggregateOp<T, A, R> extends AbstractMultiOperator<T, R> {
+
+    private final Duration duration;
+    private final Duration shift;
+    private final Collector<? super T, A, ? extends R> collector;
+    private final ScheduledExecutorService executor;
+
+    public MultiTimeWindowAggregateOp(Multi<T> upstream, Duration duration, Duration shift,
+            Collector<? super T, A, ? extends R> collector, ScheduledExecutorService executor) {
+        super(upstream);
+        this.duration = ParameterValidation.validate(duration, "duration");
+        this.shift = ParameterValidation.validate(shift, "shift");
+        this.collector = ParameterValidation.nonNull(collector, "collector");
+        this.executor = ParameterValidation.nonNull(executor, "executor");
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super R> downstream) {
+        long durationInMillis = Math.max(1, duration.toMillis());
+        long shiftInMillis = Math.max(1, shift.toMillis());
+        long tick = gcd(durationInMillis, shiftInMillis);
+        upstream.subscribe().withSubscriber(new TimeWindowProcessor<T, A, R>(new SerializedSubscriber<>(downstream),
+                Duration.ofMillis(tick), durationInMillis / tick, shiftInMillis / tick, collector, executor));
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    static final class TimeWindowProcessor<T, A, R> extends MultiOperatorProcessor<T, R> implements Runnable {
+
+        private static final Cancellable NO_TICKS = () -> {
+        };
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicLongFieldUpdater<TimeWindowProcessor> REQUESTED = AtomicLongFieldUpdater
+                .newUpdater(TimeWindowProcessor.class, "requested");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<TimeWindowProcessor, Cancellable> TICKS = AtomicReferenceFieldUpdater
+                .newUpdater(TimeWindowProcessor.class, Cancellable.class, "ticks");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<TimeWindowProcessor> WIP = AtomicIntegerFieldUpdater
+                .newUpdater(TimeWindowProcessor.class, "wip");
+
+        private final Duration tick;
+        private final long windowTicks;
+        private final long shiftTicks;
+        private final ScheduledExecutorService executor;
+        private final Supplier<A> supplier;
+        private final BiConsumer<A, ? super T> accumulator;
+        private final Function<A, ? extends R> finisher;
+
+        private volatile long requested;
+        private volatile Cancellable ticks;
+
+        /**
+         * The open windows, oldest first, guarded by {@code this}.
+         */
+        private final ArrayDeque<Window<A>> windows = new ArrayDeque<>();
+
+        /**
+         * The closed windows having received items and waiting to be emitted, oldest first, guarded by {@code this}.
+         */
+        private final ArrayDeque<Window<A>> closed = new ArrayDeque<>();
+
+        /**
+         * Whether the upstream has completed, the completion being propagated once the closed windows have been
+         * emitted, guarded by {@code this}.
+         */
+        private boolean completed;
+
+        /**
+         * Serializes the emissions, which happen outside of the lock so that the ticks never wait for the downstream.
+         */
+        private volatile int wip;
+
+        /**
+         * The number of ticks received so far, guarded by {@code this}.
+         */
+        private long tickCount;
+
+        TimeWindowProcessor(MultiSubscriber<? super R> downstream, Duration tick, long windowTicks,
+                long shiftTicks, Collector<? super T, A, ? extends R> collector, ScheduledExecutorService executor) {
+            super(downstream);
+            this.tick = tick;
+            this.windowTicks = windowTicks;
+            this.shiftTicks = shiftTicks;
+            this.executor = executor;
+            this.supplier = collector.supplier();
+            this.accumulator = collector.accumulator();
+            this.finisher = collector.finisher();
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (upstream.compareAndSet(null, subscription)) {
+                downstream.onSubscribe(this);
+                synchronized (this) {
+                    windows.add(new Window<>(windowTicks));
+                }
+                startTicks();
+                subscription.request(Long.MAX_VALUE);
+            } else {
+                subscription.cancel();
+            }
+        }
+
+        private void startTicks() {
+            Cancellable cancellable;
+            try {
+                cancellable = TickSource.register(executor, tick, this::onTick);
+            } catch (Throwable rejected) {
+                failAndCancel(rejected);
+                return;
+            }
+            if (!TICKS.compareAndSet(this, null, cancellable)) {
+                // Terminated or cancelled in the meantime
+                cancellable.cancel();
+            }
+        }
+
+        private void stopTicks() {
+            Cancellable cancellable = TICKS.getAndSet(this, NO_TICKS);
+            if (cancellable != null) {
+                cancellable.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(T item) {
+            synchronized (this) {
+                if (isDone()) {
+                    return;
+                }
+                try {
+                    for (Window<A> window : windows) {
+                        if (window.accumulator == null) {
+                            window.accumulator = supplier.get();
+                        }
+                        accumulator.accept(window.accumulator, item);
+                        window.count++;
+                    }
+                } catch (Throwable failure) {
+                    failAndCancel(failure);
+                }
+            }
+        }
+
+        /**
+         * Called on every tick: closes the windows reaching their end and opens a new one every {@code shiftTicks}.
+         * As the accumulators are only created when a window receives its first item, this does not invoke the
+         * collector. Ticks must not block, so the closed windows having received items are emitted from the executor.
+         */
+        private void onTick() {
+            synchronized (this) {
+                if (isDone()) {
+                    return;
+                }
+                long now = ++tickCount;
+                Window<A> window;
+                while ((window = windows.peek()) != null && window.end <= now) {
+                    windows.poll();
+                    if (window.count != 0) {
+                        closed.add(window);
+                    }
+                }
+                if (now % shiftTicks == 0) {
+                    windows.add(new Window<>(now + windowTicks));
+                }
+                if (closed.isEmpty()) {
+                    return;
+                }
+            }
+            executor.execute(this);
+        }
+
+        /**
+         * Emits the closed windows, on the executor.
+         */
+        @Override
+        public void run() {
+            drain();
+        }
+
+        private void drain() {
+            if (WIP.getAndIncrement(this) != 0) {
+                return;
+            }
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    Window<A> window;
+                    boolean done;
+                    synchronized (this) {
+                        if (isDone()) {
+                            return;
+                        }
+                        done = completed;
+                        window = closed.poll();
+                    }
+                    if (window == null) {
+                        if (done) {
+                            super.onCompletion();
+                            return;
+                        }
+                        break;
+                    }
+                    if (!emit(window)) {
+                        return;
+                    }
+                }
+                missed = WIP.addAndGet(this, -missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private boolean emit(Window<A> window) {
+            long r = requested;
+            if (r == 0L) {
+                stopTicks();
+                failAndCancel(new BackPressureFailure("Cannot emit item due to lack of requests"));
+                return false;
+            }
+            if (r != Long.MAX_VALUE) {
+                REQUESTED.decrementAndGet(this);
+            }
+            R result;
+            try {
+                result = finisher.apply(window.accumulator);
+            } catch (Throwable failure) {
+                failAndCancel(failure);
+                return false;
+            }
+            downstream.onItem(result);
+            return true;
+        }
+
+        @Override
+        public void onCompletion() {
+            stopTicks();
+            synchronized (this) {
+                if (isDone()) {
+                    return;
+                }
+                Window<A> window;
+                while ((window = windows.poll()) != null) {
+                    if (window.count != 0) {
+                        closed.add(window);
+                    }
+                }
+                completed = true;
+            }
+            drain();
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            stopTicks();
+            synchronized (this) {
+                windows.clear();
+                closed.clear();
+                super.onFailure(failure);
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n > 0) {
+                Subscriptions.add(REQUESTED, this, n);
+            } else {
+                failAndCancel(Subscriptions.getInvalidRequestException());
+            }
+        }
+
+        @Override
+        public void cancel() {
+            stopTicks();
+            super.cancel();
+            synchronized (this) {
+                windows.clear();
+                closed.clear();
+            }
+        }
+    }
+
+    private static final class Window<A> {
+        private final long end;
+        private A accumulator;
+        private long count;
+
+        private Window(long end) {
+            this.end = end;
+        }
+    }
+}
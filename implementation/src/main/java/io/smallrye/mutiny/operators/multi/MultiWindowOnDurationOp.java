@@ -5,10 +5,8 @@ import static io.smallrye.mutiny.helpers.Subscriptions.CANCELLED;
 
 import java.time.Duration;
 import java.util.Queue;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -18,11 +16,21 @@ import org.reactivestreams.Subscription;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.TickSource;
 import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.Cancellable;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
 
+/**
+ * Splits the items from upstream into windows of the given duration.
+ * <p>
+ * The windows are delimited by the ticks of a {@link TickSource} shared by all the subscriptions using the same
+ * executor and duration, so the first window of a subscription may be shorter than the duration.
+ *
+ * @param <T> the type of item from upstream
+ */
 public class MultiWindowOnDurationOp<T> extends AbstractMultiOperator<T, Multi<T>> {
 
     private final Duration duration;
@@ -92,11 +100,9 @@ public class MultiWindowOnDurationOp<T> extends AbstractMultiOperator<T, Multi<T
             }
         }
 
-        Future<?> newPeriod() {
+        Cancellable newPeriod() {
             try {
-                return scheduler
-                        .scheduleAtFixedRate(new Tick(this), duration.toMillis(), duration.toMillis(),
-                                TimeUnit.MILLISECONDS);
+                return TickSource.register(scheduler, duration, new Tick(this));
             } catch (Throwable e) {
                 downstream.onFailure(e);
                 return TaskHolder.NONE;
@@ -252,23 +258,29 @@ public class MultiWindowOnDurationOp<T> extends AbstractMultiOperator<T, Multi<T
                     p.timer.cancel();
                 }
                 if (p.canStartWork()) {
-                    p.drainLoop();
+                    // Ticks must not block, so the drain loop, emitting downstream, is submitted to the scheduler.
+                    try {
+                        p.scheduler.execute(p::drainLoop);
+                    } catch (RejectedExecutionException rejected) {
+                        p.drainLoop();
+                    }
                 }
             }
         }
     }
 
     private static class TaskHolder {
-        private AtomicReference<Future<?>> container = new AtomicReference<>();
+        private final AtomicReference<Cancellable> container = new AtomicReference<>();
 
-        static final Future<?> NONE = new CompletableFuture<>();
+        static final Cancellable NONE = () -> {
+        };
 
-        boolean replace(Future<?> task) {
+        boolean replace(Cancellable task) {
             for (;;) {
-                Future current = container.get();
+                Cancellable current = container.get();
                 if (current == NONE) {
                     if (task != null) {
-                        task.cancel(true);
+                        task.cancel();
                     }
                     return false;
                 }
@@ -279,9 +291,9 @@ public class MultiWindowOnDurationOp<T> extends AbstractMultiOperator<T, Multi<T
         }
 
         void cancel() {
-            Future task = container.getAndSet(NONE);
+            Cancellable task = container.getAndSet(NONE);
             if (task != null && task != NONE) {
-                task.cancel(false);
+                task.cancel();
             }
         }
     }
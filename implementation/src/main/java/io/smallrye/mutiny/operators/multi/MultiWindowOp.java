@@ -161,7 +161,7 @@ public class MultiWindowOp<T> extends AbstractMultiOperator<T, Multi<T>> {
 
         @Override
         public void cancel() {
-            if (hasDownstreamCancelled.compareAndSet(false, true)) {
+            if (markDownstreamCancelled()) {
                 if (count.decrementAndGet() == 0) {
                     upstream.get().cancel();
                 }
@@ -275,7 +275,7 @@ public class MultiWindowOp<T> extends AbstractMultiOperator<T, Multi<T>> {
 
         @Override
         public void cancel() {
-            if (hasDownstreamCancelled.compareAndSet(false, true)) {
+            if (markDownstreamCancelled()) {
                 if (count.decrementAndGet() == 0) {
                     upstream.get().cancel();
                 }
@@ -466,7 +466,7 @@ public class MultiWindowOp<T> extends AbstractMultiOperator<T, Multi<T>> {
 
         @Override
         public void cancel() {
-            if (hasDownstreamCancelled.compareAndSet(false, true)) {
+            if (markDownstreamCancelled()) {
                 run();
             }
         }
@@ -0,0 +1,45 @@
+package io.smallrye.mutiny.operators.multi;
+
+import java.util.function.BiFunction;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Builds the downstream pipeline when a subscriber subscribes, giving access to the subscriber {@link Context}.
+ *
+ * @param <I> the upstream value type / input type
+ * @param <O> the output value type / produced type
+ */
+public final class MultiWithContext<I, O> extends AbstractMultiOperator<I, O> {
+
+    private final Multi<I> source;
+    private final BiFunction<Multi<I>, Context, ? extends Multi<? extends O>> builder;
+
+    public MultiWithContext(Multi<I> upstream, BiFunction<Multi<I>, Context, ? extends Multi<? extends O>> builder) {
+        super(upstream);
+        this.source = upstream;
+        this.builder = ParameterValidation.nonNull(builder, "builder");
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super O> downstream) {
+        if (downstream == null) {
+            throw new NullPointerException("Subscriber is `null`");
+        }
+        Multi<? extends O> multi;
+        try {
+            multi = builder.apply(source, downstream.context());
+            if (multi == null) {
+                throw new NullPointerException(ParameterValidation.MAPPER_RETURNED_NULL);
+            }
+        } catch (Throwable failure) {
+            Subscriptions.fail(downstream, failure);
+            return;
+        }
+        multi.subscribe().withSubscriber(downstream);
+    }
+}
@@ -12,6 +12,7 @@ import java.util.function.Function;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
@@ -303,6 +304,11 @@ public final class MultiZipOp<O> extends AbstractMulti<O> {
             Subscriptions.cancel(upstream);
         }
 
+        @Override
+        public Context context() {
+            return parent.downstream.context();
+        }
+
         @Override
         public void request(long n) {
             long p = produced + n;
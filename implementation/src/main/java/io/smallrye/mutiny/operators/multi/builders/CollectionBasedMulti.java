@@ -5,8 +5,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 import org.reactivestreams.Subscription;
 
@@ -44,12 +43,16 @@ public class CollectionBasedMulti<T> extends AbstractMulti<T> {
 
     public static final class CollectionSubscription<T> implements Subscription {
 
+        @SuppressWarnings("rawtypes")
+        private static final AtomicLongFieldUpdater<CollectionSubscription> REQUESTED = AtomicLongFieldUpdater
+                .newUpdater(CollectionSubscription.class, "requested");
+
         private final MultiSubscriber<? super T> downstream;
         private final List<T> collection; // Immutable
         private int index;
 
-        AtomicBoolean cancelled = new AtomicBoolean();
-        AtomicLong requested = new AtomicLong();
+        volatile boolean cancelled;
+        volatile long requested;
 
         public CollectionSubscription(MultiSubscriber<? super T> downstream, Collection<T> collection) {
             this.downstream = downstream;
@@ -59,7 +62,7 @@ public class CollectionBasedMulti<T> extends AbstractMulti<T> {
         @Override
         public void request(long n) {
             if (n > 0) {
-                if (Subscriptions.add(requested, n) == 0) {
+                if (Subscriptions.add(REQUESTED, this, n) == 0) {
                     if (n == Long.MAX_VALUE) {
                         produceWithoutBackPressure();
                     } else {
@@ -79,14 +82,14 @@ public class CollectionBasedMulti<T> extends AbstractMulti<T> {
             int emitted = 0;
 
             for (;;) {
-                if (cancelled.get()) {
+                if (cancelled) {
                     return;
                 }
 
                 while (current != size && emitted != n) {
                     downstream.onItem(items.get(current));
 
-                    if (cancelled.get()) {
+                    if (cancelled) {
                         return;
                     }
 
@@ -99,11 +102,11 @@ public class CollectionBasedMulti<T> extends AbstractMulti<T> {
                     return;
                 }
 
-                n = requested.get();
+                n = requested;
 
                 if (n == emitted) {
                     index = current;
-                    n = requested.addAndGet(-emitted);
+                    n = REQUESTED.addAndGet(this, -emitted);
                     if (n == 0) {
                         return;
                     }
@@ -114,13 +117,13 @@ public class CollectionBasedMulti<T> extends AbstractMulti<T> {
 
         void produceWithoutBackPressure() {
             for (T item : collection) {
-                if (cancelled.get()) {
+                if (cancelled) {
                     return;
                 }
                 downstream.onItem(item);
             }
 
-            if (cancelled.get()) {
+            if (cancelled) {
                 return;
             }
             downstream.onCompletion();
@@ -128,7 +131,7 @@ public class CollectionBasedMulti<T> extends AbstractMulti<T> {
 
         @Override
         public void cancel() {
-            cancelled.set(true);
+            cancelled = true;
         }
     }
 
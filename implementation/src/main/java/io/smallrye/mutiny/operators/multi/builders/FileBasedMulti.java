@@ -0,0 +1,156 @@
+package io.smallrye.mutiny.operators.multi.builders;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Reads a file using an {@link AsynchronousFileChannel} and emits its content as chunks of bytes.
+ * <p>
+ * Each subscriber opens its own channel. A read is only issued when the downstream has requested an item, and at most
+ * one read is in flight at a given time, so the thread subscribing is never blocked by the file system. Each chunk is
+ * a new read-only {@link ByteBuffer}, ready to be read, containing at most {@code chunkSize} bytes. The channel is
+ * closed on completion, failure and cancellation.
+ */
+public class FileBasedMulti extends AbstractMulti<ByteBuffer> {
+
+    private final Path path;
+    private final int chunkSize;
+
+    public FileBasedMulti(Path path, int chunkSize) {
+        this.path = ParameterValidation.nonNull(path, "path");
+        this.chunkSize = ParameterValidation.positive(chunkSize, "chunkSize");
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super ByteBuffer> downstream) {
+        ParameterValidation.nonNullNpe(downstream, "subscriber");
+
+        AsynchronousFileChannel channel;
+        try {
+            channel = AsynchronousFileChannel.open(path, StandardOpenOption.READ);
+        } catch (Throwable e) {
+            Subscriptions.fail(downstream, e);
+            return;
+        }
+
+        downstream.onSubscribe(new FileSubscription(downstream, channel, chunkSize));
+    }
+
+    private static class FileSubscription implements Subscription, CompletionHandler<Integer, ByteBuffer> {
+
+        private final MultiSubscriber<? super ByteBuffer> downstream;
+        private final AsynchronousFileChannel channel;
+        private final int chunkSize;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /**
+         * The position of the next read. Only accessed by the drain loop and the completion handler, which are
+         * serialized as there is a single read in flight.
+         */
+        private long position;
+
+        private volatile boolean reading;
+        private volatile boolean cancelled;
+
+        FileSubscription(MultiSubscriber<? super ByteBuffer> downstream, AsynchronousFileChannel channel,
+                int chunkSize) {
+            this.downstream = downstream;
+            this.channel = channel;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n > 0) {
+                Subscriptions.add(requested, n);
+                drain();
+            } else {
+                cancel();
+                downstream.onFailure(Subscriptions.getInvalidRequestException());
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                // Closing the channel aborts the pending read, if any.
+                closeQuietly();
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            for (;;) {
+                if (!cancelled && !reading && requested.get() != 0L) {
+                    reading = true;
+                    ByteBuffer buffer = ByteBuffer.allocate(chunkSize);
+                    try {
+                        channel.read(buffer, position, buffer, this);
+                    } catch (Throwable e) {
+                        failed(e, buffer);
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void completed(Integer read, ByteBuffer buffer) {
+            if (cancelled) {
+                return;
+            }
+            if (read < 0) {
+                cancelled = true;
+                closeQuietly();
+                downstream.onCompletion();
+                return;
+            }
+            position += read;
+            buffer.flip();
+            downstream.onItem(buffer.asReadOnlyBuffer());
+            Subscriptions.produced(requested, 1);
+            // Only allow the next read once the item has been emitted, so the emissions are serialized.
+            reading = false;
+            drain();
+        }
+
+        @Override
+        public void failed(Throwable failure, ByteBuffer buffer) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            closeQuietly();
+            downstream.onFailure(failure);
+        }
+
+        private void closeQuietly() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // ignore the exception
+            }
+        }
+    }
+}
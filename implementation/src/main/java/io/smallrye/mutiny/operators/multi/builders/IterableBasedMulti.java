@@ -1,7 +1,7 @@
 package io.smallrye.mutiny.operators.multi.builders;
 
 import java.util.Iterator;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 import org.reactivestreams.Subscription;
 
@@ -49,11 +49,16 @@ public class IterableBasedMulti<T> extends AbstractMulti<T> {
     }
 
     abstract static class BaseRangeSubscription<T> implements Subscription {
+
+        @SuppressWarnings("rawtypes")
+        protected static final AtomicLongFieldUpdater<BaseRangeSubscription> REQUESTED = AtomicLongFieldUpdater
+                .newUpdater(BaseRangeSubscription.class, "requested");
+
         protected final Iterator<? extends T> iterator;
         protected final MultiSubscriber<? super T> downstream;
         protected volatile boolean cancelled;
         protected boolean once;
-        protected final AtomicLong requested = new AtomicLong();
+        protected volatile long requested;
 
         BaseRangeSubscription(MultiSubscriber<? super T> downstream, Iterator<? extends T> iterator) {
             this.downstream = downstream;
@@ -63,7 +68,7 @@ public class IterableBasedMulti<T> extends AbstractMulti<T> {
         @Override
         public final void request(long n) {
             if (n > 0) {
-                if (Subscriptions.add(requested, n) == 0L) {
+                if (Subscriptions.add(REQUESTED, this, n) == 0L) {
                     if (n == Long.MAX_VALUE) {
                         fastPath();
                     } else {
@@ -194,9 +199,9 @@ public class IterableBasedMulti<T> extends AbstractMulti<T> {
                     e++;
                 }
 
-                r = requested.get();
+                r = requested;
                 if (e == r) {
-                    r = requested.addAndGet(-e);
+                    r = REQUESTED.addAndGet(this, -e);
                     if (r == 0L) {
                         return;
                     }
@@ -9,6 +9,7 @@ import java.util.function.Supplier;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.ParameterValidation;
@@ -114,6 +115,11 @@ public class ResourceMulti<R, I> extends AbstractMulti<I> {
             downstream.onNext(item);
         }
 
+        @Override
+        public Context context() {
+            return downstream.context();
+        }
+
         @Override
         public void onFailure(Throwable failure) {
             Throwable innerError = null;
@@ -8,6 +8,7 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.subscription.MultiEmitter;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
@@ -35,6 +36,11 @@ public class SerializedMultiEmitter<T> implements MultiEmitter<T>, MultiSubscrib
         // do nothing.
     }
 
+    @Override
+    public Context context() {
+        return downstream.downstream.context();
+    }
+
     @Override
     public void onItem(T item) {
         if (downstream.isCancelled() || done) {
@@ -1,7 +1,7 @@
 package io.smallrye.mutiny.operators.multi.builders;
 
 import java.util.Iterator;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -69,9 +69,13 @@ public class StreamBasedMulti<T> extends AbstractMulti<T> {
 
     private static class StreamSubscription<T> implements Subscription {
 
+        @SuppressWarnings("rawtypes")
+        private static final AtomicLongFieldUpdater<StreamSubscription> REQUESTED = AtomicLongFieldUpdater
+                .newUpdater(StreamSubscription.class, "requested");
+
         private final Iterator<? extends T> iterator;
         private final AutoCloseable closeable;
-        private final AtomicLong requested = new AtomicLong();
+        private volatile long requested;
         private final MultiSubscriber<T> downstream;
         volatile boolean cancelled;
 
@@ -84,7 +88,7 @@ public class StreamBasedMulti<T> extends AbstractMulti<T> {
         @Override
         public void request(long n) {
             if (n > 0) {
-                if (Subscriptions.add(requested, n) == 0L) {
+                if (Subscriptions.add(REQUESTED, this, n) == 0L) {
                     pull(n);
                 }
             } else {
@@ -122,12 +126,12 @@ public class StreamBasedMulti<T> extends AbstractMulti<T> {
                     }
                 }
 
-                n = requested.get();
+                n = requested;
                 if (emitted == n) {
-                    if (requested.compareAndSet(n, 0L)) {
+                    if (REQUESTED.compareAndSet(this, n, 0L)) {
                         break;
                     }
-                    n = requested.get();
+                    n = requested;
                 }
             }
         }
@@ -10,7 +10,9 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
@@ -31,6 +33,11 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
      */
     private static final long CANCELLED = Long.MIN_VALUE;
 
+    /**
+     * The default size of the prefetch buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 128;
+
     /**
      * Holds the current subscriber that is, will be or just was subscribed to the source observable.
      */
@@ -41,20 +48,50 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
      */
     private final int bufferSize;
 
+    /**
+     * The number of items to consume before requesting more items from the source.
+     */
+    private final int replenishThreshold;
+
     private final Publisher<T> onSubscribe;
 
     public static <T> ConnectableMulti<T> create(Multi<T> upstream) {
+        return create(upstream, DEFAULT_BUFFER_SIZE, 1);
+    }
+
+    /**
+     * Creates a new {@link ConnectableMulti} prefetching {@code bufferSize} items from the source, and requesting
+     * more items once {@code replenishThreshold} items have been dispatched to the subscribers.
+     * <p>
+     * A large buffer with a large threshold reduces the number of requests sent to the source when a few fast
+     * subscribers consume a high-rate stream. A small buffer reduces the memory used when there are many slow
+     * subscribers.
+     *
+     * @param upstream the source
+     * @param bufferSize the size of the prefetch buffer, must be strictly positive
+     * @param replenishThreshold the number of dispatched items triggering a new request, must be in
+     *        {@code [1, bufferSize]}
+     * @param <T> the type of item
+     * @return the new {@link ConnectableMulti}
+     */
+    public static <T> ConnectableMulti<T> create(Multi<T> upstream, int bufferSize, int replenishThreshold) {
+        ParameterValidation.positive(bufferSize, "bufferSize");
+        ParameterValidation.positive(replenishThreshold, "replenishThreshold");
+        if (replenishThreshold > bufferSize) {
+            throw new IllegalArgumentException("`replenishThreshold` must be less than or equal to `bufferSize`");
+        }
         final AtomicReference<PublishSubscriber<T>> curr = new AtomicReference<>();
-        Publisher<T> onSubscribe = new InnerPublisher<>(curr, 128);
-        return new MultiPublishOp<>(onSubscribe, upstream, curr, 128);
+        Publisher<T> onSubscribe = new InnerPublisher<>(curr, bufferSize, replenishThreshold);
+        return new MultiPublishOp<>(onSubscribe, upstream, curr, bufferSize, replenishThreshold);
     }
 
     private MultiPublishOp(Publisher<T> onSubscribe, Multi<T> upstream,
-            final AtomicReference<PublishSubscriber<T>> current, int bufferSize) {
+            final AtomicReference<PublishSubscriber<T>> current, int bufferSize, int replenishThreshold) {
         super(upstream);
         this.onSubscribe = onSubscribe;
         this.current = current;
         this.bufferSize = bufferSize;
+        this.replenishThreshold = replenishThreshold;
     }
 
     @Override
@@ -73,7 +110,7 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
             // if there is none yet or the current has been disposed
             if (ps == null || ps.cancelled.get()) {
                 // create a new subscriber-to-source
-                PublishSubscriber<T> u = new PublishSubscriber<T>(current, bufferSize);
+                PublishSubscriber<T> u = new PublishSubscriber<T>(current, bufferSize, replenishThreshold);
                 // try setting it as the current subscriber-to-source
                 if (!current.compareAndSet(ps, u)) {
                     // did not work, perhaps a new subscriber arrived
@@ -117,6 +154,10 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
          * The prefetch buffer size.
          */
         final int bufferSize;
+        /**
+         * The number of items to consume before requesting more items.
+         */
+        final int replenishThreshold;
 
         /**
          * Tracks the subscribed InnerSubscribers.
@@ -143,16 +184,32 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
 
         private final AtomicInteger wip = new AtomicInteger();
 
+        /**
+         * The connection is shared by all the subscribers, so it does not forward any of their contexts.
+         */
+        private final Context context = Context.empty();
+
+        /**
+         * The number of items consumed from the queue and not requested again yet, only accessed from the drain loop.
+         */
+        private int consumed;
+
         @SuppressWarnings("unchecked")
         PublishSubscriber(AtomicReference<PublishSubscriber<T>> current,
-                int bufferSize) {
+                int bufferSize, int replenishThreshold) {
             this.subscribers = new AtomicReference<>(EMPTY);
             this.current = current;
             this.shouldConnect = new AtomicBoolean();
             this.bufferSize = bufferSize;
+            this.replenishThreshold = replenishThreshold;
             this.queue = (Queue<T>) Queues.get(bufferSize).get();
         }
 
+        @Override
+        public Context context() {
+            return context;
+        }
+
         @Override
         public void cancel() {
             cancelled.set(true);
@@ -280,6 +337,22 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
             }
         }
 
+        /**
+         * Records that {@code n} items have been consumed from the queue, and requests them again from the source
+         * once the replenish threshold is reached.
+         *
+         * @param n the number of consumed items
+         */
+        private void replenish(int n) {
+            int c = consumed + n;
+            if (c >= replenishThreshold) {
+                consumed = 0;
+                upstream.get().request(c);
+            } else {
+                consumed = c;
+            }
+        }
+
         /**
          * Perform termination actions in case the source has terminated in some way and
          * the queue has also become empty.
@@ -427,7 +500,7 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
                             return;
                         }
                         // otherwise, just ask for a new value
-                        upstream.get().request(1);
+                        replenish(1);
                         // and retry emitting to potential new child subscribers
                         continue;
                     }
@@ -488,7 +561,7 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
 
                             // if we did emit at least one element, request more to replenish the queue
                             if (d != 0) {
-                                upstream.get().request(d);
+                                replenish(d);
                             }
 
                             continue outer;
@@ -497,7 +570,7 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
 
                     // if we did emit at least one element, request more to replenish the queue
                     if (d != 0) {
-                        upstream.get().request(d);
+                        replenish(d);
                     }
                     // if we have requests but not an empty queue after emission
                     // let's try again to see if more requests/child subscribers are
@@ -589,10 +662,12 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
     static final class InnerPublisher<T> implements Publisher<T> {
         private final AtomicReference<PublishSubscriber<T>> curr;
         private final int bufferSize;
+        private final int replenishThreshold;
 
-        InnerPublisher(AtomicReference<PublishSubscriber<T>> curr, int bufferSize) {
+        InnerPublisher(AtomicReference<PublishSubscriber<T>> curr, int bufferSize, int replenishThreshold) {
             this.curr = curr;
             this.bufferSize = bufferSize;
+            this.replenishThreshold = replenishThreshold;
         }
 
         @Override
@@ -607,7 +682,7 @@ public final class MultiPublishOp<T> extends ConnectableMulti<T> {
                 // if there isn't one or it is cancelled/disposed
                 if (r == null || r.cancelled.get()) {
                     // create a new subscriber to source
-                    PublishSubscriber<T> u = new PublishSubscriber<>(curr, bufferSize);
+                    PublishSubscriber<T> u = new PublishSubscriber<>(curr, bufferSize, replenishThreshold);
                     // let's try setting it as the current subscriber-to-source
                     if (!curr.compareAndSet(r, u)) {
                         // didn't work, maybe someone else did it or the current subscriber
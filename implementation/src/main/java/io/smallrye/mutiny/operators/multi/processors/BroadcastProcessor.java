@@ -2,7 +2,12 @@ package io.smallrye.mutiny.operators.multi.processors;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -14,6 +19,7 @@ import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.BackPressureStrategy;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
 
 /**
@@ -36,6 +42,11 @@ import io.smallrye.mutiny.subscription.MultiSubscriber;
  * not required if the processor is used as a <em>standalone</em> source. However, calling {@code onSubscribe} after
  * the {@code BroadcastProcessor} has failed or reached completion results in the given {@link Subscription} being
  * canceled immediately.
+ * <p>
+ * By default, items are dispatched synchronously to every subscriber, so a slow subscriber slows down the other
+ * subscribers and the upstream. A processor created with {@link #create(int, BackPressureStrategy, Executor)} isolates
+ * the subscribers instead: each subscriber gets its own bounded buffer drained on the given executor, and a subscriber
+ * that cannot keep up only loses its own items (or its own subscription), according to the chosen strategy.
  */
 public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor<T, T> {
 
@@ -54,6 +65,22 @@ public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor
      */
     Throwable failure;
 
+    /**
+     * The size of the per-subscriber buffer, 0 when items are dispatched synchronously.
+     */
+    private final int bufferSize;
+
+    /**
+     * The strategy applied when the buffer of a subscriber is full, {@code null} when items are dispatched
+     * synchronously.
+     */
+    private final BackPressureStrategy strategy;
+
+    /**
+     * The executor draining the buffers of the subscribers, {@code null} when items are dispatched synchronously.
+     */
+    private final Executor executor;
+
     /**
      * Creates a new {@code BroadcastProcessor}
      *
@@ -61,14 +88,48 @@ public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor
      * @return the new {@code BroadcastProcessor}
      */
     public static <T> BroadcastProcessor<T> create() {
-        return new BroadcastProcessor<>();
+        return new BroadcastProcessor<>(0, null, null);
+    }
+
+    /**
+     * Creates a new {@code BroadcastProcessor} isolating its subscribers from each other.
+     * <p>
+     * Each subscriber gets its own buffer of {@code bufferSize} items, drained on the given {@code executor} according
+     * to the subscriber requests. {@link #onNext(Object)} only enqueues the item, and never blocks on a subscriber.
+     * When the buffer of a subscriber is full, the {@code strategy} decides what happens, for this subscriber only:
+     * <ul>
+     * <li>{@link BackPressureStrategy#DROP}: the new item is dropped;</li>
+     * <li>{@link BackPressureStrategy#LATEST}: the oldest buffered item is dropped to make room for the new one;</li>
+     * <li>{@link BackPressureStrategy#ERROR}: the subscriber is disconnected and receives a
+     * {@link BackPressureFailure}.</li>
+     * </ul>
+     *
+     * @param bufferSize the size of the buffer of each subscriber, must be strictly positive
+     * @param strategy the strategy applied when a buffer is full, must be {@code DROP}, {@code LATEST} or
+     *        {@code ERROR}
+     * @param executor the executor used to dispatch the items to the subscribers, must not be {@code null}
+     * @param <T> the type of item
+     * @return the new {@code BroadcastProcessor}
+     */
+    public static <T> BroadcastProcessor<T> create(int bufferSize, BackPressureStrategy strategy, Executor executor) {
+        ParameterValidation.positive(bufferSize, "bufferSize");
+        ParameterValidation.nonNull(strategy, "strategy");
+        ParameterValidation.nonNull(executor, "executor");
+        if (strategy != BackPressureStrategy.DROP && strategy != BackPressureStrategy.LATEST
+                && strategy != BackPressureStrategy.ERROR) {
+            throw new IllegalArgumentException("The strategy must be DROP, LATEST or ERROR, but was " + strategy);
+        }
+        return new BroadcastProcessor<>(bufferSize, strategy, executor);
     }
 
     /**
      * Constructs a BroadcastProcessor.
      */
-    private BroadcastProcessor() {
-        subscribers = new AtomicReference<>(new CopyOnWriteArrayList<>());
+    private BroadcastProcessor(int bufferSize, BackPressureStrategy strategy, Executor executor) {
+        this.subscribers = new AtomicReference<>(new CopyOnWriteArrayList<>());
+        this.bufferSize = bufferSize;
+        this.strategy = strategy;
+        this.executor = executor;
     }
 
     public SerializedProcessor<T, T> serialized() {
@@ -105,7 +166,12 @@ public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor
 
     @Override
     public void subscribe(MultiSubscriber<? super T> downstream) {
-        BroadcastSubscription<T> subscription = new BroadcastSubscription<>(downstream, this);
+        BroadcastSubscription<T> subscription;
+        if (executor == null) {
+            subscription = new BroadcastSubscription<>(downstream, this);
+        } else {
+            subscription = new QueuedBroadcastSubscription<>(downstream, this, bufferSize, strategy, executor);
+        }
         downstream.onSubscribe(subscription);
         if (addSubscription(subscription)) {
             // if cancellation happened while a successful add, the remove() didn't work so we need to do it again
@@ -171,23 +237,23 @@ public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor
      *
      * @param <T> the type of item
      */
-    static final class BroadcastSubscription<T> implements Subscription {
+    static class BroadcastSubscription<T> implements Subscription {
 
         /**
          * The actual subscriber.
          **/
-        private final Subscriber<? super T> downstream;
+        final Subscriber<? super T> downstream;
 
         /**
          * The parent processor using this subscriber.
          */
-        private final BroadcastProcessor<T> parent;
+        final BroadcastProcessor<T> parent;
 
         /**
          * Pending requests.
          * {@code Long.MIN_VALUE} indicates cancellation.
          */
-        private final AtomicLong requests = new AtomicLong();
+        final AtomicLong requests = new AtomicLong();
 
         /**
          * Constructs a BroadcastSubscription, wraps the actual subscriber and the state.
@@ -244,4 +310,165 @@ public class BroadcastProcessor<T> extends AbstractMulti<T> implements Processor
             return requests.get() == Long.MIN_VALUE;
         }
     }
+
+    /**
+     * A subscription buffering the items in a bounded queue, and dispatching them to the actual subscriber on an
+     * executor. The requests are not decremented, the number of emitted items is tracked by the drain loop instead.
+     *
+     * @param <T> the type of item
+     */
+    static final class QueuedBroadcastSubscription<T> extends BroadcastSubscription<T> implements Runnable {
+
+        private final Queue<T> queue;
+        private final int bufferSize;
+        private final BackPressureStrategy strategy;
+        private final Executor executor;
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /**
+         * The failure, written before setting {@link #done}.
+         */
+        private Throwable error;
+        private volatile boolean done;
+
+        /**
+         * Whether the subscriber is disconnected because it could not keep up, the buffered items are discarded.
+         */
+        private volatile boolean disconnected;
+
+        /**
+         * The number of emitted items, only accessed from the drain loop.
+         */
+        private long emitted;
+
+        QueuedBroadcastSubscription(Subscriber<? super T> actual, BroadcastProcessor<T> parent, int bufferSize,
+                BackPressureStrategy strategy, Executor executor) {
+            super(actual, parent);
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+            this.bufferSize = bufferSize;
+            this.strategy = strategy;
+            this.executor = executor;
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done || isCancelled()) {
+                return;
+            }
+            if (!queue.offer(t)) {
+                if (strategy == BackPressureStrategy.DROP) {
+                    return;
+                } else if (strategy == BackPressureStrategy.LATEST) {
+                    // Only the drain loop polls concurrently, so the offer eventually succeeds.
+                    do {
+                        queue.poll();
+                    } while (!queue.offer(t));
+                } else {
+                    error = new BackPressureFailure(
+                            "The subscriber could not keep up, " + bufferSize + " items are already buffered");
+                    disconnected = true;
+                    done = true;
+                    parent.remove(this);
+                }
+            }
+            schedule();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (!done) {
+                error = t;
+                done = true;
+                schedule();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                schedule();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            super.request(n);
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException rejected) {
+                if (requests.getAndSet(Long.MIN_VALUE) != Long.MIN_VALUE) {
+                    parent.remove(this);
+                    queue.clear();
+                    downstream.onError(rejected);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            long e = emitted;
+            for (;;) {
+                long r = requests.get();
+                while (e != r) {
+                    boolean d = done;
+                    T item = queue.poll();
+                    boolean empty = item == null;
+                    if (isTerminated(d, empty)) {
+                        return;
+                    }
+                    if (empty) {
+                        break;
+                    }
+                    downstream.onNext(item);
+                    e++;
+                }
+                if (e == r && isTerminated(done, queue.isEmpty())) {
+                    return;
+                }
+                emitted = e;
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Checks whether the subscription is cancelled or must be terminated. In this case, the drain loop must stop,
+         * and leaves {@link #wip} non-zero to prevent any further drain.
+         */
+        private boolean isTerminated(boolean d, boolean empty) {
+            if (isCancelled()) {
+                queue.clear();
+                return true;
+            }
+            if (disconnected || (d && empty)) {
+                requests.set(Long.MIN_VALUE);
+                queue.clear();
+                Throwable failure = error;
+                if (failure != null) {
+                    downstream.onError(failure);
+                } else {
+                    downstream.onComplete();
+                }
+                return true;
+            }
+            return false;
+        }
+    }
 }
@@ -0,0 +1,453 @@
+package io.smallrye.mutiny.operators.multi.processors;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.reactivestreams.Processor;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.queues.SpscArrayQueue;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Implementation of {@link org.reactivestreams.Processor} broadcasting the observed items to its current
+ * {@link Subscriber}s using a single pre-allocated ring buffer.
+ * <p>
+ * The items are written once in the ring buffer, and each subscriber tracks its own read sequence (its
+ * <em>cursor</em>) in this buffer. There is no per-subscriber queue, and dispatching an item to a subscriber only moves
+ * its cursor.
+ * <p>
+ * Two modes are available:
+ * <ul>
+ * <li>{@link #create(int)}: the back-pressure is driven by the slowest subscriber. The processor requests items from
+ * its upstream as the slowest cursor moves forward, so the producer never overwrites an item that has not been
+ * dispatched to every subscriber. When used as a standalone source, calling {@link #onNext(Object)} while the ring
+ * buffer is full terminates the subscribers lagging behind with a {@link BackPressureFailure}.</li>
+ * <li>{@link #createWithLapping(int)}: the producer is never slowed down. Subscribers that are lapped by the producer
+ * skip the overwritten items and resume from the oldest item still available.</li>
+ * </ul>
+ * <p>
+ * New subscribers only receive the items emitted after their subscription. When this processor is terminated, late
+ * subscribers only receive the terminal event. The items are dispatched on the thread calling {@link #onNext(Object)}
+ * or requesting items, use {@link io.smallrye.mutiny.Multi#emitOn(java.util.concurrent.Executor)} to dispatch them
+ * on another thread.
+ * <p>
+ * Like {@link BroadcastProcessor}, the {@link #onNext(Object)}, {@link #onError(Throwable)} and {@link #onComplete()}
+ * methods must not be called concurrently, use {@link #serialized()} otherwise.
+ *
+ * @param <T> the type of item
+ */
+public class RingBufferProcessor<T> extends AbstractMulti<T> implements Processor<T, T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final RingSubscription[] EMPTY = new RingSubscription[0];
+    @SuppressWarnings("rawtypes")
+    private static final RingSubscription[] TERMINATED = new RingSubscription[0];
+
+    private final AtomicReferenceArray<T> ring;
+    private final int capacity;
+    private final int mask;
+    private final boolean lapping;
+
+    /**
+     * The number of items a subscriber must consume before recomputing the upstream requests.
+     */
+    private final int replenishBatch;
+
+    /**
+     * The number of items written in the ring buffer, i.e. the sequence of the next item to write.
+     * Only written by the producer, the item is written in the ring buffer before publishing the new sequence.
+     */
+    private final AtomicLong published = new AtomicLong();
+
+    private final AtomicReference<RingSubscription<T>[]> subscribers;
+
+    private final AtomicReference<Subscription> upstream = new AtomicReference<>();
+
+    /**
+     * The total number of items requested from the upstream.
+     */
+    private final AtomicLong requestedFromUpstream = new AtomicLong();
+
+    /**
+     * A lower bound of the slowest cursor, only accessed by the producer to avoid reading every cursor on each item.
+     */
+    private long cachedSlowest;
+
+    /**
+     * The failure, written before {@link #done}.
+     */
+    private Throwable failure;
+    private volatile boolean done;
+
+    /**
+     * Creates a new {@code RingBufferProcessor} whose back-pressure is driven by the slowest subscriber.
+     *
+     * @param capacity the capacity of the ring buffer, must be strictly positive, rounded to the next power of two
+     * @param <T> the type of item
+     * @return the new {@code RingBufferProcessor}
+     */
+    public static <T> RingBufferProcessor<T> create(int capacity) {
+        return new RingBufferProcessor<>(capacity, false);
+    }
+
+    /**
+     * Creates a new {@code RingBufferProcessor} never slowing down the producer. The subscribers that are lapped by
+     * the producer lose the overwritten items.
+     *
+     * @param capacity the capacity of the ring buffer, must be strictly positive, rounded to the next power of two
+     * @param <T> the type of item
+     * @return the new {@code RingBufferProcessor}
+     */
+    public static <T> RingBufferProcessor<T> createWithLapping(int capacity) {
+        return new RingBufferProcessor<>(capacity, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RingBufferProcessor(int capacity, boolean lapping) {
+        ParameterValidation.positive(capacity, "capacity");
+        this.capacity = SpscArrayQueue.roundToPowerOfTwo(capacity);
+        this.mask = this.capacity - 1;
+        this.ring = new AtomicReferenceArray<>(this.capacity);
+        this.lapping = lapping;
+        this.replenishBatch = Math.max(1, this.capacity >> 2);
+        this.subscribers = new AtomicReference<>(EMPTY);
+    }
+
+    public SerializedProcessor<T, T> serialized() {
+        return new SerializedProcessor<>(this);
+    }
+
+    /**
+     * @return the capacity of the ring buffer
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super T> downstream) {
+        RingSubscription<T> subscription = new RingSubscription<>(downstream, this);
+        downstream.onSubscribe(subscription);
+        if (add(subscription)) {
+            if (subscription.cancelled.get()) {
+                remove(subscription);
+            } else {
+                subscription.drain();
+            }
+        } else {
+            Throwable ex = failure;
+            if (ex != null) {
+                downstream.onError(ex);
+            } else {
+                downstream.onComplete();
+            }
+        }
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        if (subscribers.get() == TERMINATED || !upstream.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return;
+        }
+        if (lapping) {
+            subscription.request(Long.MAX_VALUE);
+        } else {
+            replenish();
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        ParameterValidation.nonNullNpe(item, "item");
+        if (done) {
+            return;
+        }
+        long sequence = published.get();
+        if (!lapping && sequence - cachedSlowest >= capacity) {
+            // Terminates the subscribers whose next item would be overwritten.
+            long slowest = sequence;
+            for (RingSubscription<T> subscription : subscribers.get()) {
+                long cursor = subscription.cursor.get();
+                if (sequence - cursor >= capacity) {
+                    subscription.overflow();
+                } else {
+                    slowest = Math.min(slowest, cursor);
+                }
+            }
+            cachedSlowest = slowest;
+        }
+        ring.lazySet((int) sequence & mask, item);
+        published.lazySet(sequence + 1);
+        RingSubscription<T>[] current = subscribers.get();
+        if (current.length == 0) {
+            // No one consumes the items, keep requesting them.
+            replenish();
+        }
+        for (RingSubscription<T> subscription : current) {
+            subscription.drain();
+        }
+    }
+
+    @Override
+    public void onError(Throwable failure) {
+        ParameterValidation.nonNullNpe(failure, "failure");
+        if (done) {
+            return;
+        }
+        this.failure = failure;
+        done = true;
+        terminate();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        terminate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void terminate() {
+        for (RingSubscription<T> subscription : subscribers.getAndSet(TERMINATED)) {
+            subscription.drain();
+        }
+    }
+
+    /**
+     * Requests items from the upstream so that the producer can fill the ring buffer up to the slowest cursor.
+     */
+    void replenish() {
+        Subscription subscription = upstream.get();
+        if (subscription == null || lapping) {
+            return;
+        }
+        long slowest = published.get();
+        for (RingSubscription<T> s : subscribers.get()) {
+            slowest = Math.min(slowest, s.cursor.get());
+        }
+        long target = slowest + capacity;
+        for (;;) {
+            long current = requestedFromUpstream.get();
+            if (target <= current) {
+                return;
+            }
+            if (requestedFromUpstream.compareAndSet(current, target)) {
+                subscription.request(target - current);
+                return;
+            }
+        }
+    }
+
+    private boolean add(RingSubscription<T> subscription) {
+        for (;;) {
+            RingSubscription<T>[] current = subscribers.get();
+            if (current == TERMINATED) {
+                return false;
+            }
+            int len = current.length;
+            @SuppressWarnings("unchecked")
+            RingSubscription<T>[] updated = new RingSubscription[len + 1];
+            System.arraycopy(current, 0, updated, 0, len);
+            updated[len] = subscription;
+            if (subscribers.compareAndSet(current, updated)) {
+                return true;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    void remove(RingSubscription<T> subscription) {
+        for (;;) {
+            RingSubscription<T>[] current = subscribers.get();
+            int len = current.length;
+            if (len == 0) {
+                return;
+            }
+            int index = -1;
+            for (int i = 0; i < len; i++) {
+                if (current[i] == subscription) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return;
+            }
+            RingSubscription<T>[] updated;
+            if (len == 1) {
+                updated = EMPTY;
+            } else {
+                updated = new RingSubscription[len - 1];
+                System.arraycopy(current, 0, updated, 0, index);
+                System.arraycopy(current, index + 1, updated, index, len - index - 1);
+            }
+            if (subscribers.compareAndSet(current, updated)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Tracks the read sequence and the requests of a subscriber.
+     *
+     * @param <T> the type of item
+     */
+    static final class RingSubscription<T> implements Subscription {
+
+        private final Subscriber<? super T> downstream;
+        private final RingBufferProcessor<T> parent;
+
+        /**
+         * The sequence of the next item to dispatch, starting at the sequence of the next item written when
+         * subscribing. Only written by the drain loop, read by the producer.
+         */
+        final AtomicLong cursor;
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        final AtomicBoolean cancelled = new AtomicBoolean();
+
+        /**
+         * Whether this subscriber has been lapped by the producer (when lapping is not allowed).
+         */
+        private volatile boolean overflowed;
+
+        /**
+         * The number of emitted items, only accessed from the drain loop.
+         */
+        private long emitted;
+
+        /**
+         * The cursor when the upstream requests were last recomputed, only accessed from the drain loop.
+         */
+        private long lastReplenish;
+
+        RingSubscription(Subscriber<? super T> downstream, RingBufferProcessor<T> parent) {
+            this.downstream = downstream;
+            this.parent = parent;
+            this.lastReplenish = parent.published.get();
+            this.cursor = new AtomicLong(lastReplenish);
+        }
+
+        @Override
+        public void request(long n) {
+            if (n > 0) {
+                Subscriptions.add(requested, n);
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                parent.remove(this);
+                // This subscriber may have been the slowest one.
+                parent.replenish();
+            }
+        }
+
+        void overflow() {
+            overflowed = true;
+            parent.remove(this);
+            drain();
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            long c = cursor.get();
+            long e = emitted;
+            RingBufferProcessor<T> processor = parent;
+            int capacity = processor.capacity;
+            for (;;) {
+                long r = requested.get();
+                while (e != r) {
+                    if (isDoneOrCancelled(c)) {
+                        return;
+                    }
+                    if (c == processor.published.get()) {
+                        break;
+                    }
+                    T item = processor.ring.get((int) c & processor.mask);
+                    if (processor.lapping) {
+                        // Check that the slot has not been overwritten while reading it. The producer may be writing
+                        // the item at sequence p, which overwrites the item at sequence p - capacity.
+                        long p = processor.published.get();
+                        if (p - c >= capacity) {
+                            c = p - capacity + 1;
+                            cursor.lazySet(c);
+                            continue;
+                        }
+                    } else if (overflowed) {
+                        // The producer flags the lagging subscribers before overwriting their next item.
+                        isDoneOrCancelled(c);
+                        return;
+                    }
+                    downstream.onNext(item);
+                    c++;
+                    e++;
+                    cursor.lazySet(c);
+                }
+                if (e == r && isDoneOrCancelled(c)) {
+                    return;
+                }
+                emitted = e;
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+            // Recomputing the upstream requests reads every cursor, so it is only done periodically, or when this
+            // subscriber has caught up with the producer, as it may be the last one the producer is waiting for.
+            if (c - lastReplenish >= processor.replenishBatch || c == processor.published.get()) {
+                lastReplenish = c;
+                // A full write, so that concurrent subscribers replenishing at the same time see each other's cursor.
+                cursor.set(c);
+                processor.replenish();
+            }
+        }
+
+        /**
+         * Checks whether the subscription is cancelled or terminated. In this case, the drain loop must stop, and
+         * leaves {@link #wip} non-zero to prevent any further drain.
+         */
+        private boolean isDoneOrCancelled(long c) {
+            if (cancelled.get()) {
+                return true;
+            }
+            if (overflowed) {
+                cancelled.set(true);
+                parent.remove(this);
+                downstream.onError(new BackPressureFailure(
+                        "The subscriber could not keep up, the ring buffer of " + parent.capacity + " items is full"));
+                return true;
+            }
+            boolean d = parent.done;
+            if (d && c == parent.published.get()) {
+                cancelled.set(true);
+                Throwable failure = parent.failure;
+                if (failure != null) {
+                    downstream.onError(failure);
+                } else {
+                    downstream.onComplete();
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -23,6 +23,10 @@ import io.smallrye.mutiny.subscription.MultiSubscriber;
  * <p>
  * The back pressure model is not using the request protocol but the queue used to store the items. If the queue
  * gets full, an {@link io.smallrye.mutiny.subscription.BackPressureFailure} exception is propagated downstream.
+ * <p>
+ * By default, calls to {@link #onNext(Object)} are serialized with a lock. A processor created with
+ * {@link #createMultiProducer()} uses a multi-producer queue instead, so that concurrent producers can call
+ * {@link #onNext(Object)} without locking.
  *
  * @param <T> the type of item
  */
@@ -30,8 +34,10 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
 
     private final Runnable onTermination;
     private final Queue<T> queue;
+    private final boolean multiProducer;
 
     private final AtomicBoolean done = new AtomicBoolean();
+    private final AtomicBoolean terminating = new AtomicBoolean();
     private final AtomicReference<Throwable> failure = new AtomicReference<>();
     private final AtomicBoolean cancelled = new AtomicBoolean();
     private final AtomicInteger wip = new AtomicInteger();
@@ -45,7 +51,32 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
      * @return the unicast processor
      */
     public static <I> UnicastProcessor<I> create() {
-        return new UnicastProcessor<>(Queues.<I> unbounded(Queues.BUFFER_S).get(), null);
+        return new UnicastProcessor<>(Queues.<I> unbounded(Queues.BUFFER_S).get(), null, false);
+    }
+
+    /**
+     * Creates a new {@link UnicastProcessor} accepting concurrent calls to {@link #onNext(Object)}, using a new
+     * unbounded multi-producer queue.
+     *
+     * @param <I> the type of item
+     * @return the unicast processor
+     */
+    public static <I> UnicastProcessor<I> createMultiProducer() {
+        return new UnicastProcessor<>(Queues.createMpscQueue(), null, true);
+    }
+
+    /**
+     * Creates a new {@link UnicastProcessor} accepting concurrent calls to {@link #onNext(Object)}, using a new
+     * bounded multi-producer queue. When the queue is full, a
+     * {@link io.smallrye.mutiny.subscription.BackPressureFailure} is propagated downstream.
+     *
+     * @param bufferSize the size of the queue, rounded to the next power of two, must be strictly positive
+     * @param <I> the type of item
+     * @return the unicast processor
+     */
+    public static <I> UnicastProcessor<I> createMultiProducer(int bufferSize) {
+        ParameterValidation.positive(bufferSize, "bufferSize");
+        return new UnicastProcessor<>(Queues.createMpscArrayQueue(bufferSize), null, true);
     }
 
     /**
@@ -57,12 +88,13 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
      * @return the unicast processor
      */
     public static <I> UnicastProcessor<I> create(Queue<I> queue, Runnable onTermination) {
-        return new UnicastProcessor<>(queue, onTermination);
+        return new UnicastProcessor<>(queue, onTermination, false);
     }
 
-    private UnicastProcessor(Queue<T> queue, Runnable onTermination) {
+    private UnicastProcessor(Queue<T> queue, Runnable onTermination, boolean multiProducer) {
         this.queue = ParameterValidation.nonNull(queue, "queue");
         this.onTermination = onTermination;
+        this.multiProducer = multiProducer;
     }
 
     private void onTerminate() {
@@ -178,7 +210,18 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
     }
 
     @Override
-    public synchronized void onNext(T t) {
+    public void onNext(T t) {
+        if (multiProducer) {
+            // The queue supports concurrent producers, and the drain loop is serialized by wip.
+            offerAndDrain(t);
+        } else {
+            synchronized (this) {
+                offerAndDrain(t);
+            }
+        }
+    }
+
+    private void offerAndDrain(T t) {
         if (isDoneOrCancelled()) {
             return;
         }
@@ -196,7 +239,7 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
 
     @Override
     public void onError(Throwable failure) {
-        if (isDoneOrCancelled()) {
+        if (isDoneOrCancelled() || !terminating.compareAndSet(false, true)) {
             return;
         }
 
@@ -209,7 +252,7 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
 
     @Override
     public void onComplete() {
-        if (isDoneOrCancelled()) {
+        if (isDoneOrCancelled() || !terminating.compareAndSet(false, true)) {
             return;
         }
         onTerminate();
@@ -0,0 +1,61 @@
+package io.smallrye.mutiny.primitive;
+
+import java.util.function.Consumer;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.subscription.Cancellable;
+
+/**
+ * Base class of the subscribers requesting all the items and invoking callbacks, returned by the
+ * {@code subscribe(onItem, onFailure, onCompletion)} methods of the primitive streams. The subclasses implement the
+ * {@code onItem} method, ignoring the items received once {@link #cancelled}.
+ */
+abstract class AbstractCallbackSubscriber implements Cancellable {
+
+    private final Consumer<? super Throwable> onFailure;
+    private final Runnable onCompletion;
+    private final Context context = Context.empty();
+    private volatile Subscription upstream;
+    protected volatile boolean cancelled;
+
+    AbstractCallbackSubscriber(Consumer<? super Throwable> onFailure, Runnable onCompletion) {
+        this.onFailure = onFailure;
+        this.onCompletion = onCompletion;
+    }
+
+    public void onSubscribe(Subscription subscription) {
+        upstream = subscription;
+        if (cancelled) {
+            subscription.cancel();
+        } else {
+            subscription.request(Long.MAX_VALUE);
+        }
+    }
+
+    public Context context() {
+        return context;
+    }
+
+    public void onFailure(Throwable failure) {
+        if (!cancelled) {
+            onFailure.accept(failure);
+        }
+    }
+
+    public void onCompletion() {
+        if (!cancelled) {
+            onCompletion.run();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        Subscription subscription = upstream;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package io.smallrye.mutiny.primitive;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNullNpe;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.UnaryOperator;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * A stream of {@code double} items, emitted without boxing them.
+ * <p>
+ * A {@link DoubleMulti} follows the same protocol as a {@link Multi} (subscription, requests, cancellation and
+ * terminal events), but its subscribers ({@link DoubleSubscriber}) receive primitive items. The operators provided by
+ * this class ({@link #map(DoubleUnaryOperator)}, {@link #filter(DoublePredicate)}, {@link #scan(double, DoubleBinaryOperator)},
+ * {@link #window(int)}, {@link #sum()}...) never box the items.
+ * <p>
+ * Use {@link #from(Multi, ToDoubleFunction)} to create a {@link DoubleMulti} from a {@link Multi}, and {@link #boxed()}
+ * or {@link #mapToObj(DoubleFunction)} to get back a {@link Multi}.
+ */
+public abstract class DoubleMulti {
+
+    /**
+     * Subscribes to this {@link DoubleMulti}.
+     *
+     * @param subscriber the subscriber, must not be {@code null}
+     */
+    public abstract void subscribe(DoubleSubscriber subscriber);
+
+    /**
+     * Subscribes to this {@link DoubleMulti}, requesting all the items.
+     *
+     * @param onItem the callback invoked for each item, must not be {@code null}
+     * @param onFailure the callback invoked on failure, must not be {@code null}
+     * @param onCompletion the callback invoked on completion, must not be {@code null}
+     * @return the cancellable used to cancel the subscription
+     */
+    public Cancellable subscribe(DoubleConsumer onItem, Consumer<? super Throwable> onFailure, Runnable onCompletion) {
+        CallbackSubscriber subscriber = new CallbackSubscriber(nonNull(onItem, "onItem"),
+                nonNull(onFailure, "onFailure"), nonNull(onCompletion, "onCompletion"));
+        subscribe(subscriber);
+        return subscriber;
+    }
+
+    /**
+     * Creates a {@link DoubleMulti} emitting the given items.
+     *
+     * @param items the items, must not be {@code null}
+     * @return the new {@link DoubleMulti}
+     */
+    public static DoubleMulti items(double... items) {
+        nonNull(items, "items");
+        return new DoubleMulti() {
+            @Override
+            public void subscribe(DoubleSubscriber subscriber) {
+                nonNullNpe(subscriber, "subscriber");
+                subscriber.onSubscribe(new IndexedSubscription<DoubleSubscriber>(subscriber, items.length) {
+                    @Override
+                    void emit(long index) {
+                        downstream.onItem(items[(int) index]);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link DoubleMulti} emitting the items of the given {@link Multi}, converted using the given mapper.
+     *
+     * @param upstream the upstream {@link Multi}, must not be {@code null}
+     * @param mapper the function converting the items to {@code double}, must not be {@code null}
+     * @param <T> the type of the items emitted by the upstream {@link Multi}
+     * @return the new {@link DoubleMulti}
+     */
+    public static <T> DoubleMulti from(Multi<T> upstream, ToDoubleFunction<? super T> mapper) {
+        nonNull(upstream, "upstream");
+        nonNull(mapper, "mapper");
+        return new DoubleMulti() {
+            @Override
+            public void subscribe(DoubleSubscriber subscriber) {
+                nonNullNpe(subscriber, "subscriber");
+                upstream.subscribe().withSubscriber(new FromMultiSubscriber<>(subscriber, mapper));
+            }
+        };
+    }
+
+    /**
+     * Transforms the items using the given function.
+     *
+     * @param mapper the function, must not be {@code null}
+     * @return the new {@link DoubleMulti}
+     */
+    public DoubleMulti map(DoubleUnaryOperator mapper) {
+        nonNull(mapper, "mapper");
+        return lift(downstream -> new DoubleOperator(downstream) {
+            @Override
+            public void onItem(double item) {
+                if (done) {
+                    return;
+                }
+                double result;
+                try {
+                    result = mapper.applyAsDouble(item);
+                } catch (Throwable failure) {
+                    failAndCancel(failure);
+                    return;
+                }
+                downstream.onItem(result);
+            }
+        });
+    }
+
+    /**
+     * Keeps the items passing the given predicate.
+     *
+     * @param predicate the predicate, must not be {@code null}
+     * @return the new {@link DoubleMulti}
+     */
+    public DoubleMulti filter(DoublePredicate predicate) {
+        nonNull(predicate, "predicate");
+        return lift(downstream -> new DoubleOperator(downstream) {
+            @Override
+            public void onItem(double item) {
+                if (done) {
+                    return;
+                }
+                boolean passed;
+                try {
+                    passed = predicate.test(item);
+                } catch (Throwable failure) {
+                    failAndCancel(failure);
+                    return;
+                }
+                if (passed) {
+                    downstream.onItem(item);
+                } else {
+                    upstream.request(1);
+                }
+            }
+        });
+    }
+
+    /**
+     * Emits, for each item, the result of the accumulator applied to the previous result (or to {@code initial} for
+     * the first item) and the item. The initial value is not emitted.
+     *
+     * @param initial the initial value
+     * @param accumulator the accumulator, must not be {@code null}
+     * @return the new {@link DoubleMulti}
+     */
+    public DoubleMulti scan(double initial, DoubleBinaryOperator accumulator) {
+        nonNull(accumulator, "accumulator");
+        return lift(downstream -> new DoubleOperator(downstream) {
+            private double current = initial;
+
+            @Override
+            public void onItem(double item) {
+                if (done) {
+                    return;
+                }
+                try {
+                    current = accumulator.applyAsDouble(current, item);
+                } catch (Throwable failure) {
+                    failAndCancel(failure);
+                    return;
+                }
+                downstream.onItem(current);
+            }
+        });
+    }
+
+    /**
+     * Transforms the items into objects, and emits them in a {@link Multi}.
+     *
+     * @param mapper the function, must not be {@code null}, must not return {@code null}
+     * @param <T> the type of the produced items
+     * @return the new {@link Multi}
+     */
+    public <T> Multi<T> mapToObj(DoubleFunction<? extends T> mapper) {
+        nonNull(mapper, "mapper");
+        return Infrastructure.onMultiCreation(new AbstractMulti<T>() {
+            @Override
+            public void subscribe(MultiSubscriber<? super T> subscriber) {
+                nonNullNpe(subscriber, "subscriber");
+                DoubleMulti.this.subscribe(new ToMultiSubscriber<>(subscriber, mapper));
+            }
+        });
+    }
+
+    /**
+     * Boxes the items, and emits them in a {@link Multi}.
+     *
+     * @return the new {@link Multi}
+     */
+    public Multi<Double> boxed() {
+        return mapToObj(Double::valueOf);
+    }
+
+    /**
+     * Groups the items into arrays of {@code size} items. The last array, emitted on completion, is trimmed to the
+     * number of items it contains.
+     *
+     * @param size the number of items of each array, must be positive
+     * @return a {@link Multi} emitting the arrays
+     */
+    public Multi<double[]> window(int size) {
+        positive(size, "size");
+        return Infrastructure.onMultiCreation(new AbstractMulti<double[]>() {
+            @Override
+            public void subscribe(MultiSubscriber<? super double[]> subscriber) {
+                nonNullNpe(subscriber, "subscriber");
+                DoubleMulti.this.subscribe(new WindowSubscriber(subscriber, size));
+            }
+        });
+    }
+
+    /**
+     * Sums the items.
+     *
+     * @return a {@link Uni} emitting the sum of the items when this {@link DoubleMulti} completes
+     */
+    public Uni<Double> sum() {
+        return Infrastructure
+                .onUniCreation(Uni.createFrom().emitter(emitter -> subscribe(new ReducingSubscriber.DoubleSum(emitter))));
+    }
+
+    /**
+     * Counts the items.
+     *
+     * @return a {@link Uni} emitting the number of items when this {@link DoubleMulti} completes
+     */
+    public Uni<Long> count() {
+        return Infrastructure
+                .onUniCreation(Uni.createFrom().emitter(emitter -> subscribe(new ReducingSubscriber.Count(emitter))));
+    }
+
+    private DoubleMulti lift(UnaryOperator<DoubleSubscriber> operator) {
+        return new DoubleMulti() {
+            @Override
+            public void subscribe(DoubleSubscriber subscriber) {
+                nonNullNpe(subscriber, "subscriber");
+                DoubleMulti.this.subscribe(operator.apply(subscriber));
+            }
+        };
+    }
+
+    private abstract static class DoubleOperator extends PrimitiveOperator<DoubleSubscriber> implements DoubleSubscriber {
+
+        DoubleOperator(DoubleSubscriber downstream) {
+            super(downstream);
+        }
+    }
+
+    private static final class FromMultiSubscriber<T> extends PrimitiveOperator<DoubleSubscriber>
+            implements MultiSubscriber<T> {
+
+        private final ToDoubleFunction<? super T> mapper;
+
+        FromMultiSubscriber(DoubleSubscriber downstream, ToDoubleFunction<? super T> mapper) {
+            super(downstream);
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onItem(T item) {
+            if (done) {
+                return;
+            }
+            double result;
+            try {
+                result = mapper.applyAsDouble(item);
+            } catch (Throwable failure) {
+                failAndCancel(failure);
+                return;
+            }
+            downstream.onItem(result);
+        }
+    }
+
+    private static final class ToMultiSubscriber<T> extends ToMultiOperator<T> implements DoubleSubscriber {
+
+        private final DoubleFunction<? extends T> mapper;
+
+        ToMultiSubscriber(MultiSubscriber<? super T> downstream, DoubleFunction<? extends T> mapper) {
+            super(downstream);
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onItem(double item) {
+            if (done) {
+                return;
+            }
+            T result;
+            try {
+                result = nonNull(mapper.apply(item), "mapped item");
+            } catch (Throwable failure) {
+                failAndCancel(failure);
+                return;
+            }
+            downstream.onItem(result);
+        }
+    }
+
+    private static final class WindowSubscriber extends WindowOperator<double[]> implements DoubleSubscriber {
+
+        WindowSubscriber(MultiSubscriber<? super double[]> downstream, int size) {
+            super(downstream, size);
+        }
+
+        @Override
+        double[] create(int size) {
+            return new double[size];
+        }
+
+        @Override
+        double[] trim(double[] window, int length) {
+            return Arrays.copyOf(window, length);
+        }
+
+        @Override
+        public void onItem(double item) {
+            if (done) {
+                return;
+            }
+            window()[index] = item;
+            stored();
+        }
+    }
+
+    private static final class CallbackSubscriber extends AbstractCallbackSubscriber implements DoubleSubscriber {
+
+        private final DoubleConsumer onItem;
+
+        CallbackSubscriber(DoubleConsumer onItem, Consumer<? super Throwable> onFailure, Runnable onCompletion) {
+            super(onFailure, onCompletion);
+            this.onItem = onItem;
+        }
+
+        @Override
+        public void onItem(double item) {
+            if (!cancelled) {
+                onItem.accept(item);
+            }
+        }
+    }
+}
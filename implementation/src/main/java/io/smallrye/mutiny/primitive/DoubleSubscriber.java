@@ -0,0 +1,21 @@
+package io.smallrye.mutiny.primitive;
+
+import org.reactivestreams.Subscription;
+
+/**
+ * A subscriber receiving the {@code double} items emitted by a {@link DoubleMulti}, without boxing them.
+ * <p>
+ * The protocol is the one of {@link io.smallrye.mutiny.subscription.MultiSubscriber}: {@link #onSubscribe(Subscription)}
+ * is called once, then the subscriber receives at most as many {@link #onItem(double)} calls as it requested using the
+ * {@link Subscription}, followed by, optionally, a single terminal event.
+ */
+public interface DoubleSubscriber extends PrimitiveSubscriber {
+
+    /**
+     * Method called when the upstream emits an item.
+     *
+     * @param item the item
+     */
+    void onItem(double item);
+
+}
@@ -0,0 +1,89 @@
+package io.smallrye.mutiny.primitive;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.helpers.Subscriptions;
+
+/**
+ * Emits the items of an indexed source, such as a range or an array, following the requests of the downstream.
+ * <p>
+ * The subclasses only emit the item located at a given index, so the emission loop is shared by all the primitive
+ * types.
+ *
+ * @param <S> the type of the downstream subscriber
+ */
+abstract class IndexedSubscription<S extends PrimitiveSubscriber> implements Subscription {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<IndexedSubscription> REQUESTED = AtomicLongFieldUpdater
+            .newUpdater(IndexedSubscription.class, "requested");
+
+    protected final S downstream;
+    private final long length;
+    private long index;
+    private volatile long requested;
+    private volatile boolean cancelled;
+
+    IndexedSubscription(S downstream, long length) {
+        this.downstream = downstream;
+        this.length = length;
+    }
+
+    /**
+     * Emits the item located at the given index to the downstream.
+     *
+     * @param index the index, between 0 and the length of the source
+     */
+    abstract void emit(long index);
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            cancel();
+            downstream.onFailure(Subscriptions.getInvalidRequestException());
+            return;
+        }
+        if (Subscriptions.add(REQUESTED, this, n) == 0L) {
+            drain(n);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drain(long r) {
+        long emitted = 0L;
+        long i = index;
+        for (;;) {
+            while (emitted != r && i != length) {
+                if (cancelled) {
+                    return;
+                }
+                emit(i);
+                i++;
+                emitted++;
+            }
+            if (i == length) {
+                if (!cancelled) {
+                    cancelled = true;
+                    downstream.onCompletion();
+                }
+                return;
+            }
+            r = requested;
+            if (emitted == r) {
+                index = i;
+                r = REQUESTED.addAndGet(this, -emitted);
+                if (r == 0L) {
+                    return;
+                }
+                emitted = 0L;
+            }
+        }
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+    }
+}
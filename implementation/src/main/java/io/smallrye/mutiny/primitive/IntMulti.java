@@ -0,0 +1,445 @@
+package io.smallrye.mutiny.primitive;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNullNpe;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * A stream of {@code int} items, emitted without boxing them.
+ * <p>
+ * An {@link IntMulti} follows the same protocol as a {@link Multi} (subscription, requests, cancellation and
+ * terminal events), but its subscribers ({@link IntSubscriber}) receive primitive items. The operators provided by
+ * this class ({@link #map(IntUnaryOperator)}, {@link #filter(IntPredicate)}, {@link #scan(int, IntBinaryOperator)},
+ * {@link #window(int)}, {@link #sum()}...) never box the items.
+ * <p>
+ * Use {@link #from(Multi, ToIntFunction)} to create an {@link IntMulti} from a {@link Multi}, and {@link #boxed()}
+ * or {@link #mapToObj(IntFunction)} to get back a {@link Multi}.
+ */
+public abstract class IntMulti {
+
+    /**
+     * Subscribes to this {@link IntMulti}.
+     *
+     * @param subscriber the subscriber, must not be {@code null}
+     */
+    public abstract void subscribe(IntSubscriber subscriber);
+
+    /**
+     * Subscribes to this {@link IntMulti}, requesting all the items.
+     *
+     * @param onItem the callback invoked for each item, must not be {@code null}
+     * @param onFailure the callback invoked on failure, must not be {@code null}
+     * @param onCompletion the callback invoked on completion, must not be {@code null}
+     * @return the cancellable used to cancel the subscription
+     */
+    public Cancellable subscribe(IntConsumer onItem, Consumer<? super Throwable> onFailure, Runnable onCompletion) {
+        CallbackSubscriber subscriber = new CallbackSubscriber(nonNull(onItem, "onItem"),
+                nonNull(onFailure, "onFailure"), nonNull(onCompletion, "onCompletion"));
+        subscribe(subscriber);
+        return subscriber;
+    }
+
+    /**
+     * Creates an {@link IntMulti} emitting the items from {@code startInclusive} to {@code endExclusive}.
+     *
+     * @param startInclusive the first item
+     * @param endExclusive the upper bound, not emitted, must be greater than or equal to {@code startInclusive}
+     * @return the new {@link IntMulti}
+     */
+    public static IntMulti range(int startInclusive, int endExclusive) {
+        if (endExclusive < startInclusive) {
+            throw new IllegalArgumentException("`endExclusive` must be greater than or equal to `startInclusive`");
+        }
+        return new IntMulti() {
+            @Override
+            public void subscribe(IntSubscriber subscriber) {
+                nonNullNpe(subscriber, "subscriber");
+                subscriber.onSubscribe(new IndexedSubscription<IntSubscriber>(subscriber,
+                        endExclusive - (long) startInclusive) {
+                    @Override
+                    void emit(long index) {
+                        downstream.onItem((int) (startInclusive + index));
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Creates an {@link IntMulti} emitting the given items.
+     *
+     * @param items the items, must not be {@code null}
+     * @return the new {@link IntMulti}
+     */
+    public static IntMulti items(int... items) {
+        nonNull(items, "items");
+        return new IntMulti() {
+            @Override
+            public void subscribe(IntSubscriber subscriber) {
+                nonNullNpe(subscriber, "subscriber");
+                subscriber.onSubscribe(new IndexedSubscription<IntSubscriber>(subscriber, items.length) {
+                    @Override
+                    void emit(long index) {
+                        downstream.onItem(items[(int) index]);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Creates an {@link IntMulti} emitting the items of the given {@link Multi}, converted using the given mapper.
+     *
+     * @param upstream the upstream {@link Multi}, must not be {@code null}
+     * @param mapper the function converting the items to {@code int}, must not be {@code null}
+     * @param <T> the type of the items emitted by the upstream {@link Multi}
+     * @return the new {@link IntMulti}
+     */
+    public static <T> IntMulti from(Multi<T> upstream, ToIntFunction<? super T> mapper) {
+        nonNull(upstream, "upstream");
+        nonNull(mapper, "mapper");
+        return new IntMulti() {
+            @Override
+            public void subscribe(IntSubscriber subscriber) {
+                nonNullNpe(subscriber, "subscriber");
+                upstream.subscribe().withSubscriber(new FromMultiSubscriber<>(subscriber, mapper));
+            }
+        };
+    }
+
+    /**
+     * Transforms the items using the given function.
+     *
+     * @param mapper the function, must not be {@code null}
+     * @return the new {@link IntMulti}
+     */
+    public IntMulti map(IntUnaryOperator mapper) {
+        nonNull(mapper, "mapper");
+        return lift(downstream -> new IntOperator(downstream) {
+            @Override
+            public void onItem(int item) {
+                if (done) {
+                    return;
+                }
+                int result;
+                try {
+                    result = mapper.applyAsInt(item);
+                } catch (Throwable failure) {
+                    failAndCancel(failure);
+                    return;
+                }
+                downstream.onItem(result);
+            }
+        });
+    }
+
+    /**
+     * Keeps the items passing the given predicate.
+     *
+     * @param predicate the predicate, must not be {@code null}
+     * @return the new {@link IntMulti}
+     */
+    public IntMulti filter(IntPredicate predicate) {
+        nonNull(predicate, "predicate");
+        return lift(downstream -> new IntOperator(downstream) {
+            @Override
+            public void onItem(int item) {
+                if (done) {
+                    return;
+                }
+                boolean passed;
+                try {
+                    passed = predicate.test(item);
+                } catch (Throwable failure) {
+                    failAndCancel(failure);
+                    return;
+                }
+                if (passed) {
+                    downstream.onItem(item);
+                } else {
+                    upstream.request(1);
+                }
+            }
+        });
+    }
+
+    /**
+     * Emits, for each item, the result of the accumulator applied to the previous result (or to {@code initial} for
+     * the first item) and the item. The initial value is not emitted.
+     *
+     * @param initial the initial value
+     * @param accumulator the accumulator, must not be {@code null}
+     * @return the new {@link IntMulti}
+     */
+    public IntMulti scan(int initial, IntBinaryOperator accumulator) {
+        nonNull(accumulator, "accumulator");
+        return lift(downstream -> new IntOperator(downstream) {
+            private int current = initial;
+
+            @Override
+            public void onItem(int item) {
+                if (done) {
+                    return;
+                }
+                try {
+                    current = accumulator.applyAsInt(current, item);
+                } catch (Throwable failure) {
+                    failAndCancel(failure);
+                    return;
+                }
+                downstream.onItem(current);
+            }
+        });
+    }
+
+    /**
+     * Converts the items to {@code long}.
+     *
+     * @return the new {@link LongMulti}
+     */
+    public LongMulti asLongMulti() {
+        return new LongMulti() {
+            @Override
+            public void subscribe(LongSubscriber subscriber) {
+                nonNullNpe(subscriber, "subscriber");
+                IntMulti.this.subscribe(new ToLongSubscriber(subscriber));
+            }
+        };
+    }
+
+    /**
+     * Converts the items to {@code double}.
+     *
+     * @return the new {@link DoubleMulti}
+     */
+    public DoubleMulti asDoubleMulti() {
+        return new DoubleMulti() {
+            @Override
+            public void subscribe(DoubleSubscriber subscriber) {
+                nonNullNpe(subscriber, "subscriber");
+                IntMulti.this.subscribe(new ToDoubleSubscriber(subscriber));
+            }
+        };
+    }
+
+    /**
+     * Transforms the items into objects, and emits them in a {@link Multi}.
+     *
+     * @param mapper the function, must not be {@code null}, must not return {@code null}
+     * @param <T> the type of the produced items
+     * @return the new {@link Multi}
+     */
+    public <T> Multi<T> mapToObj(IntFunction<? extends T> mapper) {
+        nonNull(mapper, "mapper");
+        return Infrastructure.onMultiCreation(new AbstractMulti<T>() {
+            @Override
+            public void subscribe(MultiSubscriber<? super T> subscriber) {
+                nonNullNpe(subscriber, "subscriber");
+                IntMulti.this.subscribe(new ToMultiSubscriber<>(subscriber, mapper));
+            }
+        });
+    }
+
+    /**
+     * Boxes the items, and emits them in a {@link Multi}.
+     *
+     * @return the new {@link Multi}
+     */
+    public Multi<Integer> boxed() {
+        return mapToObj(Integer::valueOf);
+    }
+
+    /**
+     * Groups the items into arrays of {@code size} items. The last array, emitted on completion, is trimmed to the
+     * number of items it contains.
+     *
+     * @param size the number of items of each array, must be positive
+     * @return a {@link Multi} emitting the arrays
+     */
+    public Multi<int[]> window(int size) {
+        positive(size, "size");
+        return Infrastructure.onMultiCreation(new AbstractMulti<int[]>() {
+            @Override
+            public void subscribe(MultiSubscriber<? super int[]> subscriber) {
+                nonNullNpe(subscriber, "subscriber");
+                IntMulti.this.subscribe(new WindowSubscriber(subscriber, size));
+            }
+        });
+    }
+
+    /**
+     * Sums the items. The sum is computed as a {@code long}.
+     *
+     * @return a {@link Uni} emitting the sum of the items when this {@link IntMulti} completes
+     */
+    public Uni<Long> sum() {
+        return Infrastructure
+                .onUniCreation(Uni.createFrom().emitter(emitter -> subscribe(new ReducingSubscriber.LongSum(emitter))));
+    }
+
+    /**
+     * Counts the items.
+     *
+     * @return a {@link Uni} emitting the number of items when this {@link IntMulti} completes
+     */
+    public Uni<Long> count() {
+        return Infrastructure
+                .onUniCreation(Uni.createFrom().emitter(emitter -> subscribe(new ReducingSubscriber.Count(emitter))));
+    }
+
+    private IntMulti lift(UnaryOperator<IntSubscriber> operator) {
+        return new IntMulti() {
+            @Override
+            public void subscribe(IntSubscriber subscriber) {
+                nonNullNpe(subscriber, "subscriber");
+                IntMulti.this.subscribe(operator.apply(subscriber));
+            }
+        };
+    }
+
+    private abstract static class IntOperator extends PrimitiveOperator<IntSubscriber> implements IntSubscriber {
+
+        IntOperator(IntSubscriber downstream) {
+            super(downstream);
+        }
+    }
+
+    private static final class ToLongSubscriber extends PrimitiveOperator<LongSubscriber> implements IntSubscriber {
+
+        ToLongSubscriber(LongSubscriber downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onItem(int item) {
+            if (!done) {
+                downstream.onItem(item);
+            }
+        }
+    }
+
+    private static final class ToDoubleSubscriber extends PrimitiveOperator<DoubleSubscriber> implements IntSubscriber {
+
+        ToDoubleSubscriber(DoubleSubscriber downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onItem(int item) {
+            if (!done) {
+                downstream.onItem(item);
+            }
+        }
+    }
+
+    private static final class FromMultiSubscriber<T> extends PrimitiveOperator<IntSubscriber>
+            implements MultiSubscriber<T> {
+
+        private final ToIntFunction<? super T> mapper;
+
+        FromMultiSubscriber(IntSubscriber downstream, ToIntFunction<? super T> mapper) {
+            super(downstream);
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onItem(T item) {
+            if (done) {
+                return;
+            }
+            int result;
+            try {
+                result = mapper.applyAsInt(item);
+            } catch (Throwable failure) {
+                failAndCancel(failure);
+                return;
+            }
+            downstream.onItem(result);
+        }
+    }
+
+    private static final class ToMultiSubscriber<T> extends ToMultiOperator<T> implements IntSubscriber {
+
+        private final IntFunction<? extends T> mapper;
+
+        ToMultiSubscriber(MultiSubscriber<? super T> downstream, IntFunction<? extends T> mapper) {
+            super(downstream);
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onItem(int item) {
+            if (done) {
+                return;
+            }
+            T result;
+            try {
+                result = nonNull(mapper.apply(item), "mapped item");
+            } catch (Throwable failure) {
+                failAndCancel(failure);
+                return;
+            }
+            downstream.onItem(result);
+        }
+    }
+
+    private static final class WindowSubscriber extends WindowOperator<int[]> implements IntSubscriber {
+
+        WindowSubscriber(MultiSubscriber<? super int[]> downstream, int size) {
+            super(downstream, size);
+        }
+
+        @Override
+        int[] create(int size) {
+            return new int[size];
+        }
+
+        @Override
+        int[] trim(int[] window, int length) {
+            return Arrays.copyOf(window, length);
+        }
+
+        @Override
+        public void onItem(int item) {
+            if (done) {
+                return;
+            }
+            window()[index] = item;
+            stored();
+        }
+    }
+
+    private static final class CallbackSubscriber extends AbstractCallbackSubscriber implements IntSubscriber {
+
+        private final IntConsumer onItem;
+
+        CallbackSubscriber(IntConsumer onItem, Consumer<? super Throwable> onFailure, Runnable onCompletion) {
+            super(onFailure, onCompletion);
+            this.onItem = onItem;
+        }
+
+        @Override
+        public void onItem(int item) {
+            if (!cancelled) {
+                onItem.accept(item);
+            }
+        }
+    }
+}
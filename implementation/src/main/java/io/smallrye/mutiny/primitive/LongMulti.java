@@ -0,0 +1,419 @@
+package io.smallrye.mutiny.primitive;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNullNpe;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * A stream of {@code long} items, emitted without boxing them.
+ * <p>
+ * A {@link LongMulti} follows the same protocol as a {@link Multi} (subscription, requests, cancellation and
+ * terminal events), but its subscribers ({@link LongSubscriber}) receive primitive items. The operators provided by
+ * this class ({@link #map(LongUnaryOperator)}, {@link #filter(LongPredicate)}, {@link #scan(long, LongBinaryOperator)},
+ * {@link #window(int)}, {@link #sum()}...) never box the items.
+ * <p>
+ * Use {@link #from(Multi, ToLongFunction)} to create a {@link LongMulti} from a {@link Multi}, and {@link #boxed()}
+ * or {@link #mapToObj(LongFunction)} to get back a {@link Multi}.
+ */
+public abstract class LongMulti {
+
+    /**
+     * Subscribes to this {@link LongMulti}.
+     *
+     * @param subscriber the subscriber, must not be {@code null}
+     */
+    public abstract void subscribe(LongSubscriber subscriber);
+
+    /**
+     * Subscribes to this {@link LongMulti}, requesting all the items.
+     *
+     * @param onItem the callback invoked for each item, must not be {@code null}
+     * @param onFailure the callback invoked on failure, must not be {@code null}
+     * @param onCompletion the callback invoked on completion, must not be {@code null}
+     * @return the cancellable used to cancel the subscription
+     */
+    public Cancellable subscribe(LongConsumer onItem, Consumer<? super Throwable> onFailure, Runnable onCompletion) {
+        CallbackSubscriber subscriber = new CallbackSubscriber(nonNull(onItem, "onItem"),
+                nonNull(onFailure, "onFailure"), nonNull(onCompletion, "onCompletion"));
+        subscribe(subscriber);
+        return subscriber;
+    }
+
+    /**
+     * Creates a {@link LongMulti} emitting the items from {@code startInclusive} to {@code endExclusive}.
+     *
+     * @param startInclusive the first item
+     * @param endExclusive the upper bound, not emitted, must be greater than or equal to {@code startInclusive}, the
+     *        range must contain at most {@link Long#MAX_VALUE} items
+     * @return the new {@link LongMulti}
+     */
+    public static LongMulti range(long startInclusive, long endExclusive) {
+        if (endExclusive < startInclusive) {
+            throw new IllegalArgumentException("`endExclusive` must be greater than or equal to `startInclusive`");
+        }
+        if (endExclusive - startInclusive < 0) {
+            throw new IllegalArgumentException("The range contains too many items");
+        }
+        return new LongMulti() {
+            @Override
+            public void subscribe(LongSubscriber subscriber) {
+                nonNullNpe(subscriber, "subscriber");
+                subscriber.onSubscribe(new IndexedSubscription<LongSubscriber>(subscriber, endExclusive - startInclusive) {
+                    @Override
+                    void emit(long index) {
+                        downstream.onItem(startInclusive + index);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link LongMulti} emitting the given items.
+     *
+     * @param items the items, must not be {@code null}
+     * @return the new {@link LongMulti}
+     */
+    public static LongMulti items(long... items) {
+        nonNull(items, "items");
+        return new LongMulti() {
+            @Override
+            public void subscribe(LongSubscriber subscriber) {
+                nonNullNpe(subscriber, "subscriber");
+                subscriber.onSubscribe(new IndexedSubscription<LongSubscriber>(subscriber, items.length) {
+                    @Override
+                    void emit(long index) {
+                        downstream.onItem(items[(int) index]);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link LongMulti} emitting the items of the given {@link Multi}, converted using the given mapper.
+     *
+     * @param upstream the upstream {@link Multi}, must not be {@code null}
+     * @param mapper the function converting the items to {@code long}, must not be {@code null}
+     * @param <T> the type of the items emitted by the upstream {@link Multi}
+     * @return the new {@link LongMulti}
+     */
+    public static <T> LongMulti from(Multi<T> upstream, ToLongFunction<? super T> mapper) {
+        nonNull(upstream, "upstream");
+        nonNull(mapper, "mapper");
+        return new LongMulti() {
+            @Override
+            public void subscribe(LongSubscriber subscriber) {
+                nonNullNpe(subscriber, "subscriber");
+                upstream.subscribe().withSubscriber(new FromMultiSubscriber<>(subscriber, mapper));
+            }
+        };
+    }
+
+    /**
+     * Transforms the items using the given function.
+     *
+     * @param mapper the function, must not be {@code null}
+     * @return the new {@link LongMulti}
+     */
+    public LongMulti map(LongUnaryOperator mapper) {
+        nonNull(mapper, "mapper");
+        return lift(downstream -> new LongOperator(downstream) {
+            @Override
+            public void onItem(long item) {
+                if (done) {
+                    return;
+                }
+                long result;
+                try {
+                    result = mapper.applyAsLong(item);
+                } catch (Throwable failure) {
+                    failAndCancel(failure);
+                    return;
+                }
+                downstream.onItem(result);
+            }
+        });
+    }
+
+    /**
+     * Keeps the items passing the given predicate.
+     *
+     * @param predicate the predicate, must not be {@code null}
+     * @return the new {@link LongMulti}
+     */
+    public LongMulti filter(LongPredicate predicate) {
+        nonNull(predicate, "predicate");
+        return lift(downstream -> new LongOperator(downstream) {
+            @Override
+            public void onItem(long item) {
+                if (done) {
+                    return;
+                }
+                boolean passed;
+                try {
+                    passed = predicate.test(item);
+                } catch (Throwable failure) {
+                    failAndCancel(failure);
+                    return;
+                }
+                if (passed) {
+                    downstream.onItem(item);
+                } else {
+                    upstream.request(1);
+                }
+            }
+        });
+    }
+
+    /**
+     * Emits, for each item, the result of the accumulator applied to the previous result (or to {@code initial} for
+     * the first item) and the item. The initial value is not emitted.
+     *
+     * @param initial the initial value
+     * @param accumulator the accumulator, must not be {@code null}
+     * @return the new {@link LongMulti}
+     */
+    public LongMulti scan(long initial, LongBinaryOperator accumulator) {
+        nonNull(accumulator, "accumulator");
+        return lift(downstream -> new LongOperator(downstream) {
+            private long current = initial;
+
+            @Override
+            public void onItem(long item) {
+                if (done) {
+                    return;
+                }
+                try {
+                    current = accumulator.applyAsLong(current, item);
+                } catch (Throwable failure) {
+                    failAndCancel(failure);
+                    return;
+                }
+                downstream.onItem(current);
+            }
+        });
+    }
+
+    /**
+     * Converts the items to {@code double}.
+     *
+     * @return the new {@link DoubleMulti}
+     */
+    public DoubleMulti asDoubleMulti() {
+        return new DoubleMulti() {
+            @Override
+            public void subscribe(DoubleSubscriber subscriber) {
+                nonNullNpe(subscriber, "subscriber");
+                LongMulti.this.subscribe(new ToDoubleSubscriber(subscriber));
+            }
+        };
+    }
+
+    /**
+     * Transforms the items into objects, and emits them in a {@link Multi}.
+     *
+     * @param mapper the function, must not be {@code null}, must not return {@code null}
+     * @param <T> the type of the produced items
+     * @return the new {@link Multi}
+     */
+    public <T> Multi<T> mapToObj(LongFunction<? extends T> mapper) {
+        nonNull(mapper, "mapper");
+        return Infrastructure.onMultiCreation(new AbstractMulti<T>() {
+            @Override
+            public void subscribe(MultiSubscriber<? super T> subscriber) {
+                nonNullNpe(subscriber, "subscriber");
+                LongMulti.this.subscribe(new ToMultiSubscriber<>(subscriber, mapper));
+            }
+        });
+    }
+
+    /**
+     * Boxes the items, and emits them in a {@link Multi}.
+     *
+     * @return the new {@link Multi}
+     */
+    public Multi<Long> boxed() {
+        return mapToObj(Long::valueOf);
+    }
+
+    /**
+     * Groups the items into arrays of {@code size} items. The last array, emitted on completion, is trimmed to the
+     * number of items it contains.
+     *
+     * @param size the number of items of each array, must be positive
+     * @return a {@link Multi} emitting the arrays
+     */
+    public Multi<long[]> window(int size) {
+        positive(size, "size");
+        return Infrastructure.onMultiCreation(new AbstractMulti<long[]>() {
+            @Override
+            public void subscribe(MultiSubscriber<? super long[]> subscriber) {
+                nonNullNpe(subscriber, "subscriber");
+                LongMulti.this.subscribe(new WindowSubscriber(subscriber, size));
+            }
+        });
+    }
+
+    /**
+     * Sums the items.
+     *
+     * @return a {@link Uni} emitting the sum of the items when this {@link LongMulti} completes
+     */
+    public Uni<Long> sum() {
+        return Infrastructure
+                .onUniCreation(Uni.createFrom().emitter(emitter -> subscribe(new ReducingSubscriber.LongSum(emitter))));
+    }
+
+    /**
+     * Counts the items.
+     *
+     * @return a {@link Uni} emitting the number of items when this {@link LongMulti} completes
+     */
+    public Uni<Long> count() {
+        return Infrastructure
+                .onUniCreation(Uni.createFrom().emitter(emitter -> subscribe(new ReducingSubscriber.Count(emitter))));
+    }
+
+    private LongMulti lift(UnaryOperator<LongSubscriber> operator) {
+        return new LongMulti() {
+            @Override
+            public void subscribe(LongSubscriber subscriber) {
+                nonNullNpe(subscriber, "subscriber");
+                LongMulti.this.subscribe(operator.apply(subscriber));
+            }
+        };
+    }
+
+    private abstract static class LongOperator extends PrimitiveOperator<LongSubscriber> implements LongSubscriber {
+
+        LongOperator(LongSubscriber downstream) {
+            super(downstream);
+        }
+    }
+
+    private static final class ToDoubleSubscriber extends PrimitiveOperator<DoubleSubscriber> implements LongSubscriber {
+
+        ToDoubleSubscriber(DoubleSubscriber downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onItem(long item) {
+            if (!done) {
+                downstream.onItem(item);
+            }
+        }
+    }
+
+    private static final class FromMultiSubscriber<T> extends PrimitiveOperator<LongSubscriber>
+            implements MultiSubscriber<T> {
+
+        private final ToLongFunction<? super T> mapper;
+
+        FromMultiSubscriber(LongSubscriber downstream, ToLongFunction<? super T> mapper) {
+            super(downstream);
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onItem(T item) {
+            if (done) {
+                return;
+            }
+            long result;
+            try {
+                result = mapper.applyAsLong(item);
+            } catch (Throwable failure) {
+                failAndCancel(failure);
+                return;
+            }
+            downstream.onItem(result);
+        }
+    }
+
+    private static final class ToMultiSubscriber<T> extends ToMultiOperator<T> implements LongSubscriber {
+
+        private final LongFunction<? extends T> mapper;
+
+        ToMultiSubscriber(MultiSubscriber<? super T> downstream, LongFunction<? extends T> mapper) {
+            super(downstream);
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onItem(long item) {
+            if (done) {
+                return;
+            }
+            T result;
+            try {
+                result = nonNull(mapper.apply(item), "mapped item");
+            } catch (Throwable failure) {
+                failAndCancel(failure);
+                return;
+            }
+            downstream.onItem(result);
+        }
+    }
+
+    private static final class WindowSubscriber extends WindowOperator<long[]> implements LongSubscriber {
+
+        WindowSubscriber(MultiSubscriber<? super long[]> downstream, int size) {
+            super(downstream, size);
+        }
+
+        @Override
+        long[] create(int size) {
+            return new long[size];
+        }
+
+        @Override
+        long[] trim(long[] window, int length) {
+            return Arrays.copyOf(window, length);
+        }
+
+        @Override
+        public void onItem(long item) {
+            if (done) {
+                return;
+            }
+            window()[index] = item;
+            stored();
+        }
+    }
+
+    private static final class CallbackSubscriber extends AbstractCallbackSubscriber implements LongSubscriber {
+
+        private final LongConsumer onItem;
+
+        CallbackSubscriber(LongConsumer onItem, Consumer<? super Throwable> onFailure, Runnable onCompletion) {
+            super(onFailure, onCompletion);
+            this.onItem = onItem;
+        }
+
+        @Override
+        public void onItem(long item) {
+            if (!cancelled) {
+                onItem.accept(item);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.smallrye.mutiny.primitive;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Context;
+
+/**
+ * Base class of the subscribers emitting at most one item to a primitive subscriber per received item.
+ * <p>
+ * It forwards the requests and the cancellation to the upstream, and emits a single terminal event. The subclasses
+ * implement the {@code onItem} method of their upstream, ignoring the items received once {@link #done}.
+ *
+ * @param <S> the type of the downstream subscriber
+ */
+abstract class PrimitiveOperator<S extends PrimitiveSubscriber> implements Subscription {
+
+    protected final S downstream;
+    protected Subscription upstream;
+    protected boolean done;
+
+    PrimitiveOperator(S downstream) {
+        this.downstream = downstream;
+    }
+
+    public void onSubscribe(Subscription subscription) {
+        this.upstream = subscription;
+        downstream.onSubscribe(this);
+    }
+
+    public Context context() {
+        return downstream.context();
+    }
+
+    public void onFailure(Throwable failure) {
+        if (!done) {
+            done = true;
+            downstream.onFailure(failure);
+        }
+    }
+
+    public void onCompletion() {
+        if (!done) {
+            done = true;
+            downstream.onCompletion();
+        }
+    }
+
+    void failAndCancel(Throwable failure) {
+        upstream.cancel();
+        onFailure(failure);
+    }
+
+    @Override
+    public void request(long n) {
+        upstream.request(n);
+    }
+
+    @Override
+    public void cancel() {
+        upstream.cancel();
+    }
+}
@@ -0,0 +1,36 @@
+package io.smallrye.mutiny.primitive;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.subscription.ContextSupport;
+
+/**
+ * The methods shared by the subscribers of the primitive streams: {@link IntSubscriber}, {@link LongSubscriber} and
+ * {@link DoubleSubscriber}, which only add the {@code onItem} method receiving their type of item.
+ * <p>
+ * The protocol is the one of {@link io.smallrye.mutiny.subscription.MultiSubscriber}: {@link #onSubscribe(Subscription)}
+ * is called once, then the subscriber receives at most as many items as it requested using the {@link Subscription},
+ * followed by, optionally, a single terminal event.
+ */
+public interface PrimitiveSubscriber extends ContextSupport {
+
+    /**
+     * Method called once the subscription has been made.
+     *
+     * @param subscription the subscription, used to request items and to cancel
+     */
+    void onSubscribe(Subscription subscription);
+
+    /**
+     * Method called when the upstream emits a failure terminal event.
+     *
+     * @param failure the failure, not {@code null}
+     */
+    void onFailure(Throwable failure);
+
+    /**
+     * Method called when the upstream emits a completion terminal event.
+     */
+    void onCompletion();
+
+}
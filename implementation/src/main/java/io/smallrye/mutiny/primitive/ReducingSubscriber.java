@@ -0,0 +1,125 @@
+package io.smallrye.mutiny.primitive;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+/**
+ * Base class of the subscribers requesting all the items, and emitting a single result to a {@link UniEmitter} on
+ * completion. The subclasses accumulate the items in their {@code onItem} method.
+ *
+ * @param <R> the type of the result
+ */
+abstract class ReducingSubscriber<R> {
+
+    private final UniEmitter<? super R> emitter;
+    private final Context context = Context.empty();
+
+    ReducingSubscriber(UniEmitter<? super R> emitter) {
+        this.emitter = emitter;
+    }
+
+    /**
+     * @return the result, emitted on completion
+     */
+    abstract R result();
+
+    public void onSubscribe(Subscription subscription) {
+        emitter.onTermination(subscription::cancel);
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    public Context context() {
+        return context;
+    }
+
+    public void onFailure(Throwable failure) {
+        emitter.fail(failure);
+    }
+
+    public void onCompletion() {
+        emitter.complete(result());
+    }
+
+    /**
+     * Counts the items of any primitive stream.
+     */
+    static final class Count extends ReducingSubscriber<Long> implements IntSubscriber, LongSubscriber, DoubleSubscriber {
+
+        private long count;
+
+        Count(UniEmitter<? super Long> emitter) {
+            super(emitter);
+        }
+
+        @Override
+        public void onItem(int item) {
+            count++;
+        }
+
+        @Override
+        public void onItem(long item) {
+            count++;
+        }
+
+        @Override
+        public void onItem(double item) {
+            count++;
+        }
+
+        @Override
+        Long result() {
+            return count;
+        }
+    }
+
+    /**
+     * Sums the items of an {@link IntMulti} or a {@link LongMulti} as a {@code long}.
+     */
+    static final class LongSum extends ReducingSubscriber<Long> implements IntSubscriber, LongSubscriber {
+
+        private long sum;
+
+        LongSum(UniEmitter<? super Long> emitter) {
+            super(emitter);
+        }
+
+        @Override
+        public void onItem(int item) {
+            sum += item;
+        }
+
+        @Override
+        public void onItem(long item) {
+            sum += item;
+        }
+
+        @Override
+        Long result() {
+            return sum;
+        }
+    }
+
+    /**
+     * Sums the items of a {@link DoubleMulti}.
+     */
+    static final class DoubleSum extends ReducingSubscriber<Double> implements DoubleSubscriber {
+
+        private double sum;
+
+        DoubleSum(UniEmitter<? super Double> emitter) {
+            super(emitter);
+        }
+
+        @Override
+        public void onItem(double item) {
+            sum += item;
+        }
+
+        @Override
+        Double result() {
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.smallrye.mutiny.primitive;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Base class of the subscribers receiving primitive items and emitting objects to a {@link MultiSubscriber}.
+ * <p>
+ * It forwards the requests and the cancellation to the upstream, and emits a single terminal event. The subclasses
+ * implement the {@code onItem} method of their upstream, ignoring the items received once {@link #done}.
+ *
+ * @param <T> the type of the emitted items
+ */
+abstract class ToMultiOperator<T> implements Subscription {
+
+    protected final MultiSubscriber<? super T> downstream;
+    protected Subscription upstream;
+    protected boolean done;
+
+    ToMultiOperator(MultiSubscriber<? super T> downstream) {
+        this.downstream = downstream;
+    }
+
+    public void onSubscribe(Subscription subscription) {
+        this.upstream = subscription;
+        downstream.onSubscribe(this);
+    }
+
+    public Context context() {
+        return downstream.context();
+    }
+
+    public void onFailure(Throwable failure) {
+        if (!done) {
+            done = true;
+            downstream.onFailure(failure);
+        }
+    }
+
+    public void onCompletion() {
+        if (!done) {
+            done = true;
+            downstream.onCompletion();
+        }
+    }
+
+    void failAndCancel(Throwable failure) {
+        upstream.cancel();
+        onFailure(failure);
+    }
+
+    @Override
+    public void request(long n) {
+        upstream.request(n);
+    }
+
+    @Override
+    public void cancel() {
+        upstream.cancel();
+    }
+}
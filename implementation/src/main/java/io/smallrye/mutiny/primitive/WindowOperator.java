@@ -0,0 +1,94 @@
+package io.smallrye.mutiny.primitive;
+
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Base class of the subscribers grouping primitive items into arrays of {@code size} items.
+ * <p>
+ * Each downstream request is turned into a request for as many full windows. The subclasses store each item at
+ * {@link #index} in the array returned by {@link #window()}, and then call {@link #stored()}. The last window,
+ * emitted on completion, is trimmed to the number of items it contains.
+ *
+ * @param <A> the type of array
+ */
+abstract class WindowOperator<A> extends ToMultiOperator<A> {
+
+    protected final int size;
+    protected int index;
+    private A current;
+
+    WindowOperator(MultiSubscriber<? super A> downstream, int size) {
+        super(downstream);
+        this.size = size;
+    }
+
+    /**
+     * Creates a new array.
+     *
+     * @param size the size of the array
+     * @return the new array
+     */
+    abstract A create(int size);
+
+    /**
+     * Copies the first items of a window.
+     *
+     * @param window the window
+     * @param length the number of items to copy
+     * @return the new array
+     */
+    abstract A trim(A window, int length);
+
+    /**
+     * @return the current window, created if needed
+     */
+    A window() {
+        if (current == null) {
+            current = create(size);
+        }
+        return current;
+    }
+
+    /**
+     * Moves to the next index once an item has been stored, and emits the current window once full.
+     */
+    void stored() {
+        if (++index == size) {
+            A window = current;
+            current = null;
+            index = 0;
+            downstream.onItem(window);
+        }
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+        if (!done) {
+            current = null;
+        }
+        super.onFailure(failure);
+    }
+
+    @Override
+    public void onCompletion() {
+        if (!done) {
+            done = true;
+            if (index != 0) {
+                A window = trim(current, index);
+                current = null;
+                downstream.onItem(window);
+            }
+            downstream.onCompletion();
+        }
+    }
+
+    @Override
+    public void request(long n) {
+        if (n > 0) {
+            upstream.request(Subscriptions.multiply(n, size));
+        } else {
+            upstream.request(n);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.smallrye.mutiny.subscription;
+
+import io.smallrye.mutiny.Context;
+
+/**
+ * Implemented by subscribers exposing a {@link Context}.
+ * <p>
+ * The context is provided by the final subscriber and is read by the operators at subscription time. Operators
+ * wrapping a subscriber must forward the context of the wrapped subscriber.
+ */
+public interface ContextSupport {
+
+    /**
+     * Provides the context attached to the subscription.
+     * <p>
+     * Subscribers wrapping another subscriber, including the inner subscribers of an operator, must return the context
+     * of the subscriber they deliver the events to, otherwise the context is lost for the upstream operators. Final
+     * subscribers return their own context, and must return the same instance on each call to share it with the
+     * upstream operators.
+     * <p>
+     * The default implementation returns a new empty {@link Context} on each call, so the operators of a subscription
+     * using it cannot share entries. Subscribers using contexts must override this method.
+     *
+     * @return the context, must not be {@code null}
+     */
+    default Context context() {
+        return Context.empty();
+    }
+}
@@ -22,10 +22,13 @@ import org.reactivestreams.Subscription;
  * more.
  *
  * This interface bridges the Mutiny model and the Reactive Streams model.
+ * <p>
+ * A subscriber can expose a {@link io.smallrye.mutiny.Context} by overriding {@link #context()}. The context flows
+ * upstream at subscription time and can be read by the operators.
  *
  * @param <T> the type of item.
  */
-public interface MultiSubscriber<T> extends Subscriber<T> {
+public interface MultiSubscriber<T> extends Subscriber<T>, ContextSupport {
 
     /**
      * Method called when the upstream emits an {@code item} event, in response to to requests to
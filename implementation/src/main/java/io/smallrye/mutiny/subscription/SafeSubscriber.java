@@ -7,6 +7,7 @@ import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
 import io.smallrye.mutiny.CompositeException;
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.helpers.Subscriptions;
 
 /**
@@ -16,7 +17,7 @@ import io.smallrye.mutiny.helpers.Subscriptions;
  * @param <T> the value type
  */
 @SuppressWarnings("SubscriberImplementation")
-public final class SafeSubscriber<T> implements Subscriber<T>, Subscription {
+public final class SafeSubscriber<T> implements Subscriber<T>, Subscription, ContextSupport {
     /**
      * The actual Subscriber.
      */
@@ -198,4 +199,9 @@ public final class SafeSubscriber<T> implements Subscriber<T>, Subscription {
             // nothing we can do.
         }
     }
+
+    @Override
+    public Context context() {
+        return Subscriptions.contextOf(downstream);
+    }
 }
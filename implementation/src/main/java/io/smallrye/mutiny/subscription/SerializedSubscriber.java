@@ -5,6 +5,9 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.helpers.Subscriptions;
+
 /**
  * Subscriber that makes sure signals are delivered sequentially in case the onNext, onError or onComplete methods are
  * called concurrently.
@@ -127,6 +130,11 @@ public final class SerializedSubscriber<T> implements Subscription, MultiSubscri
         upstream.get().cancel();
     }
 
+    @Override
+    public Context context() {
+        return Subscriptions.contextOf(downstream);
+    }
+
     void serAdd(T value) {
         LinkedArrayNode<T> t = tail;
 
@@ -7,6 +7,7 @@ import java.util.function.Consumer;
 
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.helpers.Subscriptions;
 
 public class Subscribers {
@@ -38,7 +39,16 @@ public class Subscribers {
         return new CallbackBasedSubscriber<>(onItem, onFailure, onCompletion, onSubscription);
     }
 
+    public static <T> CancellableSubscriber<T> from(Context context, Consumer<? super T> onItem,
+            Consumer<? super Throwable> onFailure, Runnable onCompletion,
+            Consumer<? super Subscription> onSubscription) {
+        return new CallbackBasedSubscriber<>(nonNull(context, "context"), onItem, onFailure, onCompletion,
+                onSubscription);
+    }
+
     private static class CancellationSubscriber<T> implements CancellableSubscriber<T> {
+        private final Context context = Context.empty();
+
         @Override
         public void onSubscribe(Subscription s) {
             s.cancel();
@@ -63,6 +73,11 @@ public class Subscribers {
         public void cancel() {
             // already cancelled, so ignoring.
         }
+
+        @Override
+        public Context context() {
+            return context;
+        }
     }
 
     private static class CallbackBasedSubscriber<T> implements CancellableSubscriber<T>, Subscription {
@@ -72,12 +87,23 @@ public class Subscribers {
         private final Consumer<? super Throwable> onFailure;
         private final Runnable onCompletion;
         private final Consumer<? super Subscription> onSubscription;
+        private final Context context;
 
         public CallbackBasedSubscriber(
                 Consumer<? super T> onItem,
                 Consumer<? super Throwable> onFailure,
                 Runnable onCompletion,
                 Consumer<? super Subscription> onSubscription) {
+            this(null, onItem, onFailure, onCompletion, onSubscription);
+        }
+
+        public CallbackBasedSubscriber(
+                Context context,
+                Consumer<? super T> onItem,
+                Consumer<? super Throwable> onFailure,
+                Runnable onCompletion,
+                Consumer<? super Subscription> onSubscription) {
+            this.context = context == null ? Context.empty() : context;
             this.onItem = nonNull(onItem, "onItem");
             this.onFailure = onFailure;
             this.onCompletion = onCompletion;
@@ -142,5 +168,10 @@ public class Subscribers {
                 prev.cancel();
             }
         }
+
+        @Override
+        public Context context() {
+            return context;
+        }
     }
 }
@@ -1,12 +1,13 @@
 package io.smallrye.mutiny.subscription;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
 
@@ -20,6 +21,22 @@ import io.smallrye.mutiny.helpers.Subscriptions;
  */
 public abstract class SwitchableSubscriptionSubscriber<O> implements MultiSubscriber<O>, Subscription {
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<SwitchableSubscriptionSubscriber, Subscription> PENDING_SUBSCRIPTION = AtomicReferenceFieldUpdater
+            .newUpdater(SwitchableSubscriptionSubscriber.class, Subscription.class, "pendingSubscription");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<SwitchableSubscriptionSubscriber> MISSED_REQUESTED = AtomicLongFieldUpdater
+            .newUpdater(SwitchableSubscriptionSubscriber.class, "missedRequested");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<SwitchableSubscriptionSubscriber> MISSED_ITEMS = AtomicLongFieldUpdater
+            .newUpdater(SwitchableSubscriptionSubscriber.class, "missedItems");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<SwitchableSubscriptionSubscriber> WIP = AtomicIntegerFieldUpdater
+            .newUpdater(SwitchableSubscriptionSubscriber.class, "wip");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<SwitchableSubscriptionSubscriber> CANCELLED = AtomicIntegerFieldUpdater
+            .newUpdater(SwitchableSubscriptionSubscriber.class, "cancelled");
+
     /**
      * The downstream subscriber
      */
@@ -43,27 +60,27 @@ public abstract class SwitchableSubscriptionSubscriber<O> implements MultiSubscr
     /**
      * Pending subscription.
      */
-    private final AtomicReference<Subscription> pendingSubscription = new AtomicReference<>();
+    private volatile Subscription pendingSubscription;
 
     /**
      * Pending amount of request.
      */
-    private final AtomicLong missedRequested = new AtomicLong();
+    private volatile long missedRequested;
 
     /**
      * Pending amount of emitted items.
      */
-    private final AtomicLong missedItems = new AtomicLong();
+    private volatile long missedItems;
 
     /**
      * Whether or not there is work in progress.
      */
-    private final AtomicInteger wip = new AtomicInteger();
+    private volatile int wip;
 
     /**
-     * Whether or not the downstream cancelled the subscription.
+     * Whether or not the downstream cancelled the subscription, 1 if cancelled, 0 otherwise.
      */
-    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private volatile int cancelled;
 
     public SwitchableSubscriptionSubscriber(MultiSubscriber<? super O> downstream) {
         this.downstream = downstream;
@@ -71,13 +88,13 @@ public abstract class SwitchableSubscriptionSubscriber<O> implements MultiSubscr
 
     @Override
     public void cancel() {
-        if (!cancelled.getAndSet(true)) {
+        if (CANCELLED.getAndSet(this, 1) == 0) {
             drain();
         }
     }
 
     public boolean isCancelled() {
-        return cancelled.get();
+        return cancelled == 1;
     }
 
     @Override
@@ -85,6 +102,11 @@ public abstract class SwitchableSubscriptionSubscriber<O> implements MultiSubscr
         downstream.onComplete();
     }
 
+    @Override
+    public Context context() {
+        return downstream.context();
+    }
+
     @Override
     public void onFailure(Throwable t) {
         downstream.onError(t);
@@ -99,7 +121,7 @@ public abstract class SwitchableSubscriptionSubscriber<O> implements MultiSubscr
         if (unbounded) {
             return;
         }
-        if (wip.compareAndSet(0, 1)) {
+        if (WIP.compareAndSet(this, 0, 1)) {
             long r = requested;
 
             if (r != Long.MAX_VALUE) {
@@ -112,7 +134,7 @@ public abstract class SwitchableSubscriptionSubscriber<O> implements MultiSubscr
                 unbounded = true;
             }
 
-            if (wip.decrementAndGet() == 0) {
+            if (WIP.decrementAndGet(this) == 0) {
                 return;
             }
 
@@ -121,7 +143,7 @@ public abstract class SwitchableSubscriptionSubscriber<O> implements MultiSubscr
             return;
         }
 
-        Subscriptions.add(missedItems, n);
+        Subscriptions.add(MISSED_ITEMS, this, n);
 
         drain();
     }
@@ -136,7 +158,7 @@ public abstract class SwitchableSubscriptionSubscriber<O> implements MultiSubscr
         if (unbounded) {
             return;
         }
-        if (wip.compareAndSet(0, 1)) {
+        if (WIP.compareAndSet(this, 0, 1)) {
             long r = requested;
 
             if (r != Long.MAX_VALUE) {
@@ -148,7 +170,7 @@ public abstract class SwitchableSubscriptionSubscriber<O> implements MultiSubscr
             }
             Subscription actual = currentUpstream.get();
 
-            if (wip.decrementAndGet() != 0) {
+            if (WIP.decrementAndGet(this) != 0) {
                 drainLoop();
             }
 
@@ -159,7 +181,7 @@ public abstract class SwitchableSubscriptionSubscriber<O> implements MultiSubscr
             return;
         }
 
-        Subscriptions.add(missedRequested, n);
+        Subscriptions.add(MISSED_REQUESTED, this, n);
 
         drain();
     }
@@ -167,12 +189,12 @@ public abstract class SwitchableSubscriptionSubscriber<O> implements MultiSubscr
     protected final void setOrSwitchUpstream(Subscription newUpstream) {
         ParameterValidation.nonNull(newUpstream, "newUpstream");
 
-        if (cancelled.get()) {
+        if (cancelled == 1) {
             newUpstream.cancel();
             return;
         }
 
-        if (wip.compareAndSet(0, 1)) {
+        if (WIP.compareAndSet(this, 0, 1)) {
             Subscription actual = currentUpstream.getAndSet(newUpstream);
             if (actual != null && cancelUpstreamOnSwitch()) {
                 actual.cancel();
@@ -181,7 +203,7 @@ public abstract class SwitchableSubscriptionSubscriber<O> implements MultiSubscr
             // Store the pending number of request as the drain loop may change it.
             long r = requested;
 
-            if (wip.decrementAndGet() != 0) {
+            if (WIP.decrementAndGet(this) != 0) {
                 drainLoop();
             }
 
@@ -205,7 +227,7 @@ public abstract class SwitchableSubscriptionSubscriber<O> implements MultiSubscr
     }
 
     private void drain() {
-        if (wip.getAndIncrement() != 0) {
+        if (WIP.getAndIncrement(this) != 0) {
             return;
         }
         drainLoop();
@@ -219,12 +241,12 @@ public abstract class SwitchableSubscriptionSubscriber<O> implements MultiSubscr
 
         for (;;) {
 
-            Subscription nextUpstream = pendingSubscription.getAndSet(null);
-            long pendingRequests = missedRequested.getAndSet(0L);
-            long pendingItems = missedItems.getAndSet(0L);
+            Subscription nextUpstream = PENDING_SUBSCRIPTION.getAndSet(this, null);
+            long pendingRequests = MISSED_REQUESTED.getAndSet(this, 0L);
+            long pendingItems = MISSED_ITEMS.getAndSet(this, 0L);
             Subscription upstream = currentUpstream.get();
 
-            if (cancelled.get()) {
+            if (cancelled == 1) {
                 // Cancel and release all.
                 if (upstream != null) {
                     upstream.cancel();
@@ -266,7 +288,7 @@ public abstract class SwitchableSubscriptionSubscriber<O> implements MultiSubscr
                 }
             }
 
-            missed = wip.addAndGet(-missed);
+            missed = WIP.addAndGet(this, -missed);
             if (missed == 0) {
                 if (requestAmount != 0L) {
                     requestTarget.request(requestAmount);
@@ -19,10 +19,13 @@ import io.smallrye.mutiny.groups.UniSubscribe;
  * Once this subscriber receives an item or failure event, no more events will be received.
  * <p>
  * Note that unlike in Reactive Streams, the value received in {@link #onItem(Object)} can be {@code null}.
+ * <p>
+ * A subscriber can expose a {@link io.smallrye.mutiny.Context} by overriding {@link #context()}. The context flows
+ * upstream at subscription time and can be read by the operators.
  *
  * @param <T> the expected type of item
  */
-public interface UniSubscriber<T> {
+public interface UniSubscriber<T> extends ContextSupport {
 
     /**
      * Event handler called once the subscribed {@link Uni} has taken into account the subscription. The {@link Uni}
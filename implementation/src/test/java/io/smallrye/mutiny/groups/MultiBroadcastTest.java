@@ -5,12 +5,16 @@ import static org.awaitility.Awaitility.await;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.testng.annotations.Test;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.MultiEmitterProcessor;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.test.MultiAssertSubscriber;
 
 public class MultiBroadcastTest {
@@ -282,4 +286,68 @@ public class MultiBroadcastTest {
         assertThat(cancelled).isFalse();
         await().until(cancelled::get);
     }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testThatBufferSizeMustBePositive() {
+        Multi.createFrom().range(1, 5).broadcast().withBufferSize(0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testThatReplenishThresholdMustBePositive() {
+        Multi.createFrom().range(1, 5).broadcast().withReplenishThreshold(0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testThatReplenishThresholdMustNotExceedBufferSize() {
+        Multi.createFrom().range(1, 5).broadcast().withBufferSize(4).withReplenishThreshold(5).toAllSubscribers();
+    }
+
+    @Test
+    public void testThatRequestsAreBatchedUsingTheReplenishThreshold() {
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        Multi<Integer> multi = Multi.createFrom().range(0, 100)
+                .on().request(requests::add)
+                .broadcast().withBufferSize(16).withReplenishThreshold(12).toAllSubscribers();
+
+        MultiAssertSubscriber<Integer> subscriber = multi.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertCompletedSuccessfully();
+        assertThat(subscriber.items()).hasSize(100);
+        assertThat(requests.get(0)).isEqualTo(16L);
+        assertThat(requests.subList(1, requests.size())).allSatisfy(n -> assertThat(n).isGreaterThanOrEqualTo(12L));
+    }
+
+    @Test
+    public void testThatTheDefaultReplenishmentRequestsAfterEachDispatch() {
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        MultiEmitterProcessor<Integer> processor = MultiEmitterProcessor.create();
+        Multi<Integer> multi = processor.toMulti()
+                .on().request(requests::add)
+                .broadcast().withBufferSize(4).toAllSubscribers();
+
+        MultiAssertSubscriber<Integer> subscriber = multi.subscribe().withSubscriber(MultiAssertSubscriber.create(10));
+        processor.emit(1).emit(2);
+
+        subscriber.assertReceived(1, 2);
+        assertThat(requests).containsExactly(4L, 1L, 1L);
+    }
+
+    @Test
+    public void testBroadcastWithSmallBufferToManySubscribers() {
+        for (int count : new int[] { 1, 8, 64 }) {
+            Multi<Integer> multi = Multi.createFrom().range(0, 10_000)
+                    .emitOn(Infrastructure.getDefaultExecutor())
+                    .broadcast().withBufferSize(8).withReplenishThreshold(6).toAtLeast(count);
+
+            List<MultiAssertSubscriber<Integer>> subscribers = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                subscribers.add(multi.subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE)));
+            }
+            for (MultiAssertSubscriber<Integer> subscriber : subscribers) {
+                subscriber.await().assertCompletedSuccessfully();
+                assertThat(subscriber.items()).hasSize(10_000).startsWith(0, 1, 2).endsWith(9_998, 9_999);
+            }
+        }
+    }
 }
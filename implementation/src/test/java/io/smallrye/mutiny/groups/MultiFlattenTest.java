@@ -7,7 +7,9 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.testng.annotations.Test;
 
@@ -170,4 +172,39 @@ public class MultiFlattenTest {
         subscriber.request(100);
         subscriber.await().assertCompletedSuccessfully();
     }
+
+    @Test
+    public void testConcatenateWithPrefetch() {
+        AtomicInteger pending = new AtomicInteger();
+        AtomicInteger maxPending = new AtomicInteger();
+        List<Integer> items = Multi.createFrom().range(0, 8)
+                .onItem().transformToMulti(page -> Uni.createFrom().item(page)
+                        .onSubscribe().invoke(s -> maxPending.accumulateAndGet(pending.incrementAndGet(), Math::max))
+                        .onItem().delayIt().by(Duration.ofMillis(10))
+                        .onItem().invoke(x -> pending.decrementAndGet())
+                        .toMulti()
+                        .onItem().transformToMultiAndConcatenate(p -> Multi.createFrom().range(p * 4, p * 4 + 4)))
+                .withPrefetch(2)
+                .concatenate()
+                .collectItems().asList().await().atMost(Duration.ofSeconds(5));
+
+        assertThat(items).hasSize(32).isSorted();
+        assertThat(maxPending.get()).isBetween(2, 3);
+    }
+
+    @Test
+    public void testConcatenateWithPrefetchAndBackPressure() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 4)
+                .onItem().transformToMulti(i -> Multi.createFrom().items(i * 2, i * 2 + 1)
+                        .onSubscribe().invoke(s -> subscriptions.incrementAndGet()))
+                .withPrefetch(1)
+                .concatenate()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(1));
+
+        subscriber.assertReceived(0);
+        assertThat(subscriptions).hasValue(2);
+        subscriber.request(2).assertReceived(0, 1, 2).assertNotTerminated();
+        subscriber.request(10).assertCompletedSuccessfully().assertReceived(0, 1, 2, 3, 4, 5, 6, 7);
+    }
 }
@@ -0,0 +1,67 @@
+package io.smallrye.mutiny.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.testng.annotations.Test;
+
+public class AdaptiveConcurrencyLimitTest {
+
+    @Test
+    public void testInvalidParameters() {
+        assertThatThrownBy(() -> AdaptiveConcurrencyLimit.aimd(0, 1, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AdaptiveConcurrencyLimit.aimd(2, 1, 4))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AdaptiveConcurrencyLimit.aimd(1, 5, 4))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AdaptiveConcurrencyLimit.aimd(1, 2, 4, 1.0, 2.0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AdaptiveConcurrencyLimit.aimd(1, 2, 4, 0.5, 0.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testAdditiveIncrease() {
+        AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.aimd(1, 2, 4);
+        assertThat(limit.current()).isEqualTo(2);
+
+        // 2 + 1/2 + 1/2.5 = 2.9
+        limit.onSample(100, false);
+        limit.onSample(100, false);
+        assertThat(limit.current()).isEqualTo(2);
+        limit.onSample(100, false);
+        assertThat(limit.current()).isEqualTo(3);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(100, false);
+        }
+        assertThat(limit.current()).isEqualTo(4);
+    }
+
+    @Test
+    public void testMultiplicativeDecreaseOnFailure() {
+        AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.aimd(2, 10, 10, 0.5, 2.0);
+        limit.onSample(100, true);
+        assertThat(limit.current()).isEqualTo(5);
+        limit.onSample(100, true);
+        assertThat(limit.current()).isEqualTo(2);
+        limit.onSample(100, true);
+        assertThat(limit.current()).isEqualTo(2);
+    }
+
+    @Test
+    public void testMultiplicativeDecreaseOnSlowSample() {
+        AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.aimd(1, 10, 20, 0.5, 2.0);
+        limit.onSample(100, false);
+        assertThat(limit.current()).isEqualTo(10);
+
+        // Within the tolerance
+        limit.onSample(200, false);
+        assertThat(limit.current()).isEqualTo(10);
+
+        // Beyond the tolerance
+        limit.onSample(201, false);
+        assertThat(limit.current()).isEqualTo(5);
+    }
+}
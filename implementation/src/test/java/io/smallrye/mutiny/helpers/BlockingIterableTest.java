@@ -2,12 +2,18 @@ package io.smallrye.mutiny.helpers;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -28,6 +34,37 @@ public class BlockingIterableTest {
         assertThat(values).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
     }
 
+    @Test(timeOut = 10000)
+    public void testToIterableWithAsynchronousUpstream() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        long sum = 0;
+        for (Integer i : Multi.createFrom().range(0, 100_000).emitOn(executor).subscribe().asIterable()) {
+            sum += i;
+        }
+        assertThat(sum).isEqualTo(4_999_950_000L);
+        executor.shutdownNow();
+    }
+
+    @Test(timeOut = 5000)
+    public void testInterruptionWhileWaitingForItems() {
+        AtomicBoolean waiting = new AtomicBoolean();
+        AtomicReference<RuntimeException> exception = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                Iterator<Object> iterator = Multi.createFrom().nothing().subscribe().asIterable().iterator();
+                waiting.set(true);
+                iterator.hasNext();
+            } catch (RuntimeException e) {
+                exception.set(e);
+            }
+        });
+        thread.start();
+        await().untilTrue(waiting);
+        thread.interrupt();
+        await().until(() -> exception.get() != null);
+        assertThat(exception.get()).hasCauseInstanceOf(InterruptedException.class);
+    }
+
     @Test(timeOut = 5000)
     public void testToIterableWithBufferSizeAndSupplier() {
         Queue<Integer> q = new ArrayBlockingQueue<>(1);
@@ -0,0 +1,50 @@
+package io.smallrye.mutiny.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+public class ListPoolTest {
+
+    @Test
+    public void testInvalidParameters() {
+        assertThatThrownBy(() -> ListPool.create(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ListPool.create(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testThatReleasedListsAreReused() {
+        ListPool<String> pool = ListPool.create(4, 2);
+        List<String> first = pool.acquire();
+        List<String> second = pool.acquire();
+        assertThat(first).isNotSameAs(second);
+        assertThat(pool.available()).isZero();
+
+        first.add("a");
+        pool.release(first);
+        assertThat(pool.available()).isEqualTo(1);
+        assertThat(first).isEmpty();
+
+        assertThat(pool.acquire()).isSameAs(first);
+        assertThat(pool.available()).isZero();
+    }
+
+    @Test
+    public void testThatThePoolIsBounded() {
+        ListPool<String> pool = ListPool.create(4, 2);
+        List<String> l1 = pool.acquire();
+        List<String> l2 = pool.acquire();
+        List<String> l3 = pool.acquire();
+        pool.release(l1);
+        pool.release(l2);
+        pool.release(l3);
+        pool.release(null);
+        assertThat(pool.available()).isEqualTo(2);
+        assertThat(pool.acquire()).isSameAs(l2);
+        assertThat(pool.acquire()).isSameAs(l1);
+        assertThat(pool.acquire()).isNotSameAs(l3).isEmpty();
+    }
+}
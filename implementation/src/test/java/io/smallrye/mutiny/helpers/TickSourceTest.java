@@ -0,0 +1,201 @@
+package io.smallrye.mutiny.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.operators.multi.MultiTimeWindowAggregateOp;
+import io.smallrye.mutiny.operators.multi.MultiWindowOnDurationOp;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.test.MultiAssertSubscriber;
+
+public class TickSourceTest {
+
+    private CountingExecutor executor;
+
+    @BeforeMethod
+    public void setup() {
+        executor = new CountingExecutor();
+    }
+
+    @AfterMethod
+    public void cleanup() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testInvalidParameters() {
+        assertThatThrownBy(() -> TickSource.register(null, Duration.ofMillis(10), () -> {
+        })).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TickSource.register(executor, Duration.ZERO, () -> {
+        })).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TickSource.register(executor, Duration.ofMillis(10), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testThatListenersShareASingleTask() {
+        AtomicInteger first = new AtomicInteger();
+        AtomicInteger second = new AtomicInteger();
+        Cancellable c1 = TickSource.register(executor, Duration.ofMillis(5), first::incrementAndGet);
+        Cancellable c2 = TickSource.register(executor, Duration.ofMillis(5), second::incrementAndGet);
+        assertThat(executor.scheduled).hasValue(1);
+
+        await().until(() -> first.get() > 3 && second.get() > 3);
+
+        c1.cancel();
+        int count = first.get();
+        await().until(() -> second.get() > count + 3);
+        assertThat(first).hasValue(count);
+
+        c2.cancel();
+        await().until(() -> executor.getQueue().isEmpty());
+
+        // A new registration schedules a new task
+        Cancellable c3 = TickSource.register(executor, Duration.ofMillis(5), first::incrementAndGet);
+        assertThat(executor.scheduled).hasValue(2);
+        c3.cancel();
+    }
+
+    @Test
+    public void testThatSourcesAreNotSharedAcrossPeriods() {
+        Cancellable c1 = TickSource.register(executor, Duration.ofMillis(5), () -> {
+        });
+        Cancellable c2 = TickSource.register(executor, Duration.ofMillis(10), () -> {
+        });
+        assertThat(executor.scheduled).hasValue(2);
+        c1.cancel();
+        c2.cancel();
+    }
+
+    @Test
+    public void testThatAFailingListenerDoesNotStopTheTicks() {
+        AtomicInteger ticks = new AtomicInteger();
+        Cancellable c1 = TickSource.register(executor, Duration.ofMillis(5), () -> {
+            throw new IllegalStateException("boom");
+        });
+        Cancellable c2 = TickSource.register(executor, Duration.ofMillis(5), ticks::incrementAndGet);
+        await().until(() -> ticks.get() > 3);
+        c1.cancel();
+        c2.cancel();
+    }
+
+    @Test
+    public void testThatARejectedRegistrationDoesNotKeepTheListener() {
+        AtomicInteger ticks = new AtomicInteger();
+        int sources = TickSource.activeSources();
+        Cancellable c1 = TickSource.register(executor, Duration.ofMillis(5), () -> {
+        });
+        executor.shutdownNow();
+
+        assertThatThrownBy(() -> TickSource.register(executor, Duration.ofMillis(7), ticks::incrementAndGet))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(TickSource.activeSources()).isEqualTo(sources + 1);
+        c1.cancel();
+        assertThat(TickSource.activeSources()).isEqualTo(sources);
+        assertThat(ticks).hasValue(0);
+    }
+
+    @Test
+    public void testThatTimeWindowsDoNotScheduleATaskPerSubscription() {
+        Multi<Integer> upstream = Multi.createFrom().nothing();
+        List<MultiAssertSubscriber<?>> subscribers = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            subscribers.add(new MultiWindowOnDurationOp<>(upstream, Duration.ofMillis(20), executor)
+                    .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE)));
+            subscribers.add(
+                    new MultiTimeWindowAggregateOp<>(upstream, Duration.ofMillis(40), Duration.ofMillis(20),
+                            Collectors.counting(), executor)
+                                    .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE)));
+        }
+        assertThat(executor.scheduled).hasValue(1);
+        assertThat(TickSource.activeSources()).isGreaterThanOrEqualTo(1);
+
+        subscribers.forEach(MultiAssertSubscriber::cancel);
+        // Cancelled windows are unregistered on the next tick at the latest.
+        await().until(() -> executor.getQueue().isEmpty());
+        assertThat(executor.scheduled).hasValue(1);
+    }
+
+    @Test
+    public void testThatSlowSubscribersDoNotDelayTheTicks() {
+        ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(4);
+        CountDownLatch release = new CountDownLatch(1);
+        Multi<Integer> upstream = Multi.createBy().concatenating()
+                .streams(Multi.createFrom().item(1), Multi.createFrom().nothing());
+        try {
+            new MultiTimeWindowAggregateOp<>(upstream, Duration.ofMillis(10), Duration.ofMillis(10),
+                    Collectors.counting(), pool)
+                            .subscribe().with(count -> {
+                                try {
+                                    release.await();
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                            });
+            AtomicInteger windows = new AtomicInteger();
+            new MultiWindowOnDurationOp<>(upstream, Duration.ofMillis(10), pool)
+                    .subscribe().with(window -> {
+                        // The first window is emitted on subscription, from the caller thread.
+                        if (windows.incrementAndGet() > 1) {
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                    });
+
+            AtomicInteger ticks = new AtomicInteger();
+            Cancellable cancellable = TickSource.register(pool, Duration.ofMillis(10), ticks::incrementAndGet);
+            // The blocked subscribers occupy the worker threads, but not the thread running the ticks.
+            await().atMost(Duration.ofSeconds(5)).until(() -> ticks.get() > 10);
+            cancellable.cancel();
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    private static class CountingExecutor extends ScheduledThreadPoolExecutor {
+
+        private final AtomicInteger scheduled = new AtomicInteger();
+
+        CountingExecutor() {
+            super(1);
+            setRemoveOnCancelPolicy(true);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period,
+                TimeUnit unit) {
+            scheduled.incrementAndGet();
+            return super.scheduleAtFixedRate(command, initialDelay, period, unit);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            // Only timers are counted, the ticks submit the emissions with execute, so without delay.
+            if (delay > 0) {
+                scheduled.incrementAndGet();
+            }
+            return super.schedule(command, delay, unit);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package io.smallrye.mutiny.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+public class TrampolineTest {
+
+    @Test
+    public void testThatShallowTasksRunImmediately() {
+        List<String> events = new ArrayList<>();
+        Trampoline.run(() -> {
+            events.add("outer-start");
+            Trampoline.run(() -> events.add("inner"));
+            events.add("outer-end");
+        });
+        assertThat(events).containsExactly("outer-start", "inner", "outer-end");
+    }
+
+    @Test
+    public void testThatDeepTasksAreDeferred() {
+        List<Integer> events = new ArrayList<>();
+        recurse(events, Trampoline.MAX_INLINE_DEPTH + 2);
+        // The innermost tasks exceed the depth, so they only run once the other ones completed.
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 3; i <= Trampoline.MAX_INLINE_DEPTH + 2; i++) {
+            expected.add(i);
+        }
+        expected.add(1);
+        expected.add(2);
+        assertThat(events).isEqualTo(expected);
+    }
+
+    @Test
+    public void testBoundedStackDepth() {
+        AtomicInteger remaining = new AtomicInteger(100_000);
+        AtomicInteger maxDepth = new AtomicInteger();
+        Trampoline.run(new Runnable() {
+            @Override
+            public void run() {
+                int r = remaining.decrementAndGet();
+                if (r % 1000 == 0) {
+                    maxDepth.accumulateAndGet(Thread.currentThread().getStackTrace().length, Math::max);
+                }
+                if (r > 0) {
+                    Trampoline.run(this);
+                }
+            }
+        });
+        assertThat(remaining).hasValue(0);
+        assertThat(maxDepth.get()).isLessThan(Thread.currentThread().getStackTrace().length
+                + Trampoline.MAX_INLINE_DEPTH * 4);
+    }
+
+    @Test
+    public void testIsolation() {
+        List<String> events = new ArrayList<>();
+        nest(Trampoline.MAX_INLINE_DEPTH, () -> {
+            Trampoline.run(() -> events.add("deferred"));
+            Trampoline.isolated(() -> Trampoline.run(() -> events.add("isolated")));
+            // The isolated task already ran, the other one waits for the stack to be unwound.
+            assertThat(events).containsExactly("isolated");
+        });
+        assertThat(events).containsExactly("isolated", "deferred");
+    }
+
+    @Test
+    public void testThatFailuresDoNotPreventTheQueuedTasksFromRunning() {
+        List<String> events = new ArrayList<>();
+        assertThatThrownBy(() -> nest(Trampoline.MAX_INLINE_DEPTH, () -> {
+            Trampoline.run(() -> {
+                throw new IllegalStateException("boom");
+            });
+            Trampoline.run(() -> events.add("next"));
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        assertThat(events).containsExactly("next");
+
+        // The loop can be reused.
+        Trampoline.run(() -> events.add("again"));
+        assertThat(events).containsExactly("next", "again");
+    }
+
+    @Test
+    public void testThatTheNextFailuresAreSuppressed() {
+        IllegalStateException first = new IllegalStateException("first");
+        IllegalArgumentException second = new IllegalArgumentException("second");
+        assertThatThrownBy(() -> nest(Trampoline.MAX_INLINE_DEPTH, () -> {
+            Trampoline.run(() -> {
+                throw first;
+            });
+            Trampoline.run(() -> {
+                throw second;
+            });
+        })).isSameAs(first);
+        assertThat(first.getSuppressed()).containsExactly(second);
+    }
+
+    private static void recurse(List<Integer> events, int n) {
+        Trampoline.run(() -> {
+            if (n > 1) {
+                recurse(events, n - 1);
+            }
+            events.add(n);
+        });
+    }
+
+    private static void nest(int depth, Runnable action) {
+        Trampoline.run(() -> {
+            if (depth > 1) {
+                nest(depth - 1, action);
+            } else {
+                action.run();
+            }
+        });
+    }
+}
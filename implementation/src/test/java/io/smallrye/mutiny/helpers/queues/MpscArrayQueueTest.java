@@ -0,0 +1,100 @@
+package io.smallrye.mutiny.helpers.queues;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.testng.annotations.Test;
+
+public class MpscArrayQueueTest {
+
+    @Test
+    public void testOfferAndPoll() {
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(3);
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.peek()).isNull();
+
+        // The capacity is rounded to 4.
+        assertThat(queue.offer(1)).isTrue();
+        assertThat(queue.offer(2)).isTrue();
+        assertThat(queue.offer(3)).isTrue();
+        assertThat(queue.offer(4)).isTrue();
+        assertThat(queue.offer(5)).isFalse();
+        assertThat(queue.size()).isEqualTo(4);
+        assertThat(queue.peek()).isEqualTo(1);
+
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.offer(5)).isTrue();
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.poll()).isEqualTo(4);
+        assertThat(queue.poll()).isEqualTo(5);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+
+        queue.offer(6);
+        queue.offer(7);
+        queue.clear();
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testThatNullIsRejected() {
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(8);
+        assertThatThrownBy(() -> queue.offer(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void testCreationFromQueues() {
+        assertThat(Queues.createMpscArrayQueue(10)).isInstanceOf(MpscArrayQueue.class);
+    }
+
+    @Test
+    public void testWithConcurrentProducers() throws InterruptedException {
+        int producers = 4;
+        int count = 100_000;
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < count; i++) {
+                    Integer item = producer * count + i;
+                    while (!queue.offer(item)) {
+                        Thread.yield();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+
+        List<Integer> last = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            last.add(-1);
+        }
+        int received = 0;
+        while (received < producers * count) {
+            Integer item = queue.poll();
+            if (item == null) {
+                continue;
+            }
+            int producer = item / count;
+            // Items from a given producer are received in order.
+            assertThat(item % count).isEqualTo(last.get(producer) + 1);
+            last.set(producer, item % count);
+            received++;
+        }
+        assertThat(queue.isEmpty()).isTrue();
+        executor.shutdownNow();
+    }
+}
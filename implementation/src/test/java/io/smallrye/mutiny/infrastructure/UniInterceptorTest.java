@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.Test;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.operators.UniDelegatingSubscriber;
@@ -129,6 +130,11 @@ public class UniInterceptorTest {
                     public void onFailure(Throwable failure) {
                         subscriber.onFailure(failure);
                     }
+
+                    @Override
+                    public Context context() {
+                        return subscriber.context();
+                    }
                 };
             }
         };
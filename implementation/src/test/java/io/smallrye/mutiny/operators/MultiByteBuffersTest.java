@@ -0,0 +1,293 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.annotations.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.test.MultiAssertSubscriber;
+
+public class MultiByteBuffersTest {
+
+    @Test
+    public void testLinesWithinASingleChunk() {
+        List<String> lines = split(chunks("a\nbc\r\n\ndef\n"));
+        assertThat(lines).containsExactly("a", "bc", "", "def");
+    }
+
+    @Test
+    public void testLinesSpanningChunks() {
+        List<String> lines = split(chunks("ab", "c\nd", "e", "f\r", "\ng\n", "", "\n", "h"));
+        assertThat(lines).containsExactly("abc", "def", "g", "", "h");
+    }
+
+    @Test
+    public void testThatLinesShareTheContentOfTheChunks() {
+        ByteBuffer chunk = ByteBuffer.wrap("hello\nworld\n".getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+        List<ByteBuffer> lines = MultiByteBuffers.lines(Multi.createFrom().item(chunk))
+                .collectItems().asList().await().indefinitely();
+        assertThat(lines).hasSize(2);
+        assertThat(lines).allSatisfy(line -> assertThat(line.isReadOnly()).isTrue());
+        assertThat(lines.stream().map(MultiByteBuffersTest::string)).containsExactly("hello", "world");
+    }
+
+    @Test
+    public void testThatThePositionOfTheChunksIsNotModified() {
+        ByteBuffer chunk = ByteBuffer.wrap("a\nb\nc".getBytes(StandardCharsets.UTF_8));
+        Multi<ByteBuffer> upstream = Multi.createFrom().item(chunk);
+
+        assertThat(split(upstream)).containsExactly("a", "b", "c");
+        assertThat(chunk.position()).isEqualTo(0);
+        assertThat(chunk.remaining()).isEqualTo(5);
+        assertThat(split(upstream)).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    public void testWithEveryChunkSize() {
+        String content = IntStream.range(0, 50).mapToObj(i -> "line-" + i).collect(Collectors.joining("\r\n"));
+        for (int size = 1; size < 40; size++) {
+            List<String> chunks = new ArrayList<>();
+            for (int i = 0; i < content.length(); i += size) {
+                chunks.add(content.substring(i, Math.min(content.length(), i + size)));
+            }
+            List<String> lines = split(chunks(chunks.toArray(new String[0])));
+            assertThat(lines).hasSize(50).startsWith("line-0", "line-1").endsWith("line-49");
+        }
+    }
+
+    @Test
+    public void testEmptyUpstream() {
+        assertThat(split(Multi.createFrom().empty())).isEmpty();
+        assertThat(split(chunks("", ""))).isEmpty();
+    }
+
+    @Test
+    public void testBackPressure() {
+        MultiAssertSubscriber<String> subscriber = MultiByteBuffers.lines(chunks("a\nb\nc", "\nd"))
+                .map(MultiByteBuffersTest::string)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create());
+
+        subscriber.assertSubscribed().assertHasNotReceivedAnyItem();
+        subscriber.request(1).assertReceived("a");
+        subscriber.request(2).assertReceived("a", "b", "c").assertNotTerminated();
+        subscriber.request(1).assertReceived("a", "b", "c", "d").assertCompletedSuccessfully();
+    }
+
+    @Test
+    public void testFailure() {
+        Multi<ByteBuffer> upstream = chunks("a\nb").onCompletion().failWith(new IOException("boom"));
+        MultiByteBuffers.lines(upstream)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testCancellation() {
+        MultiAssertSubscriber<ByteBuffer> subscriber = MultiByteBuffers.lines(chunks("a\nb\nc\n"))
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(1));
+        subscriber.cancel();
+        subscriber.request(5);
+        assertThat(subscriber.items()).hasSize(1);
+        subscriber.assertNotTerminated();
+    }
+
+    @Test
+    public void testInvalidParameters() {
+        assertThatThrownBy(() -> MultiByteBuffers.lines(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testLinesOfAFile() throws IOException {
+        Path file = Files.createTempFile("mutiny-", ".txt");
+        try {
+            List<String> expected = IntStream.range(0, 2000).mapToObj(i -> "This is the line number " + i)
+                    .collect(Collectors.toList());
+            Files.write(file, expected, StandardCharsets.UTF_8);
+
+            List<String> lines = Multi.createFrom().file(file, 100)
+                    .then(MultiByteBuffers::lines)
+                    .map(MultiByteBuffersTest::string)
+                    .collectItems().asList().await().atMost(Duration.ofSeconds(10));
+            assertThat(lines).isEqualTo(expected);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testMappedFile() throws IOException {
+        Path file = Files.createTempFile("mutiny-", ".bin");
+        try {
+            byte[] content = new byte[10_000];
+            new Random().nextBytes(content);
+            Files.write(file, content);
+
+            List<MappedByteBuffer> regions = Multi.createFrom().mappedFile(file, 4096)
+                    .collectItems().asList().await().atMost(Duration.ofSeconds(5));
+            assertThat(regions).hasSize(3);
+            assertThat(regions.stream().map(ByteBuffer::remaining)).containsExactly(4096, 4096, 1808);
+            assertThat(regions).allSatisfy(region -> assertThat(region.isReadOnly()).isTrue());
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (ByteBuffer region : regions) {
+                byte[] bytes = new byte[region.remaining()];
+                region.get(bytes);
+                out.write(bytes);
+            }
+            assertThat(out.toByteArray()).isEqualTo(content);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testThatRegionsAreMappedOnDemand() throws IOException {
+        Path file = Files.createTempFile("mutiny-", ".bin");
+        try {
+            Files.write(file, new byte[100]);
+            MultiAssertSubscriber<MappedByteBuffer> subscriber = Multi.createFrom().mappedFile(file, 10)
+                    .subscribe().withSubscriber(MultiAssertSubscriber.create());
+            subscriber.assertHasNotReceivedAnyItem();
+            subscriber.request(4);
+            assertThat(subscriber.items()).hasSize(4);
+            subscriber.assertNotTerminated();
+            subscriber.request(100).assertCompletedSuccessfully();
+            assertThat(subscriber.items()).hasSize(10);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testMappedFileLines() throws IOException {
+        Path file = Files.createTempFile("mutiny-", ".txt");
+        try {
+            List<String> expected = IntStream.range(0, 1000).mapToObj(i -> "line " + i).collect(Collectors.toList());
+            Files.write(file, expected, StandardCharsets.UTF_8);
+            List<String> lines = Multi.createFrom().mappedFile(file, 333)
+                    .then(MultiByteBuffers::lines)
+                    .map(MultiByteBuffersTest::string)
+                    .collectItems().asList().await().atMost(Duration.ofSeconds(5));
+            assertThat(lines).isEqualTo(expected);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testMappingAnEmptyOrMissingFile() throws IOException {
+        Path file = Files.createTempFile("mutiny-", ".bin");
+        Multi.createFrom().mappedFile(file, 10)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(1))
+                .assertCompletedSuccessfully()
+                .assertHasNotReceivedAnyItem();
+
+        Files.delete(file);
+        Multi.createFrom().mappedFile(file, 10)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(1))
+                .assertHasFailedWith(NoSuchFileException.class, file.toString());
+
+        assertThatThrownBy(() -> Multi.createFrom().mappedFile(file, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testToFile() throws Exception {
+        Path file = Files.createTempFile("mutiny-", ".txt");
+        try {
+            Files.write(file, "existing content".getBytes(StandardCharsets.UTF_8));
+            List<String> expected = IntStream.range(0, 500).mapToObj(i -> "line " + i + "\n")
+                    .collect(Collectors.toList());
+            long written = Multi.createFrom().iterable(expected)
+                    .map(line -> ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8)))
+                    .subscribe().toFile(file)
+                    .get(5, TimeUnit.SECONDS);
+
+            String content = String.join("", expected);
+            assertThat(written).isEqualTo(content.length());
+            assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8)).isEqualTo(content);
+
+            written = chunks("more\n").subscribe().toFile(file, StandardOpenOption.APPEND)
+                    .get(5, TimeUnit.SECONDS);
+            assertThat(written).isEqualTo(5);
+            assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8)).isEqualTo(content + "more\n");
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testCopyingAMappedFile() throws Exception {
+        Path source = Files.createTempFile("mutiny-", ".bin");
+        Path target = Files.createTempFile("mutiny-", ".bin");
+        try {
+            byte[] content = new byte[100_000];
+            new Random().nextBytes(content);
+            Files.write(source, content);
+            long written = Multi.createFrom().mappedFile(source, 1000)
+                    .subscribe().toFile(target)
+                    .get(5, TimeUnit.SECONDS);
+            assertThat(written).isEqualTo(content.length);
+            assertThat(Files.readAllBytes(target)).isEqualTo(content);
+        } finally {
+            Files.delete(source);
+            Files.delete(target);
+        }
+    }
+
+    @Test
+    public void testToFileFailures() throws IOException {
+        Path directory = Files.createTempDirectory("mutiny-");
+        try {
+            Path file = directory.resolve("missing").resolve("file");
+            assertThatThrownBy(() -> chunks("a").subscribe().toFile(file).get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(NoSuchFileException.class);
+
+            Path written = directory.resolve("file");
+            Multi<ByteBuffer> failing = chunks("a", "b").onCompletion().failWith(new IOException("boom"));
+            assertThatThrownBy(() -> failing.subscribe().toFile(written).get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IOException.class)
+                    .hasMessageContaining("boom");
+            // The file has been closed, so it can be deleted.
+            Files.delete(written);
+        } finally {
+            Files.delete(directory);
+        }
+    }
+
+    private static Multi<ByteBuffer> chunks(String... chunks) {
+        List<ByteBuffer> buffers = new ArrayList<>();
+        for (String chunk : chunks) {
+            buffers.add(ByteBuffer.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+        }
+        return Multi.createFrom().iterable(buffers);
+    }
+
+    private static List<String> split(Multi<ByteBuffer> upstream) {
+        return MultiByteBuffers.lines(upstream)
+                .map(MultiByteBuffersTest::string)
+                .collectItems().asList().await().indefinitely();
+    }
+
+    private static String string(ByteBuffer buffer) {
+        return StandardCharsets.UTF_8.decode(buffer).toString();
+    }
+}
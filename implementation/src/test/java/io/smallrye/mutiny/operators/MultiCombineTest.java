@@ -4,10 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -658,4 +664,82 @@ public class MultiCombineTest {
         assertThat(list).isEmpty();
     }
 
+    @Test
+    public void testCombineLatestWithReusedItemList() {
+        Multi<Integer> stream = Multi.createFrom().items(1, 2, 3);
+        Set<List<?>> lists = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        List<Integer> sums = Multi.createBy().combining().streams(Arrays.asList(stream, stream, stream))
+                .latestItems().reuseItemList()
+                .using(l -> {
+                    lists.add(l);
+                    return l.stream().mapToInt(o -> (Integer) o).sum();
+                })
+                .collectItems().asList().await().indefinitely();
+
+        assertThat(sums).containsExactly(7, 8, 9);
+        assertThat(lists).hasSize(1);
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> lists.iterator().next().set(0, null));
+    }
+
+    @Test
+    public void testCombineLatestWithoutReusedItemList() {
+        Multi<Integer> stream = Multi.createFrom().items(1, 2, 3);
+
+        List<List<?>> lists = Multi.createBy().combining().streams(Arrays.asList(stream, stream))
+                .latestItems().<List<?>> using(l -> l)
+                .collectItems().asList().await().indefinitely();
+
+        assertThat(lists).containsExactly(Arrays.asList(3, 1), Arrays.asList(3, 2), Arrays.asList(3, 3));
+    }
+
+    @Test
+    public void testCombineLatestWithReusedItemListUsingTuples() {
+        Multi<Integer> stream = Multi.createFrom().items(1, 2, 3);
+
+        List<Tuple2<Integer, Integer>> list = Multi.createBy().combining().streams(stream, stream)
+                .latestItems().reuseItemList().asTuple()
+                .collectItems().asList().await().indefinitely();
+        assertThat(list).containsExactly(Tuple2.of(3, 1), Tuple2.of(3, 2), Tuple2.of(3, 3));
+    }
+
+    @Test
+    public void testCombineLatestRespectsBackPressure() {
+        Multi<Integer> stream = Multi.createFrom().range(0, 10);
+
+        MultiAssertSubscriber<Tuple2<Integer, Integer>> subscriber = Multi.createBy().combining()
+                .streams(stream, stream).latestItems().asTuple()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(2));
+
+        subscriber.assertReceived(Tuple2.of(9, 0), Tuple2.of(9, 1)).assertNotTerminated();
+        subscriber.request(100);
+        subscriber.assertCompletedSuccessfully();
+        assertThat(subscriber.items()).hasSize(10);
+    }
+
+    @Test
+    public void testCombineLatestOfConcurrentStreams() {
+        int count = 8;
+        int items = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        try {
+            List<Multi<Integer>> streams = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                streams.add(Multi.createFrom().range(0, items).runSubscriptionOn(executor));
+            }
+
+            List<Integer> list = Multi.createBy().combining().streams(streams)
+                    .latestItems().reuseItemList()
+                    .using(l -> l.stream().mapToInt(o -> (Integer) o).sum())
+                    .collectItems().asList().await().atMost(Duration.ofSeconds(10));
+
+            // Each item emitted once all the streams have an item produces a combination.
+            assertThat(list).hasSizeBetween(items, count * items);
+            assertThat(list.get(list.size() - 1)).isEqualTo(count * (items - 1));
+            assertThat(list).isSorted();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
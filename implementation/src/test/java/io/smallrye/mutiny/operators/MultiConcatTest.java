@@ -1,14 +1,25 @@
 package io.smallrye.mutiny.operators;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.reactivestreams.Subscription;
 import org.testng.annotations.Test;
 
 import io.reactivex.Flowable;
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.operators.multi.MultiFlatMapOrderedOp;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
 import io.smallrye.mutiny.test.MultiAssertSubscriber;
 
 public class MultiConcatTest {
@@ -134,4 +145,134 @@ public class MultiConcatTest {
                 .assertHasFailedWith(IllegalStateException.class, "boom");
 
     }
+
+    @Test
+    public void testConcatenationWithPrefetch() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        List<Multi<Integer>> streams = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int start = i * 10;
+            streams.add(Multi.createFrom().range(start, start + 10)
+                    .onSubscribe().invoke(s -> subscriptions.incrementAndGet()));
+        }
+
+        MultiAssertSubscriber<Integer> subscriber = Multi.createBy().concatenating().prefetch(2).streams(streams)
+                .subscribe().withSubscriber(new MultiAssertSubscriber<>(5));
+
+        // The current stream and the 2 next ones are subscribed
+        assertThat(subscriptions).hasValue(3);
+        subscriber.assertReceived(0, 1, 2, 3, 4).assertNotTerminated();
+
+        subscriber.request(100).assertCompletedSuccessfully();
+        assertThat(subscriber.items()).hasSize(50).isSorted();
+        assertThat(subscriptions).hasValue(5);
+    }
+
+    @Test
+    public void testConcatenationWithPrefetchHidesTheSubscriptionLatency() {
+        AtomicInteger pending = new AtomicInteger();
+        AtomicInteger maxPending = new AtomicInteger();
+        List<Multi<Integer>> pages = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            int page = i;
+            pages.add(Uni.createFrom().item(page)
+                    .onSubscribe().invoke(s -> maxPending.accumulateAndGet(pending.incrementAndGet(), Math::max))
+                    .onItem().delayIt().by(Duration.ofMillis(20))
+                    .onItem().invoke(x -> pending.decrementAndGet())
+                    .toMulti()
+                    .onItem().transformToMultiAndConcatenate(p -> Multi.createFrom().range(p * 3, p * 3 + 3)));
+        }
+
+        List<Integer> items = Multi.createBy().concatenating().prefetch(3).streams(pages)
+                .collectItems().asList().await().atMost(Duration.ofSeconds(5));
+
+        assertThat(items).hasSize(18).isSorted();
+        assertThat(maxPending.get()).isGreaterThan(1);
+    }
+
+    @Test
+    public void testConcatenationWithPrefetchAndFailures() {
+        IllegalStateException boom = new IllegalStateException("boom");
+        Multi.createBy().concatenating().prefetch(1).streams(
+                Multi.createFrom().item(5),
+                Multi.createFrom().failure(boom),
+                Multi.createFrom().item(6))
+                .subscribe().withSubscriber(new MultiAssertSubscriber<>(5))
+                .assertReceived(5)
+                .assertHasFailedWith(IllegalStateException.class, "boom");
+
+        Multi.createBy().concatenating().collectFailures().prefetch(1).streams(
+                Multi.createFrom().item(5),
+                Multi.createFrom().failure(boom),
+                Multi.createFrom().item(6))
+                .subscribe().withSubscriber(new MultiAssertSubscriber<>(5))
+                .assertReceived(5, 6)
+                .assertHasFailedWith(IllegalStateException.class, "boom");
+    }
+
+    @Test
+    public void testConcatenationWithPrefetchEmitsTheItemsBeforeAPrefetchedFailure() {
+        IllegalStateException boom = new IllegalStateException("boom");
+        Multi<Long> ticks = Multi.createFrom().ticks().every(Duration.ofMillis(10)).transform().byTakingFirstItems(3);
+
+        MultiAssertSubscriber<Long> subscriber = Multi.createBy().concatenating().prefetch(1).streams(
+                ticks, Multi.createFrom().<Long> failure(boom))
+                .subscribe().withSubscriber(new MultiAssertSubscriber<>(Long.MAX_VALUE));
+
+        subscriber.await()
+                .assertReceived(0L, 1L, 2L)
+                .assertHasFailedWith(IllegalStateException.class, "boom");
+    }
+
+    @Test
+    public void testConcatenationWithPrefetchAndInvalidRequest() {
+        AtomicBoolean upstreamCancelled = new AtomicBoolean();
+        AtomicInteger innerCancellations = new AtomicInteger();
+        Multi<Integer> upstream = Multi.createFrom().<Integer> emitter(e -> e.emit(1).emit(2))
+                .onCancellation().invoke(() -> upstreamCancelled.set(true));
+        // Subscribe directly, as the subscribers created by subscribe() reject invalid requests themselves.
+        MultiFlatMapOrderedOp<Integer, Long> concatenation = new MultiFlatMapOrderedOp<>(upstream,
+                i -> Multi.createFrom().ticks().every(Duration.ofMillis(10))
+                        .onCancellation().invoke(innerCancellations::incrementAndGet),
+                true, 2, 1);
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicInteger signals = new AtomicInteger();
+        concatenation.subscribe(new MultiSubscriber<Long>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onItem(Long item) {
+                signals.incrementAndGet();
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                failure.set(throwable);
+                signals.incrementAndGet();
+            }
+
+            @Override
+            public void onCompletion() {
+                signals.incrementAndGet();
+            }
+        });
+
+        // The failure is not delayed, and the upstream and the prefetched streams are cancelled.
+        subscription.get().request(0);
+        assertThat(failure.get()).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must be greater than 0");
+        assertThat(signals).hasValue(1);
+        assertThat(upstreamCancelled).isTrue();
+        assertThat(innerCancellations).hasValue(2);
+    }
+
+    @Test
+    public void testInvalidPrefetch() {
+        assertThatThrownBy(() -> Multi.createBy().concatenating().prefetch(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -0,0 +1,137 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.test.MultiAssertSubscriber;
+
+public class MultiCreateFromFileTest {
+
+    private Path file;
+
+    @BeforeMethod
+    public void init() throws IOException {
+        file = Files.createTempFile("mutiny-", ".bin");
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testInvalidParameters() {
+        assertThatThrownBy(() -> Multi.createFrom().file(null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Multi.createFrom().file(file, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testReadingAFile() throws IOException {
+        byte[] content = new byte[10_000];
+        new Random().nextBytes(content);
+        Files.write(file, content);
+
+        List<ByteBuffer> chunks = Multi.createFrom().file(file, 1024)
+                .collectItems().asList().await().atMost(Duration.ofSeconds(5));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (ByteBuffer chunk : chunks) {
+            assertThat(chunk.isReadOnly()).isTrue();
+            assertThat(chunk.remaining()).isBetween(1, 1024);
+            byte[] bytes = new byte[chunk.remaining()];
+            chunk.get(bytes);
+            out.write(bytes);
+        }
+        assertThat(out.toByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    public void testReadingAnEmptyFile() {
+        Multi.createFrom().file(file, 1024)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(1))
+                .await()
+                .assertCompletedSuccessfully()
+                .assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    public void testThatChunksAreReadOnDemand() throws IOException {
+        Files.write(file, new byte[100]);
+        MultiAssertSubscriber<ByteBuffer> subscriber = Multi.createFrom().file(file, 10)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create());
+
+        subscriber.assertSubscribed().assertHasNotReceivedAnyItem();
+
+        subscriber.request(2);
+        awaitItems(subscriber, 2);
+        subscriber.assertNotTerminated();
+
+        subscriber.request(7);
+        awaitItems(subscriber, 9);
+        subscriber.assertNotTerminated();
+
+        subscriber.request(2);
+        subscriber.await().assertCompletedSuccessfully();
+        assertThat(subscriber.items()).hasSize(10);
+    }
+
+    @Test
+    public void testThatChunksCannotBeModified() throws IOException {
+        Files.write(file, new byte[] { 1, 2, 3 });
+        ByteBuffer chunk = Multi.createFrom().file(file, 10)
+                .collectItems().first().await().atMost(Duration.ofSeconds(5));
+        assertThatThrownBy(() -> chunk.put((byte) 4)).isInstanceOf(ReadOnlyBufferException.class);
+    }
+
+    @Test
+    public void testMissingFile() throws IOException {
+        Files.delete(file);
+        Multi.createFrom().file(file, 10)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(1))
+                .assertHasFailedWith(NoSuchFileException.class, file.toString());
+    }
+
+    @Test
+    public void testCancellation() throws IOException {
+        Files.write(file, new byte[100]);
+        MultiAssertSubscriber<ByteBuffer> subscriber = Multi.createFrom().file(file, 10)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(3));
+        awaitItems(subscriber, 3);
+        subscriber.cancel();
+        subscriber.request(5);
+        assertThat(subscriber.items()).hasSize(3);
+        subscriber.assertNotTerminated();
+    }
+
+    @Test
+    public void testInvalidRequest() throws IOException {
+        Files.write(file, new byte[100]);
+        Multi.createFrom().file(file, 10)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create())
+                .request(-1)
+                .assertHasFailedWith(IllegalArgumentException.class, "");
+    }
+
+    private static void awaitItems(MultiAssertSubscriber<?> subscriber, int count) {
+        await().until(() -> subscriber.items().size() == count);
+    }
+}
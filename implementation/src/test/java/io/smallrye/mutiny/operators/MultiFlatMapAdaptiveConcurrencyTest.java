@@ -0,0 +1,106 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import io.smallrye.mutiny.CompositeException;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.AdaptiveConcurrencyLimit;
+import io.smallrye.mutiny.test.MultiAssertSubscriber;
+
+public class MultiFlatMapAdaptiveConcurrencyTest {
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testThatLimitMustNotBeNull() {
+        Multi.createFrom().range(0, 10)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i))
+                .withAdaptiveConcurrency(null);
+    }
+
+    @Test
+    public void testThatTheNumberOfInFlightUnisIsBounded() {
+        AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.aimd(1, 2, 4);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger max = new AtomicInteger();
+
+        List<Integer> list = Multi.createFrom().range(0, 100)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i)
+                        .onSubscribe().invoke(s -> max.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                        .onItem().delayIt().by(Duration.ofMillis(2))
+                        .onItem().invoke(x -> inFlight.decrementAndGet()))
+                .withAdaptiveConcurrency(limit)
+                .merge()
+                .collectItems().asList().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(list).hasSize(100).containsAll(Multi.createFrom().range(0, 100)
+                .collectItems().asList().await().indefinitely());
+        assertThat(max.get()).isBetween(1, 4);
+        assertThat(limit.current()).isBetween(1, 4);
+    }
+
+    @Test
+    public void testThatTheConcurrencyCapsTheLimit() {
+        AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.aimd(1, 8, 8);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger max = new AtomicInteger();
+
+        List<Integer> list = Multi.createFrom().range(0, 50)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i)
+                        .onSubscribe().invoke(s -> max.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                        .onItem().delayIt().by(Duration.ofMillis(2))
+                        .onItem().invoke(x -> inFlight.decrementAndGet()))
+                .withAdaptiveConcurrency(limit)
+                .merge(2)
+                .collectItems().asList().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(list).hasSize(50);
+        assertThat(max.get()).isBetween(1, 2);
+    }
+
+    @Test
+    public void testThatFailuresShrinkTheLimit() {
+        AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.aimd(1, 16, 16, 0.5, 2.0);
+
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().transformToUni(i -> Uni.createFrom().<Integer> failure(new IOException("boom-" + i)))
+                .withAdaptiveConcurrency(limit)
+                .collectFailures()
+                .merge()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.await();
+        assertThat(subscriber.failures()).hasSize(1);
+        assertThat(subscriber.failures().get(0)).isInstanceOf(CompositeException.class);
+        assertThat(((CompositeException) subscriber.failures().get(0)).getCauses()).hasSize(10);
+        assertThat(limit.current()).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatTheLimitDoesNotPreventCompletionWhenItShrinks() {
+        AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.aimd(1, 8, 8, 0.5, 2.0);
+        AtomicInteger counter = new AtomicInteger();
+
+        List<Integer> list = Multi.createFrom().range(0, 40)
+                .onItem().transformToUni(i -> {
+                    Uni<Integer> uni = Uni.createFrom().item(i);
+                    // Every fourth uni is much slower, which halves the limit.
+                    if (counter.incrementAndGet() % 4 == 0) {
+                        return uni.onItem().delayIt().by(Duration.ofMillis(20));
+                    }
+                    return uni.onItem().delayIt().by(Duration.ofMillis(1));
+                })
+                .withAdaptiveConcurrency(limit)
+                .merge()
+                .collectItems().asList().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(list).hasSize(40);
+        assertThat(limit.current()).isLessThan(8);
+    }
+}
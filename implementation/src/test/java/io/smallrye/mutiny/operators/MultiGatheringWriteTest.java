@@ -0,0 +1,297 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.groups.MultiByteBufferWriter;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+
+public class MultiGatheringWriteTest {
+
+    @Test
+    public void testBatchingOnItems() {
+        RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE);
+        long written = MultiByteBuffers.write(buffers(10, "abc"))
+                .withMaxItems(4)
+                .toChannel(() -> channel)
+                .await().atMost(Duration.ofSeconds(5));
+
+        assertThat(written).isEqualTo(30);
+        assertThat(channel.batches).containsExactly(4, 4, 2);
+        assertThat(channel.content()).isEqualTo(repeat("abc", 10));
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    @Test
+    public void testBatchingOnBytes() {
+        RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE);
+        long written = MultiByteBuffers.write(buffers(10, "0123456789"))
+                .withMaxBytes(25)
+                .toChannel(() -> channel)
+                .await().atMost(Duration.ofSeconds(5));
+
+        assertThat(written).isEqualTo(100);
+        assertThat(channel.batches).containsExactly(3, 3, 3, 1);
+    }
+
+    @Test
+    public void testPartialWrites() {
+        RecordingChannel channel = new RecordingChannel(7);
+        long written = MultiByteBuffers.write(buffers(5, "hello"))
+                .toChannel(() -> channel)
+                .await().atMost(Duration.ofSeconds(5));
+
+        assertThat(written).isEqualTo(25);
+        assertThat(channel.content()).isEqualTo(repeat("hello", 5));
+        // Every call writes 7 bytes at most, but they all belong to the same batch.
+        assertThat(channel.batches).hasSize(4).containsOnly(5);
+    }
+
+    @Test
+    public void testThatItemsAreRequestedAfterTheWrites() {
+        RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE);
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        MultiByteBuffers.write(buffers(10, "a").on().request(requests::add))
+                .withMaxItems(3)
+                .toChannel(() -> channel)
+                .await().atMost(Duration.ofSeconds(5));
+
+        assertThat(requests).containsExactly(3L, 3L, 3L, 3L);
+        assertThat(channel.batches).containsExactly(3, 3, 3, 1);
+    }
+
+    @Test
+    public void testTimeBoundedWrites() {
+        RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE);
+        AtomicReference<MultiEmitter<? super ByteBuffer>> emitter = new AtomicReference<>();
+        Cancellable cancellable = MultiByteBuffers.write(Multi.createFrom().<ByteBuffer> emitter(emitter::set))
+                .withMaxDelay(Duration.ofMillis(20))
+                .toChannel(() -> channel)
+                .subscribe().with(x -> {
+                }, f -> {
+                });
+
+        emitter.get().emit(wrap("a")).emit(wrap("b"));
+        await().until(() -> channel.content().equals("ab"));
+        emitter.get().emit(wrap("c"));
+        await().until(() -> channel.content().equals("abc"));
+        // Without the delay, the buffers would wait for 64 buffers or the completion.
+        assertThat(channel.batches.stream().mapToInt(Integer::intValue).sum()).isEqualTo(3);
+
+        cancellable.cancel();
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    @Test
+    public void testWriteFailure() {
+        RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE);
+        channel.failing.set(true);
+        AtomicBoolean cancelled = new AtomicBoolean();
+        assertThatThrownBy(() -> MultiByteBuffers.write(buffers(1000, "a")
+                .on().cancellation(() -> cancelled.set(true)))
+                .toChannel(() -> channel)
+                .await().atMost(Duration.ofSeconds(5)))
+                        .hasCauseInstanceOf(IOException.class);
+        assertThat(cancelled).isTrue();
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    @Test
+    public void testUpstreamFailure() {
+        RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE);
+        Multi<ByteBuffer> upstream = buffers(3, "a").onCompletion().failWith(new IllegalStateException("boom"));
+        assertThatThrownBy(() -> MultiByteBuffers.write(upstream)
+                .toChannel(() -> channel)
+                .await().atMost(Duration.ofSeconds(5)))
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("boom");
+        assertThat(channel.batches).isEmpty();
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    @Test
+    public void testEmptyUpstream() {
+        RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE);
+        long written = MultiByteBuffers.write(Multi.createFrom().empty())
+                .toChannel(() -> channel)
+                .await().atMost(Duration.ofSeconds(5));
+        assertThat(written).isZero();
+        assertThat(channel.batches).isEmpty();
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    @Test
+    public void testThatNonBlockingChannelsAreRejected() throws IOException {
+        Pipe pipe = Pipe.open();
+        try {
+            pipe.sink().configureBlocking(false);
+            assertThatThrownBy(() -> MultiByteBuffers.write(buffers(3, "a"))
+                    .toChannel(pipe::sink)
+                    .await().atMost(Duration.ofSeconds(5)))
+                            .isInstanceOf(IllegalArgumentException.class)
+                            .hasMessageContaining("blocking");
+            assertThat(pipe.sink().isOpen()).isFalse();
+        } finally {
+            pipe.source().close();
+        }
+    }
+
+    @Test
+    public void testThatAWriteNotAcceptingAnyByteFails() {
+        RecordingChannel channel = new RecordingChannel(0);
+        assertThatThrownBy(() -> MultiByteBuffers.write(buffers(10, "a"))
+                .withMaxItems(4)
+                .toChannel(() -> channel)
+                .await().atMost(Duration.ofSeconds(5)))
+                        .hasCauseInstanceOf(IOException.class)
+                        .hasMessageContaining("did not accept any byte");
+        assertThat(channel.batches).hasSize(1);
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    @Test
+    public void testThatCancellingDoesNotWaitForTheWrite() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE) {
+            @Override
+            public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.write(srcs, offset, length);
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Cancellable cancellable = MultiByteBuffers.write(buffers(10, "a").runSubscriptionOn(executor))
+                    .withMaxItems(2)
+                    .toChannel(() -> channel)
+                    .subscribe().with(x -> {
+                    }, f -> {
+                    });
+            assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // The write runs outside the monitor of the subscriber, so the cancellation does not wait for it.
+            CompletableFuture.runAsync(cancellable::cancel).get(5, TimeUnit.SECONDS);
+            assertThat(channel.isOpen()).isFalse();
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInvalidParameters() {
+        MultiByteBufferWriter writer = MultiByteBuffers.write(Multi.createFrom().empty());
+        assertThatThrownBy(() -> MultiByteBuffers.write(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> writer.withMaxItems(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> writer.withMaxBytes(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> writer.withMaxDelay(Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> writer.toChannel(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> writer.toFile(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Multi<ByteBuffer> buffers(int count, String content) {
+        return Multi.createFrom().range(0, count).map(i -> wrap(content));
+    }
+
+    private static ByteBuffer wrap(String content) {
+        return ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String repeat(String s, int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(s);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * A channel recording the number of buffers passed to each write, and writing at most a given number of bytes
+     * per call.
+     */
+    private static class RecordingChannel implements GatheringByteChannel {
+
+        private final int maxBytesPerWrite;
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private final List<Integer> batches = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean failing = new AtomicBoolean();
+        private volatile boolean open = true;
+
+        RecordingChannel(int maxBytesPerWrite) {
+            this.maxBytesPerWrite = maxBytesPerWrite;
+        }
+
+        @Override
+        public synchronized long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            if (!open) {
+                throw new ClosedChannelException();
+            }
+            if (failing.get()) {
+                throw new IOException("boom");
+            }
+            batches.add(length);
+            long written = 0;
+            for (int i = offset; i < offset + length && written < maxBytesPerWrite; i++) {
+                ByteBuffer src = srcs[i];
+                while (src.hasRemaining() && written < maxBytesPerWrite) {
+                    out.write(src.get());
+                    written++;
+                }
+            }
+            return written;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs) throws IOException {
+            return write(srcs, 0, srcs.length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return (int) write(new ByteBuffer[] { src });
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+
+        synchronized String content() {
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -8,15 +8,29 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.IntSummaryStatistics;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 import org.testng.annotations.Test;
 
 import io.smallrye.mutiny.GroupedMulti;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.ListPool;
+import io.smallrye.mutiny.subscription.MultiEmitter;
 import io.smallrye.mutiny.test.MultiAssertSubscriber;
 
 public class MultiGroupTest {
@@ -141,6 +155,286 @@ public class MultiGroupTest {
         subscriber.cancel();
     }
 
+    @Test
+    public void testThatEachListCollectsItemsForTheWholeDuration() throws InterruptedException {
+        AtomicReference<MultiEmitter<? super Integer>> emitter = new AtomicReference<>();
+        List<Long> emissions = new CopyOnWriteArrayList<>();
+        MultiAssertSubscriber<List<Integer>> subscriber = Multi.createFrom().<Integer> emitter(emitter::set)
+                .groupItems().intoLists().every(Duration.ofMillis(200))
+                .onItem().invoke(list -> emissions.add(System.nanoTime()))
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE));
+
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            emitter.get().emit(i);
+            int expected = i + 1;
+            await().until(() -> emissions.size() == expected);
+            // The timeout of a list starts with its first item, so it is never emitted early.
+            assertThat(Duration.ofNanos(emissions.get(i) - start)).isGreaterThanOrEqualTo(Duration.ofMillis(190));
+            Thread.sleep(50);
+        }
+        emitter.get().complete();
+        subscriber.await().assertCompletedSuccessfully();
+        assertThat(subscriber.items()).containsExactly(Collections.singletonList(0), Collections.singletonList(1));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testAsSlidingListsWithNegativeShift() {
+        Multi.createFrom().range(1, 10).groupItems().intoLists().every(Duration.ofMillis(10), Duration.ofMillis(-2));
+    }
+
+    @Test
+    public void testAsSlidingListsEmitsTheOpenListOnCompletion() {
+        MultiAssertSubscriber<List<Integer>> subscriber = Multi.createFrom().range(1, 7)
+                .groupItems().intoLists().every(Duration.ofSeconds(10), Duration.ofSeconds(5))
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10));
+
+        subscriber.assertCompletedSuccessfully()
+                .assertReceived(Arrays.asList(1, 2, 3, 4, 5, 6));
+    }
+
+    @Test
+    public void testAsSlidingListsPropagatesFailures() {
+        MultiAssertSubscriber<List<Integer>> subscriber = Multi.createFrom().<Integer> failure(new IOException("boom"))
+                .groupItems().intoLists().every(Duration.ofSeconds(10), Duration.ofSeconds(5))
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10));
+
+        subscriber.assertHasFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testAsOverlappingSlidingLists() {
+        Multi<Long> publisher = Multi.createFrom().publisher(Multi.createFrom().ticks().every(Duration.ofMillis(2)));
+        MultiAssertSubscriber<List<Long>> subscriber = publisher.groupItems().intoLists()
+                .every(Duration.ofMillis(100), Duration.ofMillis(50))
+                .subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(100));
+
+        await().until(() -> subscriber.items().size() > 3);
+        subscriber.cancel();
+
+        List<List<Long>> lists = subscriber.items();
+        for (int i = 1; i < lists.size() - 1; i++) {
+            // Each list shares items with the next one.
+            List<Long> current = lists.get(i);
+            List<Long> next = lists.get(i + 1);
+            assertThat(next).containsAnyElementsOf(current);
+            assertThat(next.get(0)).isGreaterThan(current.get(0));
+        }
+    }
+
+    @Test
+    public void testAsSlidingListsWithGaps() {
+        Multi<Long> publisher = Multi.createFrom().publisher(Multi.createFrom().ticks().every(Duration.ofMillis(2)));
+        MultiAssertSubscriber<List<Long>> subscriber = publisher.groupItems().intoLists()
+                .every(Duration.ofMillis(20), Duration.ofMillis(60))
+                .subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(100));
+
+        await().until(() -> subscriber.items().size() > 3);
+        subscriber.cancel();
+
+        List<List<Long>> lists = subscriber.items();
+        for (int i = 0; i < lists.size() - 1; i++) {
+            // The items emitted between two lists are dropped.
+            List<Long> current = lists.get(i);
+            assertThat(lists.get(i + 1).get(0)).isGreaterThan(current.get(current.size() - 1) + 1);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testIntoWindowsWithNegativeDuration() {
+        Multi.createFrom().range(1, 10).groupItems().intoWindows(Duration.ofMillis(-2));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testIntoWindowsWithNullCollector() {
+        Multi.createFrom().range(1, 10).groupItems().intoWindows(Duration.ofMillis(10)).aggregate(null);
+    }
+
+    @Test
+    public void testIntoWindowsCount() {
+        Multi.createFrom().range(1, 7)
+                .groupItems().intoWindows(Duration.ofSeconds(10)).count()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully()
+                .assertReceived(6L);
+    }
+
+    @Test
+    public void testIntoWindowsReduce() {
+        Multi.createFrom().range(1, 7)
+                .groupItems().intoWindows(Duration.ofSeconds(10)).reduce(Integer::sum)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully()
+                .assertReceived(21);
+    }
+
+    @Test
+    public void testIntoWindowsAggregate() {
+        MultiAssertSubscriber<IntSummaryStatistics> subscriber = Multi.createFrom().range(1, 7)
+                .groupItems().intoWindows(Duration.ofSeconds(10)).aggregate(Collectors.summarizingInt(i -> i))
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully();
+        assertThat(subscriber.items()).hasSize(1);
+        IntSummaryStatistics statistics = subscriber.items().get(0);
+        assertThat(statistics.getMin()).isEqualTo(1);
+        assertThat(statistics.getMax()).isEqualTo(6);
+        assertThat(statistics.getSum()).isEqualTo(21);
+    }
+
+    @Test
+    public void testIntoWindowsWithFailingAccumulator() {
+        Multi.createFrom().range(1, 7)
+                .groupItems().intoWindows(Duration.ofSeconds(10))
+                .aggregate(Collector.<Integer, List<Integer>> of(ArrayList::new, (l, i) -> {
+                    if (i == 3) {
+                        throw new IllegalStateException("boom");
+                    }
+                    l.add(i);
+                }, (l1, l2) -> l1))
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(IllegalStateException.class, "boom")
+                .assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    public void testIntoWindowsWithFailingSupplier() {
+        Multi.createFrom().range(1, 7)
+                .groupItems().intoWindows(Duration.ofSeconds(10))
+                .aggregate(Collector.<Integer, List<Integer>> of(() -> {
+                    throw new IllegalStateException("boom");
+                }, List::add, (l1, l2) -> l1))
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(IllegalStateException.class, "boom")
+                .assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    public void testIntoSlidingWindowsCount() {
+        Multi<Long> publisher = Multi.createFrom().publisher(Multi.createFrom().ticks().every(Duration.ofMillis(2)));
+        MultiAssertSubscriber<Long> subscriber = publisher.groupItems()
+                .intoWindows(Duration.ofMillis(100), Duration.ofMillis(50)).count()
+                .subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(100));
+
+        await().until(() -> subscriber.items().size() > 3);
+        subscriber.cancel();
+        assertThat(subscriber.items()).allSatisfy(count -> assertThat(count).isPositive());
+    }
+
+    @Test
+    public void testIntoSlidingWindowsMax() {
+        Multi<Long> publisher = Multi.createFrom().publisher(Multi.createFrom().ticks().every(Duration.ofMillis(2)));
+        MultiAssertSubscriber<Long> subscriber = publisher.groupItems()
+                .intoWindows(Duration.ofMillis(100), Duration.ofMillis(50)).reduce(Math::max)
+                .subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(100));
+
+        await().until(() -> subscriber.items().size() > 3);
+        subscriber.cancel();
+        assertThat(subscriber.items()).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void testAsListsRecyclingThePooledLists() {
+        ListPool<Integer> pool = ListPool.create(2, 4);
+        Set<List<Integer>> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Integer> sums = new ArrayList<>();
+        Multi.createFrom().range(0, 10)
+                .groupItems().intoLists().recycling(pool).of(2)
+                .subscribe().with(list -> {
+                    distinct.add(list);
+                    sums.add(list.stream().mapToInt(i -> i).sum());
+                    pool.release(list);
+                });
+
+        assertThat(sums).containsExactly(1, 5, 9, 13, 17);
+        assertThat(distinct).hasSize(1);
+        assertThat(pool.available()).isEqualTo(1);
+    }
+
+    @Test
+    public void testAsListsWithSkipRecyclingThePooledLists() {
+        ListPool<Integer> pool = ListPool.create(3, 4);
+        MultiAssertSubscriber<List<Integer>> subscriber = Multi.createFrom().range(1, 8)
+                .groupItems().intoLists().recycling(pool).of(3, 2)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10));
+
+        subscriber.assertCompletedSuccessfully()
+                .assertReceived(Arrays.asList(1, 2, 3), Arrays.asList(3, 4, 5), Arrays.asList(5, 6, 7),
+                        Collections.singletonList(7));
+        subscriber.items().forEach(pool::release);
+        assertThat(pool.available()).isEqualTo(4);
+    }
+
+    @Test
+    public void testAsListsWithDurationRecyclingThePooledLists() {
+        ListPool<Integer> pool = ListPool.create(8, 4);
+        List<Integer> pooled = pool.acquire();
+        pool.release(pooled);
+
+        MultiAssertSubscriber<List<Integer>> subscriber = Multi.createFrom().range(1, 7)
+                .groupItems().intoLists().recycling(pool).every(Duration.ofSeconds(10))
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10));
+
+        subscriber.assertCompletedSuccessfully().assertReceived(Arrays.asList(1, 2, 3, 4, 5, 6));
+        assertThat(subscriber.items().get(0)).isSameAs(pooled);
+    }
+
+    @Test
+    public void testAsSlidingListsRecyclingThePooledLists() {
+        ListPool<Integer> pool = ListPool.create(8, 4);
+        List<Integer> pooled = pool.acquire();
+        pool.release(pooled);
+
+        MultiAssertSubscriber<List<Integer>> subscriber = Multi.createFrom().range(1, 7)
+                .groupItems().intoLists().recycling(pool).every(Duration.ofSeconds(10), Duration.ofSeconds(5))
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10));
+
+        subscriber.assertCompletedSuccessfully().assertReceived(Arrays.asList(1, 2, 3, 4, 5, 6));
+        assertThat(subscriber.items().get(0)).isSameAs(pooled);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testGroupIntoArraysWithSize0() {
+        Multi.createFrom().range(1, 5).groupItems().intoArrays(Integer[]::new).of(0);
+    }
+
+    @Test
+    public void testGroupIntoArraysOfTwoElements() {
+        MultiAssertSubscriber<Integer[]> subscriber = Multi.createFrom().range(1, 6)
+                .groupItems().intoArrays(Integer[]::new).of(2)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(100));
+
+        subscriber.assertCompletedSuccessfully();
+        assertThat(subscriber.items()).containsExactly(new Integer[] { 1, 2 }, new Integer[] { 3, 4 },
+                new Integer[] { 5 });
+    }
+
+    @Test
+    public void testGroupIntoArraysRequestsFullGroups() {
+        AtomicLong requested = new AtomicLong();
+        MultiAssertSubscriber<String[]> subscriber = Multi.createFrom().items("a", "b", "c", "d", "e")
+                .on().request(requested::addAndGet)
+                .groupItems().intoArrays(String[]::new).of(2)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(1));
+
+        assertThat(requested).hasValue(2);
+        assertThat(subscriber.items()).containsExactly(new String[] { "a", "b" });
+        subscriber.request(5);
+        subscriber.assertCompletedSuccessfully();
+        assertThat(subscriber.items()).hasSize(3);
+    }
+
+    @Test
+    public void testGroupIntoArraysWithFailure() {
+        Multi.createFrom().<Integer> failure(new IOException("boom"))
+                .groupItems().intoArrays(Integer[]::new).of(2)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(100))
+                .assertHasFailedWith(IOException.class, "boom");
+    }
+
     @Test(expectedExceptions = IllegalArgumentException.class)
     public void testGroupIntoMultisWithSize0() {
         Multi.createFrom().range(1, 5).groupItems().intoMultis().of(0);
@@ -412,4 +706,157 @@ public class MultiGroupTest {
 
         assertThat(counter.get()).isEqualTo(1001);
     }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testGroupByWithInvalidMaxGroups() {
+        Multi.createFrom().range(1, 10).groupItems().maxGroups(0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testGroupByWithInvalidIdleDuration() {
+        Multi.createFrom().range(1, 10).groupItems().evictingAfterIdle(Duration.ZERO);
+    }
+
+    @Test
+    public void testGroupByWithMaxGroups() {
+        MultiAssertSubscriber<GroupedMulti<String, String>> subscriber = Multi.createFrom()
+                .items("a1", "b1", "c1", "a2", "c2")
+                .groupItems().maxGroups(2).by(s -> s.substring(0, 1))
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(100));
+
+        subscriber.assertCompletedSuccessfully();
+        // "a" is evicted when "c" arrives, "b" is evicted when "a" comes back.
+        List<GroupedMulti<String, String>> groups = subscriber.items();
+        assertThat(groups).extracting(GroupedMulti::key).containsExactly("a", "b", "c", "a");
+        assertThat(groups.get(0).collectItems().asList().await().indefinitely()).containsExactly("a1");
+        assertThat(groups.get(1).collectItems().asList().await().indefinitely()).containsExactly("b1");
+        assertThat(groups.get(2).collectItems().asList().await().indefinitely()).containsExactly("c1", "c2");
+        assertThat(groups.get(3).collectItems().asList().await().indefinitely()).containsExactly("a2");
+    }
+
+    @Test
+    public void testGroupByWithMaxGroupsOnManyKeys() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10_000)
+                .groupItems().maxGroups(10).by(i -> i % 1000)
+                .onItem().transformToMulti(group -> group).merge(20)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertCompletedSuccessfully();
+        assertThat(subscriber.items()).hasSize(10_000);
+    }
+
+    @Test
+    public void testGroupByEvictingIdleGroups() {
+        AtomicReference<MultiEmitter<? super String>> emitter = new AtomicReference<>();
+        MultiAssertSubscriber<GroupedMulti<String, String>> subscriber = Multi.createFrom()
+                .<String> emitter(emitter::set)
+                .groupItems().evictingAfterIdle(Duration.ofMillis(20)).by(s -> s.substring(0, 1))
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(100));
+
+        emitter.get().emit("a1");
+        assertThat(subscriber.items()).hasSize(1);
+        MultiAssertSubscriber<String> first = subscriber.items().get(0).subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(100));
+        first.assertReceived("a1");
+
+        // The group is completed once idle.
+        await().untilAsserted(first::assertCompletedSuccessfully);
+
+        emitter.get().emit("a2").complete();
+        subscriber.assertCompletedSuccessfully();
+        assertThat(subscriber.items()).hasSize(2);
+        assertThat(subscriber.items().get(1).key()).isEqualTo("a");
+        assertThat(subscriber.items().get(1).collectItems().asList().await().indefinitely()).containsExactly("a2");
+    }
+
+    @Test
+    public void testGroupByEvictingIdleGroupsKeepsActiveGroups() throws InterruptedException {
+        AtomicReference<MultiEmitter<? super String>> emitter = new AtomicReference<>();
+        MultiAssertSubscriber<GroupedMulti<String, String>> subscriber = Multi.createFrom()
+                .<String> emitter(emitter::set)
+                .groupItems().evictingAfterIdle(Duration.ofMillis(200)).by(s -> s.substring(0, 1))
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(100));
+
+        for (int i = 0; i < 10; i++) {
+            emitter.get().emit("a" + i);
+            Thread.sleep(20);
+        }
+        emitter.get().complete();
+
+        subscriber.assertCompletedSuccessfully();
+        assertThat(subscriber.items()).hasSize(1);
+        assertThat(subscriber.items().get(0).collectItems().asList().await().indefinitely()).hasSize(10);
+    }
+
+    @Test
+    public void testCancellingAnEvictedGroupDoesNotAffectTheNewGroup() {
+        MultiAssertSubscriber<GroupedMulti<String, String>> subscriber = Multi.createFrom()
+                .items("a1", "b1", "a2", "a3")
+                .groupItems().maxGroups(1).by(s -> s.substring(0, 1))
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(100));
+
+        subscriber.assertCompletedSuccessfully();
+        List<GroupedMulti<String, String>> groups = subscriber.items();
+        assertThat(groups).extracting(GroupedMulti::key).containsExactly("a", "b", "a");
+
+        MultiAssertSubscriber<String> first = groups.get(0).subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(1));
+        first.assertReceived("a1").assertCompletedSuccessfully().cancel();
+
+        assertThat(groups.get(2).collectItems().asList().await().indefinitely()).containsExactly("a2", "a3");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testGroupByPartitionWithNullKeyMapper() {
+        Multi.createFrom().range(1, 10).groupItems().byPartition(null, 2);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testGroupByPartitionWithInvalidPartitions() {
+        Multi.createFrom().range(1, 10).groupItems().byPartition(i -> i, 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testGroupByPartitionWithNullExecutor() {
+        Multi.createFrom().range(1, 10).groupItems().byPartition(i -> i, 2, null);
+    }
+
+    @Test
+    public void testGroupByPartitionPreservesPerKeyOrdering() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Map<Integer, List<Integer>> itemsPerKey = new ConcurrentHashMap<>();
+            Set<Integer> partitions = ConcurrentHashMap.newKeySet();
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+
+            List<Integer> items = Multi.createFrom().range(0, 10_000)
+                    .groupItems().byPartition(i -> i % 100, 4, executor)
+                    .onItem().transformToMulti(partition -> {
+                        partitions.add(partition.key());
+                        return partition.onItem().invoke(i -> {
+                            threads.add(Thread.currentThread().getName());
+                            itemsPerKey.computeIfAbsent(i % 100, k -> new CopyOnWriteArrayList<>()).add(i);
+                        });
+                    }).merge(4)
+                    .collectItems().asList().await().atMost(Duration.ofSeconds(10));
+
+            assertThat(items).hasSize(10_000);
+            assertThat(partitions).hasSize(4).allMatch(p -> p >= 0 && p < 4);
+            assertThat(threads).noneMatch(name -> name.equals(Thread.currentThread().getName()));
+            assertThat(itemsPerKey).hasSize(100);
+            itemsPerKey.forEach((key, list) -> assertThat(list).hasSize(100).isSorted());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGroupByPartitionWithNullKeys() {
+        List<Integer> items = Multi.createFrom().range(0, 100)
+                .groupItems().byPartition(i -> i % 2 == 0 ? null : i, 3)
+                .onItem().transformToMulti(partition -> partition).merge()
+                .collectItems().asList().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(items).hasSize(100);
+    }
 }
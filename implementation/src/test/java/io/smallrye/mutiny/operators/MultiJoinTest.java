@@ -0,0 +1,166 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import io.smallrye.mutiny.CompositeException;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.test.MultiAssertSubscriber;
+
+public class MultiJoinTest {
+
+    private Uni<Integer> delayed(int value, long delay) {
+        return Uni.createFrom().item(value).onItem().delayIt().by(Duration.ofMillis(delay));
+    }
+
+    @Test
+    public void testJoinInCompletionOrder() {
+        List<Integer> list = Multi.createBy().joining()
+                .unis(delayed(1, 300), delayed(2, 10), delayed(3, 150))
+                .collectItems().asList().await().atMost(Duration.ofSeconds(5));
+
+        assertThat(list).containsExactly(2, 3, 1);
+    }
+
+    @Test
+    public void testJoinInOrder() {
+        List<Integer> list = Multi.createBy().joining().inOrder()
+                .unis(delayed(1, 300), delayed(2, 10), delayed(3, 150))
+                .collectItems().asList().await().atMost(Duration.ofSeconds(5));
+
+        assertThat(list).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void testJoinInOrderWithLargeIterableAndConcurrency() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger max = new AtomicInteger();
+        List<Uni<Integer>> unis = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            unis.add(delayed(i, i % 7 + 1)
+                    .onSubscribe().invoke(s -> max.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                    .onItem().invoke(x -> inFlight.decrementAndGet()));
+        }
+
+        List<Integer> list = Multi.createBy().joining().inOrder().withConcurrency(8)
+                .unis(unis)
+                .collectItems().asList().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(list).hasSize(200);
+        for (int i = 0; i < 200; i++) {
+            assertThat(list.get(i)).isEqualTo(i);
+        }
+        assertThat(max.get()).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    public void testJoinWithSynchronousUnis() {
+        List<Uni<Integer>> unis = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            unis.add(Uni.createFrom().item(i));
+        }
+        MultiAssertSubscriber<Integer> subscriber = Multi.createBy().joining().inOrder().withConcurrency(4)
+                .unis(unis)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertCompletedSuccessfully();
+        assertThat(subscriber.items()).hasSize(10_000).startsWith(0, 1, 2).endsWith(9_999);
+    }
+
+    @Test
+    public void testThatTheIterableIsConsumedLazily() {
+        AtomicInteger produced = new AtomicInteger();
+        Iterable<Uni<Integer>> iterable = () -> new Iterator<Uni<Integer>>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Uni<Integer> next() {
+                return Uni.createFrom().item(produced.incrementAndGet());
+            }
+        };
+
+        MultiAssertSubscriber<Integer> subscriber = Multi.createBy().joining().inOrder().withConcurrency(2)
+                .unis(iterable)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(3));
+
+        subscriber.assertReceived(1, 2, 3).assertNotTerminated();
+        assertThat(produced.get()).isLessThanOrEqualTo(5);
+        subscriber.cancel();
+    }
+
+    @Test
+    public void testThatNullItemsAreSkipped() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createBy().joining().inOrder()
+                .unis(Uni.createFrom().item(1), Uni.createFrom().nullItem(), Uni.createFrom().item(3))
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10));
+
+        subscriber.assertCompletedSuccessfully().assertReceived(1, 3);
+    }
+
+    @Test
+    public void testFailurePropagation() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createBy().joining().inOrder()
+                .unis(Uni.createFrom().item(1), Uni.createFrom().failure(new IOException("boom")),
+                        Uni.createFrom().item(3))
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10));
+
+        subscriber.assertHasFailedWith(IOException.class, "boom").assertReceived(1);
+    }
+
+    @Test
+    public void testCollectingFailures() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createBy().joining().inOrder().collectFailures()
+                .unis(Uni.createFrom().item(1), Uni.createFrom().failure(new IOException("boom")),
+                        Uni.createFrom().item(3), Uni.createFrom().failure(new IOException("boom 2")))
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10));
+
+        subscriber.assertHasFailedWith(CompositeException.class, "boom")
+                .assertHasFailedWith(CompositeException.class, "boom 2")
+                .assertReceived(1, 3);
+    }
+
+    @Test
+    public void testBackPressure() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createBy().joining().inOrder()
+                .unis(delayed(1, 50), delayed(2, 10), delayed(3, 10))
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(1));
+
+        await().until(() -> subscriber.items().size() == 1);
+        subscriber.assertReceived(1)
+                .assertNotTerminated()
+                .request(2)
+                .await()
+                .assertCompletedSuccessfully()
+                .assertReceived(1, 2, 3);
+    }
+
+    @Test
+    public void testCancellation() {
+        AtomicInteger cancelled = new AtomicInteger();
+        MultiAssertSubscriber<Integer> subscriber = Multi.createBy().joining().inOrder()
+                .unis(Uni.createFrom().<Integer> nothing().onCancellation().invoke(cancelled::incrementAndGet),
+                        Uni.createFrom().<Integer> nothing().onCancellation().invoke(cancelled::incrementAndGet))
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10));
+
+        subscriber.cancel();
+        assertThat(cancelled).hasValue(2);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidConcurrency() {
+        Multi.createBy().joining().withConcurrency(0);
+    }
+}
@@ -0,0 +1,153 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.test.MultiAssertSubscriber;
+
+public class MultiTransformBlockingTest {
+
+    private ExecutorService executor;
+
+    @BeforeMethod
+    public void init() {
+        executor = Executors.newFixedThreadPool(8, runnable -> new Thread(runnable, "blocking-test"));
+    }
+
+    @AfterMethod
+    public void shutdown() {
+        executor.shutdownNow();
+        Infrastructure.setBlockingExecutor();
+    }
+
+    @Test
+    public void testTransformBlocking() {
+        String caller = Thread.currentThread().getName();
+        List<String> threads = Multi.createFrom().range(0, 10)
+                .onItem().transformBlocking(i -> Thread.currentThread().getName())
+                .collectItems().asList().await().atMost(Duration.ofSeconds(5));
+        assertThat(threads).hasSize(10).doesNotContain(caller);
+    }
+
+    @Test
+    public void testTransformBlockingOnCustomExecutor() {
+        List<Integer> list = Multi.createFrom().range(0, 10)
+                .onItem().transformBlocking(i -> {
+                    assertThat(Thread.currentThread().getName()).isEqualTo("blocking-test");
+                    return i * 2;
+                }, 4, executor)
+                .collectItems().asList().await().atMost(Duration.ofSeconds(5));
+        assertThat(list).containsExactlyInAnyOrder(0, 2, 4, 6, 8, 10, 12, 14, 16, 18);
+    }
+
+    @Test
+    public void testTransformBlockingUsesTheConfiguredExecutor() {
+        Infrastructure.setBlockingExecutor(executor);
+        assertThat(Infrastructure.getBlockingExecutor()).isSameAs(executor);
+        List<String> threads = Multi.createFrom().range(0, 5)
+                .onItem().transformBlocking(i -> Thread.currentThread().getName())
+                .collectItems().asList().await().atMost(Duration.ofSeconds(5));
+        assertThat(threads).containsOnly("blocking-test");
+
+        Infrastructure.setBlockingExecutor();
+        assertThat(executor.isShutdown()).isTrue();
+        assertThat(Infrastructure.getBlockingExecutor()).isNotSameAs(executor);
+    }
+
+    @Test
+    public void testThatInFlightInvocationsAreBounded() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger max = new AtomicInteger();
+        List<Integer> list = Multi.createFrom().range(0, 100)
+                .onItem().transformBlocking(i -> {
+                    int current = inFlight.incrementAndGet();
+                    max.accumulateAndGet(current, Math::max);
+                    try {
+                        Thread.sleep(2);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    inFlight.decrementAndGet();
+                    return i;
+                }, 3, executor)
+                .collectItems().asList().await().atMost(Duration.ofSeconds(10));
+        assertThat(list).hasSize(100);
+        assertThat(max.get()).isBetween(1, 3);
+    }
+
+    @Test
+    public void testThatMapperFailuresArePropagated() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().<Integer> transformBlocking(i -> {
+                    if (i == 3) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return i;
+                }, 1)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE));
+        subscriber.await().assertHasFailedWith(IllegalStateException.class, "boom");
+        assertThat(subscriber.items()).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    public void testThatNullResultsAreSkipped() {
+        List<Integer> list = Multi.createFrom().range(0, 6)
+                .onItem().transformBlocking(i -> i % 2 == 0 ? null : i)
+                .collectItems().asList().await().atMost(Duration.ofSeconds(5));
+        assertThat(list).containsExactlyInAnyOrder(1, 3, 5);
+    }
+
+    @Test
+    public void testInvalidParameters() {
+        Multi<Integer> multi = Multi.createFrom().item(1);
+        assertThatThrownBy(() -> multi.onItem().transformBlocking(null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> multi.onItem().transformBlocking(i -> i, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> multi.onItem().transformBlocking(i -> i, 1, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Uni.createFrom().item(1).onItem().transformBlocking(i -> i, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Infrastructure.setBlockingExecutor(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testUniTransformBlocking() {
+        String result = Uni.createFrom().item("hello")
+                .onItem().transformBlocking(s -> s + " from " + Thread.currentThread().getName(), executor)
+                .await().atMost(Duration.ofSeconds(5));
+        assertThat(result).isEqualTo("hello from blocking-test");
+
+        int length = Uni.createFrom().item("hello")
+                .onItem().transformBlocking(String::length)
+                .await().atMost(Duration.ofSeconds(5));
+        assertThat(length).isEqualTo(5);
+    }
+
+    @Test
+    public void testUniTransformBlockingFailure() {
+        Uni<String> uni = Uni.createFrom().item("hello")
+                .onItem().transformBlocking(s -> {
+                    throw new CompletionException(new IOException("boom"));
+                });
+        assertThatThrownBy(() -> uni.await().atMost(Duration.ofSeconds(5)))
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IOException.class);
+    }
+}
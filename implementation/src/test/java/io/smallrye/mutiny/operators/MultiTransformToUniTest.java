@@ -1,14 +1,20 @@
 package io.smallrye.mutiny.operators;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.testng.annotations.Test;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.test.MultiAssertSubscriber;
 
 public class MultiTransformToUniTest {
 
@@ -95,4 +101,61 @@ public class MultiTransformToUniTest {
         assertThat(list).containsExactly(1, 3, 5);
     }
 
+    @Test
+    public void testTransformToUniAndMergeOrdered() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<Integer> list = Multi.createFrom().range(0, 200)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i)
+                        .onSubscribe().invoke(s -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                        // Later items complete first
+                        .onItem().delayIt().by(Duration.ofMillis(10 - i % 10))
+                        .onItem().invoke(x -> inFlight.decrementAndGet()))
+                .mergeOrdered(8)
+                .collectItems().asList().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(list).hasSize(200).isSorted();
+        assertThat(maxInFlight.get()).isBetween(2, 8);
+    }
+
+    @Test
+    public void testTransformToMultiAndMergeOrdered() {
+        List<Integer> list = Multi.createFrom().range(0, 10)
+                .onItem().transformToMulti(i -> Multi.createFrom().range(i * 10, i * 10 + 10)
+                        .emitOn(ForkJoinPool.commonPool()))
+                .withRequests(4)
+                .mergeOrdered(3)
+                .collectItems().asList().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(list).hasSize(100).isSorted();
+    }
+
+    @Test
+    public void testMergeOrderedWithBackPressure() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 5)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i * 2))
+                .mergeOrdered(4)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(2));
+
+        subscriber.assertReceived(0, 2).assertNotTerminated();
+        subscriber.request(10).assertReceived(0, 2, 4, 6, 8).assertCompletedSuccessfully();
+    }
+
+    @Test
+    public void testMergeOrderedFailure() {
+        Multi.createFrom().range(0, 5)
+                .onItem().transformToUni(i -> i == 2 ? Uni.createFrom().<Integer> failure(new IOException("boom"))
+                        : Uni.createFrom().item(i))
+                .mergeOrdered(4)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testMergeOrderedWithInvalidConcurrency() {
+        assertThatThrownBy(() -> Multi.createFrom().item(1)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i))
+                .mergeOrdered(0))
+                        .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -0,0 +1,173 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.test.MultiAssertSubscriber;
+
+public class MultiWithContextTest {
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testThatBuilderMustNotBeNull() {
+        Multi.createFrom().item(1).withContext(null);
+    }
+
+    @Test
+    public void testContextFromSubscriber() {
+        List<String> items = new CopyOnWriteArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        Multi.createFrom().range(1, 4)
+                .withContext((multi, ctx) -> multi.onItem().transform(i -> i + "@" + ctx.get("tenant")))
+                .onItem().transform(String::toUpperCase)
+                .subscribe().with(Context.of("tenant", "acme"), items::add, f -> {
+                }, () -> completed.set(true));
+
+        assertThat(completed).isTrue();
+        assertThat(items).containsExactly("1@ACME", "2@ACME", "3@ACME");
+    }
+
+    @Test
+    public void testContextFlowsThroughFlatMapAndUni() {
+        List<String> items = new CopyOnWriteArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        Multi.createFrom().range(1, 4)
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .onItem().transformToUni(i -> Uni.createFrom().item(i)
+                        .withContext((uni, ctx) -> uni.onItem().transform(x -> x + ":" + ctx.get("request-id"))))
+                .merge()
+                .subscribe().with(Context.of("request-id", "r-1"), items::add, f -> {
+                }, () -> completed.set(true));
+
+        await().untilTrue(completed);
+        assertThat(items).containsExactlyInAnyOrder("1:r-1", "2:r-1", "3:r-1");
+    }
+
+    @Test
+    public void testContextFromUniToMulti() {
+        AtomicReference<String> result = new AtomicReference<>();
+        Multi.createFrom().item("a")
+                .withContext((multi, ctx) -> multi.onItem().transform(s -> s + ctx.get("k")))
+                .toUni()
+                .subscribe().with(Context.of("k", "b"), result::set, f -> {
+                });
+
+        assertThat(result).hasValue("ab");
+    }
+
+    @Test
+    public void testBuilderThrowingAnException() {
+        MultiAssertSubscriber<Object> subscriber = MultiAssertSubscriber.create(1);
+        Multi.createFrom().item(1)
+                .withContext((multi, ctx) -> {
+                    throw new IllegalStateException("boom");
+                })
+                .subscribe().withSubscriber(subscriber);
+
+        subscriber.assertHasFailedWith(IllegalStateException.class, "boom");
+    }
+
+    @Test
+    public void testBuilderReturningNull() {
+        MultiAssertSubscriber<Object> subscriber = MultiAssertSubscriber.create(1);
+        Multi.createFrom().item(1)
+                .withContext((multi, ctx) -> null)
+                .subscribe().withSubscriber(subscriber);
+
+        subscriber.assertHasFailedWith(NullPointerException.class, "");
+    }
+
+    @Test
+    public void testWithoutContext() {
+        MultiAssertSubscriber<Boolean> subscriber = MultiAssertSubscriber.create(1);
+        Multi.createFrom().item(1)
+                .withContext((multi, ctx) -> multi.onItem().transform(i -> ctx.isEmpty()))
+                .subscribe().withSubscriber(subscriber);
+
+        subscriber.assertCompletedSuccessfully().assertReceived(true);
+    }
+
+    @Test
+    public void testContextFlowsThroughRetry() {
+        AtomicInteger attempts = new AtomicInteger();
+        List<String> items = run(Multi.createFrom().range(0, 2)
+                .withContext((multi, ctx) -> multi.onItem().transform(i -> i + ctx.getOrElse("k", () -> "MISSING")))
+                .onCompletion().invoke(() -> {
+                    if (attempts.incrementAndGet() < 2) {
+                        throw new IllegalStateException("boom");
+                    }
+                })
+                .onFailure().retry().atMost(3));
+
+        assertThat(items).containsExactly("0v", "1v", "0v", "1v");
+    }
+
+    @Test
+    public void testContextFlowsThroughRecovery() {
+        List<String> items = run(Multi.createFrom().<String> failure(new IllegalStateException("boom"))
+                .onFailure().recoverWithMulti(() -> Multi.createFrom().item("a")
+                        .withContext((multi, ctx) -> multi.onItem().transform(s -> s + ctx.getOrElse("k", () -> "MISSING")))));
+
+        assertThat(items).containsExactly("av");
+    }
+
+    @Test
+    public void testContextFlowsThroughZip() {
+        Multi<String> first = Multi.createFrom().items("a", "b")
+                .withContext((multi, ctx) -> multi.onItem().transform(s -> s + ctx.getOrElse("k", () -> "MISSING")));
+        Multi<String> second = Multi.createFrom().items("c", "d")
+                .withContext((multi, ctx) -> multi.onItem().transform(s -> s + ctx.getOrElse("k", () -> "MISSING")));
+        List<String> items = run(Multi.createBy().combining().streams(first, second)
+                .using(list -> list.get(0) + "-" + list.get(1)));
+
+        assertThat(items).containsExactly("av-cv", "bv-dv");
+    }
+
+    @Test
+    public void testContextFlowsThroughConcatenation() {
+        Multi<String> first = Multi.createFrom().items("a")
+                .withContext((multi, ctx) -> multi.onItem().transform(s -> s + ctx.getOrElse("k", () -> "MISSING")));
+        Multi<String> second = Multi.createFrom().items("b")
+                .withContext((multi, ctx) -> multi.onItem().transform(s -> s + ctx.getOrElse("k", () -> "MISSING")));
+
+        assertThat(run(Multi.createBy().concatenating().streams(first, second))).containsExactly("av", "bv");
+        assertThat(run(Multi.createBy().concatenating().collectFailures().streams(first, second)))
+                .containsExactly("av", "bv");
+    }
+
+    @Test
+    public void testThatTheDefaultContextIsSharedByTheOperators() {
+        Multi<String> multi = Multi.createFrom().items("x", "y")
+                .withContext((m, ctx) -> m.onItem().transform(i -> i + ":" + ctx.getOrElse("k", () -> "MISSING")))
+                .withContext((m, ctx) -> {
+                    ctx.put("k", "v");
+                    return m;
+                });
+
+        assertThat(multi.collectItems().asList().await().indefinitely()).containsExactly("x:v", "y:v");
+
+        List<String> items = new CopyOnWriteArrayList<>();
+        multi.subscribe().with(items::add);
+        assertThat(items).containsExactly("x:v", "y:v");
+    }
+
+    private static List<String> run(Multi<String> multi) {
+        List<String> items = new CopyOnWriteArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        multi.subscribe().with(Context.of("k", "v"), items::add, f -> {
+        }, () -> completed.set(true));
+        await().untilTrue(completed);
+        return items;
+    }
+}
@@ -0,0 +1,183 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import com.sun.management.ThreadMXBean;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.UniCallbackSubscriber;
+import io.smallrye.mutiny.operators.multi.MultiOperatorProcessor;
+import io.smallrye.mutiny.subscription.SwitchableSubscriptionSubscriber;
+
+/**
+ * Checks that the objects created for each subscription hold their state in fields rather than in atomic objects,
+ * which would be allocated for each subscription too.
+ */
+public class SubscriberFootprintTest {
+
+    @Test
+    public void testThatUniSubscribersDoNotAllocateAtomics() {
+        assertThat(atomicFields(UniSerializedSubscriber.class)).isEmpty();
+        assertThat(atomicFields(UniCallbackSubscriber.class)).isEmpty();
+        assertThat(atomicFields(DefaultUniEmitter.class)).isEmpty();
+        assertThat(atomicFields(UniOnItemTransformToUni.FlatMapSubscription.class)).isEmpty();
+    }
+
+    @Test
+    public void testThatMultiSubscribersOnlyAllocateTheirExposedUpstream() {
+        assertThat(atomicFields(MultiOperatorProcessor.class)).containsExactly("upstream");
+        assertThat(atomicFields(SwitchableSubscriptionSubscriber.class)).containsExactly("currentUpstream");
+    }
+
+    @Test
+    public void testThatMultiOperatorsDoNotAllocateAtomics() throws ClassNotFoundException {
+        String prefix = "io.smallrye.mutiny.operators.multi.";
+        List<String> classes = Arrays.asList(
+                "MultiTimeWindowAggregateOp$TimeWindowProcessor",
+                "MultiGatheringWriteOp$GatheringWriteProcessor",
+                "MultiSplitLinesOp$SplitLinesProcessor",
+                "MultiBufferWithTimeoutOp$MultiBufferWithTimeoutProcessor",
+                "MultiFlatMapOrderedOp$FlatMapOrderedMainSubscriber",
+                "MultiFlatMapOrderedOp$FlatMapOrderedInner",
+                "MultiTakeOp$TakeProcessor",
+                "MultiSkipOp$SkipProcessor",
+                "builders.CollectionBasedMulti$CollectionSubscription",
+                "builders.IterableBasedMulti$BaseRangeSubscription",
+                "builders.StreamBasedMulti$StreamSubscription");
+        for (String name : classes) {
+            assertThat(atomicFields(Class.forName(prefix + name))).as(name).isEmpty();
+        }
+    }
+
+    /**
+     * Checks the bytes allocated per subscription against a budget. The measures are done by
+     * {@link AllocationHarness} in a fresh JVM, so they do not depend on the profiles gathered while running the other
+     * tests. The budgets have been measured on HotSpot with compressed oops (JDK 17), with some headroom, so the test
+     * is skipped on the other JVMs.
+     */
+    @Test
+    public void testAllocatedBytesPerSubscription() throws Exception {
+        HotSpotDiagnosticMXBean diagnostic = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        if (diagnostic == null || !"true".equals(diagnostic.getVMOption("UseCompressedOops").getValue())) {
+            throw new SkipException("The budgets have been measured on HotSpot with compressed oops");
+        }
+
+        Process process = new ProcessBuilder(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                AllocationHarness.class.getName())
+                        .redirectErrorStream(true)
+                        .start();
+        Map<String, Long> measures = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] segments = line.split(": ");
+                if (segments.length == 2) {
+                    measures.put(segments[0], Long.parseLong(segments[1].trim()));
+                }
+            }
+        }
+        assertThat(process.waitFor(1, TimeUnit.MINUTES)).isTrue();
+        if (process.exitValue() == AllocationHarness.UNSUPPORTED) {
+            throw new SkipException("Allocated memory measurement not supported");
+        }
+        assertThat(process.exitValue()).isZero();
+
+        // Measured: 640, 105-115, 808, 674-752 and 1032-1048 bytes.
+        assertThat(measures.get("10 maps")).isLessThanOrEqualTo(700);
+        assertThat(measures.get("emitter")).isLessThanOrEqualTo(128);
+        assertThat(measures.get("10 maps and transformToUni")).isLessThanOrEqualTo(880);
+        assertThat(measures.get("repeat")).isLessThanOrEqualTo(800);
+        assertThat(measures.get("skip and take")).isLessThanOrEqualTo(1150);
+    }
+
+    /**
+     * Prints the bytes allocated by the current thread per subscription to a few pipelines, as
+     * {@code <pipeline>: <bytes>} lines. It can be run directly with the test classpath.
+     */
+    public static final class AllocationHarness {
+
+        static final int UNSUPPORTED = 2;
+
+        private static final int WARM_UP = 100_000;
+        private static final int ITERATIONS = 20_000;
+
+        public static void main(String[] args) {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (!(bean instanceof ThreadMXBean) || !((ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+                System.exit(UNSUPPORTED);
+            }
+            ThreadMXBean threads = (ThreadMXBean) bean;
+            threads.setThreadAllocatedMemoryEnabled(true);
+
+            Uni<Integer> maps = Uni.createFrom().item(1);
+            for (int i = 0; i < 10; i++) {
+                maps = maps.map(x -> x + 1);
+            }
+            Uni<Integer> mapsAndTransformToUni = maps.onItem().transformToUni(x -> Uni.createFrom().item(x));
+            Uni<Integer> emitter = Uni.createFrom().emitter(e -> e.complete(1));
+            Multi<Integer> repeat = Multi.createBy().repeating().supplier(() -> 1).atMost(3);
+            Multi<Integer> skipAndTake = Multi.createFrom().items(1, 2, 3, 4)
+                    .transform().bySkippingFirstItems(1)
+                    .transform().byTakingFirstItems(2);
+
+            print(threads, "10 maps", maps, AllocationHarness::subscribe);
+            print(threads, "emitter", emitter, AllocationHarness::subscribe);
+            print(threads, "10 maps and transformToUni", mapsAndTransformToUni, AllocationHarness::subscribe);
+            print(threads, "repeat", repeat, AllocationHarness::subscribe);
+            print(threads, "skip and take", skipAndTake, AllocationHarness::subscribe);
+        }
+
+        private static <P> void print(ThreadMXBean threads, String name, P pipeline, Consumer<P> subscription) {
+            long id = Thread.currentThread().getId();
+            for (int i = 0; i < WARM_UP; i++) {
+                subscription.accept(pipeline);
+            }
+            long before = threads.getThreadAllocatedBytes(id);
+            for (int i = 0; i < ITERATIONS; i++) {
+                subscription.accept(pipeline);
+            }
+            System.out.println(name + ": " + (threads.getThreadAllocatedBytes(id) - before) / ITERATIONS);
+        }
+
+        private static void subscribe(Uni<Integer> uni) {
+            uni.subscribe().with(x -> {
+            });
+        }
+
+        private static void subscribe(Multi<Integer> multi) {
+            multi.subscribe().with(x -> {
+            });
+        }
+    }
+
+    private static List<String> atomicFields(Class<?> clazz) {
+        return Arrays.stream(clazz.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .filter(field -> field.getType().getName().startsWith("java.util.concurrent.atomic."))
+                .map(Field::getName)
+                .collect(Collectors.toList());
+    }
+}
@@ -4,12 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.testng.annotations.Test;
 
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.TimeoutException;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.tuples.*;
 
 public class UniAndTest {
@@ -203,4 +207,106 @@ public class UniAndTest {
         assertThat(subscriber.getItem().asList()).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9);
     }
 
+    @Test
+    public void testWithALargeNumberOfUnis() {
+        List<Uni<Integer>> unis = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            unis.add(Uni.createFrom().item(i));
+        }
+        UniAssertSubscriber<Integer> subscriber = Uni.combine().all().unis(unis)
+                .combinedWith(list -> list.stream().mapToInt(o -> (Integer) o).sum())
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        subscriber.assertCompletedSuccessfully().assertItem(49_995_000);
+    }
+
+    @Test
+    public void testWithConcurrency() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger max = new AtomicInteger();
+        List<Uni<Integer>> unis = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            int value = i;
+            unis.add(Uni.createFrom().item(value)
+                    .onSubscribe().invoke(s -> max.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                    .emitOn(Infrastructure.getDefaultExecutor())
+                    .onItem().invoke(x -> inFlight.decrementAndGet()));
+        }
+
+        List<?> list = Uni.combine().all().unis(unis)
+                .withConcurrency(4)
+                .combinedWith(l -> l)
+                .await().atMost(Duration.ofSeconds(5));
+
+        assertThat(list).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(list.get(i)).isEqualTo(i);
+        }
+        assertThat(max.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    public void testWithConcurrencyAndSynchronousUnis() {
+        List<Uni<Integer>> unis = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            unis.add(Uni.createFrom().item(1));
+        }
+        UniAssertSubscriber<Integer> subscriber = Uni.combine().all().unis(unis)
+                .withConcurrency(1)
+                .combinedWith(List::size)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        subscriber.assertCompletedSuccessfully().assertItem(100_000);
+    }
+
+    @Test
+    public void testWithConcurrencyAndFailure() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        List<Uni<Integer>> unis = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            int value = i;
+            unis.add(Uni.createFrom().item(() -> {
+                subscriptions.incrementAndGet();
+                if (value == 2) {
+                    throw new IllegalStateException("boom");
+                }
+                return value;
+            }));
+        }
+        UniAssertSubscriber<Void> subscriber = Uni.combine().all().unis(unis)
+                .withConcurrency(2)
+                .discardItems()
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        subscriber.assertFailure(IllegalStateException.class, "boom");
+        assertThat(subscriptions).hasValue(3);
+    }
+
+    @Test
+    public void testWithConcurrencyAndCollectedFailures() {
+        List<Uni<Integer>> unis = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            int value = i;
+            unis.add(Uni.createFrom().item(() -> {
+                if (value % 5 == 0) {
+                    throw new IllegalStateException("boom " + value);
+                }
+                return value;
+            }));
+        }
+        UniAssertSubscriber<Void> subscriber = Uni.combine().all().unis(unis)
+                .withConcurrency(3)
+                .collectFailures()
+                .discardItems()
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        subscriber.assertFailure(CompositeException.class, "boom 0")
+                .assertFailure(CompositeException.class, "boom 5");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testWithInvalidConcurrency() {
+        Uni.combine().all().unis(Uni.createFrom().item(1), Uni.createFrom().item(2)).withConcurrency(0);
+    }
+
 }
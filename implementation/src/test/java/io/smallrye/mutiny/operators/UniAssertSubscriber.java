@@ -2,11 +2,13 @@ package io.smallrye.mutiny.operators;
 
 import java.util.concurrent.CompletableFuture;
 
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
 
 public class UniAssertSubscriber<T> implements UniSubscriber<T> {
     private final boolean cancelImmediatelyOnSubscription;
+    private final Context context = Context.empty();
     private UniSubscription subscription;
     private boolean gotSignal;
     private T item;
@@ -222,4 +224,9 @@ public class UniAssertSubscriber<T> implements UniSubscriber<T> {
         }
         return this;
     }
+
+    @Override
+    public Context context() {
+        return context;
+    }
 }
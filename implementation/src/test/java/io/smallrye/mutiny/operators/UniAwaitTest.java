@@ -6,8 +6,15 @@ import static org.awaitility.Awaitility.await;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.testng.annotations.Test;
@@ -86,6 +93,61 @@ public class UniAwaitTest {
         assertThat(exception.get()).hasCauseInstanceOf(InterruptedException.class);
     }
 
+    @Test(timeOut = 5000)
+    public void testInterruptedIndefiniteAwait() {
+        AtomicBoolean awaiting = new AtomicBoolean();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicReference<RuntimeException> exception = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                awaiting.set(true);
+                Uni.createFrom().nothing().await().indefinitely();
+            } catch (RuntimeException e) {
+                interrupted.set(Thread.currentThread().isInterrupted());
+                exception.set(e);
+            }
+        });
+        thread.start();
+        await().untilTrue(awaiting);
+        thread.interrupt();
+        await().until(() -> exception.get() != null);
+        assertThat(exception.get()).hasCauseInstanceOf(InterruptedException.class);
+        assertThat(interrupted).isTrue();
+    }
+
+    @Test(timeOut = 30000)
+    public void testManyConcurrentAwaiters() throws InterruptedException {
+        int awaiters = 200;
+        int awaitsPerAwaiter = 500;
+        ExecutorService completer = Executors.newFixedThreadPool(4);
+        ExecutorService executor = Executors.newFixedThreadPool(awaiters);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong sum = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < awaiters; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < awaitsPerAwaiter; j++) {
+                    int value = j;
+                    sum.addAndGet(Uni.createFrom().<Integer> emitter(e -> completer.execute(() -> e.complete(value)))
+                            .await().indefinitely());
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        futures.forEach(f -> {
+            try {
+                f.get();
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        });
+        assertThat(sum).hasValue((long) awaiters * (awaitsPerAwaiter * (awaitsPerAwaiter - 1L) / 2));
+        executor.shutdownNow();
+        completer.shutdownNow();
+    }
+
     @Test
     public void testAwaitAsOptionalWithResult() {
         assertThat(
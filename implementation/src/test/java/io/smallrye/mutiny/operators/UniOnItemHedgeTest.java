@@ -0,0 +1,223 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.groups.UniOnItemHedge;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+public class UniOnItemHedgeTest {
+
+    private ScheduledExecutorService executor;
+    private AtomicInteger subscriptions;
+    private List<UniEmitter<? super Integer>> emitters;
+    private AtomicInteger cancellations;
+    private Uni<Integer> uni;
+
+    @BeforeMethod
+    public void init() {
+        executor = Executors.newScheduledThreadPool(2);
+        subscriptions = new AtomicInteger();
+        cancellations = new AtomicInteger();
+        emitters = new CopyOnWriteArrayList<>();
+        uni = Uni.createFrom().emitter(e -> {
+            subscriptions.incrementAndGet();
+            emitters.add(e);
+        });
+        uni = uni.onCancellation().invoke(cancellations::incrementAndGet);
+    }
+
+    @AfterMethod
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testThatDelayMustBeSet() {
+        Uni.createFrom().item(1).onItem().hedge().atMost(1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testThatDelayMustBePositive() {
+        Uni.createFrom().item(1).onItem().hedge().after(Duration.ZERO);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testThatHedgesMustBePositive() {
+        Uni.createFrom().item(1).onItem().hedge().after(Duration.ofMillis(10)).atMost(0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testThatExecutorMustNotBeNull() {
+        Uni.createFrom().item(1).onItem().hedge().on(null);
+    }
+
+    @Test
+    public void testNoHedgeWhenTheItemArrivesBeforeTheDelay() {
+        UniOnItemHedge.Statistics statistics = new UniOnItemHedge.Statistics();
+        UniAssertSubscriber<Integer> subscriber = Uni.createFrom().item(1)
+                .onItem().hedge().after(Duration.ofMillis(50)).on(executor).recordingIn(statistics).atMost(2)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        subscriber.await().assertItem(1);
+        assertThat(statistics.subscriptions()).isEqualTo(1);
+        assertThat(statistics.hedges()).isEqualTo(0);
+        assertThat(statistics.hedgeWins()).isEqualTo(0);
+    }
+
+    @Test
+    public void testThatTheHedgedSubscriptionWins() {
+        UniOnItemHedge.Statistics statistics = new UniOnItemHedge.Statistics();
+        UniAssertSubscriber<Integer> subscriber = uni
+                .onItem().hedge().after(Duration.ofMillis(10)).on(executor).recordingIn(statistics).atMost(1)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        await().until(() -> emitters.size() == 2);
+        emitters.get(1).complete(2);
+
+        subscriber.await().assertItem(2);
+        assertThat(subscriptions).hasValue(2);
+        // The original subscription has been cancelled.
+        assertThat(cancellations).hasValue(1);
+        assertThat(statistics.subscriptions()).isEqualTo(1);
+        assertThat(statistics.hedges()).isEqualTo(1);
+        assertThat(statistics.hedgeWins()).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatTheOriginalSubscriptionCanStillWin() {
+        UniOnItemHedge.Statistics statistics = new UniOnItemHedge.Statistics();
+        UniAssertSubscriber<Integer> subscriber = uni
+                .onItem().hedge().after(Duration.ofMillis(10)).on(executor).recordingIn(statistics).atMost(1)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        await().until(() -> emitters.size() == 2);
+        emitters.get(0).complete(1);
+
+        subscriber.await().assertItem(1);
+        assertThat(cancellations).hasValue(1);
+        assertThat(statistics.hedges()).isEqualTo(1);
+        assertThat(statistics.hedgeWins()).isEqualTo(0);
+    }
+
+    @Test
+    public void testThatTheNumberOfHedgesIsBounded() throws InterruptedException {
+        UniAssertSubscriber<Integer> subscriber = uni
+                .onItem().hedge().after(Duration.ofMillis(5)).on(executor).atMost(3)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        await().until(() -> emitters.size() == 4);
+        Thread.sleep(50);
+        assertThat(subscriptions).hasValue(4);
+        subscriber.assertNotCompleted();
+
+        emitters.get(2).complete(3);
+        subscriber.await().assertItem(3);
+        assertThat(cancellations).hasValue(3);
+    }
+
+    @Test
+    public void testThatAFailureIsDelayedWhileAnotherSubscriptionIsInFlight() {
+        UniAssertSubscriber<Integer> subscriber = uni
+                .onItem().hedge().after(Duration.ofMillis(10)).on(executor).atMost(1)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        await().until(() -> emitters.size() == 2);
+        emitters.get(0).fail(new IOException("boom"));
+        subscriber.assertNotCompleted();
+
+        emitters.get(1).complete(2);
+        subscriber.await().assertItem(2);
+    }
+
+    @Test
+    public void testThatTheLastFailureIsPropagated() {
+        UniAssertSubscriber<Integer> subscriber = uni
+                .onItem().hedge().after(Duration.ofMillis(10)).on(executor).atMost(1)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        await().until(() -> emitters.size() == 2);
+        emitters.get(0).fail(new IOException("first"));
+        emitters.get(1).fail(new IOException("second"));
+
+        subscriber.await().assertFailure(IOException.class, "second");
+    }
+
+    @Test
+    public void testThatAnEarlyFailureDoesNotTriggerHedges() throws InterruptedException {
+        UniOnItemHedge.Statistics statistics = new UniOnItemHedge.Statistics();
+        UniAssertSubscriber<Integer> subscriber = Uni.createFrom().<Integer> failure(new IOException("boom"))
+                .onItem().hedge().after(Duration.ofMillis(10)).on(executor).recordingIn(statistics).atMost(2)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        subscriber.await().assertFailure(IOException.class, "boom");
+        Thread.sleep(50);
+        assertThat(statistics.hedges()).isEqualTo(0);
+    }
+
+    @Test
+    public void testCancellation() throws InterruptedException {
+        UniAssertSubscriber<Integer> subscriber = uni
+                .onItem().hedge().after(Duration.ofMillis(10)).on(executor).atMost(1)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        await().until(() -> emitters.size() == 2);
+        subscriber.cancel();
+        assertThat(cancellations).hasValue(2);
+
+        Thread.sleep(50);
+        assertThat(subscriptions).hasValue(2);
+        subscriber.assertNotCompleted();
+    }
+
+    @Test
+    public void testWithDefaultExecutor() {
+        UniAssertSubscriber<Integer> subscriber = uni
+                .onItem().hedge().after(Duration.ofMillis(10)).atMost(1)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        await().until(() -> emitters.size() == 2);
+        emitters.get(1).complete(2);
+        subscriber.await().assertItem(2);
+    }
+
+    @Test
+    public void testThatTheContextIsPropagatedToEachSubscription() {
+        List<Object> seen = new CopyOnWriteArrayList<>();
+        Uni<Integer> upstream = Uni.createFrom().<Integer> emitter(emitters::add)
+                .withContext((u, ctx) -> {
+                    seen.add(ctx.get("id"));
+                    return u;
+                });
+
+        UniAssertSubscriber<Integer> subscriber = new UniAssertSubscriber<Integer>() {
+            final Context context = Context.of("id", "abc");
+
+            @Override
+            public Context context() {
+                return context;
+            }
+        };
+        upstream.onItem().hedge().after(Duration.ofMillis(10)).on(executor).atMost(1)
+                .subscribe().withSubscriber(subscriber);
+
+        await().until(() -> emitters.size() == 2);
+        emitters.get(1).complete(2);
+        subscriber.await().assertItem(2);
+        assertThat(seen).containsExactly("abc", "abc");
+    }
+}
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
@@ -167,4 +169,42 @@ public class UniOnItemTransformToUniTest {
         test.assertNotCompleted();
         assertThat(cancelled).isTrue();
     }
+
+    @Test
+    public void testBlockingMapperInDeeplyNestedCompositions() {
+        Uni<Integer> uni = Uni.createFrom().item(0);
+        for (int i = 0; i < 40; i++) {
+            uni = uni.onItem().transformToUni(v -> {
+                try {
+                    int next = Uni.createFrom().item(v + 1).subscribeAsCompletionStage().get(1, TimeUnit.SECONDS);
+                    return Uni.createFrom().item(next);
+                } catch (Exception e) {
+                    return Uni.createFrom().failure(e);
+                }
+            });
+        }
+
+        assertThat(uni.subscribeAsCompletionStage().toCompletableFuture().join()).isEqualTo(40);
+    }
+
+    @Test
+    public void testBlockingOnNestedCompositionsInDeeplyNestedCompositions() {
+        Uni<Integer> uni = Uni.createFrom().item(0);
+        for (int i = 0; i < 40; i++) {
+            uni = uni.onItem().transformToUni(v -> {
+                Uni<Integer> next = Uni.createFrom().item(v).onItem().transformToUni(x -> Uni.createFrom().item(x + 1));
+                try {
+                    // Both bridges must have completed their synchronous work when they return.
+                    CountDownLatch latch = new CountDownLatch(1);
+                    next.subscribe().with(x -> latch.countDown());
+                    assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+                    return Uni.createFrom().item(next.subscribeAsCompletionStage().get(1, TimeUnit.SECONDS));
+                } catch (Exception e) {
+                    return Uni.createFrom().failure(e);
+                }
+            });
+        }
+
+        assertThat(uni.await().indefinitely()).isEqualTo(40);
+    }
 }
@@ -0,0 +1,192 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.Uni;
+
+public class UniWithContextTest {
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testThatBuilderMustNotBeNull() {
+        Uni.createFrom().item(1).withContext(null);
+    }
+
+    @Test
+    public void testContextFromSubscriber() {
+        AtomicReference<String> result = new AtomicReference<>();
+        Uni.createFrom().item("hello")
+                .withContext((uni, ctx) -> uni.onItem().transform(s -> s + "@" + ctx.get("tenant")))
+                .subscribe().with(Context.of("tenant", "acme"), result::set, f -> {
+                });
+
+        assertThat(result).hasValue("hello@acme");
+    }
+
+    @Test
+    public void testContextFlowsThroughOperators() {
+        Context context = Context.of("request-id", "r-1");
+        AtomicReference<String> result = new AtomicReference<>();
+        Uni.createFrom().item(1)
+                .withContext((uni, ctx) -> uni.onItem().transform(i -> i + ":" + ctx.get("request-id")))
+                .onItem().transformToUni(s -> Uni.createFrom().completionStage(CompletableFuture.supplyAsync(() -> s)))
+                .onItem().transform(String::toUpperCase)
+                .subscribe().with(context, result::set, f -> {
+                });
+
+        await().until(() -> result.get() != null);
+        assertThat(result).hasValue("1:R-1");
+    }
+
+    @Test
+    public void testContextSharedWithNestedUni() {
+        Context context = Context.empty();
+        AtomicReference<Object> result = new AtomicReference<>();
+        Uni.createFrom().item(1)
+                .withContext((uni, ctx) -> {
+                    ctx.put("seen", true);
+                    return uni;
+                })
+                .onItem().transformToUni(i -> Uni.createFrom().item(2)
+                        .withContext((uni, ctx) -> uni.onItem().transform(x -> ctx.<Boolean> get("seen"))))
+                .subscribe().with(context, result::set, f -> {
+                });
+
+        assertThat(result).hasValue(true);
+        assertThat(context.contains("seen")).isTrue();
+    }
+
+    @Test
+    public void testContextFromMultiToUni() {
+        AtomicReference<String> result = new AtomicReference<>();
+        Uni.createFrom().item("a")
+                .withContext((uni, ctx) -> uni.onItem().transform(s -> s + ctx.get("k")))
+                .toMulti()
+                .toUni()
+                .subscribe().with(Context.of("k", "b"), result::set, f -> {
+                });
+
+        assertThat(result).hasValue("ab");
+    }
+
+    @Test
+    public void testMissingKey() {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Uni.createFrom().item(1)
+                .withContext((uni, ctx) -> uni.onItem().transform(i -> ctx.get("missing")))
+                .subscribe().with(i -> {
+                }, failure::set);
+
+        assertThat(failure.get()).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    public void testBuilderThrowingAnException() {
+        UniAssertSubscriber<Object> subscriber = UniAssertSubscriber.create();
+        Uni.createFrom().item(1)
+                .withContext((uni, ctx) -> {
+                    throw new IllegalStateException("boom");
+                })
+                .subscribe().withSubscriber(subscriber);
+
+        subscriber.assertFailure(IllegalStateException.class, "boom");
+    }
+
+    @Test
+    public void testBuilderReturningNull() {
+        UniAssertSubscriber<Object> subscriber = UniAssertSubscriber.create();
+        Uni.createFrom().item(1)
+                .withContext((uni, ctx) -> null)
+                .subscribe().withSubscriber(subscriber);
+
+        subscriber.assertFailure(NullPointerException.class, "");
+    }
+
+    @Test
+    public void testContextApi() {
+        Context context = Context.of("a", 1, "b", "2");
+        assertThat(context.isEmpty()).isFalse();
+        assertThat(context.keys()).containsExactlyInAnyOrder("a", "b");
+        assertThat(context.<Integer> get("a")).isEqualTo(1);
+        assertThat(context.getOrElse("c", () -> "fallback")).isEqualTo("fallback");
+        context.delete("a");
+        assertThat(context.contains("a")).isFalse();
+        assertThat(Context.empty().isEmpty()).isTrue();
+        assertThat(Context.empty().keys()).isEmpty();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testContextOfWithOddNumberOfEntries() {
+        Context.of("a", 1, "b");
+    }
+
+    @Test
+    public void testContextFlowsThroughRetry() {
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicReference<String> result = new AtomicReference<>();
+        Uni.createFrom().item("a")
+                .withContext((uni, ctx) -> uni.onItem().transform(s -> s + ctx.getOrElse("k", () -> "MISSING")))
+                .onItem().invoke(s -> {
+                    if (attempts.incrementAndGet() < 3) {
+                        throw new IllegalStateException("boom");
+                    }
+                })
+                .onFailure().retry().atMost(5)
+                .subscribe().with(Context.of("k", "v"), result::set, f -> {
+                });
+
+        assertThat(result).hasValue("av");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    public void testContextFlowsThroughTimeout() {
+        AtomicReference<String> result = new AtomicReference<>();
+        Uni.createFrom().item("a")
+                .withContext((uni, ctx) -> uni.onItem().transform(s -> s + ctx.getOrElse("k", () -> "MISSING")))
+                .ifNoItem().after(Duration.ofSeconds(10)).fail()
+                .subscribe().with(Context.of("k", "v"), result::set, f -> {
+                });
+
+        assertThat(result).hasValue("av");
+    }
+
+    @Test
+    public void testContextFlowsThroughRecovery() {
+        AtomicReference<String> result = new AtomicReference<>();
+        Uni.createFrom().<String> failure(new IllegalStateException("boom"))
+                .onFailure().recoverWithUni(() -> Uni.createFrom().item("a")
+                        .withContext((uni, ctx) -> uni.onItem().transform(s -> s + ctx.getOrElse("k", () -> "MISSING"))))
+                .subscribe().with(Context.of("k", "v"), result::set, f -> {
+                });
+
+        assertThat(result).hasValue("av");
+    }
+
+    @Test
+    public void testThatTheDefaultContextIsSharedByTheOperators() {
+        Uni<String> uni = Uni.createFrom().item("x")
+                .withContext((u, ctx) -> u.onItem().transform(i -> i + ":" + ctx.getOrElse("k", () -> "MISSING")))
+                .withContext((u, ctx) -> {
+                    ctx.put("k", "v");
+                    return u;
+                });
+
+        assertThat(uni.await().indefinitely()).isEqualTo("x:v");
+        assertThat(uni.subscribeAsCompletionStage().toCompletableFuture().join()).isEqualTo("x:v");
+
+        AtomicReference<String> result = new AtomicReference<>();
+        uni.subscribe().with(result::set, f -> {
+        });
+        assertThat(result).hasValue("x:v");
+    }
+}
@@ -1,6 +1,7 @@
 package io.smallrye.mutiny.operators.multi.processors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 import java.io.IOException;
 import java.time.Duration;
@@ -8,6 +9,7 @@ import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -17,6 +19,7 @@ import org.testng.annotations.Test;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.BackPressureStrategy;
 import io.smallrye.mutiny.test.MultiAssertSubscriber;
 
 public class BroadcastProcessorTest {
@@ -466,4 +469,143 @@ public class BroadcastProcessorTest {
         List<Long> items = subscriber.items();
         assertThat(items).isNotEmpty().doesNotContain(0L, 1L, 2L, 3L, 4L);
     }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testIsolatedModeWithInvalidBufferSize() {
+        BroadcastProcessor.create(0, BackPressureStrategy.DROP, executor);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testIsolatedModeWithUnsupportedStrategy() {
+        BroadcastProcessor.create(10, BackPressureStrategy.BUFFER, executor);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testIsolatedModeWithoutExecutor() {
+        BroadcastProcessor.create(10, BackPressureStrategy.DROP, null);
+    }
+
+    @Test
+    public void testThatASlowSubscriberDoesNotBlockTheOthers() throws InterruptedException {
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create(100, BackPressureStrategy.DROP, executor);
+        CountDownLatch latch = new CountDownLatch(1);
+
+        MultiAssertSubscriber<Integer> slow = processor
+                .onItem().invoke(i -> {
+                    try {
+                        latch.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                })
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE));
+        MultiAssertSubscriber<Integer> fast = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE));
+
+        for (int i = 0; i < 100; i++) {
+            processor.onNext(i);
+        }
+        processor.onComplete();
+
+        fast.await().assertCompletedSuccessfully();
+        assertThat(fast.items()).hasSize(100);
+        slow.assertNotTerminated();
+
+        latch.countDown();
+        slow.await().assertCompletedSuccessfully();
+        assertThat(slow.items()).hasSize(100);
+    }
+
+    @Test
+    public void testIsolatedModeDroppingTheNewestItems() {
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create(3, BackPressureStrategy.DROP, executor);
+        MultiAssertSubscriber<Integer> subscriber = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(0));
+
+        for (int i = 1; i <= 10; i++) {
+            processor.onNext(i);
+        }
+        processor.onComplete();
+        subscriber.assertNotTerminated();
+
+        subscriber.request(10);
+        subscriber.await().assertCompletedSuccessfully().assertReceived(1, 2, 3);
+    }
+
+    @Test
+    public void testIsolatedModeDroppingTheOldestItems() {
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create(3, BackPressureStrategy.LATEST, executor);
+        MultiAssertSubscriber<Integer> subscriber = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(0));
+
+        for (int i = 1; i <= 10; i++) {
+            processor.onNext(i);
+        }
+        processor.onComplete();
+        subscriber.assertNotTerminated();
+
+        subscriber.request(10);
+        subscriber.await().assertCompletedSuccessfully().assertReceived(8, 9, 10);
+    }
+
+    @Test
+    public void testIsolatedModeDisconnectingTheSlowSubscriber() {
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create(3, BackPressureStrategy.ERROR, executor);
+        MultiAssertSubscriber<Integer> slow = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(1));
+        MultiAssertSubscriber<Integer> fast = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE));
+
+        for (int i = 1; i <= 10; i++) {
+            processor.onNext(i);
+            int expected = i;
+            await().until(() -> fast.items().size() == expected);
+        }
+        processor.onComplete();
+
+        fast.await().assertCompletedSuccessfully();
+        assertThat(fast.items()).hasSize(10);
+        slow.await().assertHasFailedWith(BackPressureFailure.class, "could not keep up");
+    }
+
+    @Test
+    public void testIsolatedModePropagatesFailures() {
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create(10, BackPressureStrategy.DROP, executor);
+        MultiAssertSubscriber<Integer> subscriber = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(10));
+
+        processor.onNext(1);
+        processor.onNext(2);
+        processor.onError(new IOException("boom"));
+
+        subscriber.await().assertReceived(1, 2).assertHasFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testIsolatedModeCancellation() {
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create(10, BackPressureStrategy.DROP, executor);
+        MultiAssertSubscriber<Integer> subscriber = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(10));
+
+        processor.onNext(1);
+        await().until(() -> subscriber.items().size() == 1);
+        subscriber.cancel();
+        assertThat(processor.subscribers.get()).isEmpty();
+
+        processor.onNext(2);
+        processor.onComplete();
+        subscriber.assertReceived(1).assertNotTerminated();
+    }
+
+    @Test
+    public void testIsolatedModeWithRejectedExecution() {
+        ExecutorService closed = Executors.newSingleThreadExecutor();
+        closed.shutdown();
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create(10, BackPressureStrategy.DROP, closed);
+        MultiAssertSubscriber<Integer> subscriber = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(10));
+
+        subscriber.assertHasFailedWith(RejectedExecutionException.class, null);
+        assertThat(processor.subscribers.get()).isEmpty();
+    }
 }
@@ -0,0 +1,225 @@
+package io.smallrye.mutiny.operators.multi.processors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.test.MultiAssertSubscriber;
+
+public class RingBufferProcessorTest {
+
+    private ExecutorService executor;
+
+    @BeforeMethod
+    public void setup() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterMethod
+    public void cleanup() {
+        executor.shutdownNow();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testThatCapacityMustBePositive() {
+        RingBufferProcessor.create(0);
+    }
+
+    @Test
+    public void testThatCapacityIsRoundedToAPowerOfTwo() {
+        assertThat(RingBufferProcessor.create(100).capacity()).isEqualTo(128);
+        assertThat(RingBufferProcessor.createWithLapping(64).capacity()).isEqualTo(64);
+    }
+
+    @Test
+    public void testWithTwoSubscribers() {
+        RingBufferProcessor<String> processor = RingBufferProcessor.create(8);
+
+        MultiAssertSubscriber<String> subscriber1 = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(10));
+        processor.onNext("one");
+        MultiAssertSubscriber<String> subscriber2 = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(10));
+        processor.onNext("two");
+        processor.onNext("three");
+        processor.onComplete();
+
+        subscriber1.assertReceived("one", "two", "three").assertCompletedSuccessfully();
+        subscriber2.assertReceived("two", "three").assertCompletedSuccessfully();
+
+        processor.subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasNotReceivedAnyItem()
+                .assertCompletedSuccessfully();
+    }
+
+    @Test
+    public void testFailurePropagation() {
+        RingBufferProcessor<Integer> processor = RingBufferProcessor.create(8);
+        MultiAssertSubscriber<Integer> subscriber = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(1));
+
+        processor.onNext(1);
+        processor.onNext(2);
+        processor.onError(new IOException("boom"));
+
+        // The failure is delivered once the buffered items are consumed.
+        subscriber.assertReceived(1).assertNotTerminated();
+        subscriber.request(1);
+        subscriber.assertReceived(1, 2).assertHasFailedWith(IOException.class, "boom");
+
+        processor.subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testThatTheSlowestSubscriberDrivesTheUpstreamRequests() {
+        AtomicLong requested = new AtomicLong();
+        RingBufferProcessor<Integer> processor = RingBufferProcessor.create(16);
+        MultiAssertSubscriber<Integer> fast = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE));
+        MultiAssertSubscriber<Integer> slow = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(0));
+
+        Multi.createFrom().range(0, 100)
+                .on().request(requested::addAndGet)
+                .subscribe().withSubscriber(processor);
+
+        assertThat(requested).hasValue(16);
+        assertThat(fast.items()).hasSize(16);
+
+        // The producer can now run 16 items ahead of the slow subscriber.
+        slow.request(10);
+        assertThat(slow.items()).hasSize(10);
+        assertThat(requested).hasValue(26);
+        assertThat(fast.items()).hasSize(26);
+
+        slow.request(Long.MAX_VALUE);
+        fast.assertCompletedSuccessfully();
+        slow.assertCompletedSuccessfully();
+        assertThat(fast.items()).hasSize(100);
+        assertThat(slow.items()).isEqualTo(fast.items());
+    }
+
+    @Test
+    public void testThatCancellingTheSlowestSubscriberResumesTheUpstream() {
+        RingBufferProcessor<Integer> processor = RingBufferProcessor.create(16);
+        MultiAssertSubscriber<Integer> fast = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE));
+        MultiAssertSubscriber<Integer> slow = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(0));
+
+        Multi.createFrom().range(0, 100).subscribe().withSubscriber(processor);
+        assertThat(fast.items()).hasSize(16);
+
+        slow.cancel();
+        fast.assertCompletedSuccessfully();
+        assertThat(fast.items()).hasSize(100);
+    }
+
+    @Test
+    public void testThatLaggingSubscribersFailWhenTheProducerIgnoresBackPressure() {
+        RingBufferProcessor<Integer> processor = RingBufferProcessor.create(4);
+        MultiAssertSubscriber<Integer> slow = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(0));
+        MultiAssertSubscriber<Integer> fast = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE));
+
+        for (int i = 1; i <= 10; i++) {
+            processor.onNext(i);
+        }
+        processor.onComplete();
+
+        slow.assertHasFailedWith(BackPressureFailure.class, "could not keep up");
+        fast.assertCompletedSuccessfully();
+        assertThat(fast.items()).hasSize(10);
+    }
+
+    @Test
+    public void testThatLappedSubscribersSkipTheOverwrittenItems() {
+        RingBufferProcessor<Integer> processor = RingBufferProcessor.createWithLapping(4);
+        MultiAssertSubscriber<Integer> slow = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(0));
+        MultiAssertSubscriber<Integer> fast = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE));
+
+        for (int i = 1; i <= 10; i++) {
+            processor.onNext(i);
+        }
+        processor.onComplete();
+
+        fast.assertCompletedSuccessfully();
+        assertThat(fast.items()).hasSize(10);
+
+        slow.request(10);
+        slow.assertCompletedSuccessfully();
+        assertThat(slow.items()).isNotEmpty().hasSizeLessThanOrEqualTo(4).endsWith(10);
+    }
+
+    @Test
+    public void testCancellation() {
+        RingBufferProcessor<Integer> processor = RingBufferProcessor.create(8);
+        MultiAssertSubscriber<Integer> subscriber = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(10));
+
+        processor.onNext(1);
+        subscriber.cancel();
+        processor.onNext(2);
+        processor.onComplete();
+
+        subscriber.assertReceived(1).assertNotTerminated();
+    }
+
+    @Test
+    public void testWithManyConcurrentSubscribers() {
+        RingBufferProcessor<Integer> processor = RingBufferProcessor.create(64);
+        List<MultiAssertSubscriber<Integer>> subscribers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            subscribers.add(processor.emitOn(executor).subscribe()
+                    .withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE)));
+        }
+
+        Multi.createFrom().range(0, 10_000)
+                .runSubscriptionOn(executor)
+                .subscribe().withSubscriber(processor);
+
+        for (MultiAssertSubscriber<Integer> subscriber : subscribers) {
+            subscriber.await().assertCompletedSuccessfully();
+            List<Integer> items = subscriber.items();
+            assertThat(items).hasSize(10_000);
+            for (int i = 0; i < items.size(); i++) {
+                assertThat(items.get(i)).isEqualTo(i);
+            }
+        }
+    }
+
+    @Test
+    public void testLappingWithConcurrentSubscribers() {
+        RingBufferProcessor<Integer> processor = RingBufferProcessor.createWithLapping(16);
+        List<MultiAssertSubscriber<Integer>> subscribers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            subscribers.add(processor.emitOn(executor).subscribe()
+                    .withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE)));
+        }
+
+        Multi.createFrom().range(0, 10_000)
+                .runSubscriptionOn(executor)
+                .subscribe().withSubscriber(processor);
+
+        for (MultiAssertSubscriber<Integer> subscriber : subscribers) {
+            subscriber.await().assertCompletedSuccessfully();
+            // Items may be skipped, but never duplicated nor reordered.
+            assertThat(subscriber.items()).isNotEmpty().isSorted().doesNotHaveDuplicates().endsWith(9_999);
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package io.smallrye.mutiny.operators.multi.processors;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.testng.annotations.Test;
 
+import io.smallrye.mutiny.subscription.BackPressureFailure;
 import io.smallrye.mutiny.test.MultiAssertSubscriber;
 
 public class UnicastProcessorTest {
@@ -45,4 +50,58 @@ public class UnicastProcessorTest {
         executor.shutdownNow();
     }
 
+    @Test
+    public void testMultiProducerProcessor() {
+        UnicastProcessor<String> processor = UnicastProcessor.createMultiProducer();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        MultiAssertSubscriber<String> subscriber = MultiAssertSubscriber.create(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < 8; i++) {
+            int t = i;
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 2000; j++) {
+                    processor.onNext(t + "-" + j);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+
+        await().until(() -> subscriber.items().size() == 8 * 2000);
+        processor.onComplete();
+        subscriber.assertCompletedSuccessfully();
+        assertThat(subscriber.items()).doesNotHaveDuplicates();
+        for (int i = 0; i < 8; i++) {
+            String prefix = i + "-";
+            // Items from a given producer are received in order.
+            assertThat(subscriber.items().stream().filter(s -> s.startsWith(prefix)))
+                    .containsExactlyElementsOf(
+                            IntStream.range(0, 2000).mapToObj(j -> prefix + j).collect(Collectors.toList()));
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testBoundedMultiProducerProcessor() {
+        UnicastProcessor<Integer> processor = UnicastProcessor.createMultiProducer(4);
+        MultiAssertSubscriber<Integer> subscriber = processor.subscribe()
+                .withSubscriber(MultiAssertSubscriber.create(0));
+
+        for (int i = 0; i < 4; i++) {
+            processor.onNext(i);
+        }
+        subscriber.assertNotTerminated();
+        processor.onNext(4);
+        // The failure is propagated after the queued items.
+        subscriber.request(10);
+        subscriber.assertReceived(0, 1, 2, 3).assertHasFailedWith(BackPressureFailure.class, "queue is full");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testBoundedMultiProducerProcessorWithInvalidSize() {
+        UnicastProcessor.createMultiProducer(0);
+    }
 }
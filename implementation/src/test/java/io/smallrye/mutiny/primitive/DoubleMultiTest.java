@@ -0,0 +1,176 @@
+package io.smallrye.mutiny.primitive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.reactivestreams.Subscription;
+import org.testng.annotations.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.test.MultiAssertSubscriber;
+
+public class DoubleMultiTest {
+
+    @Test
+    public void testOperators() {
+        DoubleMulti.items(1.5, 2.5, -1.0, 4.0)
+                .filter(d -> d > 0)
+                .map(d -> d * 2)
+                .scan(0, Double::sum)
+                .boxed()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully()
+                .assertReceived(3.0, 8.0, 16.0);
+    }
+
+    @Test
+    public void testSumCountAndWindow() {
+        assertThat(DoubleMulti.items(0.5, 0.25, 0.25).sum().await().indefinitely()).isEqualTo(1.0);
+        assertThat(DoubleMulti.items(0.5, 0.25, 0.25).count().await().indefinitely()).isEqualTo(3L);
+
+        MultiAssertSubscriber<double[]> subscriber = DoubleMulti.items(1, 2, 3).window(2)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10));
+        subscriber.assertCompletedSuccessfully();
+        assertThat(subscriber.items()).containsExactly(new double[] { 1, 2 }, new double[] { 3 });
+    }
+
+    @Test
+    public void testFromMulti() {
+        DoubleMulti.from(Multi.createFrom().items("1.5", "2"), Double::parseDouble)
+                .mapToObj(d -> "=" + d)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully()
+                .assertReceived("=1.5", "=2.0");
+
+        DoubleMulti.from(Multi.createFrom().<String> failure(new IOException("boom")), Double::parseDouble)
+                .boxed()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testBackPressure() {
+        MultiAssertSubscriber<Double> subscriber = DoubleMulti.items(1, 2, 3, 4, 5).boxed()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(2));
+        subscriber.assertReceived(1.0, 2.0).assertNotTerminated();
+        subscriber.request(2);
+        subscriber.assertReceived(1.0, 2.0, 3.0, 4.0).assertNotTerminated();
+        subscriber.request(1);
+        subscriber.assertReceived(1.0, 2.0, 3.0, 4.0, 5.0).assertCompletedSuccessfully();
+    }
+
+    @Test
+    public void testThatFailingMappersCancelTheUpstream() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        DoubleMulti.from(Multi.createFrom().range(0, 10).onCancellation().invoke(() -> cancelled.set(true)),
+                Integer::intValue)
+                .map(i -> {
+                    if (i == 3) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return i;
+                })
+                .boxed()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(IllegalStateException.class, "boom")
+                .assertReceived(0.0, 1.0, 2.0);
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    public void testWindowRequestsFullWindows() {
+        AtomicLong requested = new AtomicLong();
+        MultiAssertSubscriber<double[]> subscriber = DoubleMulti
+                .from(Multi.createFrom().range(0, 10).on().request(requested::addAndGet), Integer::intValue)
+                .window(4)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(1));
+        assertThat(requested).hasValue(4);
+        assertThat(subscriber.items()).containsExactly(new double[] { 0, 1, 2, 3 });
+
+        subscriber.request(2);
+        assertThat(requested).hasValue(12);
+        subscriber.assertCompletedSuccessfully();
+        assertThat(subscriber.items()).containsExactly(new double[] { 0, 1, 2, 3 }, new double[] { 4, 5, 6, 7 },
+                new double[] { 8, 9 });
+    }
+
+    @Test
+    public void testSubscribeWithCallbacks() {
+        List<Double> items = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        DoubleMulti.items(0, 1, 2).subscribe(items::add, f -> {
+        }, () -> completed.set(true));
+        assertThat(items).containsExactly(0.0, 1.0, 2.0);
+        assertThat(completed).isTrue();
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        DoubleMulti.from(Multi.createFrom().<Integer> failure(new IOException("boom")), Integer::intValue)
+                .subscribe(i -> {
+                }, failure::set, () -> {
+                });
+        assertThat(failure.get()).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void testCancellation() {
+        List<Double> received = new ArrayList<>();
+        DoubleMulti.items(0, 1, 2, 3, 4, 5).subscribe(new DoubleSubscriber() {
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onItem(double item) {
+                received.add(item);
+                if (item == 2) {
+                    subscription.cancel();
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable failure) {
+            }
+
+            @Override
+            public void onCompletion() {
+                received.add(-1.0);
+            }
+        });
+        assertThat(received).containsExactly(0.0, 1.0, 2.0);
+    }
+
+    @Test
+    public void testInvalidRequest() {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        DoubleMulti.items(0, 1, 2).subscribe(new DoubleSubscriber() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(0);
+            }
+
+            @Override
+            public void onItem(double item) {
+            }
+
+            @Override
+            public void onFailure(Throwable f) {
+                failure.set(f);
+            }
+
+            @Override
+            public void onCompletion() {
+            }
+        });
+        assertThat(failure.get()).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,205 @@
+package io.smallrye.mutiny.primitive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.reactivestreams.Subscription;
+import org.testng.annotations.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.test.MultiAssertSubscriber;
+
+public class IntMultiTest {
+
+    @Test
+    public void testInvalidParameters() {
+        assertThatThrownBy(() -> IntMulti.range(2, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IntMulti.items((int[]) null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IntMulti.from(null, Integer::intValue)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IntMulti.range(0, 1).map(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IntMulti.range(0, 1).window(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testRange() {
+        IntMulti.range(0, 5).boxed()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully()
+                .assertReceived(0, 1, 2, 3, 4);
+
+        IntMulti.range(3, 3).boxed()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully()
+                .assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    public void testBackPressure() {
+        MultiAssertSubscriber<Integer> subscriber = IntMulti.items(1, 2, 3, 4, 5).boxed()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(2));
+        subscriber.assertReceived(1, 2).assertNotTerminated();
+        subscriber.request(2);
+        subscriber.assertReceived(1, 2, 3, 4).assertNotTerminated();
+        subscriber.request(1);
+        subscriber.assertReceived(1, 2, 3, 4, 5).assertCompletedSuccessfully();
+    }
+
+    @Test
+    public void testMapFilterAndScan() {
+        IntMulti.range(1, 11)
+                .filter(i -> i % 2 == 0)
+                .map(i -> i * 10)
+                .scan(0, Integer::sum)
+                .boxed()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(1))
+                .assertReceived(20)
+                .request(10)
+                .assertCompletedSuccessfully()
+                .assertReceived(20, 60, 120, 200, 300);
+    }
+
+    @Test
+    public void testThatFailingMappersCancelTheUpstream() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        IntMulti.from(Multi.createFrom().range(0, 10).onCancellation().invoke(() -> cancelled.set(true)),
+                Integer::intValue)
+                .map(i -> {
+                    if (i == 3) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return i;
+                })
+                .boxed()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(IllegalStateException.class, "boom")
+                .assertReceived(0, 1, 2);
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    public void testFromMultiPropagatesFailures() {
+        IntMulti.from(Multi.createFrom().<String> failure(new IOException("boom")), String::length)
+                .boxed()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testSumAndCount() {
+        assertThat(IntMulti.range(0, 100_000).sum().await().indefinitely()).isEqualTo(4_999_950_000L);
+        assertThat(IntMulti.range(0, 100_000).count().await().indefinitely()).isEqualTo(100_000L);
+        assertThat(IntMulti.items().sum().await().indefinitely()).isZero();
+    }
+
+    @Test
+    public void testWindow() {
+        MultiAssertSubscriber<int[]> subscriber = IntMulti.range(0, 7).window(3)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10));
+        subscriber.assertCompletedSuccessfully();
+        assertThat(subscriber.items()).containsExactly(new int[] { 0, 1, 2 }, new int[] { 3, 4, 5 }, new int[] { 6 });
+    }
+
+    @Test
+    public void testWindowRequestsFullWindows() {
+        AtomicLong requested = new AtomicLong();
+        MultiAssertSubscriber<int[]> subscriber = IntMulti
+                .from(Multi.createFrom().range(0, 10).on().request(requested::addAndGet), Integer::intValue)
+                .window(4)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(1));
+        assertThat(requested).hasValue(4);
+        assertThat(subscriber.items()).hasSize(1);
+    }
+
+    @Test
+    public void testConversions() {
+        assertThat(IntMulti.items(Integer.MAX_VALUE, Integer.MAX_VALUE).asLongMulti().sum().await().indefinitely())
+                .isEqualTo(2L * Integer.MAX_VALUE);
+        assertThat(IntMulti.items(1, 2).asDoubleMulti().map(d -> d / 4).sum().await().indefinitely())
+                .isEqualTo(0.75);
+        IntMulti.range(0, 3).mapToObj(i -> "#" + i)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully()
+                .assertReceived("#0", "#1", "#2");
+    }
+
+    @Test
+    public void testSubscribeWithCallbacks() {
+        List<Integer> items = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        IntMulti.range(0, 3).subscribe(items::add, f -> {
+        }, () -> completed.set(true));
+        assertThat(items).containsExactly(0, 1, 2);
+        assertThat(completed).isTrue();
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        IntMulti.from(Multi.createFrom().<Integer> failure(new IOException("boom")), Integer::intValue)
+                .subscribe(i -> {
+                }, failure::set, () -> {
+                });
+        assertThat(failure.get()).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void testCancellation() {
+        List<Integer> received = new ArrayList<>();
+        IntMulti.range(0, 10).subscribe(new IntSubscriber() {
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onItem(int item) {
+                received.add(item);
+                if (item == 2) {
+                    subscription.cancel();
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable failure) {
+            }
+
+            @Override
+            public void onCompletion() {
+                received.add(-1);
+            }
+        });
+        assertThat(received).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    public void testInvalidRequest() {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        IntMulti.range(0, 10).subscribe(new IntSubscriber() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(0);
+            }
+
+            @Override
+            public void onItem(int item) {
+            }
+
+            @Override
+            public void onFailure(Throwable f) {
+                failure.set(f);
+            }
+
+            @Override
+            public void onCompletion() {
+            }
+        });
+        assertThat(failure.get()).isInstanceOf(IllegalArgumentException.class);
+    }
+}
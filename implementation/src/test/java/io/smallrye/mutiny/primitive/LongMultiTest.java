@@ -0,0 +1,189 @@
+package io.smallrye.mutiny.primitive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.reactivestreams.Subscription;
+import org.testng.annotations.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.test.MultiAssertSubscriber;
+
+public class LongMultiTest {
+
+    @Test
+    public void testInvalidRange() {
+        assertThatThrownBy(() -> LongMulti.range(2, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LongMulti.range(Long.MIN_VALUE, Long.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testRangeBeyondIntegers() {
+        LongMulti.range(Integer.MAX_VALUE, Integer.MAX_VALUE + 3L).boxed()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully()
+                .assertReceived(2147483647L, 2147483648L, 2147483649L);
+    }
+
+    @Test
+    public void testOperators() {
+        LongMulti.items(1, 2, 3, 4, 5, 6)
+                .filter(l -> l > 2)
+                .map(l -> l * l)
+                .scan(1, Math::max)
+                .boxed()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully()
+                .assertReceived(9L, 16L, 25L, 36L);
+    }
+
+    @Test
+    public void testSumCountAndWindow() {
+        assertThat(LongMulti.range(0, 1_000).sum().await().indefinitely()).isEqualTo(499_500L);
+        assertThat(LongMulti.range(0, 1_000).count().await().indefinitely()).isEqualTo(1_000L);
+
+        MultiAssertSubscriber<long[]> subscriber = LongMulti.range(0, 5).window(2)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10));
+        subscriber.assertCompletedSuccessfully();
+        assertThat(subscriber.items()).containsExactly(new long[] { 0, 1 }, new long[] { 2, 3 }, new long[] { 4 });
+    }
+
+    @Test
+    public void testFromMulti() {
+        assertThat(LongMulti.from(Multi.createFrom().items("a", "bb", "ccc"), String::length)
+                .asDoubleMulti().sum().await().indefinitely()).isEqualTo(6.0);
+
+        LongMulti.from(Multi.createFrom().<String> failure(new IOException("boom")), String::length)
+                .boxed()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testBackPressure() {
+        MultiAssertSubscriber<Long> subscriber = LongMulti.items(1, 2, 3, 4, 5).boxed()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(2));
+        subscriber.assertReceived(1L, 2L).assertNotTerminated();
+        subscriber.request(2);
+        subscriber.assertReceived(1L, 2L, 3L, 4L).assertNotTerminated();
+        subscriber.request(1);
+        subscriber.assertReceived(1L, 2L, 3L, 4L, 5L).assertCompletedSuccessfully();
+    }
+
+    @Test
+    public void testThatFailingMappersCancelTheUpstream() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        LongMulti.from(Multi.createFrom().range(0, 10).onCancellation().invoke(() -> cancelled.set(true)),
+                Integer::intValue)
+                .map(i -> {
+                    if (i == 3) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return i;
+                })
+                .boxed()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(IllegalStateException.class, "boom")
+                .assertReceived(0L, 1L, 2L);
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    public void testWindowRequestsFullWindows() {
+        AtomicLong requested = new AtomicLong();
+        MultiAssertSubscriber<long[]> subscriber = LongMulti
+                .from(Multi.createFrom().range(0, 10).on().request(requested::addAndGet), Integer::intValue)
+                .window(4)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(1));
+        assertThat(requested).hasValue(4);
+        assertThat(subscriber.items()).containsExactly(new long[] { 0, 1, 2, 3 });
+
+        subscriber.request(2);
+        assertThat(requested).hasValue(12);
+        subscriber.assertCompletedSuccessfully();
+        assertThat(subscriber.items()).containsExactly(new long[] { 0, 1, 2, 3 }, new long[] { 4, 5, 6, 7 },
+                new long[] { 8, 9 });
+    }
+
+    @Test
+    public void testSubscribeWithCallbacks() {
+        List<Long> items = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        LongMulti.items(0, 1, 2).subscribe(items::add, f -> {
+        }, () -> completed.set(true));
+        assertThat(items).containsExactly(0L, 1L, 2L);
+        assertThat(completed).isTrue();
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        LongMulti.from(Multi.createFrom().<Integer> failure(new IOException("boom")), Integer::intValue)
+                .subscribe(i -> {
+                }, failure::set, () -> {
+                });
+        assertThat(failure.get()).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void testCancellation() {
+        List<Long> received = new ArrayList<>();
+        LongMulti.items(0, 1, 2, 3, 4, 5).subscribe(new LongSubscriber() {
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onItem(long item) {
+                received.add(item);
+                if (item == 2) {
+                    subscription.cancel();
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable failure) {
+            }
+
+            @Override
+            public void onCompletion() {
+                received.add(-1L);
+            }
+        });
+        assertThat(received).containsExactly(0L, 1L, 2L);
+    }
+
+    @Test
+    public void testInvalidRequest() {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        LongMulti.items(0, 1, 2).subscribe(new LongSubscriber() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(0);
+            }
+
+            @Override
+            public void onItem(long item) {
+            }
+
+            @Override
+            public void onFailure(Throwable f) {
+                failure.set(f);
+            }
+
+            @Override
+            public void onCompletion() {
+            }
+        });
+        assertThat(failure.get()).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.IntStream;
 
 import org.assertj.core.api.Assertions;
@@ -15,6 +16,8 @@ import io.smallrye.mutiny.Uni;
 
 public class StackTest {
 
+    private static final IllegalStateException BOOM = new IllegalStateException("boom");
+
     Random random = new Random();
 
     @Test
@@ -78,4 +81,51 @@ public class StackTest {
         return IntStream.range(0, array.length).map(idx -> array[idx]);
     }
 
+    @Test
+    public void testWithSynchronousRetries() {
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicReference<Integer> result = new AtomicReference<>();
+        Uni.createFrom().<Integer> emitter(e -> {
+            int attempt = attempts.incrementAndGet();
+            if (attempt < 1_000_000) {
+                e.fail(BOOM);
+            } else {
+                e.complete(attempt);
+            }
+        }).onFailure().retry().indefinitely()
+                .subscribe().with(result::set);
+
+        Assertions.assertThat(result).hasValue(1_000_000);
+    }
+
+    @Test
+    public void testWithRecursiveComposition() {
+        AtomicReference<Integer> result = new AtomicReference<>();
+        countDown(1_000_000).subscribe().with(result::set);
+        Assertions.assertThat(result).hasValue(0);
+
+        Assertions.assertThat(countDown(1_000_000).await().indefinitely()).isEqualTo(0);
+    }
+
+    @Test
+    public void testWithRecursiveFailureRecovery() {
+        AtomicReference<Integer> result = new AtomicReference<>();
+        failingCountDown(100_000).subscribe().with(result::set);
+        Assertions.assertThat(result).hasValue(0);
+    }
+
+    private static Uni<Integer> countDown(int n) {
+        if (n == 0) {
+            return Uni.createFrom().item(0);
+        }
+        return Uni.createFrom().item(n).onItem().transformToUni(i -> countDown(i - 1));
+    }
+
+    private static Uni<Integer> failingCountDown(int n) {
+        if (n == 0) {
+            return Uni.createFrom().item(0);
+        }
+        return Uni.createFrom().<Integer> failure(BOOM)
+                .onFailure().recoverWithUni(() -> failingCountDown(n - 1));
+    }
 }
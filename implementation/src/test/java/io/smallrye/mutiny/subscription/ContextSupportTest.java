@@ -0,0 +1,70 @@
+package io.smallrye.mutiny.subscription;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.testng.annotations.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.UniCallbackSubscriber;
+
+public class ContextSupportTest {
+
+    /**
+     * The default {@link ContextSupport#context()} returns a new context on each call. It is kept for the subscribers
+     * written by users, but the subscribers of Mutiny must either forward the context of their downstream or expose
+     * a single context.
+     */
+    @Test
+    public void testThatMutinySubscribersDoNotRelyOnTheDefaultContext() throws Exception {
+        Path root = Paths.get(Uni.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<Class<?>> subscribers;
+        try (Stream<Path> files = Files.walk(root)) {
+            subscribers = files
+                    .filter(path -> path.toString().endsWith(".class"))
+                    .map(path -> toClassName(root, path))
+                    .map(ContextSupportTest::load)
+                    .filter(ContextSupport.class::isAssignableFrom)
+                    .filter(clazz -> !clazz.isInterface() && !Modifier.isAbstract(clazz.getModifiers()))
+                    .collect(Collectors.toList());
+        }
+        assertThat(subscribers).contains(UniCallbackSubscriber.class, SafeSubscriber.class);
+
+        List<String> offenders = subscribers.stream()
+                .filter(ContextSupportTest::usesTheDefaultContext)
+                .map(Class::getName)
+                .collect(Collectors.toList());
+        assertThat(offenders).isEmpty();
+    }
+
+    private static boolean usesTheDefaultContext(Class<?> clazz) {
+        try {
+            Method method = clazz.getMethod("context");
+            return method.getDeclaringClass().isInterface();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toClassName(Path root, Path file) {
+        String relative = root.relativize(file).toString();
+        return relative.substring(0, relative.length() - ".class".length()).replace(file.getFileSystem().getSeparator(),
+                ".");
+    }
+
+    private static Class<?> load(String name) {
+        try {
+            return Class.forName(name, false, ContextSupportTest.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}